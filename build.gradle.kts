@@ -1,5 +1,7 @@
 plugins {
     id("java")
+    id("application")
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 
@@ -24,8 +26,89 @@ dependencies {
 
     testImplementation(platform("org.junit:junit-bom:5.10.0"))
     testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
 tasks.test {
     useJUnitPlatform()
-}
\ No newline at end of file
+}
+
+application {
+    mainClass.set("br.com.escalonadorTarefas.Main")
+}
+
+// Índice dos programas de src/main/resources/inserts (um nome por linha, em ordem alfabética).
+// Dentro de um jar ou de uma imagem nativa o diretório do classpath não pode ser listado, então o
+// Main lê a lista deste arquivo.
+val generateInsertsIndex by tasks.registering {
+    val inserts = file("src/main/resources/inserts")
+    val output = layout.buildDirectory.dir("generated/resources/inserts-index")
+    inputs.dir(inserts)
+    outputs.dir(output)
+    doLast {
+        val names = inserts.listFiles { f -> f.name.lowercase().endsWith(".txt") }.orEmpty()
+            .map { it.name }
+            .sortedWith(String.CASE_INSENSITIVE_ORDER)
+        val index = output.get().file("inserts/index").asFile
+        index.parentFile.mkdirs()
+        index.writeText(names.joinToString("") { it + "\n" })
+    }
+}
+
+sourceSets["main"].resources.srcDir(generateInsertsIndex)
+
+tasks.jar {
+    manifest {
+        attributes("Main-Class" to "br.com.escalonadorTarefas.Main")
+    }
+}
+
+// Arquivo AppCDS (classes já verificadas e pré-processadas) para iniciar o jar mais rápido.
+// O treino é a verificação dos logs de referência, que passa por todo o caminho da simulação.
+// Uso: java -XX:SharedArchiveFile=build/cds/escalonador.jsa -jar build/libs/escalonador_de_tarefas-1.0-SNAPSHOT.jar ...
+val cdsArchive by tasks.registering(JavaExec::class) {
+    group = "distribution"
+    description = "Gera o arquivo AppCDS do jar em build/cds."
+    val archive = layout.buildDirectory.file("cds/escalonador.jsa")
+    classpath = files(tasks.jar)
+    mainClass.set("br.com.escalonadorTarefas.Main")
+    jvmArgs("-XX:ArchiveClassesAtExit=" + archive.get().asFile.absolutePath, "-Dfile.encoding=UTF-8")
+    args("--verify-golden", file("src/main/resources/logs").absolutePath)
+    outputs.file(archive)
+    doFirst {
+        archive.get().asFile.parentFile.mkdirs()
+    }
+}
+
+// Benchmarks JMH em src/jmh/java. Executar com: gradle jmh
+// Filtro opcional: gradle jmh -PjmhIncludes=SchedulerBenchmark
+jmh {
+    jmhVersion = "1.37"
+    warmupIterations = 3
+    iterations = 5
+    fork = 1
+    if (project.hasProperty("jmhIncludes")) {
+        includes = listOf(project.property("jmhIncludes").toString())
+    }
+    resultFormat = "JSON"
+}
+
+// Reexecuta a simulação para cada log de referência em src/main/resources/logs e falha na
+// primeira divergência. Faz parte de "gradle check". Opções extras (ex: testar outro motor):
+// gradle verifyGoldenLogs -PgoldenArgs="--process-table"
+val verifyGoldenLogs by tasks.registering(JavaExec::class) {
+    group = "verification"
+    description = "Compara uma nova execução com os logs de referência."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("br.com.escalonadorTarefas.Main")
+    jvmArgs("-Dfile.encoding=UTF-8")
+    args("--verify-golden", file("src/main/resources/logs").absolutePath)
+    if (project.hasProperty("goldenArgs")) {
+        args(project.property("goldenArgs").toString().split(" ").filter { it.isNotBlank() })
+    }
+    inputs.dir("src/main/resources/logs")
+}
+
+tasks.check {
+    dependsOn(verifyGoldenLogs)
+}
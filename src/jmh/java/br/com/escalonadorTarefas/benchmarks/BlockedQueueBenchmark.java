@@ -0,0 +1,88 @@
+package br.com.escalonadorTarefas.benchmarks;
+
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+import br.com.escalonadorTarefas.services.WakeupQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Custo por tick da fila de bloqueados com muitos processos em E/S.
+ * <p>
+ * {@code decrementWaitTimes} reproduz o algoritmo original do escalonador
+ * (decrementBlockedProcessesWaitTime: percorrer a lista de bloqueados a cada tick,
+ * decrementando o tempo de espera) e serve de linha de base para a {@link WakeupQueue},
+ * que só toca nos processos que despertam. Em ambos, cada processo liberado volta
+ * imediatamente a bloquear, mantendo a fila sempre cheia.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BlockedQueueBenchmark {
+
+    @Param({"100", "10000"})
+    public int blocked;
+
+    @Param({"4", "64"})
+    public int waitTime;
+
+    private final List<ProcessControlBlock> blockedList = new LinkedList<>();
+    private final List<ProcessControlBlock> released = new LinkedList<>();
+    private WakeupQueue wakeupQueue;
+    private Consumer<ProcessControlBlock> reblock;
+    private long clock;
+
+    @Setup
+    public void setUp() {
+        wakeupQueue = new WakeupQueue();
+        reblock = pcb -> wakeupQueue.schedule(pcb, clock + waitTime);
+        for (int i = 0; i < blocked; i++) {
+            ProcessControlBlock pcb = new ProcessControlBlock();
+            pcb.setProcessId(i + 1);
+            // Espalha os despertares para que a cada tick apenas uma fração seja liberada.
+            pcb.setWaitTime(1 + i % waitTime);
+            blockedList.add(pcb);
+
+            ProcessControlBlock queued = new ProcessControlBlock();
+            queued.setProcessId(i + 1);
+            wakeupQueue.schedule(queued, 1 + i % waitTime);
+        }
+    }
+
+    @Benchmark
+    public int decrementWaitTimes() {
+        Iterator<ProcessControlBlock> iterator = blockedList.iterator();
+        while (iterator.hasNext()) {
+            ProcessControlBlock pcb = iterator.next();
+            pcb.setWaitTime(pcb.getWaitTime() - 1);
+            if (pcb.getWaitTime() <= 0) {
+                iterator.remove();
+                released.add(pcb);
+            }
+        }
+        int count = released.size();
+        for (ProcessControlBlock pcb : released) {
+            pcb.setWaitTime(waitTime);
+            blockedList.add(pcb);
+        }
+        released.clear();
+        return count;
+    }
+
+    @Benchmark
+    public int wakeupQueue() {
+        clock++;
+        return wakeupQueue.releaseExpired(clock, reblock);
+    }
+}
@@ -0,0 +1,114 @@
+package br.com.escalonadorTarefas.benchmarks;
+
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+import br.com.escalonadorTarefas.models.Program;
+import br.com.escalonadorTarefas.models.WorkloadSpec;
+import br.com.escalonadorTarefas.services.InstructionCompiler;
+import br.com.escalonadorTarefas.services.InstructionExecutor;
+import br.com.escalonadorTarefas.services.IoDeviceTable;
+import br.com.escalonadorTarefas.services.ProcessTable;
+import br.com.escalonadorTarefas.services.WorkloadGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Despacho de instruções: uma fatia de {@value #SLICE} instruções sem E/S, executada sobre
+ * um BCP ({@code executeInstruction} a cada instrução) e sobre um slot da {@link ProcessTable}.
+ * As variantes "compute" usam um programa só de COMs, em que cada sequência é avançada em um passo;
+ * as variantes "loop", um laço de aritmética e salto condicional que ocupa a fatia inteira.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InstructionBenchmark {
+
+    private static final int SLICE = 1024;
+
+    private ProcessControlBlock pcb;
+    private ProcessTable table;
+    private int slot;
+    private ProcessControlBlock computePcb;
+    private int computeSlot;
+    private ProcessControlBlock loopPcb;
+    private int loopSlot;
+
+    @Setup
+    public void setUp() {
+        Program program = new WorkloadGenerator(WorkloadSpec.builder()
+                .processCount(1)
+                .minLength(SLICE)
+                .maxLength(SLICE)
+                .ioPercent(0)
+                .seed(7L)
+                .build()).generate(0);
+        pcb = program.newProcess();
+        table = new ProcessTable();
+        slot = table.add(program.newProcess());
+
+        Program compute = new WorkloadGenerator(WorkloadSpec.builder()
+                .processCount(1)
+                .minLength(SLICE)
+                .maxLength(SLICE)
+                .ioPercent(0)
+                .assignmentPercent(0)
+                .build()).generate(0);
+        computePcb = compute.newProcess();
+        computeSlot = table.add(compute.newProcess());
+
+        Program loop = new Program(2, "LOOP", InstructionCompiler.compile(List.of(
+                "A=1000000", "LOOP:", "ADD B,A", "SUB A,1", "JNZ A,LOOP"), new IoDeviceTable()));
+        loopPcb = loop.newProcess();
+        loopSlot = table.add(loop.newProcess());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SLICE)
+    public int objectDispatch() {
+        pcb.setProgramCounter(0);
+        return InstructionExecutor.runSlice(pcb, SLICE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SLICE)
+    public int tableDispatch() {
+        table.setProgramCounter(slot, 0);
+        return InstructionExecutor.runSlice(table, slot, SLICE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SLICE)
+    public int objectComputeRun() {
+        computePcb.setProgramCounter(0);
+        return InstructionExecutor.runSlice(computePcb, SLICE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SLICE)
+    public int tableComputeRun() {
+        table.setProgramCounter(computeSlot, 0);
+        return InstructionExecutor.runSlice(table, computeSlot, SLICE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SLICE)
+    public int objectLoop() {
+        loopPcb.setProgramCounter(0);
+        return InstructionExecutor.runSlice(loopPcb, SLICE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SLICE)
+    public int tableLoop() {
+        table.setProgramCounter(loopSlot, 0);
+        return InstructionExecutor.runSlice(table, loopSlot, SLICE);
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.escalonadorTarefas.benchmarks;
+
+import br.com.escalonadorTarefas.models.Program;
+import br.com.escalonadorTarefas.models.WorkloadSpec;
+import br.com.escalonadorTarefas.services.ProcessLoader;
+import br.com.escalonadorTarefas.services.WorkloadGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Carregamento e compilação de programas: os dez arquivos do classpath (o caminho original
+ * de {@code loadProcesses}) e cargas sintéticas em diretório ou arquivo concatenado.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LoaderBenchmark {
+
+    private static final List<String> INSERTS = List.of(
+            "prog_01.txt", "prog_02.txt", "prog_03.txt", "prog_04.txt", "prog_05.txt",
+            "prog_06.txt", "prog_07.txt", "prog_08.txt", "prog_09.txt", "prog_10.txt");
+
+    @Param({"1000", "10000"})
+    public int programs;
+
+    private final ProcessLoader loader = new ProcessLoader();
+    private Path workDir;
+    private Path directory;
+    private Path concatenated;
+
+    @Setup
+    public void setUp() throws IOException {
+        workDir = Files.createTempDirectory("escalonador-bench");
+        directory = Files.createDirectory(workDir.resolve("inserts"));
+        concatenated = workDir.resolve("programs.txt");
+        WorkloadGenerator generator = new WorkloadGenerator(WorkloadSpec.builder()
+                .processCount(programs)
+                .minLength(20)
+                .maxLength(20)
+                .ioPercent(15)
+                .seed(42L)
+                .build());
+        generator.writeDirectory(directory);
+        generator.writeConcatenated(concatenated);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(workDir)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public int classpathInserts() {
+        return loader.loadProcesses(INSERTS).size();
+    }
+
+    @Benchmark
+    public List<Program> directory() throws IOException {
+        return loader.loadDirectory(directory);
+    }
+
+    @Benchmark
+    public List<Program> concatenated() throws IOException {
+        return loader.loadConcatenated(concatenated);
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.escalonadorTarefas.benchmarks;
+
+import br.com.escalonadorTarefas.enums.FlushPolicy;
+import br.com.escalonadorTarefas.models.LogSettings;
+import br.com.escalonadorTarefas.services.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão do {@link Logger} (eventos por segundo) por modo de escrita e política de descarga.
+ * O destino descarta os bytes, então mede-se apenas o custo do próprio Logger.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoggerBenchmark {
+
+    @Param({"false", "true"})
+    public boolean async;
+
+    @Param({"event", "batch", "close"})
+    public String flush;
+
+    private Logger logger;
+
+    @Setup
+    public void setUp() {
+        logger = new Logger(Writer.nullWriter(), LogSettings.builder()
+                .async(async)
+                .flushPolicy(FlushPolicy.fromName(flush))
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        logger.close();
+    }
+
+    @Benchmark
+    public void logInterruption() {
+        logger.logProcessInterruption("PROG-1", 2);
+    }
+}
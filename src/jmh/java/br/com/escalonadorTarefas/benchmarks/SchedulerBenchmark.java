@@ -0,0 +1,70 @@
+package br.com.escalonadorTarefas.benchmarks;
+
+import br.com.escalonadorTarefas.enums.PolicyType;
+import br.com.escalonadorTarefas.models.Program;
+import br.com.escalonadorTarefas.models.WorkloadSpec;
+import br.com.escalonadorTarefas.services.Logger;
+import br.com.escalonadorTarefas.services.Scheduler;
+import br.com.escalonadorTarefas.services.SimulationEngine;
+import br.com.escalonadorTarefas.services.TableScheduler;
+import br.com.escalonadorTarefas.services.WorkloadGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulação completa ({@link SimulationEngine#execute()}) variando número de processos,
+ * quantum e densidade de E/S, nos dois motores de um núcleo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SchedulerBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int processes;
+
+    @Param({"2", "8"})
+    public int quantum;
+
+    @Param({"5", "30"})
+    public int ioPercent;
+
+    @Param({"object", "table"})
+    public String engine;
+
+    private List<Program> programs;
+
+    @Setup
+    public void setUp() {
+        programs = new ArrayList<>(processes);
+        new WorkloadGenerator(WorkloadSpec.builder()
+                .processCount(processes)
+                .minLength(20)
+                .maxLength(20)
+                .ioPercent(ioPercent)
+                .seed(42L)
+                .build()).programs().forEachRemaining(programs::add);
+    }
+
+    @Benchmark
+    public long execute() {
+        SimulationEngine scheduler = "table".equals(engine)
+                ? new TableScheduler(quantum, Logger.discarding(), PolicyType.ROUND_ROBIN)
+                : new Scheduler(quantum, Logger.discarding());
+        for (Program program : programs) {
+            scheduler.addProcess(program.newProcess());
+        }
+        scheduler.execute();
+        return scheduler.getClock();
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.escalonadorTarefas.cli;
+
+import br.com.escalonadorTarefas.models.AdmissionSettings;
+import br.com.escalonadorTarefas.services.AdmissionControl;
+import br.com.escalonadorTarefas.services.ProcessSource;
+import br.com.escalonadorTarefas.services.SimulationEngine;
+
+import java.io.IOException;
+
+/**
+ * Controle de admissão (--ready-capacity, --blocked-capacity): envolve a origem de processos
+ * em um {@link AdmissionControl} e mostra ao final o resumo das admissões.
+ */
+final class AdmissionExtension implements SimulationExtension {
+
+    private final AdmissionControl admission;
+
+    /**
+     * @param source Origem dos processos a controlar.
+     * @throws IOException              se o arquivo de excedentes não puder ser criado.
+     * @throws IllegalArgumentException se alguma capacidade for inválida.
+     */
+    AdmissionExtension(ProcessSource source, AdmissionSettings settings) throws IOException {
+        try {
+            this.admission = new AdmissionControl(source, settings);
+        } catch (IOException e) {
+            throw new IOException("Erro ao criar o arquivo de excedentes: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return Origem que só entrega chegadas com espaço nas filas.
+     */
+    ProcessSource source() {
+        return admission;
+    }
+
+    @Override
+    public void attach(SimulationEngine engine) {
+        engine.addListener(admission);
+    }
+
+    @Override
+    public void afterExecute(SimulationEngine engine) {
+        System.out.printf("Admissão: %d admitidos, %d adiados (atraso médio %.1f ticks, p99 %d, máx %d), "
+                        + "%d rejeitados, %d guardados em disco (pico %d)%n",
+                admission.getAdmitted(), admission.getDeferred(), admission.getAdmissionDelay().getMean(),
+                admission.getAdmissionDelay().getValueAtPercentile(99), admission.getAdmissionDelay().getMax(),
+                admission.getRejected(), admission.getSpilled(), admission.getPeakSpilled());
+        System.out.printf("Filas: pico de %d prontos e %d bloqueados, %d ticks com as filas cheias%n",
+                admission.getPeakReady(), admission.getPeakBlocked(), admission.getPressureTicks());
+    }
+
+    @Override
+    public void close() {
+        admission.close();
+    }
+}
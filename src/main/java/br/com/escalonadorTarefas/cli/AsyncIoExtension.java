@@ -0,0 +1,82 @@
+package br.com.escalonadorTarefas.cli;
+
+import br.com.escalonadorTarefas.enums.LatencyDistribution;
+import br.com.escalonadorTarefas.models.IoSettings;
+import br.com.escalonadorTarefas.services.AsyncIoService;
+import br.com.escalonadorTarefas.services.Scheduler;
+import br.com.escalonadorTarefas.services.SimulationEngine;
+
+/**
+ * E/S assíncrona (--async-io): cada E/S vira uma operação concluída em tempo real pelo
+ * {@link AsyncIoService}, e ao final é mostrado o resumo das latências.
+ */
+final class AsyncIoExtension implements SimulationExtension {
+
+    private final AsyncIoService asyncIo;
+
+    /**
+     * @throws IllegalArgumentException se alguma opção --io-* for inválida.
+     */
+    AsyncIoExtension(CommandLineOptions options) {
+        this.asyncIo = new AsyncIoService(parseIoSettings(options));
+    }
+
+    @Override
+    public void attach(SimulationEngine engine) {
+        if (!(engine instanceof Scheduler)) {
+            throw new IllegalArgumentException("--async-io só é suportado pelo escalonador de um núcleo, "
+                    + "sem checkpoints e sem o modelo de E/S simulada.");
+        }
+        ((Scheduler) engine).setAsyncIo(asyncIo);
+    }
+
+    /**
+     * Mostra na saída padrão o resumo da E/S assíncrona (latências em microssegundos).
+     */
+    @Override
+    public void afterExecute(SimulationEngine engine) {
+        asyncIo.close();
+        System.out.printf("E/S assíncrona: %d operações, pico de %d em andamento%n",
+                asyncIo.getCompletedCount(), asyncIo.getMaxInFlight());
+        System.out.printf("Latência (µs): média %.1f, p50 %d, p99 %d, máx %d%n",
+                asyncIo.getLatencyHistogram().getMean(),
+                asyncIo.getLatencyHistogram().getValueAtPercentile(50),
+                asyncIo.getLatencyHistogram().getValueAtPercentile(99),
+                asyncIo.getLatencyHistogram().getMax());
+        System.out.printf("Espera na fila do dispositivo (µs): média %.1f, p99 %d%n",
+                asyncIo.getQueueDelayHistogram().getMean(),
+                asyncIo.getQueueDelayHistogram().getValueAtPercentile(99));
+    }
+
+    @Override
+    public void close() {
+        asyncIo.close();
+    }
+
+    /**
+     * Monta a configuração da E/S assíncrona a partir das opções --io-*.
+     */
+    private static IoSettings parseIoSettings(CommandLineOptions options) {
+        IoSettings.IoSettingsBuilder builder = IoSettings.builder();
+        if (options.has("--io-devices")) {
+            builder.devices(options.intValue("--io-devices", 0));
+        }
+        if (options.has("--io-depth")) {
+            builder.queueDepth(options.intValue("--io-depth", 0));
+        }
+        if (options.has("--io-latency-us")) {
+            builder.meanLatencyMicros(options.longValue("--io-latency-us", 0));
+        }
+        String distribution = options.value("--io-distribution");
+        if (distribution != null) {
+            builder.latencyDistribution(LatencyDistribution.fromName(distribution));
+        }
+        if (options.has("--io-seed")) {
+            builder.seed(options.longValue("--io-seed", 0));
+        }
+        if (options.has("--io-threads")) {
+            builder.threads(options.intValue("--io-threads", 0));
+        }
+        return builder.build();
+    }
+}
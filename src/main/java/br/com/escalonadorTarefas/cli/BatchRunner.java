@@ -0,0 +1,117 @@
+package br.com.escalonadorTarefas.cli;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Modo --batch: executa em sequência, na mesma JVM, as execuções de um manifesto. Cada linha
+ * (exceto as vazias e as iniciadas por #) tem os argumentos de uma execução, separados por
+ * espaços, com aspas duplas para valores com espaços. As demais opções da linha de comando
+ * valem para todas as linhas; uma opção repetida em uma linha substitui a comum. A
+ * inicialização da JVM, as classes carregadas e o código já compilado pelo JIT são
+ * reaproveitados entre as execuções; cada linha carrega os seus programas, com a sua própria
+ * tabela de dispositivos de E/S.
+ */
+final class BatchRunner {
+
+    private final String manifest;
+    private final CommandLineOptions common;
+
+    /**
+     * @param manifest Arquivo do manifesto.
+     * @param common   Opções da linha de comando sem o próprio --batch.
+     */
+    BatchRunner(String manifest, CommandLineOptions common) {
+        this.manifest = manifest;
+        this.common = common;
+    }
+
+    /**
+     * @return 0 se todas as execuções terminaram sem erro, 1 caso contrário.
+     */
+    int run() {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(Paths.get(manifest), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.err.println("Erro ao ler o manifesto: " + e.getMessage());
+            return 1;
+        }
+
+        int runs = 0;
+        int failures = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            runs++;
+            System.out.printf("[linha %d] %s%n", i + 1, line);
+            long runStart = System.nanoTime();
+            int status;
+            try {
+                CommandLineOptions options = CommandLineOptions.parse(splitArguments(line));
+                if (options.has("--batch")) {
+                    throw new IllegalArgumentException("--batch não pode ser usado dentro de um manifesto.");
+                }
+                status = CommandLine.run(options.withDefaults(common));
+            } catch (IllegalArgumentException e) {
+                System.err.println(e.getMessage());
+                status = 1;
+            } catch (RuntimeException e) {
+                // Uma execução com defeito não interrompe as demais linhas do manifesto.
+                System.err.println("Erro inesperado: " + e);
+                status = 1;
+            }
+            if (status != 0) {
+                failures++;
+            }
+            System.out.printf("[linha %d] %s em %d ms%n", i + 1, status == 0 ? "concluída" : "falhou",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - runStart));
+        }
+        System.out.printf("Lote: %d execuções, %d com erro, %d ms%n", runs, failures,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return failures == 0 ? 0 : 1;
+    }
+
+    /**
+     * Separa uma linha do manifesto em argumentos: espaços separam, aspas duplas agrupam.
+     *
+     * @throws IllegalArgumentException se alguma aspa não for fechada.
+     */
+    private static List<String> splitArguments(String line) {
+        List<String> arguments = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        boolean pending = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+                pending = true;
+            } else if (Character.isWhitespace(c) && !quoted) {
+                if (pending) {
+                    arguments.add(current.toString());
+                    current.setLength(0);
+                    pending = false;
+                }
+            } else {
+                current.append(c);
+                pending = true;
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Aspas não fechadas no manifesto: " + line);
+        }
+        if (pending) {
+            arguments.add(current.toString());
+        }
+        return arguments;
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.escalonadorTarefas.cli;
+
+import br.com.escalonadorTarefas.enums.PolicyType;
+import br.com.escalonadorTarefas.models.LogSettings;
+import br.com.escalonadorTarefas.services.IoDeviceTable;
+import br.com.escalonadorTarefas.services.Logger;
+import br.com.escalonadorTarefas.services.Scheduler;
+import br.com.escalonadorTarefas.services.SchedulerCheckpoint;
+import br.com.escalonadorTarefas.services.SimulationEngine;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Checkpoints (--checkpoint, --checkpoint-every) e a retomada de um checkpoint (--resume).
+ * <p>
+ * Um checkpoint é gravado a cada {@code interval} ticks; uma falha de gravação é apenas
+ * reportada e a simulação continua (o checkpoint anterior permanece válido).
+ */
+final class CheckpointExtension implements SimulationExtension {
+
+    private static final long DEFAULT_CHECKPOINT_INTERVAL = 1000;
+
+    private final Path file;
+    private final long interval;
+    private final PolicyType policyType;
+    private final int quantum;
+    private final Logger logger;
+
+    /**
+     * @throws IllegalArgumentException se o intervalo for inválido.
+     */
+    CheckpointExtension(CommandLineOptions options, PolicyType policyType, int quantum, Logger logger) {
+        this.file = Paths.get(options.value("--checkpoint"));
+        this.interval = options.longValue("--checkpoint-every", DEFAULT_CHECKPOINT_INTERVAL);
+        this.policyType = policyType;
+        this.quantum = quantum;
+        this.logger = logger;
+    }
+
+    @Override
+    public void attach(SimulationEngine engine) {
+        ((Scheduler) engine).setCheckpointAction(interval, s -> {
+            try {
+                SchedulerCheckpoint.write(file, s, policyType, quantum, logger);
+            } catch (IOException e) {
+                System.err.println("Erro ao gravar o checkpoint: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Lê o checkpoint de --resume. Política e quantum vêm do checkpoint; uma --policy diferente
+     * da gravada é rejeitada em vez de ignorada.
+     *
+     * @param devices Tabela de dispositivos de E/S da carga retomada.
+     * @throws IOException              se o checkpoint não puder ser lido.
+     * @throws IllegalArgumentException se --policy divergir do checkpoint.
+     */
+    static SchedulerCheckpoint resume(CommandLineOptions options, SimulationSettings settings, IoDeviceTable devices)
+            throws IOException {
+        SchedulerCheckpoint checkpoint = SchedulerCheckpoint.read(Paths.get(options.value("--resume")), devices);
+        if (options.has("--policy") && settings.getPolicyType() != checkpoint.getPolicyType()) {
+            throw new IllegalArgumentException("--policy " + options.value("--policy")
+                    + " difere da política do checkpoint (" + checkpoint.getPolicyType() + ").");
+        }
+        return checkpoint;
+    }
+
+    /**
+     * Reabre o log de um checkpoint, que continua de onde ele parou.
+     *
+     * @throws IOException se o log não puder ser reaberto.
+     */
+    static Logger resumeLog(SchedulerCheckpoint checkpoint, LogSettings logSettings) throws IOException {
+        return checkpoint.getLogFileName() == null
+                ? Logger.discarding()
+                : Logger.resume(checkpoint.getLogFileName(), checkpoint.getLogLines(), logSettings);
+    }
+}
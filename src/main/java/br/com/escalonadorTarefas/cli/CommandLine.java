@@ -0,0 +1,87 @@
+package br.com.escalonadorTarefas.cli;
+
+import java.io.IOException;
+
+/**
+ * Executa uma linha de comando: lê e valida as opções e repassa ao runner do modo escolhido
+ * ({@link BatchRunner}, {@link ExportRunner}, {@link SweepRunner}, {@link GoldenLogRunner},
+ * {@link ServiceRunner} ou, por padrão, {@link SimulationRunner}).
+ */
+public final class CommandLine {
+
+    private CommandLine() {
+    }
+
+    /**
+     * Executa uma linha de comando completa (ou um manifesto, com --batch) sem encerrar a JVM.
+     * Os erros são reportados na saída de erro e viram o código de retorno.
+     *
+     * @param args Argumentos da linha de comando.
+     * @return 0 em caso de sucesso; 1 em caso de erro ou de divergência de um log de referência.
+     */
+    public static int run(String[] args) {
+        CommandLineOptions options;
+        try {
+            options = CommandLineOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            return 1;
+        }
+        if (options.has("--help")) {
+            System.out.print(Usage.TEXT);
+            return 0;
+        }
+        if (options.has("--batch")) {
+            // As opções comuns só são validadas junto com as de cada linha do manifesto.
+            return new BatchRunner(options.value("--batch"), options.without("--batch")).run();
+        }
+        return run(options);
+    }
+
+    /**
+     * Executa uma única linha de comando já separada em opções.
+     *
+     * @return 0 em caso de sucesso; 1 em caso de erro ou de divergência de um log de referência.
+     */
+    static int run(CommandLineOptions options) {
+        SimulationSettings settings;
+        try {
+            options.validate();
+            settings = new SimulationSettings(options);
+        } catch (IOException e) {
+            System.err.println("Erro ao ler o trace de latências de E/S: " + e.getMessage());
+            return 1;
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            return 1;
+        }
+
+        if (options.has("--render-trace")) {
+            return ExportRunner.renderTrace(options);
+        }
+        if (options.has("--render-timeline")) {
+            return ExportRunner.renderTimeline(options);
+        }
+
+        Workload workload;
+        try {
+            workload = new Workload(options, settings);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            return 1;
+        }
+        if (options.has("--generate-output") || options.has("--generate-dir")) {
+            return ExportRunner.writeWorkload(options, workload.getGenerator());
+        }
+        if (options.has("--sweep")) {
+            return new SweepRunner(options, settings, workload).run();
+        }
+        if (options.has("--verify-golden")) {
+            return new GoldenLogRunner(options, settings, workload).run();
+        }
+        if (options.has("--service")) {
+            return new ServiceRunner(options, settings, workload).run();
+        }
+        return new SimulationRunner(options, settings, workload).run();
+    }
+}
@@ -0,0 +1,293 @@
+package br.com.escalonadorTarefas.cli;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Opções de uma linha de comando, separadas e validadas de uma vez.
+ * <p>
+ * Todas as opções são conhecidas de antemão (com ou sem valor), então uma opção desconhecida,
+ * repetida ou sem valor é rejeitada na leitura, em vez de valer a primeira ocorrência e as
+ * demais serem ignoradas. {@link #validate()} rejeita as combinações sem sentido: dois modos de
+ * execução, duas origens de programas, recursos incompatíveis entre si (ex: --cache com
+ * checkpoints) e opções que dependem de outra ausente (ex: --checkpoint-every sem --checkpoint).
+ */
+public final class CommandLineOptions {
+
+    /** Opções sem valor. */
+    private static final Set<String> FLAGS = Set.of(
+            "--help", "--log-async", "--stream", "--process-table", "--async-io", "--cache-log");
+
+    /** Opções no formato "--nome valor". */
+    private static final Set<String> VALUED = Set.of(
+            "--quantum", "--quantum-file", "--log-dir", "--batch", "--policy", "--cores", "--seed",
+            "--sweep", "--format", "--output",
+            "--log-flush", "--log-flush-every", "--log-flush-ms",
+            "--binary-trace", "--render-trace",
+            "--inserts", "--programs", "--arrival-interval", "--instruction-budget",
+            "--ready-capacity", "--blocked-capacity", "--overflow", "--spill-dir",
+            "--metrics", "--metrics-format",
+            "--timeline", "--timeline-summary", "--timeline-columns", "--timeline-rows", "--render-timeline",
+            "--generate", "--gen-seed", "--gen-length", "--gen-distribution", "--gen-io", "--gen-assign",
+            "--gen-exit", "--gen-io-devices", "--gen-priorities", "--generate-output", "--generate-dir",
+            "--checkpoint", "--checkpoint-every", "--resume",
+            "--io-devices", "--io-depth", "--io-latency-us", "--io-distribution", "--io-seed", "--io-threads",
+            "--io-model", "--io-channels",
+            "--cache", "--cache-max-mb",
+            "--service", "--service-max-active", "--tenant-weights",
+            "--verify-golden");
+
+    /** Modos de execução que substituem a simulação comum; no máximo um por linha de comando. */
+    private static final List<List<String>> MODES = List.of(
+            List.of("--render-trace"),
+            List.of("--render-timeline"),
+            List.of("--generate-output", "--generate-dir"),
+            List.of("--sweep"),
+            List.of("--verify-golden"),
+            List.of("--service"));
+
+    /** Grupos de opções alternativas; no máximo uma de cada grupo. */
+    private static final List<List<String>> ALTERNATIVES = List.of(
+            List.of("--generate", "--inserts", "--programs"),
+            List.of("--quantum", "--quantum-file"));
+
+    /** Opções que só têm efeito junto com uma das opções listadas. */
+    private static final Map<String, List<String>> REQUIRES = requirements();
+
+    private final Map<String, String> values;
+
+    private CommandLineOptions(Map<String, String> values) {
+        this.values = values;
+    }
+
+    /**
+     * Separa os argumentos em opções.
+     *
+     * @param args Argumentos da linha de comando.
+     * @return Opções informadas.
+     * @throws IllegalArgumentException se houver um argumento desconhecido, uma opção repetida ou
+     *                                  uma opção sem o seu valor.
+     */
+    public static CommandLineOptions parse(List<String> args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = 0; i < args.size(); i++) {
+            String name = args.get(i);
+            String value;
+            if (FLAGS.contains(name)) {
+                value = "";
+            } else if (VALUED.contains(name)) {
+                if (i + 1 >= args.size()) {
+                    throw new IllegalArgumentException("Opção " + name + " exige um valor.");
+                }
+                value = args.get(++i);
+            } else if (name.startsWith("--")) {
+                throw new IllegalArgumentException("Opção desconhecida: " + name);
+            } else {
+                throw new IllegalArgumentException("Argumento inesperado: " + name);
+            }
+            if (values.put(name, value) != null) {
+                throw new IllegalArgumentException("Opção " + name + " informada mais de uma vez.");
+            }
+        }
+        return new CommandLineOptions(values);
+    }
+
+    /**
+     * @see #parse(List)
+     */
+    public static CommandLineOptions parse(String[] args) {
+        return parse(Arrays.asList(args));
+    }
+
+    /**
+     * Completa estas opções com as de {@code defaults}: as opções informadas aqui prevalecem
+     * (ex: uma linha de um manifesto sobre as opções comuns do --batch).
+     *
+     * @param defaults Opções usadas quando ausentes aqui.
+     * @return Novas opções combinadas.
+     */
+    public CommandLineOptions withDefaults(CommandLineOptions defaults) {
+        Map<String, String> merged = new LinkedHashMap<>(defaults.values);
+        merged.putAll(values);
+        return new CommandLineOptions(merged);
+    }
+
+    /**
+     * @return Estas opções sem a opção {@code name}.
+     */
+    public CommandLineOptions without(String name) {
+        Map<String, String> remaining = new LinkedHashMap<>(values);
+        remaining.remove(name);
+        return new CommandLineOptions(remaining);
+    }
+
+    /**
+     * @param name Nome da opção (ex: "--stream").
+     * @return true se a opção foi informada.
+     */
+    public boolean has(String name) {
+        return values.containsKey(name);
+    }
+
+    /**
+     * @param name Nome da opção (ex: "--policy").
+     * @return Valor da opção, ou null se ausente.
+     */
+    public String value(String name) {
+        return values.get(name);
+    }
+
+    /**
+     * @param name         Nome da opção.
+     * @param defaultValue Valor usado se a opção estiver ausente.
+     * @return Valor inteiro da opção.
+     * @throws IllegalArgumentException se o valor não for um inteiro.
+     */
+    public int intValue(String name, int defaultValue) {
+        String value = values.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido para " + name + ": " + value);
+        }
+    }
+
+    /**
+     * @param name         Nome da opção.
+     * @param defaultValue Valor usado se a opção estiver ausente.
+     * @return Valor inteiro (long) da opção.
+     * @throws IllegalArgumentException se o valor não for um inteiro.
+     */
+    public long longValue(String name, long defaultValue) {
+        String value = values.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido para " + name + ": " + value);
+        }
+    }
+
+    /**
+     * Rejeita as combinações de opções que não podem ser atendidas juntas ou que seriam
+     * ignoradas em silêncio.
+     *
+     * @throws IllegalArgumentException na primeira combinação inválida.
+     */
+    public void validate() {
+        List<String> modes = new ArrayList<>();
+        for (List<String> mode : MODES) {
+            String present = firstPresent(mode);
+            if (present != null) {
+                modes.add(present);
+            }
+        }
+        if (modes.size() > 1) {
+            throw new IllegalArgumentException(modes.get(0) + " e " + modes.get(1) + " não podem ser combinados.");
+        }
+        for (List<String> group : ALTERNATIVES) {
+            List<String> present = new ArrayList<>();
+            for (String option : group) {
+                if (has(option)) {
+                    present.add(option);
+                }
+            }
+            if (present.size() > 1) {
+                throw new IllegalArgumentException(present.get(0) + " e " + present.get(1)
+                        + " não podem ser combinados.");
+            }
+        }
+        for (String option : values.keySet()) {
+            List<String> required = REQUIRES.get(option);
+            if (required != null && firstPresent(required) == null) {
+                throw new IllegalArgumentException(option + " exige " + String.join(" ou ", required) + ".");
+            }
+        }
+
+        boolean checkpoints = has("--checkpoint") || has("--resume");
+        boolean admission = has("--ready-capacity") || has("--blocked-capacity");
+        boolean ioModel = has("--io-model") || has("--io-channels");
+        boolean streaming = has("--stream") || has("--arrival-interval") || admission;
+        if (has("--cache") && (streaming || has("--async-io") || checkpoints || has("--metrics")
+                || has("--binary-trace") || has("--timeline") || has("--timeline-summary") || ioModel)) {
+            throw new IllegalArgumentException("--cache não pode ser combinado com --stream, --async-io, "
+                    + "checkpoints, --metrics, --binary-trace, a linha do tempo ou o modelo de E/S.");
+        }
+        if (has("--process-table") && has("--cores")) {
+            throw new IllegalArgumentException("--process-table não pode ser combinado com --cores.");
+        }
+        if (checkpoints && (has("--cores") || has("--process-table"))) {
+            throw new IllegalArgumentException(
+                    "Checkpoints só são suportados pelo escalonador de um núcleo (sem --cores e --process-table).");
+        }
+        if (checkpoints && admission) {
+            throw new IllegalArgumentException("Checkpoints não podem ser combinados com o controle de admissão.");
+        }
+        if (has("--resume") && (has("--quantum") || has("--quantum-file"))) {
+            throw new IllegalArgumentException("Ao retomar um checkpoint o quantum vem do checkpoint "
+                    + "(sem --quantum e --quantum-file).");
+        }
+        if (checkpoints && ioModel) {
+            throw new IllegalArgumentException("Checkpoints só são suportados com o modelo de E/S padrão "
+                    + "(sem --io-model e --io-channels).");
+        }
+        if (has("--async-io") && (has("--cores") || has("--process-table") || has("--checkpoint") || ioModel)) {
+            throw new IllegalArgumentException("--async-io só é suportado pelo escalonador de um núcleo, "
+                    + "sem checkpoints e sem o modelo de E/S simulada.");
+        }
+        if (has("--verify-golden") && (has("--cache") || checkpoints || has("--async-io"))) {
+            throw new IllegalArgumentException(
+                    "--verify-golden não pode ser combinado com --cache, checkpoints ou --async-io.");
+        }
+        if (has("--service") && (has("--cache") || checkpoints || has("--async-io") || admission)) {
+            throw new IllegalArgumentException("--service não pode ser combinado com --cache, checkpoints, "
+                    + "--async-io ou o controle de admissão.");
+        }
+    }
+
+    private String firstPresent(List<String> options) {
+        for (String option : options) {
+            if (has(option)) {
+                return option;
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, List<String>> requirements() {
+        Map<String, List<String>> requires = new LinkedHashMap<>();
+        for (String option : List.of("--gen-seed", "--gen-length", "--gen-distribution", "--gen-io",
+                "--gen-assign", "--gen-exit", "--gen-io-devices", "--gen-priorities", "--generate-output",
+                "--generate-dir")) {
+            requires.put(option, List.of("--generate"));
+        }
+        for (String option : List.of("--io-devices", "--io-depth", "--io-latency-us", "--io-distribution",
+                "--io-threads")) {
+            requires.put(option, List.of("--async-io"));
+        }
+        requires.put("--io-seed", List.of("--async-io", "--io-model", "--io-channels"));
+        requires.put("--seed", List.of("--cores"));
+        requires.put("--checkpoint-every", List.of("--checkpoint"));
+        requires.put("--cache-max-mb", List.of("--cache"));
+        requires.put("--cache-log", List.of("--cache"));
+        requires.put("--metrics-format", List.of("--metrics"));
+        requires.put("--timeline-columns", List.of("--timeline-summary"));
+        requires.put("--timeline-rows", List.of("--timeline-summary"));
+        requires.put("--overflow", List.of("--ready-capacity", "--blocked-capacity"));
+        requires.put("--spill-dir", List.of("--ready-capacity", "--blocked-capacity"));
+        requires.put("--service-max-active", List.of("--service"));
+        requires.put("--tenant-weights", List.of("--service"));
+        requires.put("--format", List.of("--sweep"));
+        requires.put("--output", List.of("--sweep", "--render-trace", "--render-timeline"));
+        return requires;
+    }
+}
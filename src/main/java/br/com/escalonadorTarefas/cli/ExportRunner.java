@@ -0,0 +1,91 @@
+package br.com.escalonadorTarefas.cli;
+
+import br.com.escalonadorTarefas.services.BinaryTraceRenderer;
+import br.com.escalonadorTarefas.services.TimelineRenderer;
+import br.com.escalonadorTarefas.services.WorkloadGenerator;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Modos que convertem ou gravam arquivos sem simular: --render-trace, --render-timeline e
+ * --generate-output/--generate-dir.
+ */
+final class ExportRunner {
+
+    private ExportRunner() {
+    }
+
+    /**
+     * Converte um trace binário para o formato textual do log (em --output ou na saída padrão).
+     *
+     * @return 0 se o trace foi convertido; 1 em caso de erro.
+     */
+    static int renderTrace(CommandLineOptions options) {
+        String output = options.value("--output");
+        try {
+            Writer out = open(output);
+            new BinaryTraceRenderer().render(Paths.get(options.value("--render-trace")), out);
+            if (output != null) {
+                out.close();
+            }
+            return 0;
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Erro ao converter o trace binário: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * Converte uma linha do tempo gravada com --timeline para CSV (em --output ou na saída padrão).
+     *
+     * @return 0 se a linha do tempo foi convertida; 1 em caso de erro.
+     */
+    static int renderTimeline(CommandLineOptions options) {
+        String output = options.value("--output");
+        try {
+            Writer out = open(output);
+            new TimelineRenderer().render(Paths.get(options.value("--render-timeline")), out);
+            if (output != null) {
+                out.close();
+            }
+            return 0;
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Erro ao converter a linha do tempo: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * Grava a carga sintética em disco (arquivo concatenado e/ou diretório) em vez de simular.
+     *
+     * @return 0 se a carga foi gravada; 1 em caso de erro.
+     */
+    static int writeWorkload(CommandLineOptions options, WorkloadGenerator generator) {
+        try {
+            if (options.has("--generate-output")) {
+                generator.writeConcatenated(Paths.get(options.value("--generate-output")));
+            }
+            if (options.has("--generate-dir")) {
+                generator.writeDirectory(Paths.get(options.value("--generate-dir")));
+            }
+            return 0;
+        } catch (IOException e) {
+            System.err.println("Erro ao gravar a carga sintética: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * @param output Arquivo de saída, ou null para a saída padrão (que não deve ser fechada).
+     */
+    static Writer open(String output) throws IOException {
+        return output == null
+                ? new OutputStreamWriter(System.out, StandardCharsets.UTF_8)
+                : Files.newBufferedWriter(Paths.get(output), StandardCharsets.UTF_8);
+    }
+}
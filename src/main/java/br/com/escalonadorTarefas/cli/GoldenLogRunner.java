@@ -0,0 +1,111 @@
+package br.com.escalonadorTarefas.cli;
+
+import br.com.escalonadorTarefas.models.LogComparison;
+import br.com.escalonadorTarefas.models.Program;
+import br.com.escalonadorTarefas.services.GoldenLogVerifier;
+import br.com.escalonadorTarefas.services.ProgramSource;
+import br.com.escalonadorTarefas.services.SimulationEngine;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Modo --verify-golden: verifica os logs de referência de um arquivo ou diretório,
+ * reexecutando a simulação para o quantum codificado no nome de cada um.
+ */
+final class GoldenLogRunner {
+
+    private final CommandLineOptions options;
+    private final SimulationSettings settings;
+    private final Workload workload;
+
+    GoldenLogRunner(CommandLineOptions options, SimulationSettings settings, Workload workload) {
+        this.options = options;
+        this.settings = settings;
+        this.workload = workload;
+    }
+
+    /**
+     * @return 0 se todos os logs foram reproduzidos exatamente; 1 em caso de erro ou divergência.
+     */
+    int run() {
+        // Sem --stream os programas são carregados uma vez; com --stream cada log lê a sua origem.
+        List<Program> programs = null;
+        if (!settings.isStreaming()) {
+            programs = workload.load();
+            if (programs == null) {
+                return 1;
+            }
+        }
+
+        String path = options.value("--verify-golden");
+        List<Path> logs;
+        try {
+            logs = GoldenLogVerifier.goldenLogs(Paths.get(path));
+        } catch (IOException e) {
+            System.err.println("Erro ao listar os logs de referência: " + e.getMessage());
+            return 1;
+        }
+        if (logs.isEmpty()) {
+            System.err.println("Nenhum log de referência (logNN_*.txt) em " + path);
+            return 1;
+        }
+
+        boolean allIdentical = true;
+        for (Path golden : logs) {
+            String name = golden.getFileName().toString();
+            try {
+                long start = System.nanoTime();
+                LogComparison comparison = verify(golden, programs);
+                long millis = (System.nanoTime() - start) / 1_000_000;
+
+                if (comparison.isIdentical()) {
+                    System.out.printf("%s: idêntico (%d linhas, %d ms)%n", name, comparison.getMatchingLines(), millis);
+                } else {
+                    allIdentical = false;
+                    System.err.printf("%s: divergência na linha %d (%s)%n", name, comparison.getLine(),
+                            comparison.getTick() < 0
+                                    ? "fora de um evento do escalonador"
+                                    : "tick " + comparison.getTick() + ", pid " + comparison.getProcessId());
+                    System.err.println("  esperado: " + (comparison.getExpected() == null
+                            ? "<fim do log de referência>" : comparison.getExpected()));
+                    System.err.println("  gerado:   " + (comparison.getActual() == null
+                            ? "<fim do log gerado>" : comparison.getActual()));
+                }
+            } catch (IOException | IllegalArgumentException | IllegalStateException e) {
+                allIdentical = false;
+                System.err.println("Erro ao verificar " + name + ": " + e.getMessage());
+            }
+        }
+        return allIdentical ? 0 : 1;
+    }
+
+    /**
+     * @param programs Programas já carregados, ou null para admitir os processos sob demanda.
+     */
+    private LogComparison verify(Path golden, List<Program> programs) throws IOException {
+        int quantum = GoldenLogVerifier.quantumOf(golden);
+        return GoldenLogVerifier.verify(golden, (logger, listener) -> {
+            try (SimulationEngine engine = settings.createEngine(quantum, logger, workload.getDevices())) {
+                engine.addListener(listener);
+                if (programs != null) {
+                    for (Program program : programs) {
+                        engine.addProcess(program.newProcess());
+                    }
+                } else {
+                    Iterator<Program> source = workload.stream();
+                    if (source == null) {
+                        throw new IllegalStateException("Não foi possível carregar os programas.");
+                    }
+                    engine.setProcessSource(new ProgramSource(source));
+                    engine.setRetainTerminated(false);
+                }
+                engine.execute();
+                Reports.calculateAndLogStatistics(engine, logger, quantum);
+            }
+        });
+    }
+}
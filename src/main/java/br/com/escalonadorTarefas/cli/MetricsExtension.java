@@ -0,0 +1,55 @@
+package br.com.escalonadorTarefas.cli;
+
+import br.com.escalonadorTarefas.models.SimulationResult;
+import br.com.escalonadorTarefas.services.SchedulerMetrics;
+import br.com.escalonadorTarefas.services.SimulationEngine;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Métricas (--metrics): mede a simulação e exporta ao final em JSON (padrão) ou CSV
+ * (--metrics-format csv, uma linha por processo).
+ */
+final class MetricsExtension implements SimulationExtension {
+
+    private final SchedulerMetrics metrics;
+    private final String file;
+    private final String format;
+
+    /**
+     * @param cores           Núcleos simulados.
+     * @param retainProcesses Se os dados de cada processo são guardados (falso com admissão sob demanda).
+     */
+    MetricsExtension(CommandLineOptions options, int cores, boolean retainProcesses) {
+        this.metrics = new SchedulerMetrics(cores, retainProcesses);
+        this.file = options.value("--metrics");
+        this.format = options.value("--metrics-format");
+    }
+
+    @Override
+    public void attach(SimulationEngine engine) {
+        engine.addListener(metrics);
+    }
+
+    /**
+     * @return true se as métricas foram gravadas.
+     */
+    @Override
+    public boolean finish(SimulationResult result) {
+        try (Writer out = Files.newBufferedWriter(Paths.get(file), StandardCharsets.UTF_8)) {
+            if ("csv".equalsIgnoreCase(format)) {
+                metrics.writeCsv(out);
+            } else {
+                metrics.writeJson(out);
+            }
+            return true;
+        } catch (IOException e) {
+            System.err.println("Erro ao gravar as métricas: " + e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.escalonadorTarefas.cli;
+
+import br.com.escalonadorTarefas.models.IoDeviceStatistics;
+import br.com.escalonadorTarefas.models.SimulationResult;
+import br.com.escalonadorTarefas.services.IoDeviceTable;
+import br.com.escalonadorTarefas.services.IoDevices;
+import br.com.escalonadorTarefas.services.Logger;
+import br.com.escalonadorTarefas.services.SimulationEngine;
+
+import java.util.List;
+
+/**
+ * Estatísticas finais de uma simulação, no log e na saída padrão.
+ */
+final class Reports {
+
+    private Reports() {
+    }
+
+    /**
+     * Calcula e registra as estatísticas finais do escalonador.
+     *
+     * @param scheduler Motor de simulação para obter informações de trocas de contexto e processos terminados.
+     * @param logger    Logger para registrar as informações.
+     * @param quantum   Valor do quantum utilizado.
+     * @return Estatísticas calculadas.
+     */
+    static SimulationResult calculateAndLogStatistics(SimulationEngine scheduler, Logger logger, int quantum) {
+        SimulationResult result = SimulationResult.of(quantum,
+                scheduler.getTerminatedCount(),
+                scheduler.getTotalInterruptions(),
+                scheduler.getTotalQuantumExecutions(),
+                scheduler.getTotalInstructionsInQuantums(),
+                scheduler.getClock());
+
+        logger.logFinalStatistics(result.getAverageSwitches(), result.getAverageInstructions(), quantum);
+        return result;
+    }
+
+    /**
+     * Mostra as estatísticas finais na saída padrão, indicando a origem (cache, simulação ou serviço).
+     */
+    static void printResult(SimulationResult result, String origin) {
+        System.out.printf("Resultado (%s): MÉDIA DE TROCAS: %.2f, MÉDIA DE INSTRUÇÕES: %.2f, QUANTUM: %d, TICKS: %d%n",
+                origin,
+                result.getAverageSwitches(),
+                result.getAverageInstructions(),
+                result.getQuantum(),
+                result.getTotalTicks());
+    }
+
+    /**
+     * Mostra na saída padrão a utilização de cada dispositivo de E/S simulado, se houver um
+     * modelo configurado ou algum programa usou um dispositivo com nome.
+     */
+    static void printDeviceStatistics(SimulationEngine scheduler) {
+        IoDevices devices = scheduler.getIoDevices();
+        if (devices == null) {
+            return;
+        }
+        List<IoDeviceStatistics> statistics = devices.getStatistics();
+        boolean namedDevices = false;
+        for (IoDeviceStatistics device : statistics) {
+            namedDevices |= !IoDeviceTable.DEFAULT_DEVICE.equals(device.getDevice());
+        }
+        if (!devices.isConfigured() && !namedDevices) {
+            return;
+        }
+        long ticks = scheduler.getClock();
+        for (IoDeviceStatistics device : statistics) {
+            String utilization = device.getChannels() == Integer.MAX_VALUE
+                    ? String.format("%.2f operações em atendimento em média (sem limite de canais)",
+                    device.getUtilization(ticks))
+                    : String.format("utilização de %.1f%% de %d canais", 100.0 * device.getUtilization(ticks),
+                    device.getChannels());
+            System.out.printf("Dispositivo %s: %d operações, %s, latência média %.1f ticks%n",
+                    device.getDevice(), device.getOperations(), utilization, device.getMeanLatency());
+            System.out.printf("  Fila do dispositivo: espera média %.1f ticks (máx %d), pico de %d em atendimento "
+                            + "e %d esperando%n",
+                    device.getMeanQueueDelay(), device.getMaxQueueDelay(), device.getPeakInService(),
+                    device.getPeakWaiting());
+        }
+    }
+}
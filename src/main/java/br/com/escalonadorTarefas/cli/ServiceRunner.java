@@ -0,0 +1,125 @@
+package br.com.escalonadorTarefas.cli;
+
+import br.com.escalonadorTarefas.models.Program;
+import br.com.escalonadorTarefas.models.SimulationResult;
+import br.com.escalonadorTarefas.models.TenantStatistics;
+import br.com.escalonadorTarefas.services.Logger;
+import br.com.escalonadorTarefas.services.SchedulerService;
+import br.com.escalonadorTarefas.services.SimulationEngine;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Modo --service: executa os programas pelo {@link SchedulerService}, enviados por várias
+ * threads produtoras (uma por tenant), e mostra os contadores de cada tenant.
+ */
+final class ServiceRunner {
+
+    private static final int DEFAULT_SERVICE_MAX_ACTIVE = 1024;
+
+    private final CommandLineOptions options;
+    private final SimulationSettings settings;
+    private final Workload workload;
+
+    ServiceRunner(CommandLineOptions options, SimulationSettings settings, Workload workload) {
+        this.options = options;
+        this.settings = settings;
+        this.workload = workload;
+    }
+
+    /**
+     * @return 0 se o serviço executou todos os programas; 1 em caso de erro.
+     */
+    int run() {
+        List<Program> programs = workload.load();
+        if (programs == null) {
+            return 1;
+        }
+        int quantum;
+        try {
+            quantum = settings.loadQuantum();
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Erro ao ler o quantum: " + e.getMessage());
+            return 1;
+        }
+        int producers;
+        SchedulerService service;
+        SimulationEngine engine = null;
+        Logger logger = new Logger(quantum, settings.getLogSettings());
+        try {
+            producers = options.intValue("--service", 0);
+            if (producers < 1) {
+                throw new IllegalArgumentException("O serviço precisa de ao menos um produtor.");
+            }
+            engine = settings.createEngine(quantum, logger, workload.getDevices());
+            service = new SchedulerService(engine,
+                    options.intValue("--service-max-active", DEFAULT_SERVICE_MAX_ACTIVE));
+            String weights = options.value("--tenant-weights");
+            if (weights != null) {
+                String[] values = weights.split(",");
+                for (int i = 0; i < values.length; i++) {
+                    service.registerTenant("tenant-" + i, Integer.parseInt(values[i].trim()));
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            if (engine != null) {
+                engine.close();
+            }
+            logger.close();
+            return 1;
+        }
+
+        long start = System.nanoTime();
+        service.start();
+        Thread[] threads = new Thread[producers];
+        for (int i = 0; i < producers; i++) {
+            int producer = i;
+            threads[i] = new Thread(() -> {
+                String tenant = "tenant-" + producer;
+                for (int index = producer; index < programs.size(); index += producers) {
+                    service.submit(tenant, programs.get(index).newProcess());
+                }
+            }, "producer-" + i);
+            threads[i].start();
+        }
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            service.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Serviço interrompido antes de terminar.");
+            logger.close();
+            return 1;
+        } catch (IllegalStateException e) {
+            System.err.println(e.getMessage());
+            logger.close();
+            return 1;
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        SimulationResult result = Reports.calculateAndLogStatistics(engine, logger, quantum);
+        logger.close();
+        Reports.printResult(result, "serviço");
+
+        long totalCpu = 0;
+        for (TenantStatistics tenant : service.getTenantStatistics()) {
+            totalCpu += tenant.getCpuTicks();
+        }
+        System.out.printf("Serviço: %d processos de %d produtores em %d ms%n",
+                service.getCompletedCount(), producers, elapsedMillis);
+        for (TenantStatistics tenant : service.getTenantStatistics()) {
+            System.out.printf("%s: peso %d, %d enviados, %d concluídos, %d ticks de CPU (%.1f%%; "
+                            + "%.1f%% enquanto tinha trabalho), último término no tick %d%n",
+                    tenant.getTenant(), tenant.getWeight(), tenant.getSubmitted(), tenant.getCompleted(),
+                    tenant.getCpuTicks(), totalCpu == 0 ? 0.0 : 100.0 * tenant.getCpuTicks() / totalCpu,
+                    100.0 * tenant.getBusyShare(),
+                    tenant.getLastCompletionTick());
+        }
+        return 0;
+    }
+}
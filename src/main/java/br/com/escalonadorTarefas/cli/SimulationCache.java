@@ -0,0 +1,86 @@
+package br.com.escalonadorTarefas.cli;
+
+import br.com.escalonadorTarefas.models.Program;
+import br.com.escalonadorTarefas.models.SimulationResult;
+import br.com.escalonadorTarefas.services.Logger;
+import br.com.escalonadorTarefas.services.ResultCache;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Cache de resultados (--cache): reaproveita as estatísticas (e, com --cache-log, o log) de
+ * uma simulação idêntica já executada.
+ */
+final class SimulationCache {
+
+    private static final long DEFAULT_CACHE_MAX_MB = 64;
+
+    private final ResultCache cache;
+    private final String key;
+    private final boolean storeLog;
+
+    /**
+     * @param programs Programas da simulação, já com o orçamento de instruções.
+     * @throws IOException              se o diretório do cache não puder ser aberto.
+     * @throws IllegalArgumentException se alguma opção for inválida.
+     */
+    SimulationCache(CommandLineOptions options, SimulationSettings settings, List<Program> programs, int quantum)
+            throws IOException {
+        try {
+            this.cache = new ResultCache(Paths.get(options.value("--cache")),
+                    options.longValue("--cache-max-mb", DEFAULT_CACHE_MAX_MB) * 1024 * 1024);
+        } catch (IOException e) {
+            throw new IOException("Erro ao abrir o cache de resultados: " + e.getMessage(), e);
+        }
+        this.key = ResultCache.key(programs, configuration(settings, quantum));
+        this.storeLog = options.has("--cache-log");
+    }
+
+    /**
+     * Procura o resultado no cache; em um acerto, recria o log guardado (se houver) no
+     * diretório dos logs e mostra as estatísticas.
+     *
+     * @return true se o resultado veio do cache e a simulação não precisa ser executada.
+     */
+    boolean replay(String logDirectory, int quantum) {
+        SimulationResult cached = cache.get(key);
+        if (cached == null) {
+            return false;
+        }
+        try {
+            cache.restoreLog(key, Paths.get(Logger.uniqueLogFileName(logDirectory, quantum)));
+        } catch (IOException e) {
+            System.err.println("Erro ao recriar o log do cache: " + e.getMessage());
+        }
+        Reports.printResult(cached, "cache");
+        return true;
+    }
+
+    /**
+     * Guarda o resultado de uma simulação (e o seu log, com --cache-log) e mostra as estatísticas.
+     */
+    void store(SimulationResult result, String logFileName) {
+        try {
+            cache.put(key, result, storeLog ? Paths.get(logFileName) : null);
+        } catch (IOException e) {
+            System.err.println("Erro ao gravar no cache de resultados: " + e.getMessage());
+        }
+        Reports.printResult(result, "simulação");
+    }
+
+    /**
+     * Descreve tudo o que, além dos programas, altera o log e as estatísticas, para compor a
+     * chave do cache. A tabela de processos e {@code --cores 1} geram o mesmo log do escalonador
+     * padrão; o locale entra porque define o separador decimal das médias no log.
+     */
+    private static String configuration(SimulationSettings settings, int quantum) {
+        int cores = settings.getCores() == null ? 1 : settings.getCores();
+        return "policy=" + settings.getPolicyType()
+                + ";quantum=" + quantum
+                + ";cores=" + cores
+                + ";seed=" + (cores > 1 ? settings.getSeed() : 0)
+                + ";locale=" + settings.getLogSettings().getLocale();
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.escalonadorTarefas.cli;
+
+import br.com.escalonadorTarefas.models.SimulationResult;
+import br.com.escalonadorTarefas.services.SimulationEngine;
+
+/**
+ * Recurso opcional de uma simulação (E/S assíncrona, controle de admissão, checkpoints, trace
+ * binário, métricas, linha do tempo), ligado ao motor antes da execução.
+ * <p>
+ * O {@link SimulationRunner} chama, na ordem em que os recursos foram criados,
+ * {@link #attach} antes dos processos serem adicionados, {@link #afterExecute} logo após a
+ * execução e {@link #finish} com as estatísticas finais. {@link #close()} é sempre chamado,
+ * inclusive quando a execução falha, e não pode falhar se o recurso já foi encerrado.
+ */
+interface SimulationExtension extends AutoCloseable {
+
+    /**
+     * Liga o recurso ao motor (ex: registrando um observador).
+     */
+    void attach(SimulationEngine engine);
+
+    /**
+     * Chamado logo após a execução, antes das estatísticas finais (ex: para mostrar um resumo).
+     */
+    default void afterExecute(SimulationEngine engine) {
+    }
+
+    /**
+     * Chamado com as estatísticas finais, antes de o log ser fechado.
+     *
+     * @return false se o recurso não pôde gravar o seu resultado.
+     */
+    default boolean finish(SimulationResult result) {
+        return true;
+    }
+
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,219 @@
+package br.com.escalonadorTarefas.cli;
+
+import br.com.escalonadorTarefas.enums.PolicyType;
+import br.com.escalonadorTarefas.models.Program;
+import br.com.escalonadorTarefas.models.SimulationResult;
+import br.com.escalonadorTarefas.services.Logger;
+import br.com.escalonadorTarefas.services.ProcessSource;
+import br.com.escalonadorTarefas.services.ProgramSource;
+import br.com.escalonadorTarefas.services.SchedulerCheckpoint;
+import br.com.escalonadorTarefas.services.SimulationEngine;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Execução comum: uma simulação com log, opcionalmente retomada de um checkpoint ou servida
+ * pelo cache de resultados, com os recursos opcionais ({@link SimulationExtension}) pedidos
+ * na linha de comando.
+ *
+ * <p>Passo a passo resumido:
+ * 1) Lê o checkpoint (--resume), se houver.
+ * 2) Carrega os programas, ou prepara a origem sob demanda (--stream).
+ * 3) Lê o quantum e, com --cache, encerra se o resultado já estiver no cache.
+ * 4) Cria os recursos opcionais, o Logger e o motor, e liga os recursos ao motor.
+ * 5) Executa a simulação e registra as estatísticas finais no log.
+ */
+final class SimulationRunner {
+
+    private final CommandLineOptions options;
+    private final SimulationSettings settings;
+    private final Workload workload;
+
+    SimulationRunner(CommandLineOptions options, SimulationSettings settings, Workload workload) {
+        this.options = options;
+        this.settings = settings;
+        this.workload = workload;
+    }
+
+    /**
+     * @return 0 em caso de sucesso; 1 em caso de erro.
+     */
+    int run() {
+        List<SimulationExtension> extensions = new ArrayList<>();
+        try {
+            return simulate(extensions);
+        } finally {
+            for (SimulationExtension extension : extensions) {
+                extension.close();
+            }
+        }
+    }
+
+    private int simulate(List<SimulationExtension> extensions) {
+        SchedulerCheckpoint checkpoint = null;
+        if (options.has("--resume")) {
+            try {
+                checkpoint = CheckpointExtension.resume(options, settings, workload.getDevices());
+            } catch (IOException e) {
+                System.err.println("Erro ao ler o checkpoint: " + e.getMessage());
+                return 1;
+            } catch (IllegalArgumentException e) {
+                System.err.println(e.getMessage());
+                return 1;
+            }
+        }
+        PolicyType policyType = checkpoint == null ? settings.getPolicyType() : checkpoint.getPolicyType();
+        boolean streaming = checkpoint == null ? settings.isStreaming() : checkpoint.isStreaming();
+
+        List<Program> programs = null;
+        ProcessSource source = null;
+        if (streaming) {
+            Iterator<Program> stream = workload.stream();
+            if (stream == null) {
+                return 1;
+            }
+            ProgramSource programSource = new ProgramSource(stream);
+            source = programSource;
+            if (checkpoint != null) {
+                try {
+                    programSource.skip(checkpoint.getSourcePosition());
+                } catch (IllegalStateException e) {
+                    System.err.println(e.getMessage());
+                    return 1;
+                }
+            }
+        } else if (checkpoint == null) {
+            programs = workload.load();
+            if (programs == null) {
+                return 1;
+            }
+        }
+
+        int quantum;
+        try {
+            quantum = checkpoint == null ? settings.loadQuantum() : checkpoint.getQuantum();
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Erro ao ler o quantum: " + e.getMessage());
+            return 1;
+        }
+
+        SimulationCache cache = null;
+        if (options.has("--cache")) {
+            try {
+                cache = new SimulationCache(options, settings, programs, quantum);
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println(e.getMessage());
+                return 1;
+            }
+            if (cache.replay(settings.getLogSettings().getDirectory(), quantum)) {
+                return 0;
+            }
+        }
+
+        boolean asyncIo = options.has("--async-io");
+        try {
+            if (options.has("--binary-trace")) {
+                extensions.add(new TraceExtension(options.value("--binary-trace"), quantum));
+            }
+            if (asyncIo) {
+                extensions.add(new AsyncIoExtension(options));
+            }
+            if (options.has("--metrics")) {
+                extensions.add(new MetricsExtension(options,
+                        settings.getCores() == null ? 1 : settings.getCores(), !streaming));
+            }
+            if (options.has("--timeline") || options.has("--timeline-summary")) {
+                extensions.add(new TimelineExtension(options));
+            }
+            if (streaming && settings.getAdmissionSettings() != null) {
+                AdmissionExtension admission = new AdmissionExtension(source, settings.getAdmissionSettings());
+                extensions.add(admission);
+                source = admission.source();
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            return 1;
+        }
+
+        Logger logger;
+        if (checkpoint == null) {
+            logger = new Logger(quantum, settings.getLogSettings());
+        } else {
+            // Os processos e contadores vêm do checkpoint; o log continua de onde ele parou.
+            try {
+                logger = CheckpointExtension.resumeLog(checkpoint, settings.getLogSettings());
+            } catch (IOException e) {
+                System.err.println("Erro ao reabrir o log do checkpoint: " + e.getMessage());
+                return 1;
+            }
+        }
+
+        SimulationEngine scheduler;
+        try {
+            scheduler = checkpoint != null ? checkpoint.restore(logger) : settings.createEngine(quantum, logger, workload.getDevices());
+        } catch (IOException e) {
+            System.err.println("Erro ao ler o checkpoint: " + e.getMessage());
+            logger.close();
+            return 1;
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            logger.close();
+            return 1;
+        }
+
+        try {
+            if (options.has("--checkpoint")) {
+                extensions.add(new CheckpointExtension(options, policyType, quantum, logger));
+            }
+            for (SimulationExtension extension : extensions) {
+                extension.attach(scheduler);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            scheduler.close();
+            logger.close();
+            return 1;
+        }
+
+        if (programs != null) {
+            for (Program program : programs) {
+                scheduler.addProcess(program.newProcess());
+            }
+        }
+        if (source != null) {
+            // Admissão sob demanda: só os processos vivos ficam em memória.
+            scheduler.setProcessSource(source);
+            scheduler.setRetainTerminated(false);
+        }
+
+        try {
+            scheduler.execute();
+        } finally {
+            scheduler.close();
+        }
+        for (SimulationExtension extension : extensions) {
+            extension.afterExecute(scheduler);
+        }
+        if (!asyncIo) {
+            Reports.printDeviceStatistics(scheduler);
+        }
+
+        SimulationResult result = Reports.calculateAndLogStatistics(scheduler, logger, quantum);
+
+        int status = 0;
+        for (SimulationExtension extension : extensions) {
+            if (!extension.finish(result)) {
+                status = 1;
+            }
+        }
+        logger.close();
+
+        if (cache != null) {
+            cache.store(result, logger.getLogFileName());
+        }
+        return status;
+    }
+}
@@ -0,0 +1,259 @@
+package br.com.escalonadorTarefas.cli;
+
+import br.com.escalonadorTarefas.enums.FlushPolicy;
+import br.com.escalonadorTarefas.enums.LatencyDistribution;
+import br.com.escalonadorTarefas.enums.OverflowPolicy;
+import br.com.escalonadorTarefas.enums.PolicyType;
+import br.com.escalonadorTarefas.models.AdmissionSettings;
+import br.com.escalonadorTarefas.models.IoDeviceSettings;
+import br.com.escalonadorTarefas.models.LogSettings;
+import br.com.escalonadorTarefas.services.IoDeviceTable;
+import br.com.escalonadorTarefas.services.IoDevices;
+import br.com.escalonadorTarefas.services.Logger;
+import br.com.escalonadorTarefas.services.MultiCoreScheduler;
+import br.com.escalonadorTarefas.services.Scheduler;
+import br.com.escalonadorTarefas.services.SimulationEngine;
+import br.com.escalonadorTarefas.services.TableScheduler;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuração do motor de simulação comum a todos os modos: política, núcleos, modelo de E/S,
+ * log, quantum e o ritmo de admissão dos processos.
+ */
+@Getter
+final class SimulationSettings {
+
+    private static final String QUANTUM_RESOURCE = "quantum/quantum.txt";
+
+    private final PolicyType policyType;
+    /** Núcleos de --cores, ou null para o escalonador de um núcleo. */
+    private final Integer cores;
+    private final long seed;
+    private final boolean processTable;
+    /** Modelos dos dispositivos de E/S simulados, ou null sem --io-model e --io-channels. */
+    private final List<IoDeviceSettings> ioModel;
+    private final long ioSeed;
+    private final LogSettings logSettings;
+    /** Controle de admissão, ou null sem capacidades. */
+    private final AdmissionSettings admissionSettings;
+    private final long arrivalInterval;
+    private final long instructionBudget;
+    private final boolean streaming;
+    private final String quantumOption;
+    private final String quantumFile;
+
+    /**
+     * @throws IOException              se um trace de latências de E/S não puder ser lido.
+     * @throws IllegalArgumentException se alguma opção for inválida.
+     */
+    SimulationSettings(CommandLineOptions options) throws IOException {
+        String policyName = options.value("--policy");
+        this.policyType = policyName == null ? PolicyType.ROUND_ROBIN : PolicyType.fromName(policyName);
+        this.cores = options.has("--cores") ? options.intValue("--cores", 1) : null;
+        this.seed = options.longValue("--seed", MultiCoreScheduler.DEFAULT_SEED);
+        this.processTable = options.has("--process-table");
+        this.arrivalInterval = options.longValue("--arrival-interval", 0);
+        if (arrivalInterval < 0) {
+            throw new IllegalArgumentException("O intervalo entre chegadas não pode ser negativo.");
+        }
+        this.instructionBudget = options.longValue("--instruction-budget", Long.MAX_VALUE);
+        if (instructionBudget < 1) {
+            throw new IllegalArgumentException("O orçamento de instruções deve ser positivo.");
+        }
+        this.admissionSettings = parseAdmissionSettings(options);
+        this.logSettings = parseLogSettings(options);
+        this.ioModel = parseIoModel(options);
+        this.ioSeed = options.longValue("--io-seed", IoDevices.DEFAULT_SEED);
+        this.streaming = options.has("--stream") || arrivalInterval > 0 || admissionSettings != null;
+        this.quantumOption = options.value("--quantum");
+        this.quantumFile = options.value("--quantum-file");
+    }
+
+    /**
+     * Cria o motor de simulação escolhido pelas opções --process-table e --cores.
+     *
+     * @param devices Tabela de dispositivos de E/S com que os programas foram compilados.
+     * @throws IllegalArgumentException se as opções forem inválidas.
+     */
+    SimulationEngine createEngine(int quantum, Logger logger, IoDeviceTable devices) {
+        SimulationEngine engine;
+        if (processTable) {
+            engine = new TableScheduler(quantum, logger, policyType);
+        } else if (cores == null) {
+            engine = new Scheduler(quantum, logger, policyType.create(quantum));
+        } else {
+            engine = new MultiCoreScheduler(quantum, logger, policyType, cores, seed);
+        }
+        engine.setIoDevices(new IoDevices(quantum, devices, ioModel == null ? List.of() : ioModel, ioSeed));
+        return engine;
+    }
+
+    /**
+     * Lê o valor do quantum: de --quantum, de um arquivo texto (--quantum-file) ou, por padrão,
+     * do recurso "quantum/quantum.txt" do classpath. O recurso é lido como stream, então funciona
+     * também dentro de um jar ou de uma imagem nativa.
+     *
+     * @return Valor do quantum.
+     * @throws IOException              se o arquivo não puder ser lido.
+     * @throws IllegalArgumentException se o valor não for um inteiro positivo.
+     */
+    int loadQuantum() throws IOException {
+        String content = quantumOption;
+        if (content == null) {
+            if (quantumFile != null) {
+                content = new String(Files.readAllBytes(Paths.get(quantumFile)), StandardCharsets.UTF_8);
+            } else {
+                try (InputStream resource = SimulationSettings.class.getClassLoader()
+                        .getResourceAsStream(QUANTUM_RESOURCE)) {
+                    if (resource == null) {
+                        throw new IOException(QUANTUM_RESOURCE + " não encontrado no classpath");
+                    }
+                    content = new String(resource.readAllBytes(), StandardCharsets.UTF_8);
+                }
+            }
+        }
+        int quantum;
+        try {
+            quantum = Integer.parseInt(content.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Quantum inválido: " + content.trim());
+        }
+        if (quantum < 1) {
+            throw new IllegalArgumentException("O quantum deve ser positivo: " + quantum);
+        }
+        return quantum;
+    }
+
+    /**
+     * Monta a configuração do log a partir das opções --log-*.
+     */
+    private static LogSettings parseLogSettings(CommandLineOptions options) {
+        LogSettings.LogSettingsBuilder builder = LogSettings.builder().async(options.has("--log-async"));
+
+        String flush = options.value("--log-flush");
+        if (flush != null) {
+            builder.flushPolicy(FlushPolicy.fromName(flush));
+        }
+        if (options.has("--log-flush-every")) {
+            builder.flushEvery(options.intValue("--log-flush-every", 0));
+        }
+        if (options.has("--log-flush-ms")) {
+            builder.flushIntervalMillis(options.longValue("--log-flush-ms", 0));
+        }
+        String directory = options.value("--log-dir");
+        if (directory != null) {
+            builder.directory(directory);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Monta a configuração do controle de admissão a partir das opções de capacidade.
+     *
+     * @return Configuração, ou null se nenhuma capacidade foi informada.
+     */
+    private static AdmissionSettings parseAdmissionSettings(CommandLineOptions options) {
+        if (!options.has("--ready-capacity") && !options.has("--blocked-capacity")) {
+            return null;
+        }
+        AdmissionSettings.AdmissionSettingsBuilder builder = AdmissionSettings.builder();
+        if (options.has("--ready-capacity")) {
+            builder.readyCapacity(options.intValue("--ready-capacity", 0));
+        }
+        if (options.has("--blocked-capacity")) {
+            builder.blockedCapacity(options.intValue("--blocked-capacity", 0));
+        }
+        String overflow = options.value("--overflow");
+        if (overflow != null) {
+            builder.overflowPolicy(OverflowPolicy.fromName(overflow));
+        }
+        String spillDir = options.value("--spill-dir");
+        if (spillDir != null) {
+            builder.spillDirectory(Paths.get(spillDir));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Monta os modelos dos dispositivos de E/S simulados a partir de --io-model e --io-channels.
+     *
+     * @return Modelos em ordem de aparição, ou null se nenhuma das opções foi informada.
+     * @throws IOException se um trace de latências não puder ser lido.
+     */
+    private static List<IoDeviceSettings> parseIoModel(CommandLineOptions options) throws IOException {
+        String model = options.value("--io-model");
+        String channels = options.value("--io-channels");
+        if (model == null && channels == null) {
+            return null;
+        }
+        Map<String, IoDeviceSettings.IoDeviceSettingsBuilder> devices = new LinkedHashMap<>();
+        if (model != null) {
+            for (String entry : model.split(",")) {
+                String[] device = deviceEntry(entry, "--io-model");
+                int colon = device[1].indexOf(':');
+                if (colon < 0) {
+                    throw new IllegalArgumentException("Esperado \"tipo:valor\" em --io-model: " + entry);
+                }
+                String kind = device[1].substring(0, colon).trim();
+                String value = device[1].substring(colon + 1).trim();
+                IoDeviceSettings.IoDeviceSettingsBuilder builder =
+                        devices.computeIfAbsent(device[0], name -> IoDeviceSettings.builder().name(name));
+                if ("trace".equalsIgnoreCase(kind)) {
+                    builder.latencyTrace(readLatencyTrace(Paths.get(value)));
+                } else {
+                    builder.latencyDistribution(LatencyDistribution.fromName(kind));
+                    builder.meanLatencyTicks(Long.parseLong(value));
+                }
+            }
+        }
+        if (channels != null) {
+            for (String entry : channels.split(",")) {
+                String[] device = deviceEntry(entry, "--io-channels");
+                devices.computeIfAbsent(device[0], name -> IoDeviceSettings.builder().name(name))
+                        .channels(Integer.parseInt(device[1].trim()));
+            }
+        }
+        List<IoDeviceSettings> settings = new ArrayList<>(devices.size());
+        for (IoDeviceSettings.IoDeviceSettingsBuilder builder : devices.values()) {
+            settings.add(builder.build());
+        }
+        return settings;
+    }
+
+    /**
+     * @return Nome do dispositivo e valor de uma entrada "NOME=valor".
+     */
+    private static String[] deviceEntry(String entry, String option) {
+        int equals = entry.indexOf('=');
+        if (equals <= 0) {
+            throw new IllegalArgumentException("Esperado \"dispositivo=valor\" em " + option + ": " + entry);
+        }
+        return new String[]{entry.substring(0, equals).trim(), entry.substring(equals + 1)};
+    }
+
+    /**
+     * Lê um trace de latências de E/S: tempos em ticks separados por espaços ou quebras de linha.
+     */
+    private static int[] readLatencyTrace(Path file) throws IOException {
+        String[] values = new String(Files.readAllBytes(file), StandardCharsets.UTF_8).trim().split("\\s+");
+        if (values.length == 1 && values[0].isEmpty()) {
+            return new int[0];
+        }
+        int[] trace = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            trace[i] = Integer.parseInt(values[i]);
+        }
+        return trace;
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.escalonadorTarefas.cli;
+
+import br.com.escalonadorTarefas.models.Program;
+import br.com.escalonadorTarefas.models.SimulationResult;
+import br.com.escalonadorTarefas.services.QuantumSweep;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Modo --sweep: executa em paralelo os quanta 1..K e escreve uma tabela com médias de trocas,
+ * médias de instruções e total de ticks, em CSV (padrão) ou JSON (--format json).
+ */
+final class SweepRunner {
+
+    private final CommandLineOptions options;
+    private final SimulationSettings settings;
+    private final Workload workload;
+
+    SweepRunner(CommandLineOptions options, SimulationSettings settings, Workload workload) {
+        this.options = options;
+        this.settings = settings;
+        this.workload = workload;
+    }
+
+    /**
+     * @return 0 se a tabela foi escrita; 1 em caso de erro.
+     */
+    int run() {
+        List<Program> programs = workload.load();
+        if (programs == null) {
+            return 1;
+        }
+        String output = options.value("--output");
+        try {
+            int maxQuantum = options.intValue("--sweep", 0);
+            QuantumSweep sweep = new QuantumSweep(programs, workload.getDevices(), settings.getPolicyType(),
+                    settings.getIoModel() == null ? List.of() : settings.getIoModel(), settings.getIoSeed());
+            List<SimulationResult> results = sweep.run(maxQuantum, Runtime.getRuntime().availableProcessors());
+
+            Writer out = ExportRunner.open(output);
+            if ("json".equalsIgnoreCase(options.value("--format"))) {
+                QuantumSweep.writeJson(results, out);
+            } else {
+                QuantumSweep.writeCsv(results, out);
+            }
+            if (output != null) {
+                out.close();
+            }
+            return 0;
+        } catch (IOException | IllegalArgumentException | IllegalStateException e) {
+            System.err.println("Erro na varredura de quanta: " + e.getMessage());
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.escalonadorTarefas.cli;
+
+import br.com.escalonadorTarefas.models.SimulationResult;
+import br.com.escalonadorTarefas.services.SimulationEngine;
+import br.com.escalonadorTarefas.services.TimelineRecorder;
+import br.com.escalonadorTarefas.services.TimelineSummary;
+import br.com.escalonadorTarefas.services.TimelineWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Linha do tempo (--timeline) e o seu resumo reduzido (--timeline-summary, com no máximo
+ * --timeline-columns faixas de ticks e --timeline-rows faixas de pids).
+ */
+final class TimelineExtension implements SimulationExtension {
+
+    private static final int DEFAULT_TIMELINE_COLUMNS = 1000;
+    private static final int DEFAULT_TIMELINE_ROWS = 100;
+
+    private final TimelineRecorder recorder;
+    private final TimelineSummary summary;
+    private final String summaryFile;
+
+    /**
+     * @throws IOException              se o arquivo da linha do tempo não puder ser criado.
+     * @throws IllegalArgumentException se o tamanho da grade do resumo for inválido.
+     */
+    TimelineExtension(CommandLineOptions options) throws IOException {
+        List<TimelineRecorder.Sink> sinks = new ArrayList<>();
+        this.summaryFile = options.value("--timeline-summary");
+        if (summaryFile != null) {
+            summary = new TimelineSummary(options.intValue("--timeline-columns", DEFAULT_TIMELINE_COLUMNS),
+                    options.intValue("--timeline-rows", DEFAULT_TIMELINE_ROWS));
+            sinks.add(summary);
+        } else {
+            summary = null;
+        }
+        String timelineFile = options.value("--timeline");
+        if (timelineFile != null) {
+            try {
+                sinks.add(new TimelineWriter(Paths.get(timelineFile)));
+            } catch (IOException e) {
+                throw new IOException("Erro ao criar a linha do tempo: " + e.getMessage(), e);
+            }
+        }
+        this.recorder = new TimelineRecorder(sinks.toArray(new TimelineRecorder.Sink[0]));
+    }
+
+    @Override
+    public void attach(SimulationEngine engine) {
+        engine.addListener(recorder);
+    }
+
+    /**
+     * @return true se o resumo (quando pedido) foi gravado.
+     */
+    @Override
+    public boolean finish(SimulationResult result) {
+        recorder.close();
+        if (summary == null) {
+            return true;
+        }
+        try (Writer out = Files.newBufferedWriter(Paths.get(summaryFile), StandardCharsets.UTF_8)) {
+            summary.writeJson(out);
+            return true;
+        } catch (IOException e) {
+            System.err.println("Erro ao gravar o resumo da linha do tempo: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        recorder.close();
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.escalonadorTarefas.cli;
+
+import br.com.escalonadorTarefas.models.SimulationResult;
+import br.com.escalonadorTarefas.services.BinaryTraceWriter;
+import br.com.escalonadorTarefas.services.SimulationEngine;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * Trace binário (--binary-trace): grava os eventos e, ao final, as estatísticas do log.
+ */
+final class TraceExtension implements SimulationExtension {
+
+    private final BinaryTraceWriter trace;
+    private final int quantum;
+    private boolean closed;
+
+    /**
+     * @throws IOException se o arquivo do trace não puder ser criado.
+     */
+    TraceExtension(String file, int quantum) throws IOException {
+        try {
+            this.trace = new BinaryTraceWriter(Paths.get(file));
+        } catch (IOException e) {
+            throw new IOException("Erro ao criar o trace binário: " + e.getMessage(), e);
+        }
+        this.quantum = quantum;
+    }
+
+    @Override
+    public void attach(SimulationEngine engine) {
+        engine.addListener(trace);
+    }
+
+    @Override
+    public boolean finish(SimulationResult result) {
+        trace.logFinalStatistics(result.getAverageSwitches(), result.getAverageInstructions(), quantum,
+                result.getTotalTicks());
+        close();
+        return true;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            trace.close();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.escalonadorTarefas.cli;
+
+/**
+ * Texto de ajuda da linha de comando (--help).
+ */
+final class Usage {
+
+    static final String TEXT = """
+            Uso: escalonador [opções]
+
+            Sem opções, simula os programas de "inserts" com o quantum de "quantum/quantum.txt" e
+            grava o log em src/main/resources/logs. Cada opção pode aparecer uma única vez.
+
+            Opções:
+            --help         Mostra esta ajuda e encerra.
+            --quantum N    Quantum da simulação, em vez do "quantum/quantum.txt" do classpath.
+            --quantum-file ARQ   Lê o quantum de um arquivo do sistema de arquivos.
+            --log-dir DIR  Diretório dos logs (padrão: src/main/resources/logs).
+            --batch ARQ    Executa na mesma JVM as linhas de um manifesto, uma execução por linha. As demais
+                           opções da linha de comando valem para todas as linhas, e uma opção repetida na
+                           linha substitui a comum. Termina com código 1 se alguma execução falhar.
+            --policy NOME  Política de escalonamento (rr, fcfs, sjf, srtf, priority, mlfq). Padrão: rr.
+            --cores N      Simula N CPUs com o MultiCoreScheduler.
+            --seed S       Semente do roubo de trabalho no modo multinúcleo (exige --cores).
+            --sweep K      Em vez de uma simulação, executa em paralelo os quanta 1..K e escreve uma tabela
+                           com médias de trocas, médias de instruções e total de ticks.
+            --format F     Formato da tabela da varredura: csv (padrão) ou json.
+            --output ARQ   Arquivo da tabela da varredura (padrão: saída padrão).
+            --log-async    Grava o log em uma thread de fundo, em lotes.
+            --log-flush P  Política de descarga do log: event (padrão), batch, close ou timed.
+            --log-flush-every N  Eventos entre descargas na política batch.
+            --log-flush-ms MS    Intervalo entre descargas na política timed.
+            --binary-trace ARQ   Grava também um trace binário compacto dos eventos.
+            --render-trace ARQ   Converte um trace binário para o log textual (em --output ou na saída padrão) e encerra.
+            --inserts DIR        Carrega os programas dos arquivos .txt de um diretório em vez do classpath.
+            --programs ARQ       Carrega os programas de um único arquivo, separados por linhas em branco.
+            --process-table      Usa o TableScheduler, que guarda os processos em arrays primitivos (rr ou fcfs).
+            --stream             Admite cada processo só no seu tick de chegada e descarta os BCPs terminados.
+            --arrival-interval N Ticks entre as chegadas de processos consecutivos (implica --stream).
+            --instruction-budget N Máximo de instruções por processo; ao esgotá-lo, o processo termina
+                                 (protege contra laços infinitos dos programas com saltos).
+            --ready-capacity N, --blocked-capacity N
+                                 Controle de admissão (implica --stream): novas chegadas só são admitidas com
+                                 menos de N processos prontos e de N bloqueados.
+            --overflow P         Com as filas cheias: block (padrão, a origem espera), reject (descarta a chegada)
+                                 ou spill (guarda a chegada em disco, em --spill-dir, até haver espaço).
+            --metrics ARQ       Mede turnaround, espera, resposta, utilização da CPU e profundidade das filas
+                                 e grava ao final (--metrics-format json, o padrão, ou csv por processo).
+            --timeline ARQ       Grava a linha do tempo (intervalos contíguos de cada processo em execução, pronto
+                                 ou bloqueado) em um arquivo colunar compacto.
+            --timeline-summary ARQ
+                                 Grava em JSON um resumo reduzido da linha do tempo, com no máximo
+                                 --timeline-columns faixas de ticks (padrão: 1000) e --timeline-rows faixas de
+                                 pids (padrão: 100). Com --resume, ambos cobrem apenas a execução retomada.
+            --render-timeline ARQ
+                                 Converte uma linha do tempo para CSV (em --output ou na saída padrão) e encerra.
+            --generate N         Usa uma carga sintética reprodutível de N processos em vez dos arquivos.
+            --gen-seed S, --gen-length MIN:MAX, --gen-distribution uniform|geometric|fixed,
+            --gen-io P, --gen-assign P, --gen-exit end|random|none, --gen-io-devices NOME,...,
+            --gen-priorities N
+                                 Parâmetros da carga sintética (percentuais de E/S e de atribuições,
+                                 dispositivos sorteados para cada E/S e prioridades sorteadas entre 0 e N).
+            --generate-output ARQ / --generate-dir DIR
+                                 Grava a carga sintética em disco (arquivo concatenado ou um arquivo por
+                                 programa) e encerra, sem simular.
+            --checkpoint ARQ     Grava periodicamente o estado da simulação (apenas o escalonador de um núcleo).
+            --checkpoint-every N Ticks entre checkpoints (padrão: 1000).
+            --resume ARQ         Retoma a simulação de um checkpoint, continuando o mesmo log. Política e quantum
+                                 vêm do checkpoint; as opções da carga (--stream, --generate, --inserts...) devem
+                                 ser as mesmas da execução original.
+            --async-io           Conclui cada E/S em tempo real em outras threads, em vez de 2 * quantum ticks
+                                 (apenas o escalonador de um núcleo; o log deixa de ser reprodutível).
+            --io-devices N, --io-depth N, --io-latency-us US, --io-distribution fixed|uniform|exponential,
+            --io-seed S, --io-threads N
+                                 Dispositivos, operações simultâneas por dispositivo, latência média e sua
+                                 distribuição, semente das latências e threads que concluem as operações.
+            --io-model NOME=fixed:T|uniform:T|exponential:T|trace:ARQ,...
+                                 Tempo de espera (em ticks) da E/S de cada dispositivo simulado (E/S:NOME;
+                                 "default" é o da E/S sem nome): fixo, sorteado com média T ou lido de um arquivo
+                                 com um tempo por linha. Os demais dispositivos esperam 2 * quantum ticks.
+            --io-channels NOME=N,...
+                                 Operações atendidas ao mesmo tempo por dispositivo; as demais esperam na fila dele.
+                                 Com --io-model ou --io-channels, a utilização de cada dispositivo é mostrada ao
+                                 final (a semente dos sorteios é a de --io-seed).
+            --cache DIR          Reaproveita resultados de simulações idênticas (mesmos programas, política,
+                                 quantum e núcleos), guardados em DIR; mostra as estatísticas na saída padrão.
+            --cache-max-mb N     Tamanho máximo do cache, com descarte das entradas menos usadas (padrão: 64).
+            --cache-log          Guarda também o log comprimido, recriado no diretório dos logs nos acertos.
+            --service N          Executa os programas pelo SchedulerService: N threads produtoras enviam os
+                                 programas (o produtor i envia os de índice i, i + N, ...) como o tenant "tenant-i"
+                                 enquanto o motor executa, e ao final mostra a divisão da CPU entre os tenants.
+                                 O log deixa de ser reprodutível nesse modo.
+            --service-max-active N
+                                 Máximo de processos vivos no motor (padrão: 1024); os demais esperam no seu tenant.
+            --tenant-weights P1,P2,...
+                                 Pesos dos tenants na divisão da CPU (padrão: 1 para todos).
+            --verify-golden ARQ|DIR
+                                 Em vez de gravar um log, executa a simulação para o quantum do nome de cada log
+                                 de referência (logNN_*.txt) e compara as linhas conforme são geradas, parando na
+                                 primeira divergência (com a linha, o tick e o pid). Termina com código 1 se algum
+                                 log divergir. Aceita as opções de motor, política e carga.
+            """;
+
+    private Usage() {
+    }
+}
@@ -0,0 +1,222 @@
+package br.com.escalonadorTarefas.cli;
+
+import br.com.escalonadorTarefas.enums.ExitPlacement;
+import br.com.escalonadorTarefas.enums.LengthDistribution;
+import br.com.escalonadorTarefas.models.Program;
+import br.com.escalonadorTarefas.models.WorkloadSpec;
+import br.com.escalonadorTarefas.services.IoDeviceTable;
+import br.com.escalonadorTarefas.services.ProcessLoader;
+import br.com.escalonadorTarefas.services.WorkloadGenerator;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Origem dos programas de uma execução: uma carga sintética (--generate), um arquivo
+ * concatenado (--programs), um diretório do sistema de arquivos (--inserts) ou, por padrão, o
+ * diretório "inserts" do classpath. O orçamento de instruções (--instruction-budget) é aplicado
+ * a todos os programas entregues. Os programas são compilados com a tabela de dispositivos de
+ * E/S da carga ({@link #getDevices()}), que deve acompanhá-los até a simulação.
+ */
+final class Workload {
+
+    /** Gerador da carga sintética, ou null se os programas vêm de arquivos. */
+    @Getter
+    private final WorkloadGenerator generator;
+    /** Dispositivos de E/S dos programas da carga. */
+    @Getter
+    private final IoDeviceTable devices = new IoDeviceTable();
+    private final String insertsOption;
+    private final String programsOption;
+    private final long arrivalInterval;
+    private final long instructionBudget;
+
+    /**
+     * @throws IllegalArgumentException se alguma opção da carga sintética for inválida.
+     */
+    Workload(CommandLineOptions options, SimulationSettings settings) {
+        this.arrivalInterval = settings.getArrivalInterval();
+        this.instructionBudget = settings.getInstructionBudget();
+        this.insertsOption = options.value("--inserts");
+        this.programsOption = options.value("--programs");
+        this.generator = options.has("--generate")
+                ? new WorkloadGenerator(parseWorkloadSpec(options, arrivalInterval), devices)
+                : null;
+    }
+
+    /**
+     * Carrega todos os programas de uma vez.
+     *
+     * @return Programas compilados, ou null em caso de erro.
+     */
+    List<Program> load() {
+        List<Program> programs = loadPrograms();
+        return programs == null ? null : withInstructionBudget(programs);
+    }
+
+    /**
+     * Prepara a leitura preguiçosa dos programas, com ticks de chegada espaçados por
+     * {@code arrivalInterval}. Cargas sintéticas são geradas sob demanda, diretórios (--inserts)
+     * e o classpath são lidos arquivo a arquivo; um arquivo concatenado (--programs) é
+     * carregado de uma vez.
+     *
+     * @return Iterador sobre os programas, ou null em caso de erro.
+     */
+    Iterator<Program> stream() {
+        Iterator<Program> programs = streamPrograms();
+        return programs == null ? null : withInstructionBudget(programs);
+    }
+
+    private List<Program> loadPrograms() {
+        if (generator != null) {
+            List<Program> programs = new ArrayList<>();
+            generator.programs().forEachRemaining(programs::add);
+            return programs;
+        }
+        ProcessLoader loader = new ProcessLoader(devices);
+        try {
+            if (programsOption != null) {
+                return loader.loadConcatenated(Paths.get(programsOption));
+            }
+            if (insertsOption != null) {
+                return loader.loadDirectory(Paths.get(insertsOption));
+            }
+        } catch (IOException e) {
+            System.err.println("Erro ao carregar os programas: " + e.getMessage());
+            return null;
+        }
+
+        List<String> processFiles = listProcessFiles(loader);
+        return processFiles == null ? null : loader.loadPrograms(processFiles);
+    }
+
+    private Iterator<Program> streamPrograms() {
+        if (generator != null) {
+            return generator.programs();
+        }
+        ProcessLoader loader = new ProcessLoader(devices);
+        try {
+            if (programsOption != null) {
+                List<Program> programs = new ArrayList<>();
+                for (Program program : loader.loadConcatenated(Paths.get(programsOption))) {
+                    programs.add(program.withArrivalTick(programs.size() * arrivalInterval));
+                }
+                return programs.iterator();
+            }
+            if (insertsOption != null) {
+                return loader.streamDirectory(Paths.get(insertsOption), arrivalInterval);
+            }
+        } catch (IOException e) {
+            System.err.println("Erro ao carregar os programas: " + e.getMessage());
+            return null;
+        }
+
+        List<String> processFiles = listProcessFiles(loader);
+        return processFiles == null ? null : loader.streamPrograms(processFiles, arrivalInterval);
+    }
+
+    /**
+     * Lista, em ordem alfabética, os arquivos .txt do diretório "inserts" do classpath
+     * (ver {@link ProcessLoader#listClasspathPrograms()}).
+     *
+     * @return Nomes dos arquivos (ex: "prog_01.txt"), ou null se o diretório não existir ou estiver vazio.
+     */
+    private static List<String> listProcessFiles(ProcessLoader loader) {
+        List<String> processFiles;
+        try {
+            processFiles = loader.listClasspathPrograms();
+        } catch (IOException e) {
+            System.err.println("Erro ao localizar o diretório 'inserts': " + e.getMessage());
+            return null;
+        }
+        if (processFiles.isEmpty()) {
+            System.err.println("Nenhum arquivo .txt encontrado no diretório 'inserts' do classpath.");
+            return null;
+        }
+        return processFiles;
+    }
+
+    /**
+     * @return Os programas com o orçamento de instruções informado (a própria lista se não houver limite).
+     */
+    private List<Program> withInstructionBudget(List<Program> programs) {
+        if (instructionBudget == Long.MAX_VALUE) {
+            return programs;
+        }
+        List<Program> limited = new ArrayList<>(programs.size());
+        for (Program program : programs) {
+            limited.add(program.withInstructionBudget(instructionBudget));
+        }
+        return limited;
+    }
+
+    /**
+     * @return Iterador que aplica o orçamento de instruções a cada programa lido sob demanda.
+     */
+    private Iterator<Program> withInstructionBudget(Iterator<Program> programs) {
+        if (instructionBudget == Long.MAX_VALUE) {
+            return programs;
+        }
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return programs.hasNext();
+            }
+
+            @Override
+            public Program next() {
+                return programs.next().withInstructionBudget(instructionBudget);
+            }
+        };
+    }
+
+    /**
+     * Monta a especificação da carga sintética a partir de --generate e das opções --gen-*.
+     *
+     * @param arrivalInterval Ticks entre chegadas.
+     * @return Especificação da carga.
+     * @throws IllegalArgumentException se alguma opção for inválida.
+     */
+    private static WorkloadSpec parseWorkloadSpec(CommandLineOptions options, long arrivalInterval) {
+        WorkloadSpec.WorkloadSpecBuilder builder = WorkloadSpec.builder()
+                .processCount(options.intValue("--generate", 0))
+                .arrivalInterval(arrivalInterval);
+
+        if (options.has("--gen-seed")) {
+            builder.seed(options.longValue("--gen-seed", 0));
+        }
+        String length = options.value("--gen-length");
+        if (length != null) {
+            String[] bounds = length.split(":");
+            builder.minLength(Integer.parseInt(bounds[0]));
+            builder.maxLength(Integer.parseInt(bounds[bounds.length - 1]));
+        }
+        String distribution = options.value("--gen-distribution");
+        if (distribution != null) {
+            builder.lengthDistribution(LengthDistribution.fromName(distribution));
+        }
+        if (options.has("--gen-io")) {
+            builder.ioPercent(options.intValue("--gen-io", 0));
+        }
+        if (options.has("--gen-assign")) {
+            builder.assignmentPercent(options.intValue("--gen-assign", 0));
+        }
+        String ioDevices = options.value("--gen-io-devices");
+        if (ioDevices != null) {
+            builder.ioDevices(Arrays.asList(ioDevices.split(",")));
+        }
+        String exit = options.value("--gen-exit");
+        if (exit != null) {
+            builder.exitPlacement(ExitPlacement.fromName(exit));
+        }
+        if (options.has("--gen-priorities")) {
+            builder.maxPriority(options.intValue("--gen-priorities", 0));
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.escalonadorTarefas.enums;
+
+import java.util.Locale;
+
+/**
+ * Onde a instrução SAIDA é colocada nos programas gerados.
+ * END - Sempre como última instrução, como nos programas de exemplo.
+ * RANDOM - Em uma posição sorteada; as instruções seguintes nunca executam.
+ * NONE - Sem SAIDA; o processo termina ao passar da última instrução.
+ */
+public enum ExitPlacement {
+    END,
+    RANDOM,
+    NONE;
+
+    /**
+     * @param name Nome da posição (sem diferenciar maiúsculas).
+     * @return Posição correspondente.
+     * @throws IllegalArgumentException se o nome for desconhecido.
+     */
+    public static ExitPlacement fromName(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Posição de SAIDA desconhecida: " + name);
+        }
+    }
+}
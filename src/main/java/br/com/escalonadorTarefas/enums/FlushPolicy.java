@@ -0,0 +1,43 @@
+package br.com.escalonadorTarefas.enums;
+
+import java.util.Locale;
+
+/**
+ * Enumera as políticas de descarga (flush) do arquivo de log.
+ * EVERY_EVENT - Descarrega após cada evento (comportamento original, mais durável e mais lento).
+ * EVERY_N_EVENTS - Descarrega a cada N eventos.
+ * ON_CLOSE - Descarrega apenas quando o buffer enche e ao fechar o log.
+ * TIMED - Descarrega quando se passa um intervalo de tempo desde a última descarga.
+ */
+public enum FlushPolicy {
+    EVERY_EVENT,
+    EVERY_N_EVENTS,
+    ON_CLOSE,
+    TIMED;
+
+    /**
+     * Converte um nome curto (event, batch, close, timed) ou o nome da constante.
+     *
+     * @param name Nome da política.
+     * @return Política correspondente.
+     * @throws IllegalArgumentException se o nome for desconhecido.
+     */
+    public static FlushPolicy fromName(String name) {
+        switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "event":
+                return EVERY_EVENT;
+            case "batch":
+                return EVERY_N_EVENTS;
+            case "close":
+                return ON_CLOSE;
+            case "timed":
+                return TIMED;
+            default:
+                try {
+                    return valueOf(name.trim().toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Política de descarga do log desconhecida: " + name);
+                }
+        }
+    }
+}
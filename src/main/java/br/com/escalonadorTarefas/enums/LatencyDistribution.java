@@ -0,0 +1,28 @@
+package br.com.escalonadorTarefas.enums;
+
+import java.util.Locale;
+
+/**
+ * Distribuição da latência de cada operação de E/S no modo de E/S assíncrona.
+ * FIXED - Todas as operações levam a latência média.
+ * UNIFORM - Qualquer valor entre zero e o dobro da média, com a mesma probabilidade.
+ * EXPONENTIAL - Muitas operações rápidas e algumas lentas (cauda longa), com a média informada.
+ */
+public enum LatencyDistribution {
+    FIXED,
+    UNIFORM,
+    EXPONENTIAL;
+
+    /**
+     * @param name Nome da distribuição (sem diferenciar maiúsculas).
+     * @return Distribuição correspondente.
+     * @throws IllegalArgumentException se o nome for desconhecido.
+     */
+    public static LatencyDistribution fromName(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Distribuição de latência desconhecida: " + name);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.escalonadorTarefas.enums;
+
+import java.util.Locale;
+
+/**
+ * Distribuição do tamanho (número de instruções) dos programas gerados.
+ * UNIFORM - Qualquer tamanho entre o mínimo e o máximo, com a mesma probabilidade.
+ * GEOMETRIC - Muitos programas curtos e poucos longos (cauda longa), limitado ao máximo.
+ * FIXED - Todos os programas com o tamanho máximo.
+ */
+public enum LengthDistribution {
+    UNIFORM,
+    GEOMETRIC,
+    FIXED;
+
+    /**
+     * @param name Nome da distribuição (sem diferenciar maiúsculas).
+     * @return Distribuição correspondente.
+     * @throws IllegalArgumentException se o nome for desconhecido.
+     */
+    public static LengthDistribution fromName(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Distribuição de tamanho desconhecida: " + name);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.escalonadorTarefas.enums;
+
+import java.util.Locale;
+
+/**
+ * O que fazer com um processo que chega quando a fila de prontos ou a de bloqueados está cheia.
+ * REJECT - O processo é descartado e contado como rejeitado.
+ * SPILL - O processo é retirado da origem e guardado em disco, e é admitido (em ordem de chegada)
+ * quando as filas voltarem a ter espaço.
+ * BLOCK - A origem deixa de ser consultada até as filas terem espaço, como um produtor bloqueado;
+ * os processos seguintes nem chegam a ser criados.
+ */
+public enum OverflowPolicy {
+    REJECT,
+    SPILL,
+    BLOCK;
+
+    /**
+     * @param name Nome da política (sem diferenciar maiúsculas).
+     * @return Política correspondente.
+     * @throws IllegalArgumentException se o nome for desconhecido.
+     */
+    public static OverflowPolicy fromName(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Política de fila cheia desconhecida: " + name);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.escalonadorTarefas.enums;
+
+import br.com.escalonadorTarefas.policies.FcfsPolicy;
+import br.com.escalonadorTarefas.policies.MultilevelFeedbackQueuePolicy;
+import br.com.escalonadorTarefas.policies.PriorityPolicy;
+import br.com.escalonadorTarefas.policies.RoundRobinPolicy;
+import br.com.escalonadorTarefas.policies.SchedulingPolicy;
+import br.com.escalonadorTarefas.policies.ShortestJobFirstPolicy;
+
+import java.util.Locale;
+
+/**
+ * Enumera as políticas de escalonamento disponíveis.
+ * ROUND_ROBIN - Fila FIFO com quantum fixo (padrão).
+ * FCFS - Ordem de chegada, sem preempção por tempo.
+ * SJF - Menor trabalho restante primeiro, sem preempção.
+ * SRTF - Menor trabalho restante primeiro, reavaliado a cada quantum.
+ * PRIORITY - Prioridade estática, Round Robin entre iguais.
+ * MLFQ - Fila multinível com realimentação.
+ */
+public enum PolicyType {
+    ROUND_ROBIN,
+    FCFS,
+    SJF,
+    SRTF,
+    PRIORITY,
+    MLFQ;
+
+    /**
+     * Cria uma nova instância da política.
+     *
+     * @param quantum Quantum base configurado.
+     * @return Política pronta para uso por um único escalonador.
+     */
+    public SchedulingPolicy create(int quantum) {
+        switch (this) {
+            case FCFS:
+                return new FcfsPolicy();
+            case SJF:
+                return new ShortestJobFirstPolicy(quantum, false);
+            case SRTF:
+                return new ShortestJobFirstPolicy(quantum, true);
+            case PRIORITY:
+                return new PriorityPolicy(quantum);
+            case MLFQ:
+                return new MultilevelFeedbackQueuePolicy(quantum);
+            default:
+                return new RoundRobinPolicy(quantum);
+        }
+    }
+
+    /**
+     * Converte um nome (ex: "rr", "round_robin", "srtf") para o tipo correspondente.
+     *
+     * @param name Nome da política.
+     * @return Tipo da política.
+     * @throws IllegalArgumentException se o nome for desconhecido.
+     */
+    public static PolicyType fromName(String name) {
+        String normalized = name.trim().toUpperCase(Locale.ROOT).replace('-', '_');
+        if (normalized.equals("RR")) {
+            return ROUND_ROBIN;
+        }
+        try {
+            return valueOf(normalized);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Política de escalonamento desconhecida: " + name);
+        }
+    }
+}
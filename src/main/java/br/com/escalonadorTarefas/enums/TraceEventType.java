@@ -0,0 +1,45 @@
+package br.com.escalonadorTarefas.enums;
+
+/**
+ * Tipos de registro do trace binário de eventos.
+ * PROCESS_NAME - Entrada do dicionário pid -> nome (seguida dos bytes do nome).
+ * LOADED - Processo carregado.
+ * EXECUTION - Processo recebeu a CPU.
+ * INTERRUPTION - Processo interrompido; carga: instruções executadas.
+ * IO_START - Processo iniciou E/S.
+ * TERMINATION - Processo terminou; carga: registradores A, B, C e D.
+ * STATISTICS - Estatísticas finais; carga: médias de trocas e de instruções.
+ */
+public enum TraceEventType {
+    PROCESS_NAME(0),
+    LOADED(1),
+    EXECUTION(2),
+    INTERRUPTION(3),
+    IO_START(4),
+    TERMINATION(5),
+    STATISTICS(6);
+
+    private static final TraceEventType[] BY_CODE = values();
+
+    private final int code;
+
+    TraceEventType(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * @param code Código gravado no registro.
+     * @return Tipo correspondente.
+     * @throws IllegalArgumentException se o código for desconhecido.
+     */
+    public static TraceEventType fromCode(int code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Tipo de registro desconhecido no trace: " + code);
+        }
+        return BY_CODE[code];
+    }
+}
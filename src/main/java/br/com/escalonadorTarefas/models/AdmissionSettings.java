@@ -0,0 +1,36 @@
+package br.com.escalonadorTarefas.models;
+
+import br.com.escalonadorTarefas.enums.OverflowPolicy;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+/**
+ * Configuração do controle de admissão ({@link br.com.escalonadorTarefas.services.AdmissionControl}).
+ */
+@Getter
+@Builder
+public class AdmissionSettings {
+
+    /**
+     * Processos na fila de prontos a partir dos quais novas chegadas não são admitidas.
+     */
+    @Builder.Default
+    private final int readyCapacity = Integer.MAX_VALUE;
+
+    /**
+     * Processos bloqueados em E/S a partir dos quais novas chegadas não são admitidas.
+     */
+    @Builder.Default
+    private final int blockedCapacity = Integer.MAX_VALUE;
+
+    @Builder.Default
+    private final OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+    /**
+     * Diretório do arquivo temporário da política {@link OverflowPolicy#SPILL} (null: o
+     * diretório temporário do sistema).
+     */
+    private final Path spillDirectory;
+}
@@ -0,0 +1,250 @@
+package br.com.escalonadorTarefas.models;
+
+/**
+ * Formato compacto (bytecode) das instruções de um programa.
+ * <p>
+ * Cada instrução é empacotada em um único {@code int}:
+ * - 8 bits menos significativos: código da operação (opcode).
+ * - 24 bits restantes: operando com sinal (ex: o valor de "A=10").
+ * <p>
+ * Atribuições com valores fora dos 24 bits ({@code A=10000000}) usam {@link #OP_SET_CONST}: o
+ * operando guarda o registrador (2 bits) e o índice (22 bits) do valor na tabela de constantes
+ * do programa ({@link ProgramCode#getConstants()}), então os registradores aceitam todo o
+ * intervalo de {@code int}.
+ * <p>
+ * Aritmética ({@code ADD A,B}, {@code SUB A,1}, {@code MUL C,D}) guarda no operando o
+ * registrador de destino (2 bits), um bit que indica fonte imediata e, em seguida, o
+ * registrador fonte (2 bits) ou o valor imediato com sinal (21 bits). Saltos ({@code JMP},
+ * {@code JZ A,ROTULO}, {@code JNZ A,ROTULO}) guardam o registrador testado (2 bits) e o índice
+ * da instrução de destino (22 bits), já resolvido a partir do rótulo na compilação.
+ * Registradores são numerados 0 a 3 (A a D).
+ * <p>
+ * E/S ({@code E/S}, {@code E/S:disco}, {@code E/S:rede,5}) guarda o dispositivo (8 bits, 0 = o
+ * dispositivo padrão; os nomes são numerados pela {@link br.com.escalonadorTarefas.services.IoDeviceTable}
+ * do conjunto de programas)
+ * e um tempo de espera próprio em ticks (15 bits, 0 = o tempo definido pelo modelo do dispositivo).
+ * <p>
+ * Os programas são compilados uma única vez no carregamento, de modo que o
+ * escalonador apenas despacha sobre o array, sem interpretar Strings a cada execução.
+ * <p>
+ * O operando de {@link #OP_COM} guarda o tamanho da sequência de COMs consecutivos que começa
+ * nela (ver {@link br.com.escalonadorTarefas.services.InstructionCompiler#annotateComputeRuns}),
+ * para que a sequência inteira seja executada em um único passo; 0 equivale a 1.
+ */
+public final class Instruction {
+
+    public static final int OP_SET_A = 0;
+    public static final int OP_SET_B = 1;
+    public static final int OP_SET_C = 2;
+    public static final int OP_SET_D = 3;
+    public static final int OP_COM = 4;
+    public static final int OP_IO = 5;
+    public static final int OP_EXIT = 6;
+    public static final int OP_ADD = 7;
+    public static final int OP_SUB = 8;
+    public static final int OP_MUL = 9;
+    public static final int OP_JMP = 10;
+    public static final int OP_JZ = 11;
+    public static final int OP_JNZ = 12;
+    public static final int OP_SET_CONST = 13;
+
+    /**
+     * Tabela de constantes de um programa que não usa {@link #OP_SET_CONST}.
+     */
+    public static final int[] NO_CONSTANTS = new int[0];
+
+    private static final int OPCODE_BITS = 8;
+    private static final int OPCODE_MASK = (1 << OPCODE_BITS) - 1;
+
+    /**
+     * Menor e maior valor representáveis no operando de 24 bits.
+     */
+    public static final int MIN_OPERAND = -(1 << 23);
+    public static final int MAX_OPERAND = (1 << 23) - 1;
+
+    /**
+     * Menor e maior valor imediato da aritmética (21 bits com sinal).
+     */
+    public static final int MIN_IMMEDIATE = -(1 << 20);
+    public static final int MAX_IMMEDIATE = (1 << 20) - 1;
+
+    /**
+     * Maior índice de destino de um salto (22 bits).
+     */
+    public static final int MAX_JUMP_TARGET = (1 << 22) - 1;
+
+    /**
+     * Número máximo de constantes por programa (índice de 22 bits).
+     */
+    public static final int MAX_CONSTANTS = 1 << 22;
+
+    /**
+     * Número máximo de dispositivos de E/S (8 bits) e maior tempo de espera próprio de uma E/S (15 bits).
+     */
+    public static final int MAX_IO_DEVICES = 1 << 8;
+    public static final int MAX_IO_TICKS = (1 << 15) - 1;
+
+    private static final int REGISTER_MASK = 3;
+    private static final int IO_DEVICE_BITS = 8;
+    private static final int IO_DEVICE_MASK = MAX_IO_DEVICES - 1;
+    private static final int IMMEDIATE_FLAG = 1 << 2;
+
+    private Instruction() {
+    }
+
+    /**
+     * Empacota opcode e operando em uma instrução.
+     *
+     * @param opcode  Código da operação.
+     * @param operand Operando (deve caber em 24 bits com sinal).
+     * @return Instrução empacotada.
+     */
+    public static int encode(int opcode, int operand) {
+        return (operand << OPCODE_BITS) | (opcode & OPCODE_MASK);
+    }
+
+    /**
+     * @param instruction Instrução empacotada.
+     * @return Código da operação.
+     */
+    public static int opcode(int instruction) {
+        return instruction & OPCODE_MASK;
+    }
+
+    /**
+     * @param instruction Instrução empacotada.
+     * @return Operando com sinal.
+     */
+    public static int operand(int instruction) {
+        return instruction >> OPCODE_BITS;
+    }
+
+    /**
+     * Empacota uma operação aritmética entre registradores ({@code destino = destino op fonte}).
+     *
+     * @param opcode      {@link #OP_ADD}, {@link #OP_SUB} ou {@link #OP_MUL}.
+     * @param destination Registrador de destino (0 a 3).
+     * @param source      Registrador fonte (0 a 3).
+     * @return Instrução empacotada.
+     */
+    public static int encodeArithmetic(int opcode, int destination, int source) {
+        return encode(opcode, (source << 3) | destination);
+    }
+
+    /**
+     * Empacota uma operação aritmética com valor imediato ({@code destino = destino op valor}).
+     *
+     * @param opcode      {@link #OP_ADD}, {@link #OP_SUB} ou {@link #OP_MUL}.
+     * @param destination Registrador de destino (0 a 3).
+     * @param value       Valor imediato (entre {@link #MIN_IMMEDIATE} e {@link #MAX_IMMEDIATE}).
+     * @return Instrução empacotada.
+     */
+    public static int encodeArithmeticImmediate(int opcode, int destination, int value) {
+        return encode(opcode, (value << 3) | IMMEDIATE_FLAG | destination);
+    }
+
+    /**
+     * Empacota um salto.
+     *
+     * @param opcode   {@link #OP_JMP}, {@link #OP_JZ} ou {@link #OP_JNZ}.
+     * @param register Registrador testado (ignorado em {@link #OP_JMP}).
+     * @param target   Índice da instrução de destino (o tamanho do programa encerra o processo).
+     * @return Instrução empacotada.
+     */
+    public static int encodeJump(int opcode, int register, int target) {
+        return encode(opcode, (target << 2) | register);
+    }
+
+    /**
+     * Empacota uma atribuição de um valor da tabela de constantes do programa.
+     *
+     * @param register Registrador de destino (0 a 3).
+     * @param index    Índice do valor na tabela de constantes.
+     * @return Instrução empacotada.
+     */
+    public static int encodeSetConstant(int register, int index) {
+        return encode(OP_SET_CONST, (index << 2) | register);
+    }
+
+    /**
+     * @return Registrador de destino de uma atribuição de constante.
+     */
+    public static int constantRegister(int instruction) {
+        return operand(instruction) & REGISTER_MASK;
+    }
+
+    /**
+     * @return Índice na tabela de constantes de uma atribuição de constante.
+     */
+    public static int constantIndex(int instruction) {
+        return instruction >>> (OPCODE_BITS + 2);
+    }
+
+    /**
+     * Empacota uma E/S.
+     *
+     * @param device Índice do dispositivo (0 = padrão).
+     * @param ticks  Tempo de espera próprio em ticks, ou 0 para usar o modelo do dispositivo.
+     * @return Instrução empacotada.
+     */
+    public static int encodeIo(int device, int ticks) {
+        return encode(OP_IO, (ticks << IO_DEVICE_BITS) | device);
+    }
+
+    /**
+     * @return Índice do dispositivo de uma E/S (0 = padrão).
+     */
+    public static int ioDevice(int instruction) {
+        return operand(instruction) & IO_DEVICE_MASK;
+    }
+
+    /**
+     * @return Tempo de espera próprio de uma E/S em ticks, ou 0 se ela usa o modelo do dispositivo.
+     */
+    public static int ioTicks(int instruction) {
+        return operand(instruction) >> IO_DEVICE_BITS;
+    }
+
+    /**
+     * @return Registrador de destino de uma operação aritmética.
+     */
+    public static int destination(int instruction) {
+        return operand(instruction) & REGISTER_MASK;
+    }
+
+    /**
+     * @return true se a fonte da operação aritmética é um valor imediato.
+     */
+    public static boolean isImmediate(int instruction) {
+        return (operand(instruction) & IMMEDIATE_FLAG) != 0;
+    }
+
+    /**
+     * @return Registrador fonte de uma operação aritmética entre registradores.
+     */
+    public static int source(int instruction) {
+        return (operand(instruction) >> 3) & REGISTER_MASK;
+    }
+
+    /**
+     * @return Valor imediato (com sinal) de uma operação aritmética.
+     */
+    public static int immediate(int instruction) {
+        return operand(instruction) >> 3;
+    }
+
+    /**
+     * @return Registrador testado por um salto condicional.
+     */
+    public static int jumpRegister(int instruction) {
+        return operand(instruction) & REGISTER_MASK;
+    }
+
+    /**
+     * @return Índice da instrução de destino de um salto.
+     */
+    public static int jumpTarget(int instruction) {
+        // Sem sinal: o destino ocupa os 22 bits mais altos da instrução.
+        return instruction >>> (OPCODE_BITS + 2);
+    }
+}
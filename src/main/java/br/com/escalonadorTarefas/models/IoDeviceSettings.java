@@ -0,0 +1,42 @@
+package br.com.escalonadorTarefas.models;
+
+import br.com.escalonadorTarefas.enums.LatencyDistribution;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Modelo de um dispositivo de E/S simulado ({@link br.com.escalonadorTarefas.services.IoDevices}):
+ * de onde vem o tempo de espera de cada operação e quantas são atendidas ao mesmo tempo.
+ * Dispositivos sem configuração usam o modelo padrão: {@code 2 * quantum} ticks, sem limite.
+ */
+@Getter
+@Builder
+public class IoDeviceSettings {
+
+    /**
+     * Nome usado nos programas ({@code E/S:nome}); {@code default} é o dispositivo da {@code E/S} sem nome.
+     */
+    private final String name;
+
+    @Builder.Default
+    private final LatencyDistribution latencyDistribution = LatencyDistribution.FIXED;
+
+    /**
+     * Tempo médio de espera em ticks (o tempo exato na distribuição fixa); 0 para o tempo
+     * padrão de {@code 2 * quantum}.
+     */
+    private final long meanLatencyTicks;
+
+    /**
+     * Tempos de espera lidos de um trace, usados em sequência e repetidos do início quando
+     * acabam (null para usar a distribuição).
+     */
+    private final int[] latencyTrace;
+
+    /**
+     * Operações atendidas ao mesmo tempo (a largura de banda do dispositivo); as demais esperam
+     * em ordem de chegada.
+     */
+    @Builder.Default
+    private final int channels = Integer.MAX_VALUE;
+}
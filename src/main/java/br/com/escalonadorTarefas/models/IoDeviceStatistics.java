@@ -0,0 +1,43 @@
+package br.com.escalonadorTarefas.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Contadores de um dispositivo de E/S simulado ao fim de uma simulação.
+ */
+@Getter
+@AllArgsConstructor
+public class IoDeviceStatistics {
+    private final String device;
+    /**
+     * Operações atendidas ao mesmo tempo ({@link Integer#MAX_VALUE} = sem limite).
+     */
+    private final int channels;
+    private final long operations;
+    /**
+     * Soma dos tempos de atendimento, em ticks (canais ocupados x ticks).
+     */
+    private final long busyTicks;
+    private final int peakInService;
+    private final int peakWaiting;
+    /**
+     * Espera média e máxima na fila do dispositivo antes do atendimento, em ticks.
+     */
+    private final double meanQueueDelay;
+    private final long maxQueueDelay;
+    private final double meanLatency;
+
+    /**
+     * @param ticks Duração da simulação.
+     * @return Fração da capacidade usada (canais ocupados / canais), ou o número médio de
+     * operações em atendimento se o dispositivo não tiver limite.
+     */
+    public double getUtilization(long ticks) {
+        if (ticks == 0) {
+            return 0.0;
+        }
+        double inService = (double) busyTicks / ticks;
+        return channels == Integer.MAX_VALUE ? inService : inService / channels;
+    }
+}
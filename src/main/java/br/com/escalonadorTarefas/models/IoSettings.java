@@ -0,0 +1,51 @@
+package br.com.escalonadorTarefas.models;
+
+import br.com.escalonadorTarefas.enums.LatencyDistribution;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Configuração do modo de E/S assíncrona ({@link br.com.escalonadorTarefas.services.AsyncIoService}).
+ */
+@Getter
+@Builder
+public class IoSettings {
+
+    /**
+     * Número de dispositivos; cada processo usa sempre o dispositivo {@code pid % devices}.
+     */
+    @Builder.Default
+    private final int devices = 4;
+
+    /**
+     * Operações atendidas ao mesmo tempo por dispositivo; as demais esperam na fila do dispositivo.
+     */
+    @Builder.Default
+    private final int queueDepth = 64;
+
+    @Builder.Default
+    private final long meanLatencyMicros = 200;
+
+    @Builder.Default
+    private final LatencyDistribution latencyDistribution = LatencyDistribution.EXPONENTIAL;
+
+    /**
+     * Semente do sorteio das latências (a sequência de latências é reprodutível; a ordem real
+     * de conclusão depende do sistema operacional).
+     */
+    @Builder.Default
+    private final long seed = 42L;
+
+    /**
+     * Threads do temporizador que concluem as operações.
+     */
+    @Builder.Default
+    private final int threads = 2;
+
+    /**
+     * @return Configuração padrão.
+     */
+    public static IoSettings defaults() {
+        return IoSettings.builder().build();
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.escalonadorTarefas.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Resultado da comparação entre o log de uma nova execução e um log de referência.
+ */
+@Getter
+@AllArgsConstructor
+public class LogComparison {
+    /**
+     * Linhas idênticas antes da primeira divergência (ou o total, se não houve divergência).
+     */
+    private final long matchingLines;
+    private final boolean identical;
+    /**
+     * Linha (a partir de 1) da primeira divergência.
+     */
+    private final long line;
+    /**
+     * Tick do relógio virtual e pid do evento que gerou a linha divergente, ou -1 se a
+     * divergência não veio de um evento do escalonador (ex: estatísticas finais, fim do log).
+     */
+    private final long tick;
+    private final int processId;
+    /**
+     * Linha esperada (do log de referência) e linha gerada, ou null se o respectivo log terminou antes.
+     */
+    private final String expected;
+    private final String actual;
+
+    public static LogComparison identical(long lines) {
+        return new LogComparison(lines, true, 0, -1, -1, null, null);
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.escalonadorTarefas.models;
+
+import br.com.escalonadorTarefas.enums.FlushPolicy;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Locale;
+
+/**
+ * Configuração de escrita do {@link br.com.escalonadorTarefas.services.Logger}.
+ * <p>
+ * O padrão reproduz o comportamento original: escrita síncrona com descarga a cada evento.
+ */
+@Getter
+@Builder
+public class LogSettings {
+
+    /**
+     * Se true, os eventos vão para um buffer circular e são gravados em lotes por uma thread de fundo.
+     */
+    @Builder.Default
+    private final boolean async = false;
+
+    @Builder.Default
+    private final FlushPolicy flushPolicy = FlushPolicy.EVERY_EVENT;
+
+    /**
+     * Número de eventos entre descargas, para {@link FlushPolicy#EVERY_N_EVENTS}.
+     */
+    @Builder.Default
+    private final int flushEvery = 1024;
+
+    /**
+     * Intervalo entre descargas, em milissegundos, para {@link FlushPolicy#TIMED}.
+     */
+    @Builder.Default
+    private final long flushIntervalMillis = 1000;
+
+    /**
+     * Capacidade do buffer circular do modo assíncrono (arredondada para potência de 2).
+     */
+    @Builder.Default
+    private final int ringCapacity = 8192;
+
+    /**
+     * Diretório em que os arquivos de log são criados.
+     */
+    @Builder.Default
+    private final String directory = "src/main/resources/logs";
+
+    /**
+     * Locale usado para formatar os números do log (o separador decimal das médias).
+     */
+    @Builder.Default
+    private final Locale locale = Locale.getDefault();
+
+    /**
+     * @return Configuração padrão (síncrona, descarga a cada evento).
+     */
+    public static LogSettings defaults() {
+        return LogSettings.builder().build();
+    }
+}
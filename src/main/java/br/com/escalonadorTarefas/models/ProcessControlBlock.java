@@ -6,8 +6,6 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.util.List;
-
 /**
  * Representa o Bloco de Controle de Processo (BCP).
  * Usando Lombok para getters, setters e construtores
@@ -24,9 +22,39 @@ public class ProcessControlBlock {
     private int registerB;
     private int registerC;
     private int registerD;
-    private List<String> instructions;
+    /**
+     * Programa compilado (ver {@link Instruction}).
+     */
+    private int[] instructions;
+    /**
+     * Tabela de constantes do programa (ver {@link Instruction#OP_SET_CONST}).
+     */
+    private int[] constants = Instruction.NO_CONSTANTS;
     private int waitTime;
-    private int interruptionsCount = 0; //TODO
+    /**
+     * Número de vezes que o processo recebeu a CPU (fatias executadas).
+     */
+    private int interruptionsCount = 0;
+    /**
+     * Prioridade estática (menor valor = maior prioridade), usada pela política de prioridade.
+     */
+    private int priority;
+    /**
+     * Nível atual na fila multinível com realimentação (MLFQ); 0 é o nível mais alto.
+     */
+    private int queueLevel;
+    /**
+     * Último núcleo (CPU virtual) em que o processo executou, no modo multinúcleo.
+     */
+    private int cpu;
+    /**
+     * Tick do relógio virtual em que o processo chegou ao sistema.
+     */
+    private long arrivalTick;
+    /**
+     * Instruções que o processo ainda pode executar; ao chegar a zero ele termina.
+     */
+    private long instructionBudget = Long.MAX_VALUE;
 }
 
 
@@ -0,0 +1,36 @@
+package br.com.escalonadorTarefas.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Resumo de um processo terminado.
+ * <p>
+ * Guarda apenas o necessário para relatórios e estatísticas, de modo que o BCP completo
+ * (registradores e array de instruções) possa ser descartado assim que o processo termina.
+ */
+@Getter
+@AllArgsConstructor
+public class ProcessSummary {
+    private final int processId;
+    private final String processName;
+    /**
+     * Número de vezes que o processo ocupou a CPU.
+     */
+    private final int interruptionsCount;
+    private final long arrivalTick;
+    private final long terminationTick;
+
+    /**
+     * @param pcb             Processo que acabou de terminar.
+     * @param terminationTick Tick em que executou SAIDA (ou a última instrução).
+     * @return Resumo do processo.
+     */
+    public static ProcessSummary of(ProcessControlBlock pcb, long terminationTick) {
+        return new ProcessSummary(pcb.getProcessId(),
+                pcb.getProcessName(),
+                pcb.getInterruptionsCount(),
+                pcb.getArrivalTick(),
+                terminationTick);
+    }
+}
@@ -0,0 +1,90 @@
+package br.com.escalonadorTarefas.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Programa já compilado, imutável e compartilhável entre várias simulações.
+ * <p>
+ * Os arrays de instruções e de constantes nunca são alterados durante a execução, então vários
+ * {@link ProcessControlBlock} (inclusive de simulações concorrentes) podem apontar
+ * para o mesmo array.
+ */
+@Getter
+@AllArgsConstructor
+public class Program {
+    private final int processId;
+    private final String processName;
+    private final int[] instructions;
+    /**
+     * Tabela de constantes das instruções {@link Instruction#OP_SET_CONST}.
+     */
+    private final int[] constants;
+    /**
+     * Prioridade estática usada pela política {@code priority} (menor valor = mais prioritário).
+     */
+    private final int priority;
+    /**
+     * Tick do relógio virtual em que o processo chega ao sistema (0 = desde o início).
+     */
+    private final long arrivalTick;
+    /**
+     * Máximo de instruções que cada processo deste programa pode executar
+     * ({@link Long#MAX_VALUE} = sem limite).
+     */
+    private final long instructionBudget;
+
+    public Program(int processId, String processName, int[] instructions) {
+        this(processId, processName, instructions, 0);
+    }
+
+    public Program(int processId, String processName, int[] instructions, long arrivalTick) {
+        this(processId, processName, instructions, Instruction.NO_CONSTANTS, 0, arrivalTick, Long.MAX_VALUE);
+    }
+
+    public Program(int processId, String processName, ProgramCode code) {
+        this(processId, processName, code.getInstructions(), code.getConstants(), code.getPriority(), 0, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param arrivalTick Novo tick de chegada.
+     * @return Cópia deste programa (com o mesmo array de instruções) que chega no tick informado.
+     */
+    public Program withArrivalTick(long arrivalTick) {
+        return new Program(processId, processName, instructions, constants, priority, arrivalTick, instructionBudget);
+    }
+
+    /**
+     * @param instructionBudget Máximo de instruções por processo (positivo).
+     * @return Cópia deste programa (com o mesmo array de instruções) com o orçamento informado.
+     */
+    public Program withInstructionBudget(long instructionBudget) {
+        return new Program(processId, processName, instructions, constants, priority, arrivalTick, instructionBudget);
+    }
+
+    /**
+     * @param priority Nova prioridade (menor valor = mais prioritário).
+     * @return Cópia deste programa (com o mesmo array de instruções) com a prioridade informada.
+     */
+    public Program withPriority(int priority) {
+        return new Program(processId, processName, instructions, constants, priority, arrivalTick, instructionBudget);
+    }
+
+    /**
+     * Cria um novo BCP, no estado inicial, para executar este programa.
+     *
+     * @return BCP pronto para ser adicionado a um escalonador.
+     */
+    public ProcessControlBlock newProcess() {
+        ProcessControlBlock pcb = new ProcessControlBlock();
+        pcb.setProcessId(processId);
+        pcb.setProcessName(processName);
+        pcb.setInstructions(instructions);
+        pcb.setConstants(constants);
+        pcb.setPriority(priority);
+        pcb.setProgramCounter(0);
+        pcb.setArrivalTick(arrivalTick);
+        pcb.setInstructionBudget(instructionBudget);
+        return pcb;
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.escalonadorTarefas.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Resultado da compilação de um programa pelo
+ * {@link br.com.escalonadorTarefas.services.InstructionCompiler}: as instruções empacotadas, a
+ * tabela de constantes e a prioridade declarada no cabeçalho do programa.
+ */
+@Getter
+@AllArgsConstructor
+public class ProgramCode {
+    private final int[] instructions;
+    /**
+     * Valores de atribuições que não cabem no operando de 24 bits, lidos por
+     * {@link Instruction#OP_SET_CONST} (vazio na maioria dos programas).
+     */
+    private final int[] constants;
+    /**
+     * Valor da linha opcional {@code PRIORIDADE=N} (0 quando ausente); menor valor = mais prioritário.
+     */
+    private final int priority;
+}
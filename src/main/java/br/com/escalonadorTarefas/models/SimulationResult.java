@@ -0,0 +1,86 @@
+package br.com.escalonadorTarefas.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Estatísticas finais de uma simulação.
+ */
+@Getter
+@AllArgsConstructor
+public class SimulationResult {
+    /**
+     * Quantum utilizado.
+     */
+    private final int quantum;
+    /**
+     * Média de trocas (interrupções) por processo.
+     */
+    private final double averageSwitches;
+    /**
+     * Média de instruções executadas por quantum.
+     */
+    private final double averageInstructions;
+    /**
+     * Total de quanta executados.
+     */
+    private final long totalQuantumExecutions;
+    /**
+     * Ticks do relógio virtual até o fim da simulação.
+     */
+    private final long totalTicks;
+
+    /**
+     * Calcula as estatísticas finais a partir dos processos simulados e dos contadores do escalonador.
+     *
+     * @param quantum                     Quantum utilizado.
+     * @param processes                   Processos da simulação.
+     * @param totalQuantumExecutions      Total de quanta executados.
+     * @param totalInstructionsInQuantums Total de instruções executadas nos quanta.
+     * @param totalTicks                  Ticks do relógio virtual.
+     * @return Estatísticas calculadas.
+     */
+    public static SimulationResult of(int quantum,
+                                      List<ProcessControlBlock> processes,
+                                      long totalQuantumExecutions,
+                                      long totalInstructionsInQuantums,
+                                      long totalTicks) {
+        long sumInterruptions = 0;
+        for (ProcessControlBlock pcb : processes) {
+            sumInterruptions += pcb.getInterruptionsCount();
+        }
+        return of(quantum, processes.size(), sumInterruptions, totalQuantumExecutions, totalInstructionsInQuantums,
+                totalTicks);
+    }
+
+    /**
+     * Calcula as estatísticas finais a partir de totais acumulados, sem precisar dos BCPs
+     * (ex: quando os processos terminados são descartados durante a simulação).
+     *
+     * @param quantum                     Quantum utilizado.
+     * @param processCount                Número de processos simulados.
+     * @param sumInterruptions            Soma das interrupções de todos os processos.
+     * @param totalQuantumExecutions      Total de quanta executados.
+     * @param totalInstructionsInQuantums Total de instruções executadas nos quanta.
+     * @param totalTicks                  Ticks do relógio virtual.
+     * @return Estatísticas calculadas.
+     */
+    public static SimulationResult of(int quantum,
+                                      int processCount,
+                                      long sumInterruptions,
+                                      long totalQuantumExecutions,
+                                      long totalInstructionsInQuantums,
+                                      long totalTicks) {
+        double averageSwitches = (double) sumInterruptions / processCount;
+
+        double averageInstructions = 0.0;
+        if (totalQuantumExecutions > 0) {
+            averageInstructions = (double) totalInstructionsInQuantums / totalQuantumExecutions;
+        }
+
+        return new SimulationResult(quantum, averageSwitches, averageInstructions, totalQuantumExecutions,
+                totalTicks);
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.escalonadorTarefas.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Contadores de um tenant do {@link br.com.escalonadorTarefas.services.SchedulerService}
+ * em um instante (lidos sem sincronização, podem estar levemente defasados entre si).
+ */
+@Getter
+@AllArgsConstructor
+public class TenantStatistics {
+    private final String tenant;
+    private final int weight;
+    private final long submitted;
+    private final long admitted;
+    private final long completed;
+    /**
+     * Fatias de CPU (ticks em execução) usadas pelos processos do tenant.
+     */
+    private final long cpuTicks;
+    /**
+     * CPU usada por todos os tenants enquanto este tinha processos esperando ou vivos.
+     */
+    private final long busyCpuTicks;
+    /**
+     * Tick em que terminou o último processo concluído do tenant (-1 se nenhum terminou).
+     */
+    private final long lastCompletionTick;
+
+    /**
+     * @return Fração da CPU que o tenant recebeu enquanto tinha trabalho: é nela que o peso
+     * aparece, já que no fim cada tenant usa exatamente a CPU do que enviou.
+     */
+    public double getBusyShare() {
+        return busyCpuTicks == 0 ? 0.0 : (double) cpuTicks / busyCpuTicks;
+    }
+
+    /**
+     * @return Processos enviados e ainda não admitidos no escalonador.
+     */
+    public long getWaiting() {
+        return submitted - admitted;
+    }
+}
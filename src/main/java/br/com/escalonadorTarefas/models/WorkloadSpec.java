@@ -0,0 +1,91 @@
+package br.com.escalonadorTarefas.models;
+
+import br.com.escalonadorTarefas.enums.ExitPlacement;
+import br.com.escalonadorTarefas.enums.LengthDistribution;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Parâmetros de uma carga sintética gerada pelo
+ * {@link br.com.escalonadorTarefas.services.WorkloadGenerator}.
+ * <p>
+ * O padrão imita os programas de "inserts": cerca de 20 instruções, com E/S, COM e
+ * atribuições de registradores misturadas e SAIDA no fim.
+ */
+@Getter
+@Builder
+public class WorkloadSpec {
+
+    /**
+     * Número de programas (processos) gerados.
+     */
+    @Builder.Default
+    private final int processCount = 10;
+
+    /**
+     * Semente; a mesma especificação sempre gera a mesma carga.
+     */
+    @Builder.Default
+    private final long seed = 42L;
+
+    /**
+     * Menor e maior número de instruções de cada programa, sem contar a SAIDA.
+     */
+    @Builder.Default
+    private final int minLength = 10;
+    @Builder.Default
+    private final int maxLength = 25;
+
+    @Builder.Default
+    private final LengthDistribution lengthDistribution = LengthDistribution.UNIFORM;
+
+    /**
+     * Percentual de instruções E/S.
+     */
+    @Builder.Default
+    private final int ioPercent = 25;
+
+    /**
+     * Dispositivos sorteados para cada E/S ({@code E/S:nome}); vazio para usar a {@code E/S} sem nome.
+     */
+    @Builder.Default
+    private final List<String> ioDevices = List.of();
+
+    /**
+     * Percentual de atribuições (A=, B=, C=, D=) entre as instruções que não são E/S;
+     * o restante é COM.
+     */
+    @Builder.Default
+    private final int assignmentPercent = 40;
+
+    /**
+     * Maior valor atribuído aos registradores.
+     */
+    @Builder.Default
+    private final int maxOperand = 20;
+
+    /**
+     * Maior prioridade sorteada para cada programa, entre 0 e este valor (0 = todos com a
+     * mesma prioridade, sem cabeçalho {@code PRIORIDADE=}).
+     */
+    @Builder.Default
+    private final int maxPriority = 0;
+
+    @Builder.Default
+    private final ExitPlacement exitPlacement = ExitPlacement.END;
+
+    /**
+     * Ticks entre as chegadas de programas consecutivos (0 = todos no início).
+     */
+    @Builder.Default
+    private final long arrivalInterval = 0;
+
+    /**
+     * @return Especificação padrão.
+     */
+    public static WorkloadSpec defaults() {
+        return WorkloadSpec.builder().build();
+    }
+}
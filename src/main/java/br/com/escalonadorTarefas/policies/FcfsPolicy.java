@@ -0,0 +1,46 @@
+package br.com.escalonadorTarefas.policies;
+
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * First-Come, First-Served: fila FIFO sem preempção por tempo. O processo mantém a CPU
+ * até se bloquear em E/S ou terminar. Todas as operações são O(1).
+ */
+public class FcfsPolicy implements SchedulingPolicy {
+
+    private final ArrayDeque<ProcessControlBlock> queue = new ArrayDeque<>();
+
+    @Override
+    public void add(ProcessControlBlock pcb) {
+        queue.add(pcb);
+    }
+
+    @Override
+    public ProcessControlBlock poll() {
+        return queue.poll();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public List<ProcessControlBlock> readyProcesses() {
+        return new ArrayList<>(queue);
+    }
+
+    @Override
+    public int quantumFor(ProcessControlBlock pcb) {
+        return Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,152 @@
+package br.com.escalonadorTarefas.policies;
+
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fila multinível com realimentação (MLFQ).
+ * <p>
+ * Há um número fixo de níveis, cada um com uma fila FIFO; o nível {@code i} usa um quantum
+ * de {@code quantum * 2^i}. Regras:
+ * - Processos novos entram no nível 0 (maior prioridade).
+ * - Quem esgota o quantum desce um nível (até o último).
+ * - Quem se bloqueia em E/S antes de esgotar o quantum permanece no mesmo nível.
+ * - A cada {@code boostInterval} despachos todos os prontos voltam ao nível 0, evitando inanição.
+ * <p>
+ * A escolha percorre apenas os níveis (constante), então é O(1) no número de processos.
+ */
+public class MultilevelFeedbackQueuePolicy implements SchedulingPolicy {
+
+    /**
+     * Configuração padrão: 3 níveis e reforço a cada 100 despachos.
+     */
+    public static final int DEFAULT_LEVELS = 3;
+    public static final int DEFAULT_BOOST_INTERVAL = 100;
+
+    private final List<ArrayDeque<ProcessControlBlock>> levels;
+    private final int[] quanta;
+    private final int boostInterval;
+    private int size;
+    private int dispatchesSinceBoost;
+
+    /**
+     * @param quantum Quantum do nível mais alto.
+     */
+    public MultilevelFeedbackQueuePolicy(int quantum) {
+        this(quantum, DEFAULT_LEVELS, DEFAULT_BOOST_INTERVAL);
+    }
+
+    /**
+     * @param quantum       Quantum do nível mais alto.
+     * @param levelCount    Número de níveis.
+     * @param boostInterval Despachos entre reforços de prioridade (0 desativa).
+     */
+    public MultilevelFeedbackQueuePolicy(int quantum, int levelCount, int boostInterval) {
+        if (levelCount < 1) {
+            throw new IllegalArgumentException("A MLFQ precisa de pelo menos um nível.");
+        }
+        this.levels = new ArrayList<>(levelCount);
+        this.quanta = new int[levelCount];
+        for (int i = 0; i < levelCount; i++) {
+            levels.add(new ArrayDeque<>());
+            long levelQuantum = (long) quantum << i;
+            quanta[i] = (int) Math.min(levelQuantum, Integer.MAX_VALUE);
+        }
+        this.boostInterval = boostInterval;
+    }
+
+    @Override
+    public void add(ProcessControlBlock pcb) {
+        int level = Math.min(Math.max(pcb.getQueueLevel(), 0), levels.size() - 1);
+        pcb.setQueueLevel(level);
+        levels.get(level).add(pcb);
+        size++;
+    }
+
+    @Override
+    public ProcessControlBlock poll() {
+        if (size == 0) {
+            return null;
+        }
+        if (boostInterval > 0 && ++dispatchesSinceBoost >= boostInterval) {
+            boost();
+        }
+        return steal();
+    }
+
+    /**
+     * Retira o primeiro processo do nível mais alto sem contar um despacho para o reforço.
+     */
+    @Override
+    public ProcessControlBlock steal() {
+        for (ArrayDeque<ProcessControlBlock> level : levels) {
+            ProcessControlBlock pcb = level.poll();
+            if (pcb != null) {
+                size--;
+                return pcb;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Os níveis são despachados do mais alto para o mais baixo, então a ordem de despacho é a
+     * concatenação dos níveis; cada BCP guarda o seu nível, que {@link #add} respeita.
+     */
+    @Override
+    public List<ProcessControlBlock> readyProcesses() {
+        List<ProcessControlBlock> ready = new ArrayList<>(size);
+        for (ArrayDeque<ProcessControlBlock> level : levels) {
+            ready.addAll(level);
+        }
+        return ready;
+    }
+
+    @Override
+    public long saveState() {
+        return dispatchesSinceBoost;
+    }
+
+    @Override
+    public void restoreState(long state) {
+        dispatchesSinceBoost = (int) state;
+    }
+
+    @Override
+    public int quantumFor(ProcessControlBlock pcb) {
+        return quanta[pcb.getQueueLevel()];
+    }
+
+    @Override
+    public void onQuantumExpired(ProcessControlBlock pcb) {
+        pcb.setQueueLevel(Math.min(pcb.getQueueLevel() + 1, levels.size() - 1));
+    }
+
+    /**
+     * Devolve todos os prontos ao nível 0, preservando a ordem relativa entre níveis.
+     */
+    private void boost() {
+        dispatchesSinceBoost = 0;
+        ArrayDeque<ProcessControlBlock> top = levels.get(0);
+        for (int i = 1; i < levels.size(); i++) {
+            ProcessControlBlock pcb;
+            while ((pcb = levels.get(i).poll()) != null) {
+                pcb.setQueueLevel(0);
+                top.add(pcb);
+            }
+        }
+    }
+}
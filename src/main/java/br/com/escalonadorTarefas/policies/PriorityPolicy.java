@@ -0,0 +1,54 @@
+package br.com.escalonadorTarefas.policies;
+
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+import br.com.escalonadorTarefas.services.ProcessHeap;
+
+import java.util.List;
+
+/**
+ * Prioridade estática preemptiva: sempre despacha o pronto com menor valor de
+ * {@link ProcessControlBlock#getPriority()}; processos de mesma prioridade alternam em
+ * Round Robin (desempate pela ordem de chegada). A escolha é O(log n).
+ */
+public class PriorityPolicy implements SchedulingPolicy {
+
+    private final ProcessHeap heap = new ProcessHeap();
+    private final int quantum;
+
+    /**
+     * @param quantum Número de instruções por fatia de tempo.
+     */
+    public PriorityPolicy(int quantum) {
+        this.quantum = quantum;
+    }
+
+    @Override
+    public void add(ProcessControlBlock pcb) {
+        heap.add(pcb, pcb.getPriority());
+    }
+
+    @Override
+    public ProcessControlBlock poll() {
+        return heap.poll();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return heap.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return heap.size();
+    }
+
+    @Override
+    public List<ProcessControlBlock> readyProcesses() {
+        return heap.toSortedList();
+    }
+
+    @Override
+    public int quantumFor(ProcessControlBlock pcb) {
+        return quantum;
+    }
+}
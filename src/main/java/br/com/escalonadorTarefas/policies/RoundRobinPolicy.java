@@ -0,0 +1,53 @@
+package br.com.escalonadorTarefas.policies;
+
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Round Robin: fila FIFO com quantum fixo. Todas as operações são O(1).
+ */
+public class RoundRobinPolicy implements SchedulingPolicy {
+
+    private final ArrayDeque<ProcessControlBlock> queue = new ArrayDeque<>();
+    private final int quantum;
+
+    /**
+     * @param quantum Número de instruções por fatia de tempo.
+     */
+    public RoundRobinPolicy(int quantum) {
+        this.quantum = quantum;
+    }
+
+    @Override
+    public void add(ProcessControlBlock pcb) {
+        queue.add(pcb);
+    }
+
+    @Override
+    public ProcessControlBlock poll() {
+        return queue.poll();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public List<ProcessControlBlock> readyProcesses() {
+        return new ArrayList<>(queue);
+    }
+
+    @Override
+    public int quantumFor(ProcessControlBlock pcb) {
+        return quantum;
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.escalonadorTarefas.policies;
+
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+
+import java.util.List;
+
+/**
+ * Política de escalonamento usada pelo {@link br.com.escalonadorTarefas.services.Scheduler}.
+ * <p>
+ * A política é dona da fila de prontos: decide a ordem em que os processos recebem a CPU
+ * e quantas instruções cada um pode executar por vez. O escalonador cuida do restante
+ * (execução, E/S, bloqueio e logs), de modo que políticas diferentes podem ser comparadas
+ * sobre a mesma carga sem alterar o laço principal.
+ */
+public interface SchedulingPolicy {
+
+    /**
+     * Insere um processo pronto (recém-carregado, despertado de E/S ou preemptado).
+     *
+     * @param pcb Processo pronto.
+     */
+    void add(ProcessControlBlock pcb);
+
+    /**
+     * Remove o próximo processo a receber a CPU.
+     *
+     * @return Próximo processo, ou null se não houver processos prontos.
+     */
+    ProcessControlBlock poll();
+
+    /**
+     * Remove um processo para que outro núcleo o execute (roubo de trabalho do
+     * {@link br.com.escalonadorTarefas.services.MultiCoreScheduler}). Não conta como despacho
+     * desta fila, então o estado da política (ex: o contador de reforço da MLFQ) não muda.
+     *
+     * @return Processo que {@link #poll()} devolveria, ou null se não houver processos prontos.
+     */
+    default ProcessControlBlock steal() {
+        return poll();
+    }
+
+    boolean isEmpty();
+
+    int size();
+
+    /**
+     * Quantidade máxima de instruções que o processo pode executar neste despacho.
+     *
+     * @param pcb Processo que vai receber a CPU.
+     * @return Fatia de tempo, em instruções.
+     */
+    int quantumFor(ProcessControlBlock pcb);
+
+    /**
+     * Processos prontos na ordem em que seriam despachados, sem alterar a fila (usado no
+     * checkpoint). Reinseri-los nessa ordem com {@link #add} em uma política nova e depois
+     * chamar {@link #restoreState(long)} reproduz a mesma fila.
+     *
+     * @return Cópia da fila de prontos.
+     */
+    List<ProcessControlBlock> readyProcesses();
+
+    /**
+     * Estado interno da política que não está nos BCPs (ex: contadores), para o checkpoint.
+     *
+     * @return Estado codificado em um long.
+     */
+    default long saveState() {
+        return 0;
+    }
+
+    /**
+     * Restaura o estado obtido com {@link #saveState()}.
+     *
+     * @param state Estado codificado.
+     */
+    default void restoreState(long state) {
+    }
+
+    /**
+     * Chamado quando o processo esgota sua fatia de tempo, antes de voltar à fila de prontos.
+     *
+     * @param pcb Processo preemptado.
+     */
+    default void onQuantumExpired(ProcessControlBlock pcb) {
+    }
+
+    /**
+     * Chamado quando o processo se bloqueia em E/S antes de esgotar sua fatia de tempo.
+     *
+     * @param pcb Processo bloqueado.
+     */
+    default void onBlocked(ProcessControlBlock pcb) {
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.escalonadorTarefas.policies;
+
+import br.com.escalonadorTarefas.models.Instruction;
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+import br.com.escalonadorTarefas.services.ProcessHeap;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shortest Job First (SJF) e sua variante preemptiva, Shortest Remaining Time First (SRTF).
+ * <p>
+ * O tamanho do trabalho é estimado pelo número de instruções que ainda faltam no programa
+ * (tamanho do programa menos o program counter), limitado pelo orçamento de instruções restante.
+ * Essa contagem só vale para código sem laços: se ainda houver um salto para trás a partir do
+ * PC (JMP, JZ ou JNZ), o processo pode executar mais instruções do que o programa tem, e a
+ * estimativa passa a ser o orçamento restante. Sem orçamento ({@code --instruction-budget}) um
+ * processo com laço não tem limite conhecido e fica atrás de todos os demais. Os prontos ficam
+ * em um heap mínimo por essa estimativa, com desempate pela ordem de chegada, então a escolha
+ * é O(log n).
+ * <p>
+ * No modo não preemptivo (SJF) o processo escolhido executa até se bloquear ou terminar.
+ * No modo preemptivo (SRTF) ele executa no máximo um quantum e a escolha é refeita a cada
+ * despacho, já considerando os processos que acabaram de sair da E/S.
+ */
+public class ShortestJobFirstPolicy implements SchedulingPolicy {
+
+    /**
+     * Programas lembrados em {@link #lastBackwardJumps}.
+     */
+    private static final int CACHED_PROGRAMS = 1024;
+
+    private final ProcessHeap heap = new ProcessHeap();
+    private final int quantum;
+    /**
+     * Posição do último salto para trás de cada programa recente (-1 se não houver), pelo array
+     * de instruções compartilhado pelos seus BCPs. Os arrays não redefinem equals, então a
+     * comparação é por identidade; os menos usados são esquecidos e recalculados se voltarem.
+     */
+    private final Map<int[], Integer> lastBackwardJumps = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<int[], Integer> eldest) {
+            return size() > CACHED_PROGRAMS;
+        }
+    };
+
+    /**
+     * @param quantum    Fatia de tempo usada no modo preemptivo.
+     * @param preemptive true para SRTF; false para SJF.
+     */
+    public ShortestJobFirstPolicy(int quantum, boolean preemptive) {
+        this.quantum = preemptive ? quantum : Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void add(ProcessControlBlock pcb) {
+        heap.add(pcb, remainingInstructions(pcb));
+    }
+
+    @Override
+    public ProcessControlBlock poll() {
+        return heap.poll();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return heap.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return heap.size();
+    }
+
+    @Override
+    public List<ProcessControlBlock> readyProcesses() {
+        return heap.toSortedList();
+    }
+
+    @Override
+    public int quantumFor(ProcessControlBlock pcb) {
+        return quantum;
+    }
+
+    private long remainingInstructions(ProcessControlBlock pcb) {
+        int[] code = pcb.getInstructions();
+        int lastLoop = lastBackwardJumps.computeIfAbsent(code, ShortestJobFirstPolicy::lastBackwardJump);
+        if (lastLoop >= pcb.getProgramCounter()) {
+            return pcb.getInstructionBudget();
+        }
+        return Math.min(code.length - pcb.getProgramCounter(), pcb.getInstructionBudget());
+    }
+
+    /**
+     * @return Posição do último salto cujo destino não está à frente dele, ou -1 se o programa não tem laços.
+     */
+    private static int lastBackwardJump(int[] code) {
+        for (int pc = code.length - 1; pc >= 0; pc--) {
+            int opcode = Instruction.opcode(code[pc]);
+            if ((opcode == Instruction.OP_JMP || opcode == Instruction.OP_JZ || opcode == Instruction.OP_JNZ)
+                    && Instruction.jumpTarget(code[pc]) <= pc) {
+                return pc;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,194 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.enums.OverflowPolicy;
+import br.com.escalonadorTarefas.models.AdmissionSettings;
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+
+import java.io.IOException;
+
+/**
+ * Controle de admissão com filas limitadas: envolve a {@link ProcessSource} de uma simulação
+ * e só entrega novos processos enquanto a fila de prontos e a de bloqueados estiverem abaixo
+ * das capacidades configuradas. Com as filas cheias, as chegadas seguem a {@link OverflowPolicy}:
+ * são rejeitadas, guardadas em disco ({@link SpillQueue}) ou ficam na origem até haver espaço.
+ * <p>
+ * A ocupação das filas vem dos próprios eventos (o tamanho das filas ao fim de cada tick mais
+ * os processos carregados desde então), por isso funciona com qualquer {@link SimulationEngine}
+ * sem alterá-lo: basta registrar esta instância como observador e como origem de processos.
+ * Como só a admissão é controlada, os processos já admitidos continuam circulando entre as
+ * filas e o total de processos vivos fica limitado à soma das capacidades mais os núcleos.
+ * <p>
+ * As rejeições, os adiamentos (com o atraso de admissão em ticks), os processos guardados em
+ * disco e os ticks com as filas cheias (pressão) são contabilizados para o relatório final.
+ */
+public class AdmissionControl implements ProcessSource, SchedulerListener {
+
+    private final ProcessSource source;
+    private final int readyCapacity;
+    private final int blockedCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final SpillQueue spill;
+
+    /**
+     * Ocupação das filas no último fim de tick e processos carregados desde então.
+     */
+    private int ready;
+    private int blocked;
+    /**
+     * Tick atual do escalonador, como visto pelos eventos (o tick seguinte ao último encerrado).
+     */
+    private long now;
+    private long lastTickEnd = -1;
+
+    private long admitted;
+    private long deferred;
+    private long rejected;
+    private long spilled;
+    private long peakSpilled;
+    private int peakReady;
+    private int peakBlocked;
+    private long pressureTicks;
+    private final LongHistogram admissionDelay = new LongHistogram();
+
+    /**
+     * @param source   Origem dos processos.
+     * @param settings Capacidades das filas e política de fila cheia.
+     * @throws IOException              se o arquivo de excedentes não puder ser criado.
+     * @throws IllegalArgumentException se alguma capacidade não for positiva.
+     */
+    public AdmissionControl(ProcessSource source, AdmissionSettings settings) throws IOException {
+        if (settings.getReadyCapacity() < 1 || settings.getBlockedCapacity() < 1) {
+            throw new IllegalArgumentException("As capacidades das filas devem ser positivas.");
+        }
+        this.source = source;
+        this.readyCapacity = settings.getReadyCapacity();
+        this.blockedCapacity = settings.getBlockedCapacity();
+        this.overflowPolicy = settings.getOverflowPolicy();
+        this.spill = overflowPolicy == OverflowPolicy.SPILL ? new SpillQueue(settings.getSpillDirectory()) : null;
+    }
+
+    @Override
+    public long nextArrival() {
+        if (hasRoom()) {
+            ProcessControlBlock head = spill == null ? null : spill.peek();
+            return head != null ? head.getArrivalTick() : source.nextArrival();
+        }
+        if (overflowPolicy == OverflowPolicy.REJECT) {
+            while (source.nextArrival() <= now) {
+                source.next();
+                rejected++;
+            }
+        } else if (overflowPolicy == OverflowPolicy.SPILL) {
+            while (source.nextArrival() <= now) {
+                spill.add(source.next());
+                spilled++;
+                peakSpilled = Math.max(peakSpilled, spill.size());
+            }
+        }
+        // Filas cheias: nenhuma chegada até que um processo termine ou deixe de esperar.
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public ProcessControlBlock next() {
+        ProcessControlBlock pcb = spill == null ? null : spill.poll();
+        if (pcb == null) {
+            pcb = source.next();
+        }
+        long delay = Math.max(0, now - pcb.getArrivalTick());
+        admissionDelay.record(delay);
+        if (delay > 0) {
+            deferred++;
+        }
+        admitted++;
+        return pcb;
+    }
+
+    @Override
+    public long position() {
+        return source.position();
+    }
+
+    @Override
+    public void onProcessLoaded(long tick, ProcessControlBlock pcb) {
+        ready++;
+        peakReady = Math.max(peakReady, ready);
+    }
+
+    @Override
+    public void onTickEnd(long tick, int running, int ready, int blocked) {
+        this.ready = ready;
+        this.blocked = blocked;
+        peakReady = Math.max(peakReady, ready);
+        peakBlocked = Math.max(peakBlocked, blocked);
+        if (!hasRoom()) {
+            pressureTicks += tick - lastTickEnd;
+        }
+        lastTickEnd = tick;
+        now = tick + 1;
+    }
+
+    /**
+     * Apaga o arquivo de excedentes, se houver.
+     */
+    public void close() {
+        if (spill != null) {
+            spill.delete();
+        }
+    }
+
+    /**
+     * @return Processos entregues ao escalonador.
+     */
+    public long getAdmitted() {
+        return admitted;
+    }
+
+    /**
+     * @return Processos admitidos depois do seu tick de chegada.
+     */
+    public long getDeferred() {
+        return deferred;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    /**
+     * @return Processos que passaram pelo arquivo de excedentes.
+     */
+    public long getSpilled() {
+        return spilled;
+    }
+
+    public long getPeakSpilled() {
+        return peakSpilled;
+    }
+
+    public int getPeakReady() {
+        return peakReady;
+    }
+
+    public int getPeakBlocked() {
+        return peakBlocked;
+    }
+
+    /**
+     * @return Ticks encerrados com alguma fila na capacidade (sem admissões possíveis).
+     */
+    public long getPressureTicks() {
+        return pressureTicks;
+    }
+
+    /**
+     * @return Distribuição do atraso de admissão (ticks entre a chegada e a admissão).
+     */
+    public LongHistogram getAdmissionDelay() {
+        return admissionDelay;
+    }
+
+    private boolean hasRoom() {
+        return ready < readyCapacity && blocked < blockedCapacity;
+    }
+}
@@ -0,0 +1,213 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.enums.LatencyDistribution;
+import br.com.escalonadorTarefas.models.IoSettings;
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.SplittableRandom;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Modo de E/S assíncrona: em vez de esperar {@code 2 * quantum} ticks na fila de bloqueados,
+ * cada E/S vira uma operação real, concluída em tempo de relógio por outras threads.
+ * <p>
+ * Funcionamento:
+ * - Cada processo usa o dispositivo {@code pid % dispositivos}. Um dispositivo atende até
+ * {@link IoSettings#getQueueDepth()} operações ao mesmo tempo; as demais esperam em FIFO.
+ * - A latência de cada operação é sorteada na submissão (distribuição e média configuráveis)
+ * e o atendimento é agendado em um {@link ScheduledThreadPoolExecutor}, de modo que dezenas
+ * de milhares de operações em andamento não exigem uma thread cada.
+ * - As conclusões voltam ao escalonador por uma {@link IoCompletionQueue} sem travas; o
+ * escalonador as retira ao fim de cada tick e, com a CPU ociosa, dorme até a próxima.
+ * <p>
+ * A ordem das conclusões depende do sistema operacional, então o log deixa de ser
+ * reprodutível neste modo. Latência total (fila do dispositivo + atendimento) e espera na
+ * fila do dispositivo são registradas em microssegundos.
+ * <p>
+ * Exceto pelas conclusões, todos os métodos devem ser chamados pela thread do escalonador.
+ */
+public class AsyncIoService {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Device[] devices;
+    private final ScheduledThreadPoolExecutor timer;
+    private final IoCompletionQueue completions = new IoCompletionQueue();
+    private final SplittableRandom random;
+    private final LatencyDistribution distribution;
+    private final long meanLatencyNanos;
+
+    /**
+     * Thread do escalonador, acordada a cada conclusão.
+     */
+    private volatile Thread consumer;
+
+    /**
+     * Operações submetidas e ainda não retiradas da fila de conclusões.
+     */
+    @Getter
+    private int inFlight;
+    @Getter
+    private int maxInFlight;
+    @Getter
+    private long completedCount;
+    /**
+     * Tempo entre a submissão e a conclusão, em microssegundos.
+     */
+    @Getter
+    private final LongHistogram latencyHistogram = new LongHistogram();
+    /**
+     * Tempo de espera na fila do dispositivo antes do atendimento, em microssegundos.
+     */
+    @Getter
+    private final LongHistogram queueDelayHistogram = new LongHistogram();
+
+    /**
+     * @param settings Dispositivos, profundidade das filas, latência e threads.
+     */
+    public AsyncIoService(IoSettings settings) {
+        if (settings.getDevices() < 1 || settings.getQueueDepth() < 1 || settings.getThreads() < 1) {
+            throw new IllegalArgumentException(
+                    "Dispositivos, profundidade da fila e threads de E/S devem ser pelo menos 1.");
+        }
+        if (settings.getMeanLatencyMicros() < 0) {
+            throw new IllegalArgumentException("A latência média de E/S não pode ser negativa.");
+        }
+        this.devices = new Device[settings.getDevices()];
+        for (int i = 0; i < devices.length; i++) {
+            devices[i] = new Device(settings.getQueueDepth());
+        }
+        this.timer = new ScheduledThreadPoolExecutor(settings.getThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "async-io");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.random = new SplittableRandom(settings.getSeed());
+        this.distribution = settings.getLatencyDistribution();
+        this.meanLatencyNanos = TimeUnit.MICROSECONDS.toNanos(settings.getMeanLatencyMicros());
+    }
+
+    /**
+     * Inicia a E/S de um processo bloqueado.
+     *
+     * @param pcb Processo que executou E/S.
+     */
+    public void submit(ProcessControlBlock pcb) {
+        if (consumer == null) {
+            consumer = Thread.currentThread();
+        }
+        IoRequest request = new IoRequest(pcb, sampleLatency());
+        request.submitNanos = System.nanoTime();
+        inFlight++;
+        maxInFlight = Math.max(maxInFlight, inFlight);
+        devices[Math.floorMod(pcb.getProcessId(), devices.length)].submit(request);
+    }
+
+    /**
+     * Retira todas as conclusões visíveis, na ordem em que ocorreram.
+     *
+     * @param action Ação aplicada ao processo de cada E/S concluída (ex: voltar à fila de prontos).
+     * @return Quantidade de conclusões retiradas.
+     */
+    public int drainCompletions(Consumer<ProcessControlBlock> action) {
+        int drained = 0;
+        IoRequest request;
+        while ((request = completions.poll()) != null) {
+            inFlight--;
+            completedCount++;
+            latencyHistogram.record(TimeUnit.NANOSECONDS.toMicros(request.completeNanos - request.submitNanos));
+            queueDelayHistogram.record(TimeUnit.NANOSECONDS.toMicros(request.startNanos - request.submitNanos));
+            action.accept(request.pcb);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Bloqueia a thread do escalonador até que haja ao menos uma conclusão para retirar.
+     * Não faz nada se não houver operações em andamento.
+     */
+    public void awaitCompletion() {
+        while (inFlight > 0 && completions.isEmpty()) {
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Encerra as threads do temporizador, descartando operações ainda em andamento.
+     */
+    public void close() {
+        timer.shutdownNow();
+    }
+
+    private long sampleLatency() {
+        switch (distribution) {
+            case FIXED:
+                return meanLatencyNanos;
+            case UNIFORM:
+                return random.nextLong(2 * meanLatencyNanos + 1);
+            default:
+                return (long) (-meanLatencyNanos * Math.log(1.0 - random.nextDouble()));
+        }
+    }
+
+    /**
+     * Publica a conclusão e acorda o escalonador; chamado pelas threads do temporizador.
+     */
+    private void complete(IoRequest request) {
+        request.completeNanos = System.nanoTime();
+        completions.offer(request);
+        Thread thread = consumer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Dispositivo com fila FIFO e até {@code depth} operações em atendimento.
+     */
+    private final class Device {
+        private final ArrayDeque<IoRequest> pending = new ArrayDeque<>();
+        private final int depth;
+        private int busy;
+
+        Device(int depth) {
+            this.depth = depth;
+        }
+
+        void submit(IoRequest request) {
+            synchronized (this) {
+                if (busy == depth) {
+                    pending.add(request);
+                    return;
+                }
+                busy++;
+            }
+            start(request);
+        }
+
+        private void start(IoRequest request) {
+            request.startNanos = System.nanoTime();
+            timer.schedule(() -> finish(request), request.latencyNanos, TimeUnit.NANOSECONDS);
+        }
+
+        private void finish(IoRequest request) {
+            complete(request);
+            IoRequest next;
+            synchronized (this) {
+                next = pending.poll();
+                if (next == null) {
+                    busy--;
+                }
+            }
+            if (next != null) {
+                start(next);
+            }
+        }
+    }
+}
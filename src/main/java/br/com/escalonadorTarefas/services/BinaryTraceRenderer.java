@@ -0,0 +1,140 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.enums.FlushPolicy;
+import br.com.escalonadorTarefas.enums.TraceEventType;
+import br.com.escalonadorTarefas.models.LogSettings;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converte um trace gerado pelo {@link BinaryTraceWriter} de volta para o formato textual
+ * do {@link Logger}, linha a linha, o que permite comparar com os logs de referência em
+ * "logs/". O arquivo é lido em blocos, sem carregá-lo inteiro em memória.
+ */
+public class BinaryTraceRenderer {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final List<String> processNames = new ArrayList<>();
+
+    /**
+     * Renderiza o trace no destino informado.
+     *
+     * @param traceFile Arquivo do trace binário.
+     * @param out       Destino do texto (descarregado, mas não fechado, ao final).
+     * @throws IOException              em caso de erro de leitura ou escrita.
+     * @throws IllegalArgumentException se o arquivo não for um trace válido.
+     */
+    public void render(Path traceFile, Writer out) throws IOException {
+        Logger logger = new Logger(out, LogSettings.builder()
+                .flushPolicy(FlushPolicy.ON_CLOSE)
+                .build());
+
+        try (FileChannel channel = FileChannel.open(traceFile, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            buffer.limit(0);
+
+            if (!fill(channel, buffer, BinaryTraceWriter.HEADER_SIZE)
+                    || buffer.getInt() != BinaryTraceWriter.MAGIC
+                    || buffer.getInt() != BinaryTraceWriter.VERSION) {
+                throw new IllegalArgumentException("Arquivo não é um trace binário válido: " + traceFile);
+            }
+
+            int recordSize = BinaryTraceWriter.RECORD_SIZE;
+            while (fill(channel, buffer, recordSize)) {
+                buffer.getShort(); // tick (48 bits): não faz parte do formato textual
+                buffer.getInt();
+                TraceEventType type = TraceEventType.fromCode(buffer.get());
+                buffer.get();
+                int pid = buffer.getInt();
+                int payload = buffer.getInt();
+
+                switch (type) {
+                    case PROCESS_NAME: {
+                        int padded = (payload + recordSize - 1) / recordSize * recordSize;
+                        requireContinuation(channel, buffer, padded, pid);
+                        byte[] name = new byte[payload];
+                        buffer.get(name);
+                        buffer.position(buffer.position() + padded - payload);
+                        setName(pid, new String(name, StandardCharsets.UTF_8));
+                        break;
+                    }
+                    case LOADED:
+                        logger.logProcessLoaded(nameOf(pid));
+                        break;
+                    case EXECUTION:
+                        logger.logProcessExecution(nameOf(pid));
+                        break;
+                    case INTERRUPTION:
+                        logger.logProcessInterruption(nameOf(pid), payload);
+                        break;
+                    case IO_START:
+                        logger.logProcessIOStart(nameOf(pid));
+                        break;
+                    case TERMINATION:
+                        requireContinuation(channel, buffer, recordSize, pid);
+                        logger.logProcessTermination(nameOf(pid),
+                                buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt());
+                        break;
+                    case STATISTICS:
+                        requireContinuation(channel, buffer, recordSize, pid);
+                        logger.logFinalStatistics(buffer.getDouble(), buffer.getDouble(), pid);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Tipo de registro inesperado: " + type);
+                }
+            }
+        } finally {
+            logger.flush();
+        }
+    }
+
+    /**
+     * Garante que o buffer tenha pelo menos {@code bytes} bytes disponíveis para leitura.
+     *
+     * @return false se o arquivo terminou antes.
+     */
+    private static boolean fill(FileChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return true;
+        }
+        buffer.compact();
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+        return buffer.remaining() >= bytes;
+    }
+
+    private static void requireContinuation(FileChannel channel, ByteBuffer buffer, int bytes, int pid)
+            throws IOException {
+        if (!fill(channel, buffer, bytes)) {
+            throw new IllegalArgumentException("Trace truncado no registro do processo " + pid);
+        }
+    }
+
+    private void setName(int pid, String name) {
+        while (processNames.size() <= pid) {
+            processNames.add(null);
+        }
+        processNames.set(pid, name);
+    }
+
+    private String nameOf(int pid) {
+        String name = pid < processNames.size() ? processNames.get(pid) : null;
+        if (name == null) {
+            throw new IllegalArgumentException("Processo sem nome no dicionário do trace: " + pid);
+        }
+        return name;
+    }
+}
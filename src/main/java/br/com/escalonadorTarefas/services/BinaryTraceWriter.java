@@ -0,0 +1,166 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.enums.TraceEventType;
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+
+/**
+ * Grava os eventos do escalonador em um trace binário compacto, alternativa ao log textual
+ * para simulações longas.
+ * <p>
+ * Formato (big-endian):
+ * - Cabeçalho: "ESCT" seguido da versão (int).
+ * - Registros de tamanho fixo ({@link #RECORD_SIZE} bytes): tick (48 bits), tipo (1 byte),
+ * 1 byte reservado, pid (int) e carga (int, ex: instruções executadas na interrupção).
+ * - Terminação e estatísticas finais são seguidas de um registro de continuação com os quatro
+ * registradores (ints) ou as duas médias (doubles).
+ * - O nome de cada processo aparece uma única vez, em um registro {@link TraceEventType#PROCESS_NAME}
+ * cuja carga traz o tamanho do nome, seguido dos bytes UTF-8 do nome preenchidos até um
+ * múltiplo de {@link #RECORD_SIZE}. Os demais registros referenciam o processo apenas pelo pid.
+ * <p>
+ * A escrita usa um {@link ByteBuffer} direto descarregado em um {@link FileChannel}.
+ * O {@link BinaryTraceRenderer} converte o trace de volta ao texto exato do {@link Logger}.
+ */
+public class BinaryTraceWriter implements SchedulerListener {
+
+    public static final int MAGIC = 0x45534354; // "ESCT"
+    public static final int VERSION = 1;
+    public static final long MAX_TICK = (1L << 48) - 1;
+    public static final int HEADER_SIZE = 8;
+    public static final int RECORD_SIZE = 16;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final BitSet namedProcesses = new BitSet();
+
+    /**
+     * Cria (ou sobrescreve) o arquivo de trace.
+     *
+     * @param file Caminho do arquivo.
+     * @throws IOException se o arquivo não puder ser criado.
+     */
+    public BinaryTraceWriter(Path file) throws IOException {
+        this.channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+    }
+
+    @Override
+    public void onProcessLoaded(long tick, ProcessControlBlock pcb) {
+        writeName(pcb);
+        record(TraceEventType.LOADED, pcb.getProcessId(), tick, 0);
+    }
+
+    @Override
+    public void onProcessExecution(long tick, ProcessControlBlock pcb) {
+        writeName(pcb);
+        record(TraceEventType.EXECUTION, pcb.getProcessId(), tick, 0);
+    }
+
+    @Override
+    public void onProcessInterruption(long tick, ProcessControlBlock pcb, int instructionsExecuted) {
+        record(TraceEventType.INTERRUPTION, pcb.getProcessId(), tick, instructionsExecuted);
+    }
+
+    @Override
+    public void onProcessIOStart(long tick, ProcessControlBlock pcb) {
+        record(TraceEventType.IO_START, pcb.getProcessId(), tick, 0);
+    }
+
+    @Override
+    public void onProcessTermination(long tick, ProcessControlBlock pcb) {
+        ensureCapacity(2 * RECORD_SIZE);
+        record(TraceEventType.TERMINATION, pcb.getProcessId(), tick, 0);
+        buffer.putInt(pcb.getRegisterA());
+        buffer.putInt(pcb.getRegisterB());
+        buffer.putInt(pcb.getRegisterC());
+        buffer.putInt(pcb.getRegisterD());
+    }
+
+    /**
+     * Registra as estatísticas finais (o pid do registro guarda o quantum).
+     *
+     * @param averageSwitches     Número médio de trocas de processo por processo.
+     * @param averageInstructions Número médio de instruções executadas por quantum.
+     * @param quantum             Valor do quantum utilizado.
+     * @param tick                Tick final da simulação.
+     */
+    public void logFinalStatistics(double averageSwitches, double averageInstructions, int quantum, long tick) {
+        ensureCapacity(2 * RECORD_SIZE);
+        record(TraceEventType.STATISTICS, quantum, tick, 0);
+        buffer.putDouble(averageSwitches);
+        buffer.putDouble(averageInstructions);
+    }
+
+    /**
+     * Descarrega o buffer e fecha o arquivo.
+     */
+    public void close() {
+        try {
+            drain();
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("Erro ao fechar o trace binário: " + e.getMessage());
+        }
+    }
+
+    private void writeName(ProcessControlBlock pcb) {
+        int pid = pcb.getProcessId();
+        if (namedProcesses.get(pid)) {
+            return;
+        }
+        namedProcesses.set(pid);
+        byte[] name = pcb.getProcessName().getBytes(StandardCharsets.UTF_8);
+        int padded = (name.length + RECORD_SIZE - 1) / RECORD_SIZE * RECORD_SIZE;
+        record(TraceEventType.PROCESS_NAME, pid, 0, name.length);
+        ensureCapacity(padded);
+        buffer.put(name);
+        for (int i = name.length; i < padded; i++) {
+            buffer.put((byte) 0);
+        }
+    }
+
+    private void record(TraceEventType type, int pid, long tick, int payload) {
+        if (tick > MAX_TICK) {
+            throw new IllegalStateException("Tick além do suportado pelo trace binário: " + tick);
+        }
+        ensureCapacity(RECORD_SIZE);
+        buffer.putShort((short) (tick >>> 32));
+        buffer.putInt((int) tick);
+        buffer.put((byte) type.getCode());
+        buffer.put((byte) 0);
+        buffer.putInt(pid);
+        buffer.putInt(payload);
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (buffer.remaining() < bytes) {
+            try {
+                drain();
+            } catch (IOException e) {
+                throw new IllegalStateException("Erro ao gravar o trace binário: " + e.getMessage(), e);
+            }
+            if (buffer.remaining() < bytes) {
+                throw new IllegalStateException("Registro maior que o buffer do trace binário.");
+            }
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
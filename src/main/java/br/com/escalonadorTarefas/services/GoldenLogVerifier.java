@@ -0,0 +1,343 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.models.LogComparison;
+import br.com.escalonadorTarefas.models.LogSettings;
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Verifica se uma nova execução reproduz exatamente um log de referência ("golden"), como os
+ * logs versionados em src/main/resources/logs.
+ * <p>
+ * O log gerado não é gravado em disco: o {@link Logger} escreve direto em um comparador que lê
+ * o log de referência em blocos e compara cada linha assim que ela é registrada (com
+ * {@link Arrays#mismatch}). Nenhum dos dois logs fica inteiro em memória, então logs
+ * de vários GB custam apenas uma leitura sequencial.
+ * <p>
+ * Na primeira divergência a simulação é interrompida. Um observador registrado no motor
+ * informa o tick e o pid do evento que gerou a linha divergente (o logger registra cada
+ * evento antes de notificar os observadores).
+ */
+public final class GoldenLogVerifier {
+
+    /**
+     * Nome dos logs gerados pelo {@link Logger}: "log" + quantum + "_" + timestamp.
+     */
+    private static final Pattern LOG_NAME = Pattern.compile("log(\\d+)_.*\\.txt");
+    /**
+     * Locale em que os logs de referência foram gerados (médias com vírgula decimal); a
+     * verificação não depende do locale padrão da JVM.
+     */
+    public static final Locale GOLDEN_LOCALE = Locale.forLanguageTag("pt-BR");
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /**
+     * Maior trecho de uma linha guardado para o relatório de divergência.
+     */
+    private static final int MAX_REPORTED_LINE = 512;
+
+    /**
+     * Execução a ser comparada com o log de referência.
+     */
+    @FunctionalInterface
+    public interface Simulation {
+        /**
+         * Executa a simulação completa, inclusive as estatísticas finais, sem fechar o logger.
+         *
+         * @param logger   Logger ligado ao comparador.
+         * @param listener Observador a registrar no motor antes de adicionar os processos.
+         */
+        void run(Logger logger, SchedulerListener listener);
+    }
+
+    private GoldenLogVerifier() {
+    }
+
+    /**
+     * @param golden Log de referência.
+     * @return Quantum codificado no nome do arquivo (ex: 2 em "log02_1738109588222.txt").
+     * @throws IllegalArgumentException se o nome não seguir o padrão dos logs.
+     */
+    public static int quantumOf(Path golden) {
+        Matcher matcher = LOG_NAME.matcher(golden.getFileName().toString());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Nome de log de referência fora do padrão logNN_*.txt: " + golden);
+        }
+        return Integer.parseInt(matcher.group(1));
+    }
+
+    /**
+     * @param path Um log de referência ou um diretório com vários.
+     * @return O próprio arquivo, ou os logs do diretório em ordem alfabética.
+     * @throws IOException em caso de erro ao listar o diretório.
+     */
+    public static List<Path> goldenLogs(Path path) throws IOException {
+        if (!Files.isDirectory(path)) {
+            return List.of(path);
+        }
+        List<Path> logs = new ArrayList<>();
+        try (Stream<Path> files = Files.list(path)) {
+            files.filter(file -> LOG_NAME.matcher(file.getFileName().toString()).matches())
+                    .sorted()
+                    .forEach(logs::add);
+        }
+        return logs;
+    }
+
+    /**
+     * Executa a simulação comparando o log, linha a linha, com o log de referência.
+     *
+     * @param golden     Log de referência.
+     * @param simulation Execução a verificar.
+     * @return Resultado da comparação, com a primeira divergência se houver.
+     * @throws IOException em caso de erro de leitura do log de referência.
+     */
+    public static LogComparison verify(Path golden, Simulation simulation) throws IOException {
+        try (LogComparator comparator = new LogComparator(golden)) {
+            Logger logger = new Logger(comparator, LogSettings.builder().locale(GOLDEN_LOCALE).build());
+            try {
+                simulation.run(logger, new EventLocator(comparator));
+                logger.flush();
+            } catch (DivergenceFound e) {
+                // Simulação interrompida na primeira divergência.
+            }
+            comparator.checkError();
+            return comparator.finish();
+        }
+    }
+
+    /**
+     * Destino do {@link Logger} que compara cada bloco escrito com o próximo trecho do log de referência.
+     */
+    private static final class LogComparator extends Writer {
+        private final Reader golden;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private int position;
+        private int limit;
+        private IOException error;
+
+        /**
+         * Linhas idênticas já comparadas e o início (idêntico) da linha atual.
+         */
+        private long lines;
+        private final StringBuilder linePrefix = new StringBuilder();
+
+        private boolean diverged;
+        private StringBuilder expected;
+        private StringBuilder actual;
+        private boolean actualComplete;
+        private boolean located;
+        private long tick = -1;
+        private int processId = -1;
+
+        LogComparator(Path golden) throws IOException {
+            this.golden = new InputStreamReader(Files.newInputStream(golden), StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            int end = offset + length;
+            if (diverged) {
+                captureActual(chars, offset, end);
+                return;
+            }
+            while (offset < end) {
+                if (position == limit && !fill()) {
+                    diverge(chars, offset, end, true);
+                    return;
+                }
+                int count = Math.min(end - offset, limit - position);
+                int mismatch = Arrays.mismatch(chars, offset, offset + count, buffer, position, position + count);
+                int matched = mismatch < 0 ? count : mismatch;
+                advance(chars, offset, offset + matched);
+                offset += matched;
+                position += matched;
+                if (mismatch >= 0) {
+                    diverge(chars, offset, end, false);
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() throws IOException {
+            golden.close();
+        }
+
+        /**
+         * Conta as linhas completas do trecho idêntico e guarda o início da linha atual.
+         */
+        private void advance(char[] chars, int from, int to) {
+            int lineStart = from;
+            for (int i = from; i < to; i++) {
+                if (chars[i] == '\n') {
+                    lines++;
+                    lineStart = i + 1;
+                }
+            }
+            if (lineStart > from) {
+                linePrefix.setLength(0);
+            }
+            append(linePrefix, chars, lineStart, to);
+        }
+
+        private void diverge(char[] chars, int from, int to, boolean goldenEnded) {
+            diverged = true;
+            if (!goldenEnded || linePrefix.length() > 0) {
+                expected = new StringBuilder(linePrefix);
+                readExpectedLine();
+            }
+            actual = new StringBuilder(linePrefix);
+            captureActual(chars, from, to);
+        }
+
+        /**
+         * Completa a linha esperada com o restante da linha no log de referência.
+         */
+        private void readExpectedLine() {
+            while (position < limit || fill()) {
+                char c = buffer[position++];
+                if (c == '\n') {
+                    return;
+                }
+                if (expected.length() < MAX_REPORTED_LINE) {
+                    expected.append(c);
+                }
+            }
+        }
+
+        /**
+         * Completa a linha gerada com os caracteres escritos até o fim da linha.
+         */
+        private void captureActual(char[] chars, int from, int to) {
+            for (int i = from; i < to && !actualComplete; i++) {
+                if (chars[i] == '\n') {
+                    actualComplete = true;
+                } else if (actual.length() < MAX_REPORTED_LINE) {
+                    actual.append(chars[i]);
+                }
+            }
+        }
+
+        private boolean fill() {
+            try {
+                int read = golden.read(buffer, 0, buffer.length);
+                position = 0;
+                limit = Math.max(read, 0);
+                return read > 0;
+            } catch (IOException e) {
+                error = e;
+                position = 0;
+                limit = 0;
+                return false;
+            }
+        }
+
+        private static void append(StringBuilder target, char[] chars, int from, int to) {
+            int room = MAX_REPORTED_LINE - target.length();
+            if (room > 0) {
+                target.append(chars, from, Math.min(to - from, room));
+            }
+        }
+
+        void checkError() throws IOException {
+            if (error != null) {
+                throw error;
+            }
+        }
+
+        /**
+         * @return Resultado final; se a execução terminou sem divergir, o log de referência
+         * também precisa ter terminado.
+         */
+        LogComparison finish() {
+            if (!diverged) {
+                if (linePrefix.length() == 0 && position == limit && !fill()) {
+                    return LogComparison.identical(lines);
+                }
+                // O log gerado terminou antes do log de referência.
+                diverged = true;
+                expected = new StringBuilder(linePrefix);
+                readExpectedLine();
+                actual = linePrefix.length() == 0 ? null : new StringBuilder(linePrefix);
+            }
+            return new LogComparison(lines, false, lines + 1, tick, processId,
+                    expected == null ? null : expected.toString(),
+                    actual == null ? null : actual.toString());
+        }
+    }
+
+    /**
+     * Observador que, logo após a linha divergente ser registrada, guarda o tick e o pid do
+     * evento e interrompe a simulação.
+     */
+    private static final class EventLocator implements SchedulerListener {
+        private final LogComparator comparator;
+
+        EventLocator(LogComparator comparator) {
+            this.comparator = comparator;
+        }
+
+        private void event(long tick, ProcessControlBlock pcb) {
+            if (comparator.diverged && !comparator.located) {
+                comparator.located = true;
+                comparator.tick = tick;
+                comparator.processId = pcb.getProcessId();
+                throw new DivergenceFound();
+            }
+        }
+
+        @Override
+        public void onProcessLoaded(long tick, ProcessControlBlock pcb) {
+            event(tick, pcb);
+        }
+
+        @Override
+        public void onProcessExecution(long tick, ProcessControlBlock pcb) {
+            event(tick, pcb);
+        }
+
+        @Override
+        public void onProcessInterruption(long tick, ProcessControlBlock pcb, int instructionsExecuted) {
+            event(tick, pcb);
+        }
+
+        @Override
+        public void onProcessIOStart(long tick, ProcessControlBlock pcb) {
+            event(tick, pcb);
+        }
+
+        @Override
+        public void onProcessTermination(long tick, ProcessControlBlock pcb) {
+            event(tick, pcb);
+        }
+    }
+
+    /**
+     * Interrompe a simulação na primeira divergência; não carrega pilha, pois é esperada.
+     */
+    private static final class DivergenceFound extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        DivergenceFound() {
+            super(null, null, false, false);
+        }
+    }
+}
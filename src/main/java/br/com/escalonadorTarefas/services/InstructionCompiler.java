@@ -0,0 +1,519 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.models.Instruction;
+import br.com.escalonadorTarefas.models.ProgramCode;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compila as instruções textuais de um programa (A=10, COM, E/S, SAIDA, etc.)
+ * para o formato compacto definido em {@link Instruction}.
+ * <p>
+ * Além das instruções originais, aceita aritmética entre registradores ou com valor imediato
+ * ({@code ADD A,B}, {@code SUB A,1}, {@code MUL C,D}), saltos ({@code JMP ROTULO},
+ * {@code JZ A,ROTULO}, {@code JNZ A,ROTULO}) e rótulos em linha própria ({@code ROTULO:}),
+ * que marcam a próxima instrução. Os rótulos são resolvidos para índices na compilação; um
+ * rótulo no fim do programa é um destino válido e encerra o processo.
+ * <p>
+ * A E/S pode indicar o dispositivo e um tempo de espera próprio em ticks: {@code E/S:disco},
+ * {@code E/S:rede,5} ou {@code E/S,5}. Sem tempo próprio, a espera vem do modelo do dispositivo
+ * (ver {@link IoDevices}). O nome vira um índice na {@link IoDeviceTable} do conjunto de
+ * programas sendo compilado.
+ * <p>
+ * Atribuições aceitam qualquer valor de {@code int}; os que não cabem no operando vão para a
+ * tabela de constantes do programa ({@link Instruction#OP_SET_CONST}).
+ * <p>
+ * A primeira linha do programa pode ser o cabeçalho opcional {@code PRIORIDADE=N}, que define a
+ * prioridade estática usada pela política {@code priority} (menor valor = mais prioritário).
+ * <p>
+ * Instruções desconhecidas, operandos inválidos e rótulos repetidos ou inexistentes são
+ * rejeitados aqui, no carregamento, e não no meio da execução.
+ */
+public final class InstructionCompiler {
+
+    private static final String PRIORITY_HEADER = "PRIORIDADE=";
+
+    private InstructionCompiler() {
+    }
+
+    /**
+     * Compila uma lista de linhas de programa. Linhas em branco são ignoradas.
+     *
+     * @param lines   Linhas do programa (sem o nome do processo).
+     * @param devices Tabela de dispositivos de E/S do conjunto de programas.
+     * @return Instruções empacotadas e tabela de constantes.
+     * @throws IllegalArgumentException se alguma instrução for desconhecida.
+     */
+    public static ProgramCode compile(List<String> lines, IoDeviceTable devices) {
+        Assembler assembler = new Assembler(lines.size(), devices);
+        for (String line : lines) {
+            String instruction = line.trim();
+            if (!instruction.isEmpty()) {
+                byte[] bytes = instruction.getBytes(StandardCharsets.UTF_8);
+                assembler.add(ByteBuffer.wrap(bytes), 0, bytes.length);
+            }
+        }
+        return assembler.finish();
+    }
+
+    /**
+     * Compila o trecho {@code [start, end)} de um buffer de bytes (ex: um arquivo mapeado em
+     * memória) contendo uma instrução por linha, sem criar Strings por linha. Linhas em branco
+     * são ignoradas e tanto "\n" quanto "\r\n" são aceitos como fim de linha.
+     *
+     * @param buffer  Buffer com o texto do programa (ASCII/UTF-8).
+     * @param start   Posição do primeiro byte das instruções.
+     * @param end     Posição logo após o último byte.
+     * @param devices Tabela de dispositivos de E/S do conjunto de programas.
+     * @return Instruções empacotadas e tabela de constantes.
+     * @throws IllegalArgumentException se alguma instrução for desconhecida.
+     */
+    public static ProgramCode compile(ByteBuffer buffer, int start, int end, IoDeviceTable devices) {
+        Assembler assembler = new Assembler(16, devices);
+        int lineStart = start;
+        while (lineStart < end) {
+            int lineEnd = lineStart;
+            while (lineEnd < end && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int from = skipWhitespace(buffer, lineStart, lineEnd);
+            int to = trimWhitespace(buffer, from, lineEnd);
+            if (from < to) {
+                assembler.add(buffer, from, to);
+            }
+            lineStart = lineEnd + 1;
+        }
+        return assembler.finish();
+    }
+
+    /**
+     * Grava no operando de cada COM quantos COMs consecutivos começam nela (inclusive), para
+     * que o executor avance a sequência inteira de uma vez. Como o tamanho é calculado para
+     * cada posição, entrar no meio de uma sequência também funciona.
+     *
+     * @param code Programa compilado, alterado no lugar.
+     * @return O próprio array.
+     */
+    public static int[] annotateComputeRuns(int[] code) {
+        int run = 0;
+        for (int pc = code.length - 1; pc >= 0; pc--) {
+            if (Instruction.opcode(code[pc]) == Instruction.OP_COM) {
+                run = Math.min(run + 1, Instruction.MAX_OPERAND);
+                code[pc] = Instruction.encode(Instruction.OP_COM, run);
+            } else {
+                run = 0;
+            }
+        }
+        return code;
+    }
+
+    /**
+     * Compila uma única instrução textual. Saltos dependem dos rótulos do programa e atribuições
+     * fora do intervalo do operando, da tabela de constantes; ambos só podem ser compilados por
+     * {@link #compile(List, IoDeviceTable)}.
+     *
+     * @param instruction Instrução já sem espaços nas extremidades.
+     * @param devices     Tabela de dispositivos de E/S.
+     * @return Instrução empacotada.
+     * @throws IllegalArgumentException se a instrução for desconhecida.
+     */
+    public static int compileInstruction(String instruction, IoDeviceTable devices) {
+        byte[] bytes = instruction.getBytes(StandardCharsets.UTF_8);
+        return compileInstruction(ByteBuffer.wrap(bytes), 0, bytes.length, devices);
+    }
+
+    /**
+     * Compila uma única instrução a partir dos bytes {@code [from, to)}, já sem espaços
+     * nas extremidades.
+     *
+     * @param buffer  Buffer com o texto.
+     * @param from    Primeiro byte da instrução.
+     * @param to      Posição logo após o último byte.
+     * @param devices Tabela de dispositivos de E/S.
+     * @return Instrução empacotada.
+     * @throws IllegalArgumentException se a instrução for desconhecida.
+     */
+    public static int compileInstruction(ByteBuffer buffer, int from, int to, IoDeviceTable devices) {
+        return compileInstruction(buffer, from, to, devices, null);
+    }
+
+    /**
+     * @param assembler Programa em montagem, dono da tabela de constantes (null fora de um programa).
+     */
+    private static int compileInstruction(ByteBuffer buffer, int from, int to, IoDeviceTable devices,
+                                          Assembler assembler) {
+        int length = to - from;
+        if (length >= 2 && buffer.get(from + 1) == '=' && registerIndex(buffer.get(from)) >= 0) {
+            int register = registerIndex(buffer.get(from));
+            int value = parseOperand(buffer, from, to);
+            if (value >= Instruction.MIN_OPERAND && value <= Instruction.MAX_OPERAND) {
+                return Instruction.encode(Instruction.OP_SET_A + register, value);
+            }
+            if (assembler == null) {
+                throw new IllegalArgumentException("Valor fora do operando só pode ser compilado dentro de um programa: "
+                        + text(buffer, from, to));
+            }
+            return Instruction.encodeSetConstant(register, assembler.constant(value));
+        } else if (matches(buffer, from, to, "E/S")) {
+            return Instruction.encode(Instruction.OP_IO, 0);
+
+        } else if (length > 3 && matches(buffer, from, from + 3, "E/S")
+                && (buffer.get(from + 3) == ':' || buffer.get(from + 3) == ',')) {
+            return compileIo(buffer, from, to, devices);
+
+        } else if (matches(buffer, from, to, "COM")) {
+            return Instruction.encode(Instruction.OP_COM, 0);
+
+        } else if (matches(buffer, from, to, "SAIDA")) {
+            return Instruction.encode(Instruction.OP_EXIT, 0);
+        }
+
+        int keywordEnd = keywordEnd(buffer, from, to);
+        int arithmetic = arithmeticOpcode(buffer, from, keywordEnd);
+        if (arithmetic >= 0) {
+            return compileArithmetic(arithmetic, buffer, from, keywordEnd, to);
+        }
+        if (jumpOpcode(buffer, from, keywordEnd) >= 0) {
+            throw new IllegalArgumentException("Saltos só podem ser compilados dentro de um programa: "
+                    + text(buffer, from, to));
+        }
+
+        throw new IllegalArgumentException("Instrução desconhecida: " + text(buffer, from, to));
+    }
+
+    /**
+     * Compila "E/S:disco", "E/S:disco,5" ou "E/S,5".
+     */
+    private static int compileIo(ByteBuffer buffer, int from, int to, IoDeviceTable devices) {
+        int comma = indexOf(buffer, from + 3, to, (byte) ',');
+        int deviceEnd = comma < 0 ? to : comma;
+        int device = 0;
+        if (buffer.get(from + 3) == ':') {
+            int nameFrom = skipWhitespace(buffer, from + 4, deviceEnd);
+            int nameTo = trimWhitespace(buffer, nameFrom, deviceEnd);
+            boolean valid = nameFrom < nameTo;
+            for (int i = nameFrom; i < nameTo && valid; i++) {
+                byte b = buffer.get(i);
+                valid = (b >= 'A' && b <= 'Z') || (b >= 'a' && b <= 'z') || (b >= '0' && b <= '9')
+                        || b == '_' || b == '-';
+            }
+            if (!valid) {
+                throw new IllegalArgumentException("Dispositivo inválido na instrução: " + text(buffer, from, to));
+            }
+            device = devices.indexOf(text(buffer, nameFrom, nameTo));
+        }
+        int ticks = 0;
+        if (comma >= 0) {
+            ticks = parseNumber(buffer, skipWhitespace(buffer, comma + 1, to), to, from, to);
+            if (ticks < 1 || ticks > Instruction.MAX_IO_TICKS) {
+                throw new IllegalArgumentException("O tempo de E/S deve estar entre 1 e " + Instruction.MAX_IO_TICKS
+                        + " ticks na instrução: " + text(buffer, from, to));
+            }
+        }
+        return Instruction.encodeIo(device, ticks);
+    }
+
+    /**
+     * Compila "ADD A,B" ou "ADD A,-5" (a partir do fim da palavra-chave).
+     */
+    private static int compileArithmetic(int opcode, ByteBuffer buffer, int from, int keywordEnd, int to) {
+        int comma = indexOf(buffer, keywordEnd, to, (byte) ',');
+        if (comma < 0) {
+            throw new IllegalArgumentException("Esperado \"registrador,valor\" na instrução: " + text(buffer, from, to));
+        }
+        int destination = parseRegister(buffer, keywordEnd, comma, from, to);
+        int sourceFrom = skipWhitespace(buffer, comma + 1, to);
+        if (to - sourceFrom == 1 && registerIndex(buffer.get(sourceFrom)) >= 0) {
+            return Instruction.encodeArithmetic(opcode, destination, registerIndex(buffer.get(sourceFrom)));
+        }
+        int value = parseNumber(buffer, sourceFrom, to, from, to);
+        if (value < Instruction.MIN_IMMEDIATE || value > Instruction.MAX_IMMEDIATE) {
+            throw new IllegalArgumentException("Valor imediato fora do intervalo suportado (" + Instruction.MIN_IMMEDIATE
+                    + " a " + Instruction.MAX_IMMEDIATE + "; use um registrador) na instrução: " + text(buffer, from, to));
+        }
+        return Instruction.encodeArithmeticImmediate(opcode, destination, value);
+    }
+
+    private static int arithmeticOpcode(ByteBuffer buffer, int from, int keywordEnd) {
+        if (matches(buffer, from, keywordEnd, "ADD")) {
+            return Instruction.OP_ADD;
+        } else if (matches(buffer, from, keywordEnd, "SUB")) {
+            return Instruction.OP_SUB;
+        } else if (matches(buffer, from, keywordEnd, "MUL")) {
+            return Instruction.OP_MUL;
+        }
+        return -1;
+    }
+
+    private static int jumpOpcode(ByteBuffer buffer, int from, int keywordEnd) {
+        if (matches(buffer, from, keywordEnd, "JMP")) {
+            return Instruction.OP_JMP;
+        } else if (matches(buffer, from, keywordEnd, "JZ")) {
+            return Instruction.OP_JZ;
+        } else if (matches(buffer, from, keywordEnd, "JNZ")) {
+            return Instruction.OP_JNZ;
+        }
+        return -1;
+    }
+
+    /**
+     * Lê um registrador (A a D) no trecho {@code [from, to)}, ignorando espaços.
+     */
+    private static int parseRegister(ByteBuffer buffer, int from, int to, int lineFrom, int lineTo) {
+        from = skipWhitespace(buffer, from, to);
+        to = trimWhitespace(buffer, from, to);
+        int register = to - from == 1 ? registerIndex(buffer.get(from)) : -1;
+        if (register < 0) {
+            throw new IllegalArgumentException("Registrador inválido na instrução: " + text(buffer, lineFrom, lineTo));
+        }
+        return register;
+    }
+
+    private static int registerIndex(byte b) {
+        return b >= 'A' && b <= 'D' ? b - 'A' : -1;
+    }
+
+    private static int keywordEnd(ByteBuffer buffer, int from, int to) {
+        while (from < to && !isWhitespace(buffer.get(from))) {
+            from++;
+        }
+        return from;
+    }
+
+    private static int indexOf(ByteBuffer buffer, int from, int to, byte value) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Monta um programa linha a linha: guarda as instruções, os rótulos definidos, os saltos
+     * cujo destino só é conhecido quando o programa inteiro foi lido e a tabela de constantes.
+     */
+    private static final class Assembler {
+        private final IoDeviceTable devices;
+        private int[] code;
+        private int size;
+        private final Map<String, Integer> labels = new HashMap<>();
+        private final List<PendingJump> jumps = new ArrayList<>();
+        private final Map<Integer, Integer> constantIndexes = new HashMap<>();
+        private int[] constants = Instruction.NO_CONSTANTS;
+        private int constantCount;
+        private int priority;
+        private boolean started;
+
+        Assembler(int capacity, IoDeviceTable devices) {
+            this.devices = devices;
+            this.code = new int[Math.max(capacity, 1)];
+        }
+
+        /**
+         * Adiciona uma linha já sem espaços nas extremidades: o cabeçalho de prioridade, um rótulo,
+         * um salto ou outra instrução.
+         */
+        void add(ByteBuffer buffer, int from, int to) {
+            boolean first = !started;
+            started = true;
+            if (to - from > PRIORITY_HEADER.length()
+                    && matches(buffer, from, from + PRIORITY_HEADER.length(), PRIORITY_HEADER)) {
+                if (!first) {
+                    throw new IllegalArgumentException("PRIORIDADE só pode aparecer na primeira linha do programa: "
+                            + text(buffer, from, to));
+                }
+                priority = parseNumber(buffer, skipWhitespace(buffer, from + PRIORITY_HEADER.length(), to), to, from, to);
+                return;
+            }
+            if (buffer.get(to - 1) == ':') {
+                String label = label(buffer, from, trimWhitespace(buffer, from, to - 1), from, to);
+                if (labels.putIfAbsent(label, size) != null) {
+                    throw new IllegalArgumentException("Rótulo repetido: " + label);
+                }
+                return;
+            }
+            int keywordEnd = keywordEnd(buffer, from, to);
+            int jump = jumpOpcode(buffer, from, keywordEnd);
+            if (jump >= 0) {
+                int register = 0;
+                int labelFrom = keywordEnd;
+                if (jump != Instruction.OP_JMP) {
+                    int comma = indexOf(buffer, keywordEnd, to, (byte) ',');
+                    if (comma < 0) {
+                        throw new IllegalArgumentException("Esperado \"registrador,rótulo\" na instrução: "
+                                + text(buffer, from, to));
+                    }
+                    register = parseRegister(buffer, keywordEnd, comma, from, to);
+                    labelFrom = comma + 1;
+                }
+                jumps.add(new PendingJump(size, jump, register,
+                        label(buffer, skipWhitespace(buffer, labelFrom, to), to, from, to)));
+                append(0);
+                return;
+            }
+            append(compileInstruction(buffer, from, to, devices, this));
+        }
+
+        /**
+         * @return Índice do valor na tabela de constantes, que o recebe na primeira vez.
+         */
+        int constant(int value) {
+            Integer index = constantIndexes.get(value);
+            if (index != null) {
+                return index;
+            }
+            if (constantCount == Instruction.MAX_CONSTANTS) {
+                throw new IllegalArgumentException("Limite de " + Instruction.MAX_CONSTANTS
+                        + " constantes por programa ultrapassado.");
+            }
+            if (constantCount == constants.length) {
+                constants = Arrays.copyOf(constants, Math.max(4, constantCount * 2));
+            }
+            constants[constantCount] = value;
+            constantIndexes.put(value, constantCount);
+            return constantCount++;
+        }
+
+        ProgramCode finish() {
+            for (PendingJump jump : jumps) {
+                Integer target = labels.get(jump.label);
+                if (target == null) {
+                    throw new IllegalArgumentException("Rótulo não definido: " + jump.label);
+                }
+                if (target > Instruction.MAX_JUMP_TARGET) {
+                    throw new IllegalArgumentException("Destino de salto além do limite suportado: " + jump.label);
+                }
+                code[jump.pc] = Instruction.encodeJump(jump.opcode, jump.register, target);
+            }
+            int[] instructions = annotateComputeRuns(size == code.length ? code : Arrays.copyOf(code, size));
+            return new ProgramCode(instructions, constantCount == constants.length
+                    ? constants : Arrays.copyOf(constants, constantCount), priority);
+        }
+
+        private void append(int instruction) {
+            if (size == code.length) {
+                code = Arrays.copyOf(code, size * 2);
+            }
+            code[size++] = instruction;
+        }
+
+        /**
+         * Lê um nome de rótulo (letras, dígitos e "_").
+         */
+        private static String label(ByteBuffer buffer, int from, int to, int lineFrom, int lineTo) {
+            boolean valid = from < to;
+            for (int i = from; i < to && valid; i++) {
+                byte b = buffer.get(i);
+                valid = (b >= 'A' && b <= 'Z') || (b >= 'a' && b <= 'z') || (b >= '0' && b <= '9') || b == '_';
+            }
+            if (!valid) {
+                throw new IllegalArgumentException("Rótulo inválido na linha: " + text(buffer, lineFrom, lineTo));
+            }
+            return text(buffer, from, to);
+        }
+    }
+
+    private static final class PendingJump {
+        final int pc;
+        final int opcode;
+        final int register;
+        final String label;
+
+        PendingJump(int pc, int opcode, int register, String label) {
+            this.pc = pc;
+            this.opcode = opcode;
+            this.register = register;
+            this.label = label;
+        }
+    }
+
+    /**
+     * Lê o valor inteiro após "X=", com sinal opcional, no intervalo de {@code int}.
+     */
+    private static int parseOperand(ByteBuffer buffer, int from, int to) {
+        return parseNumber(buffer, skipWhitespace(buffer, from + 2, to), to, from, to);
+    }
+
+    /**
+     * Lê um inteiro com sinal opcional no trecho {@code [i, to)}, limitado ao intervalo de
+     * {@code int}; {@code lineFrom}/{@code lineTo} delimitam a instrução para as mensagens de erro.
+     */
+    private static int parseNumber(ByteBuffer buffer, int i, int to, int from, int lineTo) {
+        boolean negative = false;
+        if (i < to && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+            negative = buffer.get(i) == '-';
+            i++;
+        }
+        if (i >= to) {
+            throw new IllegalArgumentException("Valor inválido na instrução: " + text(buffer, from, lineTo));
+        }
+        long value = 0;
+        for (; i < to; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("Valor inválido na instrução: " + text(buffer, from, lineTo));
+            }
+            value = value * 10 + digit;
+            if (value > -(long) Integer.MIN_VALUE) {
+                throw new IllegalArgumentException("Valor fora do intervalo de int na instrução: "
+                        + text(buffer, from, lineTo));
+            }
+        }
+        if (negative) {
+            value = -value;
+        }
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Valor fora do intervalo de int na instrução: "
+                    + text(buffer, from, lineTo));
+        }
+        return (int) value;
+    }
+
+    private static boolean matches(ByteBuffer buffer, int from, int to, String keyword) {
+        if (to - from != keyword.length()) {
+            return false;
+        }
+        for (int i = 0; i < keyword.length(); i++) {
+            if (buffer.get(from + i) != keyword.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static int skipWhitespace(ByteBuffer buffer, int from, int to) {
+        while (from < to && isWhitespace(buffer.get(from))) {
+            from++;
+        }
+        return from;
+    }
+
+    static int trimWhitespace(ByteBuffer buffer, int from, int to) {
+        while (to > from && isWhitespace(buffer.get(to - 1))) {
+            to--;
+        }
+        return to;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+    }
+
+    /**
+     * Converte o trecho para String; usado apenas em mensagens de erro e nomes de processo.
+     */
+    static String text(ByteBuffer buffer, int from, int to) {
+        byte[] bytes = new byte[to - from];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(from + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
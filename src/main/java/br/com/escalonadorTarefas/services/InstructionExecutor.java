@@ -0,0 +1,376 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.models.Instruction;
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+
+/**
+ * Executa o código compilado de um processo (ver {@link Instruction}) sobre o seu BCP.
+ * <p>
+ * Não tem estado próprio e só altera o BCP recebido, por isso pode ser usado por vários
+ * núcleos simulados em paralelo, desde que cada processo esteja em apenas um núcleo por vez.
+ * <p>
+ * Sequências de COM (sem efeito nos registradores) são avançadas em um único passo, usando o
+ * tamanho pré-calculado no operando (ver {@link InstructionCompiler#annotateComputeRuns}); o
+ * resultado é o mesmo de executá-las uma a uma.
+ * <p>
+ * Aritmética usa a semântica de {@code int} do Java (estouro dá a volta). Cada salto conta
+ * como uma instrução executada, tomado ou não; um destino além do fim do programa é rejeitado.
+ * Além da fatia, a execução respeita o orçamento de instruções do processo: quando ele se
+ * esgota, o processo termina como se tivesse executado SAIDA, o que garante o fim de
+ * programas com laços infinitos.
+ */
+public final class InstructionExecutor {
+
+    /**
+     * Bit de sinalização no resultado de {@link #runSlice}: a fatia terminou em E/S.
+     */
+    public static final int BLOCKED_ON_IO = 0x8000_0000;
+
+    private InstructionExecutor() {
+    }
+
+    /**
+     * Executa o processo por até {@code slice} instruções ou até que ele entre em
+     * E/S ou termine (SAIDA, fim do programa ou orçamento de instruções esgotado).
+     *
+     * @param pcb   Bloco de Controle do Processo a ser executado.
+     * @param slice Número máximo de instruções nesta fatia.
+     * @return Quantidade de instruções executadas, combinada com {@link #BLOCKED_ON_IO}
+     * se a fatia terminou em E/S.
+     */
+    public static int runSlice(ProcessControlBlock pcb, int slice) {
+        int[] instructions = pcb.getInstructions();
+        int limit = (int) Math.min(slice, pcb.getInstructionBudget());
+        int instructionsExecuted = 0;
+        int blocked = 0;
+
+        while (instructionsExecuted < limit && pcb.getProgramCounter() < instructions.length) {
+            int instruction = instructions[pcb.getProgramCounter()];
+            if (Instruction.opcode(instruction) == Instruction.OP_COM) {
+                int run = computeRun(instruction, limit - instructionsExecuted);
+                pcb.setProgramCounter(pcb.getProgramCounter() + run);
+                instructionsExecuted += run;
+                continue;
+            }
+            if (!executeInstruction(pcb, instruction)) {
+                blocked = BLOCKED_ON_IO;
+                break;
+            }
+            instructionsExecuted++;
+        }
+
+        long budget = pcb.getInstructionBudget() - instructionsExecuted;
+        pcb.setInstructionBudget(budget);
+        if (budget == 0 && blocked == 0) {
+            pcb.setProgramCounter(instructions.length);
+        }
+        return instructionsExecuted | blocked;
+    }
+
+    /**
+     * Mesma semântica de {@link #runSlice(ProcessControlBlock, int)}, mas sobre um slot da
+     * {@link ProcessTable}. O program counter e os registradores ficam em variáveis locais
+     * durante a fatia e são gravados de volta na tabela apenas no fim.
+     *
+     * @param table Tabela de processos.
+     * @param slot  Slot do processo a ser executado.
+     * @param slice Número máximo de instruções nesta fatia.
+     * @return Quantidade de instruções executadas, combinada com {@link #BLOCKED_ON_IO}
+     * se a fatia terminou em E/S.
+     */
+    public static int runSlice(ProcessTable table, int slot, int slice) {
+        int[] instructions = table.instructions[slot];
+        int programCounter = table.programCounters[slot];
+        int registerA = table.registersA[slot];
+        int registerB = table.registersB[slot];
+        int registerC = table.registersC[slot];
+        int registerD = table.registersD[slot];
+        int limit = (int) Math.min(slice, table.budgets[slot]);
+        int instructionsExecuted = 0;
+        int blocked = 0;
+
+        slice:
+        while (instructionsExecuted < limit && programCounter < instructions.length) {
+            int instruction = instructions[programCounter];
+            switch (Instruction.opcode(instruction)) {
+                case Instruction.OP_SET_A:
+                    registerA = Instruction.operand(instruction);
+                    break;
+
+                case Instruction.OP_SET_B:
+                    registerB = Instruction.operand(instruction);
+                    break;
+
+                case Instruction.OP_SET_C:
+                    registerC = Instruction.operand(instruction);
+                    break;
+
+                case Instruction.OP_SET_D:
+                    registerD = Instruction.operand(instruction);
+                    break;
+
+                case Instruction.OP_SET_CONST:
+                    int constant = table.constants[slot][Instruction.constantIndex(instruction)];
+                    switch (Instruction.constantRegister(instruction)) {
+                        case 0:
+                            registerA = constant;
+                            break;
+                        case 1:
+                            registerB = constant;
+                            break;
+                        case 2:
+                            registerC = constant;
+                            break;
+                        default:
+                            registerD = constant;
+                            break;
+                    }
+                    break;
+
+                case Instruction.OP_IO:
+                    programCounter++;
+                    blocked = BLOCKED_ON_IO;
+                    break slice;
+
+                case Instruction.OP_EXIT:
+                    programCounter = instructions.length;
+                    instructionsExecuted++;
+                    continue;
+
+                case Instruction.OP_COM:
+                    int run = computeRun(instruction, limit - instructionsExecuted);
+                    programCounter += run;
+                    instructionsExecuted += run;
+                    continue;
+
+                case Instruction.OP_ADD:
+                case Instruction.OP_SUB:
+                case Instruction.OP_MUL:
+                    int source = Instruction.isImmediate(instruction)
+                            ? Instruction.immediate(instruction)
+                            : select(Instruction.source(instruction), registerA, registerB, registerC, registerD);
+                    int destination = Instruction.destination(instruction);
+                    int value = arithmetic(Instruction.opcode(instruction),
+                            select(destination, registerA, registerB, registerC, registerD), source);
+                    switch (destination) {
+                        case 0:
+                            registerA = value;
+                            break;
+                        case 1:
+                            registerB = value;
+                            break;
+                        case 2:
+                            registerC = value;
+                            break;
+                        default:
+                            registerD = value;
+                            break;
+                    }
+                    break;
+
+                case Instruction.OP_JMP:
+                case Instruction.OP_JZ:
+                case Instruction.OP_JNZ:
+                    int tested = select(Instruction.jumpRegister(instruction), registerA, registerB, registerC, registerD);
+                    programCounter = jumpsTo(instruction, tested)
+                            ? jumpTarget(instruction, instructions.length)
+                            : programCounter + 1;
+                    instructionsExecuted++;
+                    continue;
+
+                default:
+                    throw new IllegalStateException("Opcode inválido: " + Instruction.opcode(instruction));
+            }
+            programCounter++;
+            instructionsExecuted++;
+        }
+
+        table.programCounters[slot] = programCounter;
+        table.registersA[slot] = registerA;
+        table.registersB[slot] = registerB;
+        table.registersC[slot] = registerC;
+        table.registersD[slot] = registerD;
+        long budget = table.budgets[slot] - instructionsExecuted;
+        table.budgets[slot] = budget;
+        if (budget == 0 && blocked == 0) {
+            table.programCounters[slot] = instructions.length;
+        }
+        return instructionsExecuted | blocked;
+    }
+
+    /**
+     * @param instruction COM com o tamanho da sequência no operando.
+     * @param remaining   Instruções que ainda cabem na fatia.
+     * @return Quantos COMs executar neste passo (pelo menos 1).
+     */
+    private static int computeRun(int instruction, int remaining) {
+        return Math.min(Math.max(Instruction.operand(instruction), 1), remaining);
+    }
+
+    /**
+     * @return O valor do registrador {@code register} (0 a 3) entre os quatro informados.
+     */
+    private static int select(int register, int a, int b, int c, int d) {
+        switch (register) {
+            case 0:
+                return a;
+            case 1:
+                return b;
+            case 2:
+                return c;
+            default:
+                return d;
+        }
+    }
+
+    /**
+     * Aplica uma operação aritmética com a semântica de {@code int} (estouro dá a volta).
+     */
+    private static int arithmetic(int opcode, int x, int y) {
+        switch (opcode) {
+            case Instruction.OP_ADD:
+                return x + y;
+            case Instruction.OP_SUB:
+                return x - y;
+            default:
+                return x * y;
+        }
+    }
+
+    /**
+     * @param tested Valor do registrador testado (ignorado por {@link Instruction#OP_JMP}).
+     * @return true se o salto deve ser tomado.
+     */
+    private static boolean jumpsTo(int instruction, int tested) {
+        switch (Instruction.opcode(instruction)) {
+            case Instruction.OP_JZ:
+                return tested == 0;
+            case Instruction.OP_JNZ:
+                return tested != 0;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * @return Destino do salto, validado contra o tamanho do programa.
+     * @throws IllegalStateException se o destino estiver além do fim do programa.
+     */
+    private static int jumpTarget(int instruction, int length) {
+        int target = Instruction.jumpTarget(instruction);
+        if (target > length) {
+            throw new IllegalStateException("Destino de salto fora do programa: " + target);
+        }
+        return target;
+    }
+
+    /**
+     * @param result Resultado de {@link #runSlice}.
+     * @return true se a fatia terminou em E/S.
+     */
+    public static boolean isBlockedOnIO(int result) {
+        return (result & BLOCKED_ON_IO) != 0;
+    }
+
+    /**
+     * @param result Resultado de {@link #runSlice}.
+     * @return Quantidade de instruções executadas na fatia.
+     */
+    public static int instructionsExecuted(int result) {
+        return result & ~BLOCKED_ON_IO;
+    }
+
+    /**
+     * Executa a instrução atual do processo, atualiza o program counter e
+     * retorna se a instrução foi executada sem entrar em E/S.
+     * <p>
+     * A instrução já foi validada e compilada no carregamento (ver {@link Instruction}),
+     * portanto aqui há apenas o despacho pelo opcode.
+     *
+     * @param pcb         Bloco de Controle do Processo que está sendo executado.
+     * @param instruction A instrução empacotada a ser executada.
+     * @return true se a instrução não causou E/S; false se foi uma instrução de E/S.
+     */
+    public static boolean executeInstruction(ProcessControlBlock pcb, int instruction) {
+        switch (Instruction.opcode(instruction)) {
+            case Instruction.OP_SET_A:
+                pcb.setRegisterA(Instruction.operand(instruction));
+                break;
+
+            case Instruction.OP_SET_B:
+                pcb.setRegisterB(Instruction.operand(instruction));
+                break;
+
+            case Instruction.OP_SET_C:
+                pcb.setRegisterC(Instruction.operand(instruction));
+                break;
+
+            case Instruction.OP_SET_D:
+                pcb.setRegisterD(Instruction.operand(instruction));
+                break;
+
+            case Instruction.OP_SET_CONST:
+                setRegister(pcb, Instruction.constantRegister(instruction),
+                        pcb.getConstants()[Instruction.constantIndex(instruction)]);
+                break;
+
+            case Instruction.OP_IO:
+                pcb.setProgramCounter(pcb.getProgramCounter() + 1);
+                return false;
+
+            case Instruction.OP_EXIT:
+                pcb.setProgramCounter(pcb.getInstructions().length);
+                return true;
+
+            case Instruction.OP_COM:
+                break;
+
+            case Instruction.OP_ADD:
+            case Instruction.OP_SUB:
+            case Instruction.OP_MUL:
+                int source = Instruction.isImmediate(instruction)
+                        ? Instruction.immediate(instruction)
+                        : register(pcb, Instruction.source(instruction));
+                int destination = Instruction.destination(instruction);
+                setRegister(pcb, destination,
+                        arithmetic(Instruction.opcode(instruction), register(pcb, destination), source));
+                break;
+
+            case Instruction.OP_JMP:
+            case Instruction.OP_JZ:
+            case Instruction.OP_JNZ:
+                if (jumpsTo(instruction, register(pcb, Instruction.jumpRegister(instruction)))) {
+                    pcb.setProgramCounter(jumpTarget(instruction, pcb.getInstructions().length));
+                    return true;
+                }
+                break;
+
+            default:
+                throw new IllegalStateException("Opcode inválido: " + Instruction.opcode(instruction));
+        }
+
+        pcb.setProgramCounter(pcb.getProgramCounter() + 1);
+        return true;
+    }
+
+    private static int register(ProcessControlBlock pcb, int register) {
+        return select(register, pcb.getRegisterA(), pcb.getRegisterB(), pcb.getRegisterC(), pcb.getRegisterD());
+    }
+
+    private static void setRegister(ProcessControlBlock pcb, int register, int value) {
+        switch (register) {
+            case 0:
+                pcb.setRegisterA(value);
+                break;
+            case 1:
+                pcb.setRegisterB(value);
+                break;
+            case 2:
+                pcb.setRegisterC(value);
+                break;
+            default:
+                pcb.setRegisterD(value);
+                break;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.escalonadorTarefas.services;
+
+import java.util.Arrays;
+
+/**
+ * Fila FIFO de inteiros (slots da {@link ProcessTable}) em um buffer circular que cresce
+ * conforme a necessidade.
+ * <p>
+ * Diferente de uma fila de objetos, não aloca nós nem faz boxing: inserir e remover são
+ * apenas leituras e escritas em um {@code int[]}.
+ */
+final class IntRingQueue {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] elements = new int[INITIAL_CAPACITY];
+    /**
+     * Posição do primeiro elemento; a capacidade é sempre potência de 2.
+     */
+    private int head;
+    private int size;
+
+    void add(int value) {
+        if (size == elements.length) {
+            grow();
+        }
+        elements[(head + size) & (elements.length - 1)] = value;
+        size++;
+    }
+
+    /**
+     * @return Primeiro elemento, sem removê-lo. A fila não pode estar vazia.
+     */
+    int peek() {
+        return elements[head];
+    }
+
+    /**
+     * @return Primeiro elemento, removido da fila. A fila não pode estar vazia.
+     */
+    int poll() {
+        int value = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return value;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void grow() {
+        int[] grown = Arrays.copyOf(elements, elements.length * 2);
+        // Os elementos que estavam antes de head (parte "dobrada" do anel) passam para depois do fim antigo.
+        System.arraycopy(elements, 0, grown, elements.length, head);
+        elements = grown;
+        // Com a capacidade dobrada, a sequência head..head+size fica contígua a partir de head.
+    }
+}
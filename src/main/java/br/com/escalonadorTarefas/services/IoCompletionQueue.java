@@ -0,0 +1,52 @@
+package br.com.escalonadorTarefas.services;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Fila ilimitada e sem travas com múltiplos produtores (as threads que concluem E/S) e um
+ * único consumidor (o escalonador), no algoritmo de fila intrusiva de Vyukov.
+ * <p>
+ * Cada produtor faz apenas uma troca atômica no fim da fila e depois liga o nó anterior ao
+ * novo; o consumidor percorre os nós sem operações atômicas. Entre a troca e a ligação o
+ * consumidor pode não enxergar ainda o nó novo, o que apenas adia a sua retirada para a
+ * próxima consulta.
+ */
+final class IoCompletionQueue {
+
+    private final AtomicReference<IoRequest> tail;
+    private IoRequest head;
+
+    IoCompletionQueue() {
+        IoRequest stub = new IoRequest(null, 0);
+        this.head = stub;
+        this.tail = new AtomicReference<>(stub);
+    }
+
+    /**
+     * Insere uma conclusão; pode ser chamado por qualquer thread.
+     */
+    void offer(IoRequest request) {
+        request.next = null;
+        IoRequest previous = tail.getAndSet(request);
+        previous.next = request;
+    }
+
+    /**
+     * Remove a conclusão mais antiga; apenas a thread consumidora pode chamar.
+     *
+     * @return Conclusão, ou null se nenhuma estiver visível.
+     */
+    IoRequest poll() {
+        IoRequest next = head.next;
+        if (next == null) {
+            return null;
+        }
+        // O nó retirado passa a ser o novo marcador do início da fila.
+        head = next;
+        return next;
+    }
+
+    boolean isEmpty() {
+        return head.next == null;
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.models.Instruction;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Numeração dos nomes de dispositivos de E/S usados por um conjunto de programas
+ * ({@code E/S:disco}).
+ * <p>
+ * A instrução compilada guarda apenas o índice do dispositivo (ver {@link Instruction#encodeIo});
+ * cada nome recebe um índice na primeira vez em que aparece na tabela e o mantém enquanto ela
+ * existir, então os programas compilados com a mesma tabela (em qualquer ordem, ou em paralelo)
+ * concordam sobre os índices. O índice 0 é o dispositivo padrão, usado pela {@code E/S} sem nome.
+ * <p>
+ * Cada conjunto de programas (a carga de uma execução) tem a sua tabela, repassada ao
+ * {@link InstructionCompiler}, ao {@link IoDevices} que simula os dispositivos e ao
+ * {@link SchedulerCheckpoint}; os índices de um conjunto não valem em outro. Os índices
+ * dependem da ordem em que os nomes apareceram, então não devem influenciar a simulação: o
+ * {@link IoDevices} ordena os dispositivos pelo nome, e o checkpoint grava os nomes para
+ * reconstruir os índices na tabela da carga retomada.
+ */
+public final class IoDeviceTable {
+
+    public static final String DEFAULT_DEVICE = "default";
+
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private volatile String[] names = {DEFAULT_DEVICE};
+
+    public IoDeviceTable() {
+        indexes.put(DEFAULT_DEVICE, 0);
+    }
+
+    /**
+     * @param name Nome do dispositivo.
+     * @return Índice do dispositivo, registrando o nome se ainda não existir.
+     * @throws IllegalArgumentException se o limite de dispositivos for ultrapassado.
+     */
+    public synchronized int indexOf(String name) {
+        Integer index = indexes.get(name);
+        if (index != null) {
+            return index;
+        }
+        if (names.length == Instruction.MAX_IO_DEVICES) {
+            throw new IllegalArgumentException("Limite de " + Instruction.MAX_IO_DEVICES
+                    + " dispositivos de E/S ultrapassado: " + name);
+        }
+        String[] grown = Arrays.copyOf(names, names.length + 1);
+        grown[names.length] = name;
+        indexes.put(name, names.length);
+        names = grown;
+        return grown.length - 1;
+    }
+
+    /**
+     * @param index Índice de um dispositivo já registrado.
+     * @return Nome do dispositivo.
+     */
+    public String nameOf(int index) {
+        return names[index];
+    }
+
+    /**
+     * @return Nomes registrados até agora, pelo índice (a tabela só cresce, então os índices da
+     * lista continuam válidos).
+     */
+    public List<String> names() {
+        return List.of(names);
+    }
+
+    /**
+     * @return Quantidade de dispositivos registrados (inclusive o padrão).
+     */
+    public int size() {
+        return names.length;
+    }
+}
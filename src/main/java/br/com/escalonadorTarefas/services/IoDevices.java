@@ -0,0 +1,363 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.enums.LatencyDistribution;
+import br.com.escalonadorTarefas.models.Instruction;
+import br.com.escalonadorTarefas.models.IoDeviceSettings;
+import br.com.escalonadorTarefas.models.IoDeviceStatistics;
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Processos bloqueados em E/S, divididos por dispositivo simulado ({@code E/S:disco},
+ * {@code E/S:rede}; a {@code E/S} sem nome usa o dispositivo padrão).
+ * <p>
+ * Cada dispositivo tem:
+ * - Um modelo de tempo de espera ({@link IoDeviceSettings}): fixo, sorteado (uniforme ou
+ * exponencial, com semente própria) ou lido de um trace. Uma E/S com tempo próprio
+ * ({@code E/S:disco,5}) ignora o modelo. Sem configuração, vale o comportamento original:
+ * {@code 2 * quantum} ticks.
+ * - Um limite de operações atendidas ao mesmo tempo (canais); as excedentes esperam em ordem
+ * de chegada e são atendidas a partir do tick seguinte à liberação de um canal.
+ * - A sua própria {@link WakeupQueue}: com tempo fixo os despertares de um dispositivo chegam
+ * em ordem e a fila funciona como um buffer circular O(1), mesmo que outro dispositivo tenha
+ * latências sorteadas.
+ * <p>
+ * Um processo bloqueado no tick t com espera w é liberado ao fim do tick t + w - 1, como na
+ * antiga fila única, então o log do modelo padrão não muda. Quando processos de dispositivos
+ * diferentes despertam no mesmo tick, saem pela ordem dos dispositivos (o padrão primeiro e os
+ * demais pelo nome) e, em cada um, pela ordem de bloqueio. A ordem não usa o índice do
+ * {@link IoDeviceTable}, que depende da ordem em que os programas foram compilados.
+ * <p>
+ * Os sorteios dependem apenas da semente e da ordem das operações, então a simulação continua
+ * reprodutível.
+ */
+public class IoDevices {
+
+    public static final long DEFAULT_SEED = 42L;
+
+    /**
+     * Dispositivo padrão primeiro e os demais pelo nome.
+     */
+    private static final Comparator<Device> DEVICE_ORDER = (a, b) -> a.index == 0 ? -1
+            : b.index == 0 ? 1 : a.name.compareTo(b.name);
+
+    private final int quantum;
+    private final IoDeviceTable table;
+    private final Map<String, IoDeviceSettings> settings = new HashMap<>();
+    private final long seed;
+    /**
+     * Dispositivos pelo índice da tabela (null se ainda não usados) e os já usados, na ordem de
+     * liberação (ver {@link #DEVICE_ORDER}).
+     */
+    private Device[] devices = new Device[1];
+    private Device[] active = new Device[0];
+    private int size;
+
+    /**
+     * Modelo padrão, apenas com o dispositivo padrão: serve para programas sem {@code E/S:nome}.
+     *
+     * @param quantum Quantum da simulação.
+     */
+    public IoDevices(int quantum) {
+        this(quantum, new IoDeviceTable());
+    }
+
+    /**
+     * Modelo padrão: toda E/S sem tempo próprio espera {@code 2 * quantum} ticks, sem limite de canais.
+     *
+     * @param quantum Quantum da simulação.
+     * @param table   Tabela de dispositivos com que os programas simulados foram compilados.
+     */
+    public IoDevices(int quantum, IoDeviceTable table) {
+        this(quantum, table, List.of(), DEFAULT_SEED);
+    }
+
+    /**
+     * @param quantum  Quantum da simulação (base do modelo padrão).
+     * @param table    Tabela de dispositivos com que os programas simulados foram compilados.
+     * @param settings Modelos dos dispositivos configurados; os demais usam o modelo padrão.
+     * @param seed     Semente dos sorteios de latência.
+     * @throws IllegalArgumentException se algum modelo for inválido.
+     */
+    public IoDevices(int quantum, IoDeviceTable table, List<IoDeviceSettings> settings, long seed) {
+        this.quantum = quantum;
+        this.table = table;
+        this.seed = seed;
+        for (IoDeviceSettings device : settings) {
+            validate(device);
+            this.settings.put(device.getName(), device);
+        }
+        for (IoDeviceSettings device : settings) {
+            // Os dispositivos configurados aparecem nas estatísticas mesmo sem operações.
+            device(table.indexOf(device.getName()));
+        }
+    }
+
+    /**
+     * @return Tabela de dispositivos com que os programas simulados foram compilados.
+     */
+    public IoDeviceTable getTable() {
+        return table;
+    }
+
+    /**
+     * @return true se algum dispositivo tem modelo próprio (fora do padrão).
+     */
+    public boolean isConfigured() {
+        return !settings.isEmpty();
+    }
+
+    /**
+     * Bloqueia um processo que acabou de executar uma E/S (a instrução anterior ao seu PC).
+     *
+     * @param pcb   Processo bloqueado.
+     * @param clock Tick em que a E/S foi executada.
+     */
+    public void block(ProcessControlBlock pcb, long clock) {
+        int instruction = pcb.getInstructions()[pcb.getProgramCounter() - 1];
+        device(Instruction.ioDevice(instruction)).submit(pcb, clock);
+        size++;
+    }
+
+    /**
+     * Libera todos os processos cuja E/S termina até {@code clock} e inicia o atendimento das
+     * operações que esperavam pelos canais liberados.
+     *
+     * @param clock  Tick atual do escalonador.
+     * @param action Ação aplicada a cada processo liberado.
+     * @return Quantidade de processos liberados.
+     */
+    public int releaseExpired(long clock, Consumer<ProcessControlBlock> action) {
+        int released = 0;
+        while (true) {
+            Device next = null;
+            long deadline = Long.MAX_VALUE;
+            for (Device device : active) {
+                long candidate = device.inService.nextDeadline();
+                if (candidate < deadline) {
+                    deadline = candidate;
+                    next = device;
+                }
+            }
+            if (next == null || deadline > clock) {
+                return released;
+            }
+            ProcessControlBlock pcb = next.inService.poll();
+            next.startWaiting(clock + 1);
+            size--;
+            action.accept(pcb);
+            released++;
+        }
+    }
+
+    /**
+     * @return Tick do próximo despertar, ou {@link Long#MAX_VALUE} se nenhuma E/S estiver em atendimento.
+     */
+    public long nextDeadline() {
+        long deadline = Long.MAX_VALUE;
+        for (Device device : active) {
+            deadline = Math.min(deadline, device.inService.nextDeadline());
+        }
+        return deadline;
+    }
+
+    /**
+     * Percorre as operações em atendimento, com o tick de despertar, dispositivo a dispositivo e
+     * na ordem de liberação de cada um. As operações que esperam por um canal não são incluídas
+     * (o modelo padrão não tem limite de canais).
+     *
+     * @param action Ação aplicada a cada processo e seu tick de despertar.
+     */
+    public void forEachInOrder(ObjLongConsumer<ProcessControlBlock> action) {
+        for (Device device : active) {
+            device.inService.forEachInOrder(action);
+        }
+    }
+
+    /**
+     * Recoloca em atendimento uma operação gravada por {@link #forEachInOrder} (ex: ao retomar
+     * um checkpoint), sem contá-la nas estatísticas.
+     *
+     * @param pcb      Processo bloqueado.
+     * @param deadline Tick em que o processo deve ser liberado.
+     */
+    public void restore(ProcessControlBlock pcb, long deadline) {
+        int instruction = pcb.getInstructions()[pcb.getProgramCounter() - 1];
+        device(Instruction.ioDevice(instruction)).inService.schedule(pcb, deadline);
+        size++;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return Processos bloqueados (em atendimento ou esperando por um canal).
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return Contadores de cada dispositivo usado ou configurado, o padrão primeiro e os demais pelo nome.
+     */
+    public List<IoDeviceStatistics> getStatistics() {
+        List<IoDeviceStatistics> statistics = new ArrayList<>(active.length);
+        for (Device device : active) {
+            statistics.add(new IoDeviceStatistics(device.name, device.channels, device.operations,
+                    device.busyTicks, device.peakInService, device.peakWaiting, device.queueDelay.getMean(),
+                    device.queueDelay.getMax(), device.latency.getMean()));
+        }
+        return statistics;
+    }
+
+    /**
+     * @throws IllegalArgumentException se o índice não estiver na tabela (programa compilado com
+     *                                  outra tabela de dispositivos).
+     */
+    private Device device(int index) {
+        if (index >= table.size()) {
+            throw new IllegalArgumentException("Dispositivo de E/S " + index
+                    + " fora da tabela de dispositivos da simulação.");
+        }
+        if (index >= devices.length) {
+            devices = Arrays.copyOf(devices, Math.max(index + 1, devices.length * 2));
+        }
+        Device device = devices[index];
+        if (device == null) {
+            device = new Device(index);
+            devices[index] = device;
+            active = Arrays.copyOf(active, active.length + 1);
+            active[active.length - 1] = device;
+            Arrays.sort(active, DEVICE_ORDER);
+        }
+        return device;
+    }
+
+    private static void validate(IoDeviceSettings device) {
+        if (device.getName() == null || device.getName().isEmpty()) {
+            throw new IllegalArgumentException("Dispositivo de E/S sem nome.");
+        }
+        if (device.getChannels() < 1) {
+            throw new IllegalArgumentException("O dispositivo " + device.getName() + " precisa de ao menos um canal.");
+        }
+        int[] trace = device.getLatencyTrace();
+        if (trace != null) {
+            if (trace.length == 0) {
+                throw new IllegalArgumentException("O trace de latências de " + device.getName() + " está vazio.");
+            }
+            for (int latency : trace) {
+                if (latency < 1) {
+                    throw new IllegalArgumentException("Latência inválida no trace de " + device.getName()
+                            + ": " + latency + " (mínimo 1 tick).");
+                }
+            }
+        } else if (device.getMeanLatencyTicks() < 0) {
+            throw new IllegalArgumentException("A latência de " + device.getName() + " não pode ser negativa.");
+        }
+    }
+
+    /**
+     * Dispositivo com seu modelo de latência, canais, fila de espera e fila de despertar.
+     */
+    private final class Device {
+        final String name;
+        final int index;
+        final LatencyDistribution distribution;
+        final long meanLatency;
+        final int[] trace;
+        final int channels;
+        final SplittableRandom random;
+        final WakeupQueue inService = new WakeupQueue();
+        /**
+         * Operações esperando por um canal; a chave é o tick do bloqueio.
+         */
+        final WakeupQueue waiting = new WakeupQueue();
+        int tracePosition;
+
+        long operations;
+        long busyTicks;
+        int peakInService;
+        int peakWaiting;
+        final LongHistogram queueDelay = new LongHistogram();
+        final LongHistogram latency = new LongHistogram();
+
+        Device(int index) {
+            this.name = table.nameOf(index);
+            this.index = index;
+            IoDeviceSettings model = settings.get(name);
+            this.distribution = model == null ? LatencyDistribution.FIXED : model.getLatencyDistribution();
+            this.meanLatency = model == null || model.getMeanLatencyTicks() == 0
+                    ? 2L * quantum : model.getMeanLatencyTicks();
+            this.trace = model == null ? null : model.getLatencyTrace();
+            this.channels = model == null ? Integer.MAX_VALUE : model.getChannels();
+            this.random = new SplittableRandom(seed ^ name.hashCode());
+        }
+
+        void submit(ProcessControlBlock pcb, long clock) {
+            if (inService.size() < channels) {
+                start(pcb, clock, clock);
+            } else {
+                waiting.schedule(pcb, clock);
+                peakWaiting = Math.max(peakWaiting, waiting.size());
+            }
+        }
+
+        /**
+         * Ocupa o canal liberado com a operação que espera há mais tempo, atendida a partir de {@code tick}.
+         */
+        void startWaiting(long tick) {
+            if (!waiting.isEmpty()) {
+                long blockedAt = waiting.nextDeadline();
+                start(waiting.poll(), blockedAt, tick);
+            }
+        }
+
+        /**
+         * Atende a operação a partir do tick {@code start} (inclusive), ocupando um canal durante a espera.
+         */
+        private void start(ProcessControlBlock pcb, long blockedAt, long start) {
+            int ticks = Instruction.ioTicks(pcb.getInstructions()[pcb.getProgramCounter() - 1]);
+            int wait = ticks > 0 ? ticks : nextLatency();
+            pcb.setWaitTime(wait);
+            inService.schedule(pcb, start + wait - 1);
+
+            operations++;
+            busyTicks += wait;
+            peakInService = Math.max(peakInService, inService.size());
+            queueDelay.record(start - blockedAt);
+            latency.record(wait);
+        }
+
+        private int nextLatency() {
+            if (trace != null) {
+                int value = trace[tracePosition];
+                tracePosition = (tracePosition + 1) % trace.length;
+                return value;
+            }
+            long value;
+            switch (distribution) {
+                case FIXED:
+                    value = meanLatency;
+                    break;
+                case UNIFORM:
+                    // Entre 1 e 2 * média - 1, com a média informada.
+                    value = 1 + random.nextLong(2 * meanLatency - 1);
+                    break;
+                default:
+                    value = Math.round(-meanLatency * Math.log(1.0 - random.nextDouble()));
+                    break;
+            }
+            return (int) Math.min(Integer.MAX_VALUE, Math.max(1, value));
+        }
+    }
+}
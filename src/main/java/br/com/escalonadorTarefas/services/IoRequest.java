@@ -0,0 +1,29 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+
+/**
+ * Uma operação de E/S em andamento no {@link AsyncIoService}. É também o nó da
+ * {@link IoCompletionQueue}, de modo que concluir uma operação não aloca nada além dela.
+ * <p>
+ * Os instantes são de {@link System#nanoTime()}: submissão pelo escalonador, início do
+ * atendimento pelo dispositivo e conclusão.
+ */
+final class IoRequest {
+
+    final ProcessControlBlock pcb;
+    final long latencyNanos;
+    long submitNanos;
+    long startNanos;
+    long completeNanos;
+
+    /**
+     * Próximo nó na fila de conclusões.
+     */
+    volatile IoRequest next;
+
+    IoRequest(ProcessControlBlock pcb, long latencyNanos) {
+        this.pcb = pcb;
+        this.latencyNanos = latencyNanos;
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.escalonadorTarefas.services;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Buffer circular limitado e sem travas, com múltiplos produtores e um único consumidor,
+ * usado pelo modo assíncrono do {@link Logger}.
+ * <p>
+ * Cada posição tem um número de sequência que indica se está livre para o produtor da
+ * volta atual ou pronta para o consumidor (algoritmo de fila limitada de Vyukov). Os
+ * produtores disputam apenas um contador com CAS; o consumidor não usa operações atômicas
+ * de leitura-modificação-escrita.
+ */
+class LogRingBuffer {
+
+    private final String[] messages;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong producerPosition = new AtomicLong();
+    private long consumerPosition;
+
+    /**
+     * @param capacity Capacidade mínima; é arredondada para a próxima potência de 2.
+     */
+    LogRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.messages = new String[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Tenta inserir uma mensagem.
+     *
+     * @param message Mensagem.
+     * @return false se o buffer estiver cheio.
+     */
+    boolean offer(String message) {
+        long position = producerPosition.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (producerPosition.compareAndSet(position, position + 1)) {
+                    messages[index] = message;
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = producerPosition.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = producerPosition.get();
+            }
+        }
+    }
+
+    /**
+     * Remove a próxima mensagem. Deve ser chamado sempre pela mesma thread.
+     *
+     * @return Mensagem, ou null se o buffer estiver vazio.
+     */
+    String poll() {
+        int index = (int) consumerPosition & mask;
+        if (sequences.get(index) != consumerPosition + 1) {
+            return null;
+        }
+        String message = messages[index];
+        messages[index] = null;
+        sequences.lazySet(index, consumerPosition + mask + 1);
+        consumerPosition++;
+        return message;
+    }
+}
@@ -1,5 +1,7 @@
 package br.com.escalonadorTarefas.services;
 
+import br.com.escalonadorTarefas.enums.FlushPolicy;
+import br.com.escalonadorTarefas.models.LogSettings;
 import br.com.escalonadorTarefas.models.ProcessControlBlock;
 import lombok.Getter;
 
@@ -7,6 +9,13 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Classe responsável por registrar eventos do escalonador em um arquivo de log.
@@ -14,10 +23,23 @@ import java.io.IOException;
  * O nome do arquivo de log é gerado com base no valor do quantum e um timestamp,
  * para evitar sobrescrita de logs quando rodamos várias vezes.
  * <p>
- * Os arquivos de log serão criados no diretório "src/main/resources/logs".
+ * Os arquivos de log são criados no diretório "src/main/resources/logs" (ou no diretório
+ * configurado em {@link LogSettings#getDirectory()}).
+ * <p>
+ * A escrita pode ser síncrona (padrão) ou assíncrona, em que os eventos entram em um
+ * buffer circular sem travas e uma thread de fundo os grava em lotes. A frequência de
+ * descarga no disco segue a {@link FlushPolicy} configurada em {@link LogSettings}.
  */
 public class Logger {
 
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    /**
+     * Último timestamp usado em um nome de log (ver {@link #uniqueLogFileName(String, int)}).
+     */
+    private static long lastTimestamp;
+
     /**
      * Caminho completo onde o log será gravado.
      * -- GETTER --
@@ -32,6 +54,35 @@ public class Logger {
      */
     private BufferedWriter writer;
 
+    private final LogSettings settings;
+
+    /**
+     * Buffer e thread de gravação do modo assíncrono (null no modo síncrono).
+     */
+    private final LogRingBuffer ringBuffer;
+    private final Thread drainThread;
+    private volatile boolean closed;
+
+    /**
+     * Pedidos de descarga do produtor e descargas concluídas pela thread de gravação
+     * (modo assíncrono), usados por {@link #flush()} para esperar a gravação em disco.
+     */
+    private volatile long flushRequests;
+    private volatile long flushesCompleted;
+
+    /**
+     * Linhas registradas desde o início do log (inclusive antes de uma retomada); é a posição
+     * do log gravada nos checkpoints.
+     */
+    @Getter
+    private long linesWritten;
+
+    /**
+     * Estado da política de descarga; acessado apenas pela thread que grava no arquivo.
+     */
+    private int eventsSinceFlush;
+    private long lastFlushNanos = System.nanoTime();
+
     /**
      * Construtor do Logger.
      * Cria um arquivo de log dentro de "src/main/resources/logs" com nome único,
@@ -39,36 +90,266 @@ public class Logger {
      * @param quantum Valor do quantum utilizado, para inclusão no nome do arquivo de log.
      */
     public Logger(int quantum) {
-        String logsPath = "src/main/resources/logs";
+        this(quantum, LogSettings.defaults());
+    }
+
+    /**
+     * Construtor do Logger com modo de escrita, política de descarga e diretório configuráveis.
+     * Cria um arquivo de log com nome único no diretório de {@code settings}.
+     *
+     * @param quantum  Valor do quantum utilizado, para inclusão no nome do arquivo de log.
+     * @param settings Modo (síncrono/assíncrono), política de descarga e diretório.
+     */
+    public Logger(int quantum, LogSettings settings) {
+        this(uniqueLogFileName(settings.getDirectory(), quantum), settings, false);
+    }
+
+    /**
+     * Construtor interno que abre (ou continua, com {@code append}) um arquivo de log.
+     */
+    private Logger(String logFileName, LogSettings settings, boolean append) {
+        this.logFileName = logFileName;
+        this.settings = settings;
 
-        File dirLogs = new File(logsPath);
+        try {
+            this.writer = new BufferedWriter(new FileWriter(logFileName, append), WRITE_BUFFER_SIZE);
+        } catch (IOException e) {
+            System.err.println("Erro ao criar o arquivo de log: " + e.getMessage());
+        }
+
+        if (settings.isAsync() && writer != null) {
+            this.ringBuffer = new LogRingBuffer(settings.getRingCapacity());
+            this.drainThread = startDrainThread("logger-" + new File(logFileName).getName());
+        } else {
+            this.ringBuffer = null;
+            this.drainThread = null;
+        }
+    }
+
+    /**
+     * Gera um nome único em "src/main/resources/logs", criando o diretório se necessário.
+     *
+     * @param quantum Valor do quantum, incluído no nome.
+     * @return Caminho do novo arquivo de log.
+     */
+    public static String uniqueLogFileName(int quantum) {
+        return uniqueLogFileName(LogSettings.defaults().getDirectory(), quantum);
+    }
+
+    /**
+     * Gera um nome único no diretório informado, criando-o se necessário. O timestamp nunca se
+     * repete na mesma JVM e pula arquivos já existentes, então várias simulações no mesmo
+     * processo (ex: --batch) não sobrescrevem os logs umas das outras.
+     *
+     * @param directory Diretório dos logs.
+     * @param quantum   Valor do quantum, incluído no nome.
+     * @return Caminho do novo arquivo de log.
+     */
+    public static synchronized String uniqueLogFileName(String directory, int quantum) {
+        File dirLogs = new File(directory);
         if (!dirLogs.exists()) {
             dirLogs.mkdirs();
         }
 
-        String uniqueName = String.format("log%02d_%d.txt", quantum, System.currentTimeMillis());
+        long timestamp = Math.max(System.currentTimeMillis(), lastTimestamp + 1);
+        File file;
+        while ((file = new File(dirLogs, String.format("log%02d_%d.txt", quantum, timestamp))).exists()) {
+            timestamp++;
+        }
+        lastTimestamp = timestamp;
+        return directory + File.separator + file.getName();
+    }
 
-        this.logFileName = logsPath + File.separator + uniqueName;
+    /**
+     * Construtor do Logger que escreve em um destino já aberto (ex: saída padrão ou um
+     * comparador em memória).
+     *
+     * @param out      Destino das linhas do log.
+     * @param settings Modo (síncrono/assíncrono) e política de descarga.
+     */
+    public Logger(Writer out, LogSettings settings) {
+        this.logFileName = null;
+        this.settings = settings;
+        this.writer = out instanceof BufferedWriter ? (BufferedWriter) out : new BufferedWriter(out, WRITE_BUFFER_SIZE);
+        if (settings.isAsync()) {
+            this.ringBuffer = new LogRingBuffer(settings.getRingCapacity());
+            this.drainThread = startDrainThread("logger-writer");
+        } else {
+            this.ringBuffer = null;
+            this.drainThread = null;
+        }
+    }
 
-        try {
-            this.writer = new BufferedWriter(new FileWriter(logFileName));
-        } catch (IOException e) {
-            System.err.println("Erro ao criar o arquivo de log: " + e.getMessage());
+    /**
+     * Construtor interno para um Logger sem arquivo, que descarta todos os eventos.
+     */
+    private Logger() {
+        this.logFileName = null;
+        this.settings = LogSettings.defaults();
+        this.ringBuffer = null;
+        this.drainThread = null;
+    }
+
+    /**
+     * Cria um Logger que descarta todos os eventos, útil quando apenas as
+     * estatísticas interessam (ex: varredura de quanta).
+     *
+     * @return Logger sem arquivo associado.
+     */
+    public static Logger discarding() {
+        return new Logger();
+    }
+
+    /**
+     * Reabre um log existente para continuar uma simulação retomada de um checkpoint: o
+     * arquivo é truncado logo após a linha {@code lines} (descartando o que foi gravado depois
+     * do checkpoint) e os novos eventos são acrescentados a partir daí.
+     *
+     * @param logFileName Arquivo de log da simulação original.
+     * @param lines       Linhas registradas até o checkpoint.
+     * @param settings    Modo (síncrono/assíncrono) e política de descarga.
+     * @return Logger posicionado no fim da linha {@code lines}.
+     * @throws IOException se o arquivo não puder ser lido ou tiver menos linhas que o esperado.
+     */
+    public static Logger resume(String logFileName, long lines, LogSettings settings) throws IOException {
+        truncateAfterLines(logFileName, lines);
+        Logger logger = new Logger(logFileName, settings, true);
+        logger.linesWritten = lines;
+        return logger;
+    }
+
+    private static void truncateAfterLines(String logFileName, long lines) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(logFileName),
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+            long position = 0;
+            long found = 0;
+            while (found < lines) {
+                buffer.clear();
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new IOException(String.format("O log %s tem apenas %d das %d linhas do checkpoint.",
+                            logFileName, found, lines));
+                }
+                for (int i = 0; i < read && found < lines; i++) {
+                    position++;
+                    if (buffer.get(i) == '\n') {
+                        found++;
+                    }
+                }
+            }
+            channel.truncate(position);
         }
     }
 
     /**
      * Método interno para escrever no arquivo de log.
+     * <p>
+     * No modo assíncrono a mensagem apenas entra no buffer circular; se ele estiver
+     * cheio, o produtor espera a thread de gravação liberar espaço (nenhum evento é perdido).
      *
      * @param message Mensagem a ser registrada no log.
      */
     private void log(String message) {
+        linesWritten++;
+        if (ringBuffer != null) {
+            while (!ringBuffer.offer(message)) {
+                if (closed || !drainThread.isAlive()) {
+                    return;
+                }
+                LockSupport.unpark(drainThread);
+                Thread.onSpinWait();
+            }
+            return;
+        }
         try {
             if (writer != null) {
-                writer.write(message);
-                writer.newLine();
-                writer.flush();
+                write(message);
+            }
+        } catch (IOException e) {
+            System.err.println("Erro ao escrever no arquivo de log: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Grava uma linha e aplica a política de descarga.
+     *
+     * @param message Linha a ser gravada.
+     * @throws IOException em caso de erro de escrita.
+     */
+    private void write(String message) throws IOException {
+        writer.write(message);
+        writer.newLine();
+        eventsSinceFlush++;
+
+        switch (settings.getFlushPolicy()) {
+            case EVERY_EVENT:
+                flushWriter();
+                break;
+            case EVERY_N_EVENTS:
+                if (eventsSinceFlush >= settings.getFlushEvery()) {
+                    flushWriter();
+                }
+                break;
+            case TIMED:
+                flushIfIntervalElapsed();
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void flushIfIntervalElapsed() throws IOException {
+        if (eventsSinceFlush > 0
+                && System.nanoTime() - lastFlushNanos >= TimeUnit.MILLISECONDS.toNanos(settings.getFlushIntervalMillis())) {
+            flushWriter();
+        }
+    }
+
+    private void flushWriter() throws IOException {
+        writer.flush();
+        eventsSinceFlush = 0;
+        lastFlushNanos = System.nanoTime();
+    }
+
+    private Thread startDrainThread(String name) {
+        Thread thread = new Thread(this::drainLoop, name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * Laço da thread de gravação do modo assíncrono: esvazia o buffer circular em lotes
+     * e, quando não há eventos, aguarda brevemente antes de verificar de novo.
+     */
+    private void drainLoop() {
+        try {
+            while (true) {
+                boolean stopping = closed;
+                // Lido antes de esvaziar o buffer: tudo o que o produtor registrou antes do pedido será gravado.
+                long flushRequest = flushRequests;
+                int drained = 0;
+                String message;
+                while ((message = ringBuffer.poll()) != null) {
+                    write(message);
+                    drained++;
+                }
+                if (flushRequest != flushesCompleted) {
+                    flushWriter();
+                    flushesCompleted = flushRequest;
+                }
+                if (stopping) {
+                    break;
+                }
+                if (drained == 0) {
+                    if (settings.getFlushPolicy() == FlushPolicy.TIMED) {
+                        flushIfIntervalElapsed();
+                    }
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
             }
+            writer.flush();
         } catch (IOException e) {
             System.err.println("Erro ao escrever no arquivo de log: " + e.getMessage());
         }
@@ -117,12 +398,29 @@ public class Logger {
      * @param pcb Bloco de Controle do Processo finalizado.
      */
     public void logProcessTermination(ProcessControlBlock pcb) {
-        log(String.format("%s terminado. A=%d. B=%d. C=%d. D=%d",
-                pcb.getProcessName(),
+        logProcessTermination(pcb.getProcessName(),
                 pcb.getRegisterA(),
                 pcb.getRegisterB(),
                 pcb.getRegisterC(),
-                pcb.getRegisterD()));
+                pcb.getRegisterD());
+    }
+
+    /**
+     * Registra a finalização de um processo a partir do nome e dos valores finais dos registradores.
+     *
+     * @param processName Nome do processo finalizado.
+     * @param registerA   Valor final do registrador A.
+     * @param registerB   Valor final do registrador B.
+     * @param registerC   Valor final do registrador C.
+     * @param registerD   Valor final do registrador D.
+     */
+    public void logProcessTermination(String processName, int registerA, int registerB, int registerC, int registerD) {
+        log(String.format(settings.getLocale(), "%s terminado. A=%d. B=%d. C=%d. D=%d",
+                processName,
+                registerA,
+                registerB,
+                registerC,
+                registerD));
     }
 
     /**
@@ -133,8 +431,8 @@ public class Logger {
      * @param quantum             Valor do quantum utilizado.
      */
     public void logFinalStatistics(double averageSwitches, double averageInstructions, int quantum) {
-        log(String.format("MÉDIA DE TROCAS: %.2f", averageSwitches));
-        log(String.format("MÉDIA DE INSTRUÇÕES: %.2f", averageInstructions));
+        log(String.format(settings.getLocale(), "MÉDIA DE TROCAS: %.2f", averageSwitches));
+        log(String.format(settings.getLocale(), "MÉDIA DE INSTRUÇÕES: %.2f", averageInstructions));
         log("QUANTUM: " + quantum);
     }
 
@@ -147,10 +445,46 @@ public class Logger {
         log("[ERRO] " + errorMessage);
     }
 
+    /**
+     * Descarrega no destino tudo o que já foi registrado. No modo assíncrono, pede a descarga
+     * à thread de gravação e espera até que ela esvazie o buffer e descarregue o arquivo.
+     */
+    public void flush() {
+        if (writer == null) {
+            return;
+        }
+        if (ringBuffer != null) {
+            long request = flushRequests + 1;
+            flushRequests = request;
+            while (flushesCompleted < request && drainThread.isAlive()) {
+                LockSupport.unpark(drainThread);
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            return;
+        }
+        try {
+            flushWriter();
+        } catch (IOException e) {
+            System.err.println("Erro ao escrever no arquivo de log: " + e.getMessage());
+        }
+    }
+
     /**
      * Fecha o arquivo de log, liberando os recursos de IO.
+     * <p>
+     * No modo assíncrono, espera a thread de gravação esvaziar todos os eventos
+     * ainda no buffer antes de fechar o arquivo.
      */
     public void close() {
+        if (drainThread != null) {
+            closed = true;
+            LockSupport.unpark(drainThread);
+            try {
+                drainThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
         try {
             if (writer != null) {
                 writer.close();
@@ -0,0 +1,118 @@
+package br.com.escalonadorTarefas.services;
+
+/**
+ * Histograma de valores inteiros não negativos com precisão relativa fixa, no estilo do
+ * HdrHistogram: valores até {@value #LINEAR_LIMIT} têm um balde cada; acima disso, cada
+ * potência de 2 é dividida em {@value #SUB_BUCKETS} baldes, o que limita o erro relativo
+ * dos percentis a cerca de 1,6%.
+ * <p>
+ * Todos os baldes são alocados na criação (um {@code long[]} de tamanho fixo), de modo que
+ * registrar um valor não aloca memória. Não é sincronizado: leituras feitas por outra thread
+ * durante a simulação podem ver um estado levemente defasado.
+ */
+public class LongHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_BITS = SUB_BUCKET_BITS + 1;
+    private static final int LINEAR_LIMIT = 1 << LINEAR_BITS;
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (Long.SIZE - 1 - LINEAR_BITS) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    /**
+     * Registra um valor uma vez.
+     *
+     * @param value Valor (valores negativos são tratados como 0).
+     */
+    public void record(long value) {
+        record(value, 1);
+    }
+
+    /**
+     * Registra um valor várias vezes (ex: a profundidade de uma fila durante vários ticks).
+     *
+     * @param value Valor (valores negativos são tratados como 0).
+     * @param count Número de ocorrências.
+     */
+    public void record(long value, long count) {
+        if (count <= 0) {
+            return;
+        }
+        long v = Math.max(0, value);
+        counts[indexOf(v)] += count;
+        totalCount += count;
+        sum += v * count;
+        if (v < min) {
+            min = v;
+        }
+        if (v > max) {
+            max = v;
+        }
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * @return Menor valor registrado, ou 0 se vazio.
+     */
+    public long getMin() {
+        return totalCount == 0 ? 0 : min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * @return Média exata dos valores registrados, ou 0 se vazio.
+     */
+    public double getMean() {
+        return totalCount == 0 ? 0.0 : (double) sum / totalCount;
+    }
+
+    /**
+     * @param percentile Percentil entre 0 e 100.
+     * @return Valor aproximado do percentil (o maior valor do balde correspondente, limitado ao máximo).
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(totalCount * Math.min(100.0, percentile) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(max, highestValueOf(i));
+            }
+        }
+        return max;
+    }
+
+    private static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return LINEAR_LIMIT + (exponent - LINEAR_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long highestValueOf(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int exponent = (index - LINEAR_LIMIT) / SUB_BUCKETS + LINEAR_BITS;
+        int subBucket = (index - LINEAR_LIMIT) % SUB_BUCKETS + SUB_BUCKETS;
+        int shift = exponent - SUB_BUCKET_BITS;
+        return (((long) subBucket + 1) << shift) - 1;
+    }
+}
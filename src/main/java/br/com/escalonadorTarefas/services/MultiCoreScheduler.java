@@ -0,0 +1,415 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.enums.PolicyType;
+import br.com.escalonadorTarefas.enums.ProcessState;
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+import br.com.escalonadorTarefas.models.ProcessSummary;
+import br.com.escalonadorTarefas.policies.SchedulingPolicy;
+import lombok.Getter;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * Escalonador que simula N CPUs virtuais, cada uma com sua própria fila de prontos
+ * (uma instância da política escolhida) e roubo de trabalho entre núcleos.
+ * <p>
+ * Os núcleos avançam em passo sincronizado (lockstep). A cada tick:
+ * 1) Em ordem de núcleo, cada CPU retira um processo da sua fila; CPUs ociosas roubam
+ * da fila mais cheia, começando a busca por um núcleo sorteado com a semente informada. O
+ * roubo usa {@link SchedulingPolicy#steal()}, que não altera o estado da política da vítima.
+ * 2) As fatias de execução de todos os núcleos ocupados rodam em paralelo em um
+ * {@link ForkJoinPool} (cada fatia só altera o BCP do seu processo). Quando as fatias do tick
+ * somam menos de {@link #PARALLEL_WORK} instruções (ex: Round Robin com quantum pequeno),
+ * elas rodam em sequência na thread do motor, que sai mais barato que acordar o pool.
+ * 3) Em ordem de núcleo, os resultados são efetivados: logs, estatísticas, bloqueio ou
+ * retorno à fila de prontos.
+ * 4) Os processos cuja E/S terminou voltam à fila do último núcleo em que executaram.
+ * <p>
+ * Como sorteios e efetivação acontecem sempre na mesma ordem, a mesma semente e a mesma
+ * entrada geram sempre o mesmo log; com N=1 o log é idêntico ao do {@link Scheduler}.
+ */
+public class MultiCoreScheduler implements SimulationEngine {
+
+    /**
+     * Semente padrão para a escolha das vítimas do roubo de trabalho.
+     */
+    public static final long DEFAULT_SEED = 42L;
+
+    /**
+     * Instruções somadas das fatias de um tick a partir das quais elas rodam no pool.
+     */
+    static final long PARALLEL_WORK = 8192;
+
+    private final SchedulingPolicy[] runQueues;
+    private IoDevices blockedQueue;
+    private final Consumer<ProcessControlBlock> wakeupAction = this::wakeUp;
+    @Getter
+    private final List<ProcessSummary> terminatedProcesses;
+    private final Logger logger;
+    private final SchedulerListeners listeners = new SchedulerListeners();
+    private final Random random;
+    private final ForkJoinPool pool;
+
+    /**
+     * Processo em execução em cada núcleo no tick atual, fatia concedida e resultado.
+     */
+    private final ProcessControlBlock[] running;
+    private final int[] slices;
+    private final int[] results;
+
+    @Getter
+    private long contextSwitchCount;
+    @Getter
+    private long totalQuantumExecutions;
+    @Getter
+    private long totalInstructionsInQuantums;
+    @Getter
+    private long clock;
+    /**
+     * Número de processos obtidos por roubo de trabalho.
+     */
+    @Getter
+    private long stealCount;
+
+    private int admittedCount;
+
+    /**
+     * Origem de processos admitidos sob demanda (null quando todos são adicionados antes).
+     */
+    private ProcessSource processSource;
+    private boolean retainTerminated = true;
+    @Getter
+    private int terminatedCount;
+    @Getter
+    private long totalInterruptions;
+
+    /**
+     * Construtor do escalonador multinúcleo.
+     *
+     * @param quantum    Valor do quantum de tempo (base para o tempo de E/S).
+     * @param logger     Instância do Logger para registro das atividades.
+     * @param policyType Política usada em cada fila de núcleo.
+     * @param cores      Número de CPUs virtuais.
+     * @param seed       Semente para a escolha das vítimas do roubo de trabalho.
+     */
+    public MultiCoreScheduler(int quantum, Logger logger, PolicyType policyType, int cores, long seed) {
+        if (cores < 1) {
+            throw new IllegalArgumentException("O número de núcleos deve ser pelo menos 1.");
+        }
+        this.runQueues = new SchedulingPolicy[cores];
+        for (int i = 0; i < cores; i++) {
+            runQueues[i] = policyType.create(quantum);
+        }
+        this.blockedQueue = new IoDevices(quantum);
+        this.terminatedProcesses = new LinkedList<>();
+        this.logger = logger;
+        this.random = new Random(seed);
+        this.pool = cores > 1
+                ? new ForkJoinPool(Math.min(cores, Runtime.getRuntime().availableProcessors()))
+                : null;
+        this.running = new ProcessControlBlock[cores];
+        this.slices = new int[cores];
+        this.results = new int[cores];
+    }
+
+    @Override
+    public void setProcessSource(ProcessSource source) {
+        this.processSource = source;
+    }
+
+    @Override
+    public void setRetainTerminated(boolean retain) {
+        this.retainTerminated = retain;
+    }
+
+    @Override
+    public void setIoDevices(IoDevices devices) {
+        this.blockedQueue = devices;
+    }
+
+    @Override
+    public IoDevices getIoDevices() {
+        return blockedQueue;
+    }
+
+    @Override
+    public void addListener(SchedulerListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Adiciona um processo, distribuindo as admissões entre os núcleos em rodízio.
+     *
+     * @param pcb Bloco de Controle do Processo a ser adicionado.
+     */
+    @Override
+    public void addProcess(ProcessControlBlock pcb) {
+        int core = admittedCount++ % runQueues.length;
+        pcb.setCpu(core);
+        runQueues[core].add(pcb);
+        logger.logProcessLoaded(pcb.getProcessName());
+        listeners.onProcessLoaded(clock, pcb);
+    }
+
+    @Override
+    public void execute() {
+        admitArrivals();
+        while (hasReadyProcesses() || !blockedQueue.isEmpty() || nextArrival() != Long.MAX_VALUE) {
+            int busyCores = dispatch();
+
+            if (busyCores > 0) {
+                runSlices();
+                commit();
+            } else if (nextArrival() <= blockedQueue.nextDeadline()) {
+                // Todas as CPUs ociosas até a próxima chegada: o novo processo já executa nesse tick.
+                clock = Math.max(clock, nextArrival());
+                admitArrivals();
+                continue;
+            } else {
+                // Todas as CPUs ociosas: o relógio salta direto para o próximo despertar.
+                clock = Math.max(clock, blockedQueue.nextDeadline());
+            }
+            blockedQueue.releaseExpired(clock, wakeupAction);
+            if (!listeners.isEmpty()) {
+                listeners.onTickEnd(clock, busyCores, readyCount(), blockedQueue.size());
+            }
+            clock++;
+            admitArrivals();
+        }
+    }
+
+    /**
+     * Encerra o pool das fatias paralelas; o pool vive enquanto o motor, e não apenas durante um
+     * {@link #execute()}, para que o motor possa executar de novo (ex: no {@link SchedulerService}).
+     */
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Escolhe o processo de cada núcleo para este tick: primeiro da própria fila,
+     * depois, para os núcleos ociosos, por roubo de trabalho.
+     *
+     * @return Quantidade de núcleos ocupados.
+     */
+    private int dispatch() {
+        int busyCores = 0;
+        for (int core = 0; core < runQueues.length; core++) {
+            running[core] = runQueues[core].poll();
+            if (running[core] != null) {
+                busyCores++;
+            }
+        }
+        for (int core = 0; core < runQueues.length && busyCores < runQueues.length; core++) {
+            if (running[core] == null && (running[core] = steal(core)) != null) {
+                busyCores++;
+            }
+        }
+        for (int core = 0; core < runQueues.length; core++) {
+            ProcessControlBlock pcb = running[core];
+            if (pcb != null) {
+                pcb.setCpu(core);
+                pcb.setState(ProcessState.RUNNING);
+                slices[core] = runQueues[core].quantumFor(pcb);
+            }
+        }
+        return busyCores;
+    }
+
+    /**
+     * Rouba um processo da fila mais cheia entre os outros núcleos.
+     *
+     * @param thief Núcleo ocioso.
+     * @return Processo roubado, ou null se não houver o que roubar.
+     */
+    private ProcessControlBlock steal(int thief) {
+        int cores = runQueues.length;
+        if (cores == 1) {
+            return null;
+        }
+        int start = random.nextInt(cores);
+        int victim = -1;
+        int victimSize = 0;
+        for (int i = 0; i < cores; i++) {
+            int core = (start + i) % cores;
+            int size = runQueues[core].size();
+            if (core != thief && size > victimSize) {
+                victim = core;
+                victimSize = size;
+            }
+        }
+        if (victim < 0) {
+            return null;
+        }
+        stealCount++;
+        return runQueues[victim].steal();
+    }
+
+    /**
+     * Executa as fatias de todos os núcleos ocupados, em paralelo quando há mais de um e
+     * trabalho suficiente para compensar o pool.
+     */
+    private void runSlices() {
+        if (pool == null || sliceWork() < PARALLEL_WORK) {
+            runSlices(0, running.length);
+        } else {
+            pool.invoke(new SliceTask(0, running.length));
+        }
+    }
+
+    /**
+     * @return Estimativa das instruções das fatias deste tick (a fatia ou o que resta do
+     * programa, o que for menor), parando ao alcançar {@link #PARALLEL_WORK}.
+     */
+    private long sliceWork() {
+        long work = 0;
+        for (int core = 0; core < running.length && work < PARALLEL_WORK; core++) {
+            ProcessControlBlock pcb = running[core];
+            if (pcb != null) {
+                work += Math.min(slices[core], pcb.getInstructions().length - pcb.getProgramCounter());
+            }
+        }
+        return work;
+    }
+
+    private void runSlices(int from, int to) {
+        for (int core = from; core < to; core++) {
+            if (running[core] != null) {
+                results[core] = InstructionExecutor.runSlice(running[core], slices[core]);
+            }
+        }
+    }
+
+    /**
+     * Efetiva, em ordem de núcleo, o resultado das fatias executadas neste tick.
+     */
+    private void commit() {
+        for (int core = 0; core < running.length; core++) {
+            ProcessControlBlock pcb = running[core];
+            if (pcb == null) {
+                continue;
+            }
+            running[core] = null;
+            SchedulingPolicy runQueue = runQueues[core];
+            int instructionsExecuted = InstructionExecutor.instructionsExecuted(results[core]);
+
+            contextSwitchCount++;
+            logger.logProcessExecution(pcb.getProcessName());
+            listeners.onProcessExecution(clock, pcb);
+
+            pcb.setInterruptionsCount(pcb.getInterruptionsCount() + 1);
+            totalQuantumExecutions++;
+            totalInstructionsInQuantums += instructionsExecuted;
+
+            if (InstructionExecutor.isBlockedOnIO(results[core])) {
+                runQueue.onBlocked(pcb);
+                pcb.setState(ProcessState.BLOCKED);
+                blockedQueue.block(pcb, clock);
+
+                logger.logProcessInterruption(pcb.getProcessName(), instructionsExecuted);
+                logger.logProcessIOStart(pcb.getProcessName());
+                listeners.onProcessInterruption(clock, pcb, instructionsExecuted);
+                listeners.onProcessIOStart(clock, pcb);
+
+            } else if (pcb.getProgramCounter() >= pcb.getInstructions().length) {
+                pcb.setState(ProcessState.TERMINATED);
+                logger.logProcessTermination(pcb);
+                listeners.onProcessTermination(clock, pcb);
+                recordTermination(pcb);
+
+            } else {
+                pcb.setState(ProcessState.READY);
+
+                logger.logProcessInterruption(pcb.getProcessName(), instructionsExecuted);
+                listeners.onProcessInterruption(clock, pcb, instructionsExecuted);
+
+                runQueue.onQuantumExpired(pcb);
+                runQueue.add(pcb);
+            }
+        }
+    }
+
+    /**
+     * Admite os processos da origem cujo tick de chegada já foi alcançado.
+     */
+    private void admitArrivals() {
+        while (nextArrival() <= clock) {
+            addProcess(processSource.next());
+        }
+    }
+
+    /**
+     * @return Tick da próxima chegada, ou {@link Long#MAX_VALUE} se não houver origem ou ela se esgotou.
+     */
+    private long nextArrival() {
+        return processSource == null ? Long.MAX_VALUE : processSource.nextArrival();
+    }
+
+    /**
+     * Contabiliza um processo terminado e guarda apenas o seu resumo, liberando o BCP.
+     */
+    private void recordTermination(ProcessControlBlock pcb) {
+        terminatedCount++;
+        totalInterruptions += pcb.getInterruptionsCount();
+        if (retainTerminated) {
+            terminatedProcesses.add(ProcessSummary.of(pcb, clock));
+        }
+    }
+
+    private int readyCount() {
+        int ready = 0;
+        for (SchedulingPolicy runQueue : runQueues) {
+            ready += runQueue.size();
+        }
+        return ready;
+    }
+
+    private boolean hasReadyProcesses() {
+        for (SchedulingPolicy runQueue : runQueues) {
+            if (!runQueue.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void wakeUp(ProcessControlBlock pcb) {
+        pcb.setWaitTime(0);
+        pcb.setState(ProcessState.READY);
+        runQueues[pcb.getCpu()].add(pcb);
+        listeners.onProcessWakeup(clock, pcb);
+    }
+
+    /**
+     * Divide o intervalo de núcleos ao meio até sobrar um núcleo por tarefa.
+     */
+    private class SliceTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        SliceTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                runSlices(from, to);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new SliceTask(from, middle), new SliceTask(middle, to));
+            }
+        }
+    }
+}
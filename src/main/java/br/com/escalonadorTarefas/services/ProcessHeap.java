@@ -0,0 +1,163 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Heap binário mínimo de processos, ordenado por uma chave {@code long} e, em caso de
+ * empate, pela ordem de inserção (estável).
+ * <p>
+ * Usa arrays paralelos para chaves, sequências e processos, de modo que inserir e remover
+ * não alocam objetos (apenas o crescimento amortizado dos arrays). Inserção e remoção são
+ * O(log n); consultar o menor elemento é O(1).
+ */
+public class ProcessHeap {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private long[] sequences = new long[INITIAL_CAPACITY];
+    private ProcessControlBlock[] processes = new ProcessControlBlock[INITIAL_CAPACITY];
+    private int size;
+    private long nextSequence;
+
+    /**
+     * Insere um processo com a chave informada.
+     *
+     * @param pcb Processo.
+     * @param key Chave de ordenação (menor sai primeiro).
+     */
+    public void add(ProcessControlBlock pcb, long key) {
+        if (size == processes.length) {
+            grow();
+        }
+        int i = size++;
+        keys[i] = key;
+        sequences[i] = nextSequence++;
+        processes[i] = pcb;
+        siftUp(i);
+    }
+
+    /**
+     * @return Menor chave do heap, ou {@link Long#MAX_VALUE} se estiver vazio.
+     */
+    public long peekKey() {
+        return size == 0 ? Long.MAX_VALUE : keys[0];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Remove o processo de menor chave.
+     *
+     * @return Processo removido, ou null se o heap estiver vazio.
+     */
+    public ProcessControlBlock poll() {
+        if (size == 0) {
+            return null;
+        }
+        ProcessControlBlock head = processes[0];
+        int last = --size;
+        keys[0] = keys[last];
+        sequences[0] = sequences[last];
+        processes[0] = processes[last];
+        processes[last] = null;
+        if (size > 0) {
+            siftDown(0);
+        }
+        return head;
+    }
+
+    /**
+     * @return Processos na ordem em que seriam removidos, sem alterar o heap.
+     */
+    public List<ProcessControlBlock> toSortedList() {
+        List<ProcessControlBlock> sorted = new ArrayList<>(size);
+        forEachInOrder((pcb, key) -> sorted.add(pcb));
+        return sorted;
+    }
+
+    /**
+     * Percorre os processos, com suas chaves, na ordem em que seriam removidos, sem alterar
+     * o heap (trabalha sobre uma cópia). O(n log n).
+     *
+     * @param action Ação aplicada a cada processo e sua chave.
+     */
+    public void forEachInOrder(ObjLongConsumer<ProcessControlBlock> action) {
+        ProcessHeap copy = new ProcessHeap();
+        copy.keys = Arrays.copyOf(keys, Math.max(size, 1));
+        copy.sequences = Arrays.copyOf(sequences, Math.max(size, 1));
+        copy.processes = Arrays.copyOf(processes, Math.max(size, 1));
+        copy.size = size;
+        while (!copy.isEmpty()) {
+            long key = copy.peekKey();
+            action.accept(copy.poll(), key);
+        }
+    }
+
+    private boolean less(int a, int b) {
+        return keys[a] < keys[b]
+                || (keys[a] == keys[b] && sequences[a] < sequences[b]);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!less(i, parent)) {
+                break;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                break;
+            }
+            int smallest = left;
+            int right = left + 1;
+            if (right < size && less(right, left)) {
+                smallest = right;
+            }
+            if (!less(smallest, i)) {
+                break;
+            }
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long key = keys[a];
+        keys[a] = keys[b];
+        keys[b] = key;
+
+        long sequence = sequences[a];
+        sequences[a] = sequences[b];
+        sequences[b] = sequence;
+
+        ProcessControlBlock pcb = processes[a];
+        processes[a] = processes[b];
+        processes[b] = pcb;
+    }
+
+    private void grow() {
+        int capacity = processes.length * 2;
+        keys = Arrays.copyOf(keys, capacity);
+        sequences = Arrays.copyOf(sequences, capacity);
+        processes = Arrays.copyOf(processes, capacity);
+    }
+}
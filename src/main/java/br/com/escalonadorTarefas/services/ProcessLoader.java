@@ -1,12 +1,32 @@
 package br.com.escalonadorTarefas.services;
 
 import br.com.escalonadorTarefas.models.ProcessControlBlock;
+import br.com.escalonadorTarefas.models.Program;
+import br.com.escalonadorTarefas.models.ProgramCode;
+import lombok.Getter;
 
 import java.io.BufferedReader;
-import java.io.FileReader;
-import java.nio.file.Paths;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Classe responsável por carregar os processos a partir de arquivos de texto.
@@ -14,9 +34,53 @@ import java.util.List;
  * Cada arquivo contém:
  * - Primeira linha: nome do processo.
  * - Linhas seguintes: instruções (ex: A=10, COM, E/S, SAIDA, etc.).
+ * <p>
+ * As instruções são compiladas no carregamento (ver {@link InstructionCompiler});
+ * um arquivo com instrução desconhecida é rejeitado e o processo não é carregado.
+ * <p>
+ * Além dos arquivos do diretório "inserts" do classpath, também carrega programas de
+ * qualquer diretório do sistema de arquivos ou de um único arquivo com vários programas
+ * concatenados. Nesses casos os arquivos são mapeados em memória e compilados direto dos
+ * bytes, em paralelo, sem criar Strings por linha.
+ * <p>
+ * Os métodos {@code stream*} devolvem iteradores preguiçosos, que só leem cada programa
+ * quando o escalonador precisa dele (ver {@link ProgramSource}).
+ * <p>
+ * Todos os programas carregados pela mesma instância numeram os dispositivos de E/S na mesma
+ * {@link IoDeviceTable}, que deve acompanhar os programas até o {@link IoDevices} da simulação.
  */
 public class ProcessLoader {
 
+    /**
+     * Tamanho máximo de cada janela mapeada em memória.
+     */
+    private static final long MAX_MAPPING = Integer.MAX_VALUE;
+
+    /**
+     * Índice dos programas do diretório "inserts" do classpath, gerado pelo build.
+     */
+    public static final String INSERTS_INDEX = "inserts/index";
+
+    /**
+     * Dispositivos de E/S dos programas carregados.
+     */
+    @Getter
+    private final IoDeviceTable devices;
+
+    /**
+     * Carregador com uma tabela de dispositivos de E/S própria.
+     */
+    public ProcessLoader() {
+        this(new IoDeviceTable());
+    }
+
+    /**
+     * @param devices Tabela de dispositivos de E/S do conjunto de programas carregados.
+     */
+    public ProcessLoader(IoDeviceTable devices) {
+        this.devices = devices;
+    }
+
     /**
      * Carrega os processos a partir de uma lista de nomes de arquivos.
      *
@@ -25,41 +89,402 @@ public class ProcessLoader {
      */
     public List<ProcessControlBlock> loadProcesses(List<String> fileNames) {
         List<ProcessControlBlock> processes = new ArrayList<>();
-        int processId = 1;
+        for (Program program : loadPrograms(fileNames)) {
+            processes.add(program.newProcess());
+        }
+        return processes;
+    }
 
+    /**
+     * Carrega e compila os programas a partir de uma lista de nomes de arquivos, sem criar
+     * BCPs. O resultado é imutável e pode ser compartilhado por várias simulações.
+     *
+     * @param fileNames Lista de nomes de arquivos com programas.
+     * @return Lista de programas compilados, com ids atribuídos pela ordem dos arquivos.
+     */
+    public List<Program> loadPrograms(List<String> fileNames) {
+        List<Program> programs = new ArrayList<>();
         for (String fileName : fileNames) {
-            try {
-                ClassLoader classLoader = ProcessLoader.class.getClassLoader();
-                BufferedReader reader = new BufferedReader(
-                        new FileReader(Paths.get(classLoader.getResource("inserts/" + fileName).toURI()).toFile())
-                );
-
-                String processName = reader.readLine();
-                if (processName == null) {
-                    System.err.println("Arquivo " + fileName + " não contém nome de processo.");
-                    continue;
+            Program program = loadProgram(fileName, programs.size() + 1);
+            if (program != null) {
+                programs.add(program);
+            }
+        }
+        return programs;
+    }
+
+    /**
+     * Versão preguiçosa de {@link #loadPrograms(List)}: cada arquivo só é lido e compilado
+     * quando o iterador avança até ele.
+     *
+     * @param fileNames       Lista de nomes de arquivos com programas.
+     * @param arrivalInterval Ticks entre as chegadas de programas consecutivos (0 = todos no início).
+     * @return Iterador sobre os programas compilados.
+     */
+    public Iterator<Program> streamPrograms(List<String> fileNames, long arrivalInterval) {
+        Iterator<String> names = fileNames.iterator();
+        return new LazyProgramIterator(arrivalInterval) {
+            @Override
+            Program load(int processId) {
+                while (names.hasNext()) {
+                    Program program = loadProgram(names.next(), processId);
+                    if (program != null) {
+                        return program;
+                    }
                 }
+                return null;
+            }
+        };
+    }
 
-                List<String> instructions = new ArrayList<>();
+    /**
+     * Lista, em ordem alfabética, os arquivos .txt do diretório "inserts" do classpath.
+     * <p>
+     * Usa o índice gerado no build ({@value #INSERTS_INDEX}, um nome por linha), que funciona
+     * também dentro de um jar ou de uma imagem nativa, onde o diretório não pode ser listado.
+     * Sem o índice (ex: classes compiladas pela IDE), lista o diretório se ele estiver no
+     * sistema de arquivos.
+     *
+     * @return Nomes dos arquivos (ex: "prog_01.txt").
+     * @throws IOException se não houver índice e o diretório não puder ser listado.
+     */
+    public List<String> listClasspathPrograms() throws IOException {
+        ClassLoader classLoader = ProcessLoader.class.getClassLoader();
+        InputStream index = classLoader.getResourceAsStream(INSERTS_INDEX);
+        if (index != null) {
+            List<String> fileNames = new ArrayList<>();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(index, StandardCharsets.UTF_8))) {
                 String line;
                 while ((line = reader.readLine()) != null) {
-                    instructions.add(line.trim());
+                    if (!line.isBlank()) {
+                        fileNames.add(line.trim());
+                    }
                 }
+            }
+            return fileNames;
+        }
+
+        URL directory = classLoader.getResource("inserts");
+        if (directory == null || !"file".equals(directory.getProtocol())) {
+            throw new IOException("diretório 'inserts' não encontrado no classpath");
+        }
+        File[] txtFiles;
+        try {
+            txtFiles = new File(directory.toURI()).listFiles((dir, name) -> name.toLowerCase().endsWith(".txt"));
+        } catch (URISyntaxException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        List<String> fileNames = new ArrayList<>();
+        if (txtFiles != null) {
+            for (File file : txtFiles) {
+                fileNames.add(file.getName());
+            }
+        }
+        fileNames.sort(String::compareToIgnoreCase);
+        return fileNames;
+    }
 
-                ProcessControlBlock pcb = new ProcessControlBlock();
-                pcb.setProcessId(processId++);
-                pcb.setProcessName(processName);
-                pcb.setInstructions(instructions);
-                pcb.setProgramCounter(0);
+    /**
+     * Carrega e compila um único arquivo do diretório "inserts" do classpath.
+     *
+     * @return Programa compilado, ou null se o arquivo for inválido (o erro é reportado).
+     */
+    private Program loadProgram(String fileName, int processId) {
+        try {
+            InputStream resource = ProcessLoader.class.getClassLoader().getResourceAsStream("inserts/" + fileName);
+            if (resource == null) {
+                System.err.println("Arquivo " + fileName + " não encontrado no classpath.");
+                return null;
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(resource, StandardCharsets.UTF_8));
 
-                processes.add(pcb);
-            } catch (Exception e) {
-                System.err.println("Erro ao carregar o processo do arquivo " + fileName + ": " + e.getMessage());
+            String processName = reader.readLine();
+            if (processName == null) {
+                System.err.println("Arquivo " + fileName + " não contém nome de processo.");
+                reader.close();
+                return null;
             }
+
+            List<String> instructions = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                instructions.add(line);
+            }
+            reader.close();
+
+            return new Program(processId, processName, InstructionCompiler.compile(instructions, devices));
+        } catch (Exception e) {
+            System.err.println("Erro ao carregar o processo do arquivo " + fileName + ": " + e.getMessage());
+            return null;
         }
+    }
 
-        return processes;
+    /**
+     * Carrega todos os arquivos .txt de um diretório do sistema de arquivos.
+     * <p>
+     * Os arquivos são compilados em paralelo; os ids dos processos são atribuídos depois,
+     * em ordem alfabética (sem diferenciar maiúsculas) dos nomes dos arquivos, como no
+     * carregamento a partir do classpath.
+     *
+     * @param directory Diretório com um programa por arquivo.
+     * @return Lista de programas compilados.
+     * @throws IOException se o diretório não puder ser listado.
+     */
+    public List<Program> loadDirectory(Path directory) throws IOException {
+        List<Path> files = listProgramFiles(directory);
+        ParsedProgram[] parsed = new ParsedProgram[files.size()];
+        IntStream.range(0, files.size()).parallel().forEach(i -> parsed[i] = parseFile(files.get(i)));
+        return assignProcessIds(parsed);
     }
 
-}
+    /**
+     * Versão preguiçosa de {@link #loadDirectory(Path)}: o diretório é listado no início, mas
+     * cada arquivo só é mapeado e compilado quando o iterador avança até ele.
+     *
+     * @param directory       Diretório com um programa por arquivo.
+     * @param arrivalInterval Ticks entre as chegadas de programas consecutivos (0 = todos no início).
+     * @return Iterador sobre os programas compilados.
+     * @throws IOException se o diretório não puder ser listado.
+     */
+    public Iterator<Program> streamDirectory(Path directory, long arrivalInterval) throws IOException {
+        Iterator<Path> files = listProgramFiles(directory).iterator();
+        return new LazyProgramIterator(arrivalInterval) {
+            @Override
+            Program load(int processId) {
+                while (files.hasNext()) {
+                    ParsedProgram program = parseFile(files.next());
+                    if (program != null) {
+                        return new Program(processId, program.processName, program.code);
+                    }
+                }
+                return null;
+            }
+        };
+    }
+
+    /**
+     * Carrega um único arquivo com vários programas concatenados.
+     * <p>
+     * Cada programa começa com o nome do processo e termina em uma linha em branco (ou no fim
+     * do arquivo); linhas em branco repetidas são ignoradas. O arquivo é mapeado em memória
+     * em janelas alinhadas ao fim de um programa, então pode ser maior que 2 GB. Os programas
+     * são compilados em paralelo e numerados pela ordem em que aparecem no arquivo.
+     *
+     * @param file Arquivo com os programas concatenados.
+     * @return Lista de programas compilados.
+     * @throws IOException se o arquivo não puder ser lido.
+     */
+    public List<Program> loadConcatenated(Path file) throws IOException {
+        List<ParsedProgram> parsed = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long offset = 0;
+            while (offset < size) {
+                long length = Math.min(MAX_MAPPING, size - offset);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+                int limit = (int) length;
+                if (offset + length < size) {
+                    limit = lastBlankLineEnd(buffer, limit);
+                    if (limit < 0) {
+                        throw new IOException("Programa maior que a janela de mapeamento em " + file
+                                + " (posição " + offset + ")");
+                    }
+                }
+
+                List<int[]> blocks = splitBlocks(buffer, limit);
+                ParsedProgram[] window = new ParsedProgram[blocks.size()];
+                String source = file.getFileName().toString();
+                IntStream.range(0, blocks.size()).parallel().forEach(i -> {
+                    int[] block = blocks.get(i);
+                    window[i] = parseBlock(buffer, block[0], block[1], source);
+                });
+                Collections.addAll(parsed, window);
+                offset += limit;
+            }
+        }
+        return assignProcessIds(parsed.toArray(new ParsedProgram[0]));
+    }
+
+    /**
+     * Lista os arquivos .txt de um diretório em ordem alfabética, sem diferenciar maiúsculas.
+     */
+    private static List<Path> listProgramFiles(Path directory) throws IOException {
+        try (Stream<Path> entries = Files.list(directory)) {
+            return entries
+                    .filter(path -> path.getFileName().toString().toLowerCase().endsWith(".txt"))
+                    .filter(Files::isRegularFile)
+                    .sorted((f1, f2) -> f1.getFileName().toString().compareToIgnoreCase(f2.getFileName().toString()))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Mapeia e compila um arquivo com um único programa.
+     *
+     * @return Programa compilado, ou null se o arquivo for inválido (o erro é reportado).
+     */
+    private ParsedProgram parseFile(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > MAX_MAPPING) {
+                throw new IOException("arquivo grande demais para um único programa");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return parseBlock(buffer, 0, buffer.limit(), file.getFileName().toString());
+        } catch (IOException e) {
+            System.err.println("Erro ao carregar o processo do arquivo " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
 
+    /**
+     * Compila um programa no trecho {@code [start, end)}: a primeira linha não vazia é o nome
+     * do processo e as demais são as instruções.
+     *
+     * @return Programa compilado, ou null se o trecho for inválido (o erro é reportado).
+     */
+    private ParsedProgram parseBlock(ByteBuffer buffer, int start, int end, String source) {
+        int nameStart = InstructionCompiler.skipWhitespace(buffer, start, end);
+        int nameEnd = nameStart;
+        while (nameEnd < end && buffer.get(nameEnd) != '\n') {
+            nameEnd++;
+        }
+        if (nameStart >= end) {
+            System.err.println("Arquivo " + source + " não contém nome de processo.");
+            return null;
+        }
+        String processName = InstructionCompiler.text(buffer, nameStart,
+                InstructionCompiler.trimWhitespace(buffer, nameStart, nameEnd));
+        try {
+            return new ParsedProgram(processName, InstructionCompiler.compile(buffer, nameEnd, end, devices));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Erro ao carregar o processo " + processName + " do arquivo " + source + ": "
+                    + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Divide o texto em blocos separados por linhas em branco.
+     *
+     * @return Pares {início, fim} de cada bloco não vazio.
+     */
+    private static List<int[]> splitBlocks(ByteBuffer buffer, int limit) {
+        List<int[]> blocks = new ArrayList<>();
+        int blockStart = -1;
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            boolean blank = InstructionCompiler.skipWhitespace(buffer, lineStart, lineEnd) == lineEnd;
+            if (blank && blockStart >= 0) {
+                blocks.add(new int[]{blockStart, lineStart});
+                blockStart = -1;
+            } else if (!blank && blockStart < 0) {
+                blockStart = lineStart;
+            }
+            lineStart = lineEnd + 1;
+        }
+        if (blockStart >= 0) {
+            blocks.add(new int[]{blockStart, limit});
+        }
+        return blocks;
+    }
+
+    /**
+     * Procura, de trás para frente, o fim da última linha em branco da janela, que é um
+     * ponto seguro para dividir o arquivo entre dois programas.
+     *
+     * @return Posição logo após a linha em branco, ou -1 se não houver nenhuma.
+     */
+    private static int lastBlankLineEnd(ByteBuffer buffer, int limit) {
+        int lineEnd = limit;
+        while (lineEnd > 0 && buffer.get(lineEnd - 1) != '\n') {
+            lineEnd--;
+        }
+        // lineEnd agora é o início da última linha incompleta; percorre as linhas completas anteriores.
+        while (lineEnd > 0) {
+            int lineStart = lineEnd - 1;
+            while (lineStart > 0 && buffer.get(lineStart - 1) != '\n') {
+                lineStart--;
+            }
+            if (InstructionCompiler.skipWhitespace(buffer, lineStart, lineEnd) == lineEnd) {
+                return lineEnd;
+            }
+            lineEnd = lineStart;
+        }
+        return -1;
+    }
+
+    /**
+     * Atribui ids sequenciais (a partir de 1) aos programas válidos, na ordem recebida.
+     */
+    private static List<Program> assignProcessIds(ParsedProgram[] parsed) {
+        List<Program> programs = new ArrayList<>(parsed.length);
+        int processId = 1;
+        for (ParsedProgram program : parsed) {
+            if (program != null) {
+                programs.add(new Program(processId++, program.processName, program.code));
+            }
+        }
+        return programs;
+    }
+
+    /**
+     * Programa compilado ainda sem id, produzido pelas tarefas paralelas.
+     */
+    private static final class ParsedProgram {
+        private final String processName;
+        private final ProgramCode code;
+
+        private ParsedProgram(String processName, ProgramCode code) {
+            this.processName = processName;
+            this.code = code;
+        }
+    }
+
+    /**
+     * Iterador que carrega um programa por vez, com um de antecedência, atribuindo ids
+     * sequenciais e ticks de chegada espaçados por um intervalo fixo.
+     */
+    private abstract static class LazyProgramIterator implements Iterator<Program> {
+        private final long arrivalInterval;
+        private int loaded;
+        private Program next;
+        private boolean fetched;
+
+        LazyProgramIterator(long arrivalInterval) {
+            this.arrivalInterval = arrivalInterval;
+        }
+
+        /**
+         * Carrega o próximo programa válido.
+         *
+         * @return Programa com o id informado, ou null se não houver mais programas.
+         */
+        abstract Program load(int processId);
+
+        @Override
+        public boolean hasNext() {
+            if (!fetched) {
+                next = load(loaded + 1);
+                fetched = true;
+            }
+            return next != null;
+        }
+
+        @Override
+        public Program next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Program program = next.withArrivalTick(loaded * arrivalInterval);
+            loaded++;
+            next = null;
+            fetched = false;
+            return program;
+        }
+    }
+
+}
@@ -0,0 +1,141 @@
+package br.com.escalonadorTarefas.services;
+
+import java.util.Arrays;
+
+/**
+ * Associa o pid de cada processo vivo a um slot reaproveitável, para que observadores guardem
+ * o estado dos processos em arrays primitivos (um por campo, indexados pelo slot).
+ * <p>
+ * Os pids ficam em uma tabela hash aberta (sondagem linear) e os slots de processos removidos
+ * voltam para uma pilha de livres. Slots novos são entregues em ordem crescente, então quem
+ * usa o mapa só precisa crescer os seus arrays quando o slot recebido for igual ao tamanho atual.
+ */
+class ProcessSlotMap {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int EMPTY = Integer.MIN_VALUE;
+
+    private int[] hashKeys = newHashKeys(INITIAL_CAPACITY * 2);
+    private int[] hashSlots = new int[INITIAL_CAPACITY * 2];
+    private int liveCount;
+
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int freeCount;
+    /**
+     * Slots já usados alguma vez; os próximos slots novos começam aqui.
+     */
+    private int highWater;
+
+    /**
+     * Reserva um slot para um processo recém-admitido.
+     *
+     * @param processId Pid do processo.
+     * @return Slot do processo.
+     */
+    int add(int processId) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            slot = highWater++;
+        }
+        put(processId, slot);
+        return slot;
+    }
+
+    /**
+     * @return Slot do processo, ou -1 se ele não estiver no mapa.
+     */
+    int find(int processId) {
+        int mask = hashKeys.length - 1;
+        for (int i = hash(processId) & mask; hashKeys[i] != EMPTY; i = (i + 1) & mask) {
+            if (hashKeys[i] == processId) {
+                return hashSlots[i];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Remove um processo e libera o seu slot. Os dados do slot continuam válidos até o próximo {@link #add}.
+     *
+     * @return Slot do processo removido, ou -1 se ele não estava no mapa.
+     */
+    int remove(int processId) {
+        int mask = hashKeys.length - 1;
+        int i = hash(processId) & mask;
+        while (hashKeys[i] != processId) {
+            if (hashKeys[i] == EMPTY) {
+                return -1;
+            }
+            i = (i + 1) & mask;
+        }
+        int slot = hashSlots[i];
+        liveCount--;
+
+        int gap = i;
+        for (int j = (gap + 1) & mask; hashKeys[j] != EMPTY; j = (j + 1) & mask) {
+            int home = hash(hashKeys[j]) & mask;
+            // A entrada em j pode ocupar o buraco se o seu lugar de origem não estiver entre gap e j.
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                hashKeys[gap] = hashKeys[j];
+                hashSlots[gap] = hashSlots[j];
+                gap = j;
+            }
+        }
+        hashKeys[gap] = EMPTY;
+
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        return slot;
+    }
+
+    /**
+     * @return Processos no mapa.
+     */
+    int size() {
+        return liveCount;
+    }
+
+    private void put(int processId, int slot) {
+        if ((liveCount + 1) * 2 > hashKeys.length) {
+            rehash(hashKeys.length * 2);
+        }
+        int mask = hashKeys.length - 1;
+        int i = hash(processId) & mask;
+        while (hashKeys[i] != EMPTY && hashKeys[i] != processId) {
+            i = (i + 1) & mask;
+        }
+        if (hashKeys[i] == EMPTY) {
+            liveCount++;
+        }
+        hashKeys[i] = processId;
+        hashSlots[i] = slot;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = hashKeys;
+        int[] oldSlots = hashSlots;
+        hashKeys = newHashKeys(capacity);
+        hashSlots = new int[capacity];
+        liveCount = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldSlots[i]);
+            }
+        }
+    }
+
+    private static int[] newHashKeys(int capacity) {
+        int[] keys = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        return keys;
+    }
+
+    private static int hash(int processId) {
+        int h = processId * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+
+/**
+ * Origem de processos admitidos sob demanda pelo escalonador.
+ * <p>
+ * Em vez de criar todos os BCPs antes da simulação, o escalonador consulta a origem a cada
+ * tick e só obtém um processo quando o relógio alcança o seu tick de chegada. Assim, apenas
+ * os processos vivos (e o próximo a chegar) ficam em memória.
+ * <p>
+ * Os processos devem ser entregues em ordem não decrescente de chegada.
+ */
+public interface ProcessSource {
+
+    /**
+     * @return Tick de chegada do próximo processo, ou {@link Long#MAX_VALUE} se a origem se esgotou.
+     */
+    long nextArrival();
+
+    /**
+     * Obtém o próximo processo. Só deve ser chamado quando {@link #nextArrival()} não
+     * for {@link Long#MAX_VALUE}.
+     *
+     * @return BCP do próximo processo a chegar.
+     */
+    ProcessControlBlock next();
+
+    /**
+     * @return Quantidade de processos já entregues por {@link #next()} (ou descartados por
+     * {@link ResumableProcessSource#skip(long)}); é a posição gravada no checkpoint.
+     */
+    long position();
+}
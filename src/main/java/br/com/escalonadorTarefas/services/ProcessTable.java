@@ -0,0 +1,188 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.enums.ProcessState;
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+import br.com.escalonadorTarefas.models.ProcessSummary;
+
+import java.util.Arrays;
+
+/**
+ * Tabela de processos em formato de "estrutura de arrays": cada campo do BCP é um array
+ * primitivo e cada processo ocupa um slot (o mesmo índice em todos os arrays).
+ * <p>
+ * Usada pelo {@link TableScheduler} no lugar de um objeto {@link ProcessControlBlock} por
+ * processo: as filas guardam apenas os números dos slots, o estado é um {@code byte} e os
+ * campos acessados a cada fatia ficam contíguos na memória. Slots de processos terminados
+ * são reaproveitados, então o tamanho da tabela acompanha o número de processos vivos.
+ * <p>
+ * Os arrays são acessados diretamente pelas classes do pacote, no caminho crítico.
+ */
+public class ProcessTable {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final ProcessState[] STATES = ProcessState.values();
+
+    int[] processIds = new int[INITIAL_CAPACITY];
+    String[] processNames = new String[INITIAL_CAPACITY];
+    int[][] instructions = new int[INITIAL_CAPACITY][];
+    int[][] constants = new int[INITIAL_CAPACITY][];
+    int[] programCounters = new int[INITIAL_CAPACITY];
+    int[] registersA = new int[INITIAL_CAPACITY];
+    int[] registersB = new int[INITIAL_CAPACITY];
+    int[] registersC = new int[INITIAL_CAPACITY];
+    int[] registersD = new int[INITIAL_CAPACITY];
+    byte[] states = new byte[INITIAL_CAPACITY];
+    int[] waitTimes = new int[INITIAL_CAPACITY];
+    int[] interruptions = new int[INITIAL_CAPACITY];
+    long[] arrivalTicks = new long[INITIAL_CAPACITY];
+    long[] budgets = new long[INITIAL_CAPACITY];
+    /**
+     * Tick em que um processo bloqueado deve voltar à fila de prontos.
+     */
+    long[] wakeupTicks = new long[INITIAL_CAPACITY];
+
+    /**
+     * Pilha de slots livres (liberados por processos terminados).
+     */
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int freeCount;
+    /**
+     * Slots já usados alguma vez; os próximos slots novos começam aqui.
+     */
+    private int highWater;
+    private int size;
+
+    /**
+     * Copia um BCP para um slot livre da tabela.
+     *
+     * @param pcb Processo a ser adicionado.
+     * @return Slot ocupado pelo processo.
+     */
+    public int add(ProcessControlBlock pcb) {
+        int slot = allocate();
+        processIds[slot] = pcb.getProcessId();
+        processNames[slot] = pcb.getProcessName();
+        instructions[slot] = pcb.getInstructions();
+        constants[slot] = pcb.getConstants();
+        programCounters[slot] = pcb.getProgramCounter();
+        registersA[slot] = pcb.getRegisterA();
+        registersB[slot] = pcb.getRegisterB();
+        registersC[slot] = pcb.getRegisterC();
+        registersD[slot] = pcb.getRegisterD();
+        states[slot] = (byte) (pcb.getState() == null ? ProcessState.READY : pcb.getState()).ordinal();
+        waitTimes[slot] = pcb.getWaitTime();
+        interruptions[slot] = pcb.getInterruptionsCount();
+        arrivalTicks[slot] = pcb.getArrivalTick();
+        budgets[slot] = pcb.getInstructionBudget();
+        wakeupTicks[slot] = 0;
+        size++;
+        return slot;
+    }
+
+    /**
+     * Libera o slot de um processo terminado para ser reaproveitado.
+     *
+     * @param slot Slot do processo.
+     */
+    public void remove(int slot) {
+        // Solta as referências para que o nome e o programa possam ser coletados.
+        processNames[slot] = null;
+        instructions[slot] = null;
+        constants[slot] = null;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        size--;
+    }
+
+    /**
+     * Preenche um BCP com os dados atuais de um slot (ex: para notificar observadores).
+     *
+     * @param slot   Slot do processo.
+     * @param target BCP a ser preenchido.
+     * @return O próprio {@code target}.
+     */
+    public ProcessControlBlock copyTo(int slot, ProcessControlBlock target) {
+        target.setProcessId(processIds[slot]);
+        target.setProcessName(processNames[slot]);
+        target.setInstructions(instructions[slot]);
+        target.setConstants(constants[slot]);
+        target.setProgramCounter(programCounters[slot]);
+        target.setRegisterA(registersA[slot]);
+        target.setRegisterB(registersB[slot]);
+        target.setRegisterC(registersC[slot]);
+        target.setRegisterD(registersD[slot]);
+        target.setState(getState(slot));
+        target.setWaitTime(waitTimes[slot]);
+        target.setInterruptionsCount(interruptions[slot]);
+        target.setArrivalTick(arrivalTicks[slot]);
+        target.setInstructionBudget(budgets[slot]);
+        return target;
+    }
+
+    /**
+     * @param slot            Slot de um processo que acabou de terminar.
+     * @param terminationTick Tick do término.
+     * @return Resumo do processo.
+     */
+    public ProcessSummary summary(int slot, long terminationTick) {
+        return new ProcessSummary(processIds[slot],
+                processNames[slot],
+                interruptions[slot],
+                arrivalTicks[slot],
+                terminationTick);
+    }
+
+    public int getProgramCounter(int slot) {
+        return programCounters[slot];
+    }
+
+    public void setProgramCounter(int slot, int programCounter) {
+        programCounters[slot] = programCounter;
+    }
+
+    public ProcessState getState(int slot) {
+        return STATES[states[slot]];
+    }
+
+    public void setState(int slot, ProcessState state) {
+        states[slot] = (byte) state.ordinal();
+    }
+
+    /**
+     * @return Número de processos na tabela.
+     */
+    public int size() {
+        return size;
+    }
+
+    private int allocate() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (highWater == processIds.length) {
+            grow();
+        }
+        return highWater++;
+    }
+
+    private void grow() {
+        int capacity = processIds.length * 2;
+        processIds = Arrays.copyOf(processIds, capacity);
+        processNames = Arrays.copyOf(processNames, capacity);
+        instructions = Arrays.copyOf(instructions, capacity);
+        constants = Arrays.copyOf(constants, capacity);
+        programCounters = Arrays.copyOf(programCounters, capacity);
+        registersA = Arrays.copyOf(registersA, capacity);
+        registersB = Arrays.copyOf(registersB, capacity);
+        registersC = Arrays.copyOf(registersC, capacity);
+        registersD = Arrays.copyOf(registersD, capacity);
+        states = Arrays.copyOf(states, capacity);
+        waitTimes = Arrays.copyOf(waitTimes, capacity);
+        interruptions = Arrays.copyOf(interruptions, capacity);
+        arrivalTicks = Arrays.copyOf(arrivalTicks, capacity);
+        budgets = Arrays.copyOf(budgets, capacity);
+        wakeupTicks = Arrays.copyOf(wakeupTicks, capacity);
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+import br.com.escalonadorTarefas.models.Program;
+
+import java.util.Iterator;
+
+/**
+ * {@link ResumableProcessSource} que cria os BCPs a partir de uma sequência de programas.
+ * <p>
+ * A sequência é percorrida preguiçosamente, com apenas um programa de antecedência; se o
+ * iterador carregar ou gerar os programas sob demanda (ver
+ * {@link ProcessLoader#streamDirectory(java.nio.file.Path, long)}), nada além do próximo
+ * programa é lido antes da hora.
+ * <p>
+ * Um programa com tick de chegada menor que o do anterior é tratado como se chegasse junto
+ * com ele, para manter a ordem de admissão.
+ */
+public class ProgramSource implements ResumableProcessSource {
+
+    private final Iterator<Program> programs;
+    private Program next;
+    private long lastArrival;
+    private long position;
+
+    /**
+     * @param programs Programas em ordem de chegada.
+     */
+    public ProgramSource(Iterator<Program> programs) {
+        this.programs = programs;
+        advance();
+    }
+
+    @Override
+    public long nextArrival() {
+        return next == null ? Long.MAX_VALUE : Math.max(lastArrival, next.getArrivalTick());
+    }
+
+    @Override
+    public ProcessControlBlock next() {
+        lastArrival = nextArrival();
+        ProcessControlBlock pcb = next.newProcess();
+        pcb.setArrivalTick(lastArrival);
+        advance();
+        position++;
+        return pcb;
+    }
+
+    @Override
+    public long position() {
+        return position;
+    }
+
+    @Override
+    public void skip(long count) {
+        for (long i = 0; i < count; i++) {
+            if (next == null) {
+                throw new IllegalStateException("A origem de processos tem apenas " + position
+                        + " processos, mas o checkpoint exige " + count + ".");
+            }
+            lastArrival = nextArrival();
+            advance();
+            position++;
+        }
+    }
+
+    private void advance() {
+        next = programs.hasNext() ? programs.next() : null;
+    }
+}
@@ -0,0 +1,160 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.models.Instruction;
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tabela dos programas compilados dos BCPs gravados pelo {@link SchedulerCheckpoint} e pela
+ * {@link SpillQueue}: cada programa distinto é gravado uma vez e cada BCP guarda apenas o
+ * índice do seu programa. Os BCPs criados pelo mesmo {@link br.com.escalonadorTarefas.models.Program}
+ * compartilham os arrays de instruções e de constantes, então os programas são comparados por
+ * identidade; na leitura, os BCPs de um mesmo programa voltam a compartilhar os arrays.
+ * <p>
+ * Com capacidade limitada a tabela é circular: um programa novo ocupa a posição do mais antigo,
+ * que é esquecido (e gravado de novo se reaparecer). Quem grava e quem lê fazem as mesmas
+ * inserções na mesma ordem, então chegam às mesmas posições sem gravá-las.
+ */
+final class ProgramTable {
+
+    private final int capacity;
+    private final List<int[]> instructions = new ArrayList<>();
+    private final List<int[]> constants = new ArrayList<>();
+    private final Map<int[], Integer> indexes = new IdentityHashMap<>();
+    /**
+     * Próxima posição a ser substituída quando a tabela está cheia.
+     */
+    private int next;
+
+    /**
+     * Tabela sem limite de programas (checkpoint).
+     */
+    ProgramTable() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param capacity Máximo de programas lembrados ao mesmo tempo.
+     */
+    ProgramTable(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return Índice do programa do BCP, ou -1 se ele não estiver na tabela.
+     */
+    int indexOf(ProcessControlBlock pcb) {
+        Integer index = indexes.get(pcb.getInstructions());
+        return index != null && constants.get(index) == pcb.getConstants() ? index : -1;
+    }
+
+    /**
+     * Acrescenta o programa do BCP (que não deve estar na tabela).
+     *
+     * @return Índice atribuído ao programa.
+     */
+    int add(ProcessControlBlock pcb) {
+        return add(pcb.getInstructions(), pcb.getConstants());
+    }
+
+    /**
+     * Grava o programa de um índice: instruções e constantes.
+     */
+    void writeProgram(DataOutput out, int index) throws IOException {
+        int[] code = instructions.get(index);
+        out.writeInt(code.length);
+        for (int instruction : code) {
+            out.writeInt(instruction);
+        }
+        int[] constantTable = constants.get(index);
+        out.writeInt(constantTable.length);
+        for (int constant : constantTable) {
+            out.writeInt(constant);
+        }
+    }
+
+    /**
+     * Lê um programa gravado por {@link #writeProgram} e o acrescenta à tabela.
+     *
+     * @param devices Índice atual de cada dispositivo de E/S pelo índice gravado, ou null se o
+     *                programa foi gravado nesta simulação (os índices das E/S não mudam).
+     * @return Índice atribuído ao programa.
+     * @throws IOException se uma E/S citar um dispositivo fora de {@code devices}.
+     */
+    int readProgram(DataInput in, int[] devices) throws IOException {
+        int[] code = new int[in.readInt()];
+        for (int i = 0; i < code.length; i++) {
+            code[i] = in.readInt();
+            if (devices != null && Instruction.opcode(code[i]) == Instruction.OP_IO) {
+                int device = Instruction.ioDevice(code[i]);
+                if (device >= devices.length) {
+                    throw new IOException("Dispositivo de E/S " + device + " fora da tabela do checkpoint.");
+                }
+                code[i] = Instruction.encodeIo(devices[device], Instruction.ioTicks(code[i]));
+            }
+        }
+        int constantCount = in.readInt();
+        int[] constantTable = Instruction.NO_CONSTANTS;
+        if (constantCount > 0) {
+            constantTable = new int[constantCount];
+            for (int i = 0; i < constantTable.length; i++) {
+                constantTable[i] = in.readInt();
+            }
+        }
+        return add(code, constantTable);
+    }
+
+    /**
+     * Associa ao BCP o programa de um índice lido.
+     *
+     * @throws IOException se o índice não estiver na tabela.
+     */
+    void assign(ProcessControlBlock pcb, int index) throws IOException {
+        if (index < 0 || index >= instructions.size()) {
+            throw new IOException("Programa " + index + " fora da tabela de programas.");
+        }
+        pcb.setInstructions(instructions.get(index));
+        pcb.setConstants(constants.get(index));
+    }
+
+    /**
+     * @return Programas na tabela.
+     */
+    int size() {
+        return instructions.size();
+    }
+
+    /**
+     * Esquece todos os programas (ex: quando o arquivo que os referencia recomeça vazio).
+     */
+    void clear() {
+        instructions.clear();
+        constants.clear();
+        indexes.clear();
+        next = 0;
+    }
+
+    private int add(int[] code, int[] constantTable) {
+        int index;
+        if (instructions.size() < capacity) {
+            index = instructions.size();
+            instructions.add(code);
+            constants.add(constantTable);
+        } else {
+            index = next;
+            next = (next + 1) % capacity;
+            indexes.remove(instructions.get(index), index);
+            instructions.set(index, code);
+            constants.set(index, constantTable);
+        }
+        indexes.put(code, index);
+        return index;
+    }
+}
@@ -0,0 +1,158 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.enums.PolicyType;
+import br.com.escalonadorTarefas.models.IoDeviceSettings;
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+import br.com.escalonadorTarefas.models.Program;
+import br.com.escalonadorTarefas.models.SimulationResult;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Executa a mesma carga para vários valores de quantum (1..K) em paralelo, dentro de
+ * uma única JVM.
+ * <p>
+ * Os programas são carregados e compilados uma única vez; cada simulação cria seus
+ * próprios BCPs a partir desse conjunto imutável e usa um {@link Scheduler} independente
+ * com um Logger que descarta os eventos, já que apenas as estatísticas interessam.
+ */
+public class QuantumSweep {
+
+    private final List<Program> programs;
+    private final IoDeviceTable devices;
+    private final PolicyType policyType;
+    private final List<IoDeviceSettings> ioModel;
+    private final long ioSeed;
+
+    /**
+     * @param programs   Programas compilados, compartilhados por todas as simulações.
+     * @param devices    Tabela de dispositivos de E/S com que os programas foram compilados.
+     * @param policyType Política de escalonamento usada em todas as simulações.
+     */
+    public QuantumSweep(List<Program> programs, IoDeviceTable devices, PolicyType policyType) {
+        this(programs, devices, policyType, List.of(), IoDevices.DEFAULT_SEED);
+    }
+
+    /**
+     * @param programs   Programas compilados, compartilhados por todas as simulações.
+     * @param devices    Tabela de dispositivos de E/S com que os programas foram compilados.
+     * @param policyType Política de escalonamento usada em todas as simulações.
+     * @param ioModel    Modelos dos dispositivos de E/S (vazio para o modelo padrão).
+     * @param ioSeed     Semente dos sorteios de latência, a mesma em todas as simulações.
+     */
+    public QuantumSweep(List<Program> programs, IoDeviceTable devices, PolicyType policyType,
+                        List<IoDeviceSettings> ioModel, long ioSeed) {
+        this.programs = List.copyOf(programs);
+        this.devices = devices;
+        this.policyType = policyType;
+        this.ioModel = List.copyOf(ioModel);
+        this.ioSeed = ioSeed;
+    }
+
+    /**
+     * Executa uma simulação para cada quantum de 1 a {@code maxQuantum}.
+     *
+     * @param maxQuantum Maior quantum da varredura.
+     * @param threads    Número de simulações simultâneas.
+     * @return Resultados ordenados por quantum.
+     */
+    public List<SimulationResult> run(int maxQuantum, int threads) {
+        if (maxQuantum < 1) {
+            throw new IllegalArgumentException("O quantum máximo da varredura deve ser pelo menos 1.");
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, maxQuantum)));
+        try {
+            List<Future<SimulationResult>> futures = new ArrayList<>(maxQuantum);
+            for (int quantum = 1; quantum <= maxQuantum; quantum++) {
+                int q = quantum;
+                futures.add(executor.submit(() -> simulate(q)));
+            }
+
+            List<SimulationResult> results = new ArrayList<>(maxQuantum);
+            for (Future<SimulationResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Varredura interrompida.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Erro na simulação da varredura: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Executa uma simulação completa para um quantum.
+     *
+     * @param quantum Quantum da simulação.
+     * @return Estatísticas finais.
+     */
+    public SimulationResult simulate(int quantum) {
+        Scheduler scheduler = new Scheduler(quantum, Logger.discarding(), policyType.create(quantum));
+        scheduler.setIoDevices(new IoDevices(quantum, devices, ioModel, ioSeed));
+        List<ProcessControlBlock> processes = new ArrayList<>(programs.size());
+        for (Program program : programs) {
+            ProcessControlBlock pcb = program.newProcess();
+            processes.add(pcb);
+            scheduler.addProcess(pcb);
+        }
+        scheduler.execute();
+        return SimulationResult.of(quantum,
+                processes,
+                scheduler.getTotalQuantumExecutions(),
+                scheduler.getTotalInstructionsInQuantums(),
+                scheduler.getClock());
+    }
+
+    /**
+     * Escreve os resultados em CSV (separador vírgula, ponto decimal).
+     *
+     * @param results Resultados da varredura.
+     * @param out     Destino.
+     * @throws IOException em caso de erro de escrita.
+     */
+    public static void writeCsv(List<SimulationResult> results, Writer out) throws IOException {
+        out.write("quantum,average_switches,average_instructions,total_ticks\n");
+        for (SimulationResult result : results) {
+            out.write(String.format(Locale.ROOT, "%d,%.4f,%.4f,%d%n",
+                    result.getQuantum(),
+                    result.getAverageSwitches(),
+                    result.getAverageInstructions(),
+                    result.getTotalTicks()));
+        }
+        out.flush();
+    }
+
+    /**
+     * Escreve os resultados como um array JSON.
+     *
+     * @param results Resultados da varredura.
+     * @param out     Destino.
+     * @throws IOException em caso de erro de escrita.
+     */
+    public static void writeJson(List<SimulationResult> results, Writer out) throws IOException {
+        out.write("[\n");
+        for (int i = 0; i < results.size(); i++) {
+            SimulationResult result = results.get(i);
+            out.write(String.format(Locale.ROOT,
+                    "  {\"quantum\": %d, \"averageSwitches\": %.4f, \"averageInstructions\": %.4f, \"totalTicks\": %d}%s%n",
+                    result.getQuantum(),
+                    result.getAverageSwitches(),
+                    result.getAverageInstructions(),
+                    result.getTotalTicks(),
+                    i + 1 < results.size() ? "," : ""));
+        }
+        out.write("]\n");
+        out.flush();
+    }
+}
@@ -0,0 +1,267 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.models.Program;
+import br.com.escalonadorTarefas.models.SimulationResult;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache em disco dos resultados de simulações repetidas.
+ * <p>
+ * A chave é um SHA-256 do conteúdo dos programas compilados (id, nome, chegada, orçamento de
+ * instruções e código) e da configuração que influencia o resultado (política, quantum, motor,
+ * locale). Como o conteúdo entra na chave, qualquer alteração em um arquivo de programa gera
+ * outra chave e a entrada antiga simplesmente deixa de ser usada até ser descartada.
+ * <p>
+ * Cada entrada tem um arquivo {@code <chave>.res} com as estatísticas finais e, opcionalmente,
+ * {@code <chave>.log.gz} com o log completo comprimido. A data de modificação do {@code .res}
+ * marca o último uso; ao gravar, as entradas usadas há mais tempo são removidas até o total
+ * caber em {@code maxBytes} (LRU). Arquivos são gravados em temporários e renomeados, então
+ * execuções simultâneas no mesmo diretório veem entradas completas ou nenhuma.
+ */
+public class ResultCache {
+
+    public static final int MAGIC = 0x45534343; // "ESCC"
+    public static final int VERSION = 4;
+
+    private static final String RESULT_SUFFIX = ".res";
+    private static final String LOG_SUFFIX = ".log.gz";
+
+    private final Path directory;
+    private final long maxBytes;
+
+    /**
+     * @param directory Diretório do cache (criado se não existir).
+     * @param maxBytes  Tamanho máximo somado das entradas.
+     * @throws IOException se o diretório não puder ser criado.
+     */
+    public ResultCache(Path directory, long maxBytes) throws IOException {
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("O tamanho máximo do cache deve ser positivo.");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Calcula a chave de uma simulação.
+     *
+     * @param programs      Programas, na ordem de carregamento.
+     * @param configuration Descrição de tudo o que, além dos programas, altera o resultado.
+     * @return Chave em hexadecimal.
+     */
+    public static String key(List<Program> programs, String configuration) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível.", e);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        putBytes(digest, buffer, ("v" + VERSION + ";" + configuration).getBytes(StandardCharsets.UTF_8));
+        for (Program program : programs) {
+            putInt(digest, buffer, program.getProcessId());
+            putBytes(digest, buffer, program.getProcessName().getBytes(StandardCharsets.UTF_8));
+            putInt(digest, buffer, program.getPriority());
+            putLong(digest, buffer, program.getArrivalTick());
+            putLong(digest, buffer, program.getInstructionBudget());
+            int[] instructions = program.getInstructions();
+            putInt(digest, buffer, instructions.length);
+            for (int instruction : instructions) {
+                putInt(digest, buffer, instruction);
+            }
+            int[] constants = program.getConstants();
+            putInt(digest, buffer, constants.length);
+            for (int constant : constants) {
+                putInt(digest, buffer, constant);
+            }
+        }
+        flush(digest, buffer);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Procura uma entrada e, se encontrada, a marca como usada agora.
+     *
+     * @param key Chave obtida em {@link #key}.
+     * @return Estatísticas gravadas, ou null se não houver entrada (ou ela estiver ilegível).
+     */
+    public SimulationResult get(String key) {
+        Path file = directory.resolve(key + RESULT_SUFFIX);
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return null;
+            }
+            SimulationResult result = new SimulationResult(in.readInt(), in.readDouble(), in.readDouble(),
+                    in.readLong(), in.readLong());
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return result;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            System.err.println("Entrada do cache ilegível, ignorada: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Descomprime o log de uma entrada.
+     *
+     * @param key    Chave da entrada.
+     * @param target Arquivo de destino.
+     * @return false se a entrada não guardou o log.
+     * @throws IOException em caso de erro de leitura ou escrita.
+     */
+    public boolean restoreLog(String key, Path target) throws IOException {
+        Path file = directory.resolve(key + LOG_SUFFIX);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Grava uma entrada e remove as menos usadas se o cache passar do tamanho máximo.
+     *
+     * @param key     Chave da simulação.
+     * @param result  Estatísticas finais.
+     * @param logFile Log a guardar comprimido, ou null para guardar só as estatísticas.
+     * @throws IOException em caso de erro de escrita.
+     */
+    public void put(String key, SimulationResult result, Path logFile) throws IOException {
+        if (logFile != null) {
+            Path temp = tempFile(key + LOG_SUFFIX);
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                Files.copy(logFile, out);
+            }
+            move(temp, directory.resolve(key + LOG_SUFFIX));
+        }
+
+        Path temp = tempFile(key + RESULT_SUFFIX);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(result.getQuantum());
+            out.writeDouble(result.getAverageSwitches());
+            out.writeDouble(result.getAverageInstructions());
+            out.writeLong(result.getTotalQuantumExecutions());
+            out.writeLong(result.getTotalTicks());
+        }
+        move(temp, directory.resolve(key + RESULT_SUFFIX));
+        evict();
+    }
+
+    /**
+     * Remove as entradas usadas há mais tempo até o total caber no limite.
+     */
+    private void evict() throws IOException {
+        List<Path> results = new ArrayList<>();
+        long total = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(RESULT_SUFFIX)) {
+                    results.add(file);
+                }
+                if (name.endsWith(RESULT_SUFFIX) || name.endsWith(LOG_SUFFIX)) {
+                    total += sizeOf(file);
+                }
+            }
+        }
+        if (total <= maxBytes) {
+            return;
+        }
+        results.sort(Comparator.comparingLong(ResultCache::lastModified));
+        for (Path result : results) {
+            if (total <= maxBytes) {
+                break;
+            }
+            String name = result.getFileName().toString();
+            Path log = directory.resolve(name.substring(0, name.length() - RESULT_SUFFIX.length()) + LOG_SUFFIX);
+            total -= sizeOf(result) + sizeOf(log);
+            Files.deleteIfExists(result);
+            Files.deleteIfExists(log);
+        }
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Temporário com o pid no nome, para que execuções simultâneas não colidam.
+     */
+    private Path tempFile(String name) {
+        return directory.resolve(name + "." + ProcessHandle.current().pid() + ".tmp");
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void putInt(MessageDigest digest, ByteBuffer buffer, int value) {
+        if (buffer.remaining() < Integer.BYTES) {
+            flush(digest, buffer);
+        }
+        buffer.putInt(value);
+    }
+
+    private static void putLong(MessageDigest digest, ByteBuffer buffer, long value) {
+        if (buffer.remaining() < Long.BYTES) {
+            flush(digest, buffer);
+        }
+        buffer.putLong(value);
+    }
+
+    private static void putBytes(MessageDigest digest, ByteBuffer buffer, byte[] bytes) {
+        putInt(digest, buffer, bytes.length);
+        flush(digest, buffer);
+        digest.update(bytes);
+    }
+
+    private static void flush(MessageDigest digest, ByteBuffer buffer) {
+        buffer.flip();
+        digest.update(buffer);
+        buffer.clear();
+    }
+}
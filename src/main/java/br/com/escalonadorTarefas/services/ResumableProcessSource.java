@@ -0,0 +1,18 @@
+package br.com.escalonadorTarefas.services;
+
+/**
+ * {@link ProcessSource} que pode ser reaberta e avançada até a posição gravada em um
+ * checkpoint. Origens que não se repetem (ex: os envios do {@link SchedulerService}) não
+ * implementam esta interface e não podem ser retomadas.
+ */
+public interface ResumableProcessSource extends ProcessSource {
+
+    /**
+     * Descarta os próximos processos sem criá-los, para retomar uma simulação a partir de um
+     * checkpoint com a mesma origem.
+     *
+     * @param count Quantidade de processos a descartar.
+     * @throws IllegalStateException se a origem tiver menos processos que {@code count}.
+     */
+    void skip(long count);
+}
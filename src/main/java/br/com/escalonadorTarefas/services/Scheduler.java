@@ -2,211 +2,437 @@ package br.com.escalonadorTarefas.services;
 
 import br.com.escalonadorTarefas.enums.ProcessState;
 import br.com.escalonadorTarefas.models.ProcessControlBlock;
+import br.com.escalonadorTarefas.models.ProcessSummary;
+import br.com.escalonadorTarefas.policies.RoundRobinPolicy;
+import br.com.escalonadorTarefas.policies.SchedulingPolicy;
 import lombok.Getter;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Queue;
+import java.util.function.Consumer;
 
 /**
- * Classe responsável pelo escalonamento dos processos utilizando o algoritmo Round Robin.
+ * Classe responsável pelo escalonamento dos processos. Por padrão utiliza o algoritmo
+ * Round Robin; outras políticas podem ser fornecidas via {@link SchedulingPolicy}.
  * <p>
  * Mantém:
- * - Uma fila de processos prontos (readyQueue).
- * - Uma fila de processos bloqueados (blockedQueue).
- * - Uma lista de processos terminados (terminatedProcesses) para controle e estatísticas.
+ * - Uma fila de processos prontos (readyQueue), cuja ordem é decidida pela política.
+ * - Os processos bloqueados (blockedQueue), em uma fila de despertar por dispositivo de E/S ({@link IoDevices}).
+ * - Um relógio virtual (clock), incrementado a cada passo do escalonador.
+ * - Uma lista com o resumo dos processos terminados (terminatedProcesses) para controle e estatísticas.
+ * - Opcionalmente, uma origem de processos (ProcessSource) admitidos no seu tick de chegada.
  * - Um contador de trocas de contexto (contextSwitchCount).
+ * <p>
+ * Opcionalmente, a E/S pode ser delegada a um {@link AsyncIoService}, que a conclui em tempo
+ * real em outras threads; nesse modo a fila de bloqueados não é usada.
+ * <p>
+ * Opcionalmente, a cada N ticks o estado completo pode ser entregue a uma ação de checkpoint
+ * (ver {@link SchedulerCheckpoint}), sempre no início de um passo, quando nenhum processo
+ * está em execução.
  */
-public class Scheduler {
+public class Scheduler implements SimulationEngine {
 
-    private final Queue<ProcessControlBlock> readyQueue;
-    private final Queue<ProcessControlBlock> blockedQueue;
+    private final SchedulingPolicy readyQueue;
+    private IoDevices blockedQueue;
+    private final Consumer<ProcessControlBlock> wakeupAction = this::wakeUp;
     /**
      * -- GETTER --
      *
      */
     @Getter
-    private final List<ProcessControlBlock> terminatedProcesses;
-    private final int quantum;
+    private final List<ProcessSummary> terminatedProcesses;
     private final Logger logger;
+    private final SchedulerListeners listeners = new SchedulerListeners();
+
+    /**
+     * Origem de processos admitidos sob demanda (null quando todos são adicionados antes).
+     */
+    private ProcessSource processSource;
+    private boolean retainTerminated = true;
+    @Getter
+    private int terminatedCount;
+    @Getter
+    private long totalInterruptions;
 
     /**
      * -- GETTER --
      *
      */
     @Getter
-    private int contextSwitchCount;
+    private long contextSwitchCount;
 
     /**
-     * Para estatísticas de “média de instruções por quantum”:
+     * Relógio virtual: número de passos (ticks) já concluídos pelo escalonador.
      */
     @Getter
-    private int totalQuantumExecutions = 0; //todo
+    private long clock;
+
+    /**
+     * Para estatísticas de “média de instruções por quantum”: número de fatias executadas
+     * e total de instruções executadas nelas.
+     */
     @Getter
-    private int totalInstructionsInQuantums = 0; //todo
+    private long totalQuantumExecutions = 0;
+    @Getter
+    private long totalInstructionsInQuantums = 0;
 
     /**
-     * Construtor da classe Scheduler.
+     * Ação de checkpoint periódico (null quando desativado) e o tick do próximo checkpoint.
+     */
+    private Consumer<Scheduler> checkpointAction;
+    /**
+     * E/S assíncrona (null no modo padrão, em que a E/S segue o modelo dos {@link IoDevices}).
+     */
+    private AsyncIoService asyncIo;
+    private long checkpointInterval;
+    private long nextCheckpoint;
+
+    /**
+     * Construtor da classe Scheduler, usando Round Robin.
      *
      * @param quantum Valor do quantum de tempo
      * @param logger  Instância do Logger para registro das atividades.
      */
     public Scheduler(int quantum, Logger logger) {
-        this.readyQueue = new LinkedList<>();
-        this.blockedQueue = new LinkedList<>();
+        this(quantum, logger, new RoundRobinPolicy(quantum));
+    }
+
+    /**
+     * Construtor da classe Scheduler com uma política de escalonamento específica.
+     *
+     * @param quantum Valor do quantum de tempo (base para o tempo de E/S).
+     * @param logger  Instância do Logger para registro das atividades.
+     * @param policy  Política que ordena a fila de prontos e define a fatia de cada processo.
+     */
+    public Scheduler(int quantum, Logger logger, SchedulingPolicy policy) {
+        this.readyQueue = policy;
+        this.blockedQueue = new IoDevices(quantum);
         this.terminatedProcesses = new LinkedList<>();
-        this.quantum = quantum;
         this.logger = logger;
         this.contextSwitchCount = 0;
     }
 
+    @Override
+    public void setProcessSource(ProcessSource source) {
+        this.processSource = source;
+    }
+
+    @Override
+    public void setRetainTerminated(boolean retain) {
+        this.retainTerminated = retain;
+    }
+
+    @Override
+    public void setIoDevices(IoDevices devices) {
+        this.blockedQueue = devices;
+    }
+
+    @Override
+    public IoDevices getIoDevices() {
+        return blockedQueue;
+    }
+
+    @Override
+    public void addListener(SchedulerListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Ativa o modo de E/S assíncrona: cada E/S é submetida ao serviço e o processo volta à fila
+     * de prontos no fim do tick em que a conclusão for observada.
+     *
+     * @param service Serviço de E/S; fechá-lo é responsabilidade de quem o criou.
+     */
+    public void setAsyncIo(AsyncIoService service) {
+        this.asyncIo = service;
+    }
+
+    /**
+     * Ativa checkpoints periódicos: a cada {@code interval} ticks do relógio virtual a ação
+     * recebe o escalonador em um ponto seguro (entre dois passos) para gravar o seu estado.
+     *
+     * @param interval Ticks entre checkpoints.
+     * @param action   Ação que grava o checkpoint (ex: {@link SchedulerCheckpoint#write}).
+     */
+    public void setCheckpointAction(long interval, Consumer<Scheduler> action) {
+        if (asyncIo != null) {
+            throw new IllegalStateException("Checkpoints não são suportados com E/S assíncrona.");
+        }
+        if (blockedQueue.isConfigured()) {
+            throw new IllegalStateException("Checkpoints só são suportados com o modelo de E/S padrão.");
+        }
+        if (interval < 1) {
+            throw new IllegalArgumentException("O intervalo entre checkpoints deve ser pelo menos 1 tick.");
+        }
+        this.checkpointInterval = interval;
+        this.checkpointAction = action;
+        this.nextCheckpoint = clock + interval;
+    }
+
     /**
      * Adiciona um processo à fila de prontos e registra no log.
      *
      * @param pcb Bloco de Controle do Processo a ser adicionado.
      */
+    @Override
     public void addProcess(ProcessControlBlock pcb) {
         readyQueue.add(pcb);
         logger.logProcessLoaded(pcb.getProcessName());
+        listeners.onProcessLoaded(clock, pcb);
     }
 
     /**
      * Executa o escalonador, processando os processos na fila de prontos e
-     * tratando a fila de bloqueados conforme o algoritmo Round Robin.
+     * tratando a fila de bloqueados conforme a política configurada.
      */
+    @Override
     public void execute() {
-        while (!readyQueue.isEmpty() || !blockedQueue.isEmpty()) {
+        admitArrivals();
+        while (!readyQueue.isEmpty() || !blockedQueue.isEmpty() || nextArrival() != Long.MAX_VALUE
+                || ioInFlight() > 0) {
+            if (checkpointAction != null && clock >= nextCheckpoint) {
+                checkpointAction.accept(this);
+                nextCheckpoint = clock + checkpointInterval;
+            }
             ProcessControlBlock currentProcess = readyQueue.poll();
+            int running = 0;
 
             if (currentProcess != null) {
+                running = 1;
                 contextSwitchCount++;
                 executeProcess(currentProcess);
-                decrementBlockedProcessesWaitTime();
+            } else if (ioInFlight() > 0 && nextArrival() == Long.MAX_VALUE) {
+                // CPU ociosa e só resta E/S real em andamento: espera a próxima conclusão.
+                asyncIo.awaitCompletion();
+            } else if (nextArrival() <= blockedQueue.nextDeadline()) {
+                // CPU ociosa até a próxima chegada: o novo processo já executa nesse tick.
+                clock = Math.max(clock, nextArrival());
+                admitArrivals();
+                continue;
             } else {
-                decrementBlockedProcessesWaitTime();
+                // CPU ociosa: nada acontece até o próximo despertar, então o relógio salta direto para ele.
+                clock = Math.max(clock, blockedQueue.nextDeadline());
             }
+            wakeUpBlockedProcesses();
+            if (asyncIo != null) {
+                asyncIo.drainCompletions(wakeupAction);
+            }
+            listeners.onTickEnd(clock, running, readyQueue.size(), blockedQueue.size() + ioInFlight());
+            clock++;
+            admitArrivals();
         }
     }
 
     /**
-     * Executa um processo por até 'quantum' instruções ou até que seja
-     * bloqueado (E/S) ou termine (SAIDA).
+     * Executa um processo por até 'quantum' instruções (a fatia definida pela política)
+     * ou até que seja bloqueado (E/S) ou termine (SAIDA).
      *
      * @param pcb Bloco de Controle do Processo a ser executado.
      */
     private void executeProcess(ProcessControlBlock pcb) {
         pcb.setState(ProcessState.RUNNING);
         logger.logProcessExecution(pcb.getProcessName());
+        listeners.onProcessExecution(clock, pcb);
 
-        int instructionsExecuted = 0;
-        boolean blockedOrTerminatedEarly = false; //todo
+        int result = InstructionExecutor.runSlice(pcb, readyQueue.quantumFor(pcb));
+        int instructionsExecuted = InstructionExecutor.instructionsExecuted(result);
 
-        while (instructionsExecuted < quantum && pcb.getProgramCounter() < pcb.getInstructions().size()) {
-            String instruction = pcb.getInstructions().get(pcb.getProgramCounter());
-            boolean executedNormally = executeInstruction(pcb, instruction);
+        pcb.setInterruptionsCount(pcb.getInterruptionsCount() + 1);
+        totalQuantumExecutions++;
+        totalInstructionsInQuantums += instructionsExecuted;
 
-            if (executedNormally) {
-                instructionsExecuted++;
+        if (InstructionExecutor.isBlockedOnIO(result)) {
+            readyQueue.onBlocked(pcb);
+            pcb.setState(ProcessState.BLOCKED);
+            if (asyncIo != null) {
+                asyncIo.submit(pcb);
             } else {
-                pcb.setInterruptionsCount(pcb.getInterruptionsCount() + 1);
-
-                totalQuantumExecutions++;
-                totalInstructionsInQuantums += instructionsExecuted;
-
-                pcb.setState(ProcessState.BLOCKED);
-                pcb.setWaitTime(2 * quantum);
-                blockedQueue.add(pcb);
-
-                logger.logProcessInterruption(pcb.getProcessName(), instructionsExecuted);
-                logger.logProcessIOStart(pcb.getProcessName());
-
-                blockedOrTerminatedEarly = true;
-                break;
+                // Equivale a decrementar waitTime ao fim deste tick e dos seguintes até chegar a 0.
+                blockedQueue.block(pcb, clock);
             }
-        }
 
-        if (!blockedOrTerminatedEarly) {
-            totalQuantumExecutions++;
-            totalInstructionsInQuantums += instructionsExecuted;
+            logger.logProcessInterruption(pcb.getProcessName(), instructionsExecuted);
+            logger.logProcessIOStart(pcb.getProcessName());
+            listeners.onProcessInterruption(clock, pcb, instructionsExecuted);
+            listeners.onProcessIOStart(clock, pcb);
 
-            if (pcb.getProgramCounter() >= pcb.getInstructions().size()) {
-                pcb.setInterruptionsCount(pcb.getInterruptionsCount() + 1);
-                pcb.setState(ProcessState.TERMINATED);
-                logger.logProcessTermination(pcb);
-                terminatedProcesses.add(pcb);
+        } else if (pcb.getProgramCounter() >= pcb.getInstructions().length) {
+            pcb.setState(ProcessState.TERMINATED);
+            logger.logProcessTermination(pcb);
+            listeners.onProcessTermination(clock, pcb);
+            recordTermination(pcb);
 
-            } else {
-                pcb.setInterruptionsCount(pcb.getInterruptionsCount() + 1);
-                pcb.setState(ProcessState.READY);
+        } else {
+            pcb.setState(ProcessState.READY);
 
-                logger.logProcessInterruption(pcb.getProcessName(), instructionsExecuted);
+            logger.logProcessInterruption(pcb.getProcessName(), instructionsExecuted);
+            listeners.onProcessInterruption(clock, pcb, instructionsExecuted);
 
-                readyQueue.add(pcb);
-            }
+            readyQueue.onQuantumExpired(pcb);
+            readyQueue.add(pcb);
         }
     }
 
     /**
-     * Executa a instrução atual do processo, atualiza o program counter e
-     * retorna se a instrução foi executada sem entrar em E/S.
-     *
-     * @param pcb         Bloco de Controle do Processo que está sendo executado.
-     * @param instruction A instrução a ser executada.
-     * @return true se a instrução não causou E/S; false se foi uma instrução de E/S.
-     * @throws IllegalArgumentException se a instrução for desconhecida.
+     * Admite os processos da origem cujo tick de chegada já foi alcançado.
+     */
+    private void admitArrivals() {
+        while (nextArrival() <= clock) {
+            addProcess(processSource.next());
+        }
+    }
+
+    /**
+     * @return Tick da próxima chegada, ou {@link Long#MAX_VALUE} se não houver origem ou ela se esgotou.
      */
-    private boolean executeInstruction(ProcessControlBlock pcb, String instruction) {
-        if (instruction.startsWith("A=")) {
-            int value = Integer.parseInt(instruction.substring(2));
-            pcb.setRegisterA(value);
+    private long nextArrival() {
+        return processSource == null ? Long.MAX_VALUE : processSource.nextArrival();
+    }
 
-        } else if (instruction.startsWith("B=")) {
-            int value = Integer.parseInt(instruction.substring(2));
-            pcb.setRegisterB(value);
+    /**
+     * @return Operações de E/S assíncrona ainda não concluídas (0 no modo padrão).
+     */
+    private int ioInFlight() {
+        return asyncIo == null ? 0 : asyncIo.getInFlight();
+    }
 
-        } else if (instruction.startsWith("C=")) {
-            int value = Integer.parseInt(instruction.substring(2));
-            pcb.setRegisterC(value);
+    /**
+     * Contabiliza um processo terminado e guarda apenas o seu resumo, liberando o BCP.
+     */
+    private void recordTermination(ProcessControlBlock pcb) {
+        terminatedCount++;
+        totalInterruptions += pcb.getInterruptionsCount();
+        if (retainTerminated) {
+            terminatedProcesses.add(ProcessSummary.of(pcb, clock));
+        }
+    }
 
-        } else if (instruction.startsWith("D=")) {
-            int value = Integer.parseInt(instruction.substring(2));
-            pcb.setRegisterD(value);
+    /**
+     * Move para a fila de prontos os processos bloqueados cujo tempo de espera
+     * expira no tick atual, na mesma ordem em que foram bloqueados.
+     */
+    private void wakeUpBlockedProcesses() {
+        blockedQueue.releaseExpired(clock, wakeupAction);
+    }
 
-        } else if (instruction.equals("E/S")) {
-            pcb.setProgramCounter(pcb.getProgramCounter() + 1);
-            return false;
+    /**
+     * @return Posição da origem de processos, ou -1 se não houver origem.
+     */
+    long sourcePosition() {
+        return processSource == null ? -1 : processSource.position();
+    }
 
-        } else if (instruction.equals("COM")) {
+    /**
+     * Grava relógio, contadores, estado da política, a tabela de programas dos processos vivos,
+     * filas de prontos e de bloqueados (na ordem de despacho e de liberação) e os resumos dos
+     * terminados.
+     *
+     * @param out Destino do estado.
+     * @throws IOException em caso de erro de escrita.
+     */
+    void writeState(DataOutput out) throws IOException {
+        out.writeLong(clock);
+        out.writeLong(contextSwitchCount);
+        out.writeLong(totalQuantumExecutions);
+        out.writeLong(totalInstructionsInQuantums);
+        out.writeInt(terminatedCount);
+        out.writeLong(totalInterruptions);
+        out.writeLong(readyQueue.saveState());
+
+        List<ProcessControlBlock> ready = readyQueue.readyProcesses();
+        ProgramTable programs = new ProgramTable();
+        for (ProcessControlBlock pcb : ready) {
+            if (programs.indexOf(pcb) < 0) {
+                programs.add(pcb);
+            }
+        }
+        blockedQueue.forEachInOrder((pcb, deadline) -> {
+            if (programs.indexOf(pcb) < 0) {
+                programs.add(pcb);
+            }
+        });
+        out.writeInt(programs.size());
+        for (int i = 0; i < programs.size(); i++) {
+            programs.writeProgram(out, i);
+        }
 
-        } else if (instruction.equals("SAIDA")) {
-            pcb.setProgramCounter(pcb.getInstructions().size());
-            return true;
+        out.writeInt(ready.size());
+        for (ProcessControlBlock pcb : ready) {
+            SchedulerCheckpoint.writeProcess(out, pcb, programs.indexOf(pcb));
+        }
 
-        } else {
-            throw new IllegalArgumentException("Instrução desconhecida: " + instruction);
+        out.writeInt(blockedQueue.size());
+        IOException[] failure = new IOException[1];
+        blockedQueue.forEachInOrder((pcb, deadline) -> {
+            try {
+                out.writeLong(deadline);
+                SchedulerCheckpoint.writeProcess(out, pcb, programs.indexOf(pcb));
+            } catch (IOException e) {
+                failure[0] = e;
+            }
+        });
+        if (failure[0] != null) {
+            throw failure[0];
         }
 
-        pcb.setProgramCounter(pcb.getProgramCounter() + 1);
-        return true;
+        out.writeBoolean(retainTerminated);
+        if (retainTerminated) {
+            out.writeInt(terminatedProcesses.size());
+            for (ProcessSummary summary : terminatedProcesses) {
+                SchedulerCheckpoint.writeSummary(out, summary);
+            }
+        }
     }
 
     /**
-     * Decrementa o tempo de espera dos processos bloqueados e move-os para
-     * a fila de prontos se o tempo de espera expirar (chegar a 0 ou menos).
+     * Restaura o estado gravado por {@link #writeState}. Deve ser chamado em um escalonador
+     * recém-criado, com a mesma política e quantum, antes de {@link #execute()}. Os processos
+     * restaurados não são registrados de novo no log nem nos ouvintes.
+     *
+     * @param in      Origem do estado.
+     * @param devices Índice atual de cada dispositivo de E/S pelo índice gravado
+     *                (ver {@link ProgramTable#readProgram(DataInput, int[])}).
+     * @throws IOException em caso de erro de leitura.
      */
-    private void decrementBlockedProcessesWaitTime() {
-        int blockedProcessesCount = blockedQueue.size();
-        for (int i = 0; i < blockedProcessesCount; i++) {
-            ProcessControlBlock pcb = blockedQueue.poll();
-            if (pcb != null) {
-                pcb.setWaitTime(pcb.getWaitTime() - 1);
-                if (pcb.getWaitTime() <= 0) {
-                    pcb.setState(ProcessState.READY);
-                    readyQueue.add(pcb);
-                } else {
-                    blockedQueue.add(pcb);
-                }
+    void readState(DataInput in, int[] devices) throws IOException {
+        clock = in.readLong();
+        contextSwitchCount = in.readLong();
+        totalQuantumExecutions = in.readLong();
+        totalInstructionsInQuantums = in.readLong();
+        terminatedCount = in.readInt();
+        totalInterruptions = in.readLong();
+        long policyState = in.readLong();
+
+        ProgramTable programs = new ProgramTable();
+        for (int i = in.readInt(); i > 0; i--) {
+            programs.readProgram(in, devices);
+        }
+
+        for (int i = in.readInt(); i > 0; i--) {
+            readyQueue.add(SchedulerCheckpoint.readProcess(in, programs));
+        }
+        readyQueue.restoreState(policyState);
+
+        for (int i = in.readInt(); i > 0; i--) {
+            long deadline = in.readLong();
+            blockedQueue.restore(SchedulerCheckpoint.readProcess(in, programs), deadline);
+        }
+
+        retainTerminated = in.readBoolean();
+        if (retainTerminated) {
+            for (int i = in.readInt(); i > 0; i--) {
+                terminatedProcesses.add(SchedulerCheckpoint.readSummary(in));
             }
         }
     }
+
+    private void wakeUp(ProcessControlBlock pcb) {
+        pcb.setWaitTime(0);
+        pcb.setState(ProcessState.READY);
+        readyQueue.add(pcb);
+        listeners.onProcessWakeup(clock, pcb);
+    }
 }
@@ -0,0 +1,245 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.enums.PolicyType;
+import br.com.escalonadorTarefas.enums.ProcessState;
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+import br.com.escalonadorTarefas.models.ProcessSummary;
+import lombok.Getter;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * Checkpoint binário de uma simulação do {@link Scheduler}, para retomá-la após uma
+ * interrupção da JVM com exatamente o mesmo log.
+ * <p>
+ * Formato (big-endian, via {@link DataOutputStream}):
+ * - Cabeçalho: "ESCK", versão (int), política (UTF), quantum (int), arquivo de log (UTF, vazio
+ * se não houver), linhas já registradas no log (long) e posição da origem de processos (long,
+ * -1 quando todos os processos foram adicionados antes da execução).
+ * - Nomes dos dispositivos de E/S da {@link IoDeviceTable} da simulação (quantidade e UTFs, a
+ * partir do índice 1), pois as instruções compiladas guardam apenas o índice de cada nome.
+ * - Estado do escalonador (ver {@link Scheduler#writeState}): relógio, contadores, estado da
+ * política, a {@link ProgramTable} com cada programa compilado dos processos vivos uma única
+ * vez, fila de prontos na ordem de despacho, fila de bloqueados na ordem de liberação (com o
+ * tick de despertar) e os resumos dos processos terminados.
+ * - Cada BCP inclui pid, nome, estado (-1 se ainda não definido), PC, registradores, tempo de
+ * espera, interrupções, prioridade, nível MLFQ, núcleo, tick de chegada, orçamento de
+ * instruções restante e o índice do seu programa na tabela.
+ * <p>
+ * O arquivo é gravado em um temporário e renomeado, de modo que um checkpoint interrompido
+ * no meio nunca substitui o anterior. Ouvintes (métricas, trace binário) não fazem parte do
+ * checkpoint e recomeçam vazios na retomada.
+ */
+public final class SchedulerCheckpoint {
+
+    public static final int MAGIC = 0x4553434B; // "ESCK"
+    public static final int VERSION = 6;
+
+    private static final ProcessState[] STATES = ProcessState.values();
+
+    @Getter
+    private final PolicyType policyType;
+    @Getter
+    private final int quantum;
+    /**
+     * Arquivo de log da simulação original, ou null se ela não gravava log em arquivo.
+     */
+    @Getter
+    private final String logFileName;
+    @Getter
+    private final long logLines;
+    /**
+     * Processos já obtidos da origem, ou -1 se a simulação não usava uma origem.
+     */
+    @Getter
+    private final long sourcePosition;
+    /**
+     * Tabela de dispositivos da carga retomada, que recebeu os nomes gravados.
+     */
+    private final IoDeviceTable table;
+    /**
+     * Índice, em {@link #table}, de cada dispositivo gravado (pelo índice da gravação).
+     */
+    private final int[] devices;
+
+    /**
+     * Restante do arquivo (estado do escalonador), lido sob demanda em {@link #restore}.
+     */
+    private final DataInputStream state;
+
+    private SchedulerCheckpoint(PolicyType policyType, int quantum, String logFileName, long logLines,
+                                long sourcePosition, IoDeviceTable table, int[] devices, DataInputStream state) {
+        this.policyType = policyType;
+        this.quantum = quantum;
+        this.logFileName = logFileName;
+        this.logLines = logLines;
+        this.sourcePosition = sourcePosition;
+        this.table = table;
+        this.devices = devices;
+        this.state = state;
+    }
+
+    /**
+     * Grava o estado atual do escalonador. Descarrega antes o log, para que o arquivo tenha
+     * em disco todas as linhas contadas no checkpoint.
+     *
+     * @param file       Arquivo do checkpoint (substituído atomicamente).
+     * @param scheduler  Escalonador em um ponto seguro (ver {@link Scheduler#setCheckpointAction}).
+     * @param policyType Política usada pelo escalonador.
+     * @param quantum    Quantum da simulação.
+     * @param logger     Logger da simulação.
+     * @throws IOException em caso de erro de escrita.
+     */
+    public static void write(Path file, Scheduler scheduler, PolicyType policyType, int quantum, Logger logger)
+            throws IOException {
+        logger.flush();
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(policyType.name());
+            out.writeInt(quantum);
+            out.writeUTF(logger.getLogFileName() == null ? "" : logger.getLogFileName());
+            out.writeLong(logger.getLinesWritten());
+            out.writeLong(scheduler.sourcePosition());
+            List<String> deviceNames = scheduler.getIoDevices().getTable().names();
+            out.writeInt(deviceNames.size() - 1);
+            for (String name : deviceNames.subList(1, deviceNames.size())) {
+                out.writeUTF(name);
+            }
+            scheduler.writeState(out);
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Lê um checkpoint. O cabeçalho fica disponível nos getters; o estado do escalonador é
+     * aplicado por {@link #restore(Logger)}. Os dispositivos de E/S gravados são registrados
+     * em {@code table} na ordem da gravação.
+     *
+     * @param file  Arquivo do checkpoint.
+     * @param table Tabela de dispositivos da carga retomada (os programas lidos da origem depois
+     *              do checkpoint devem ser compilados com ela).
+     * @return Checkpoint lido.
+     * @throws IOException              em caso de erro de leitura.
+     * @throws IllegalArgumentException se o arquivo não for um checkpoint suportado.
+     */
+    public static SchedulerCheckpoint read(Path file, IoDeviceTable table) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file)));
+        if (in.readInt() != MAGIC) {
+            throw new IllegalArgumentException("Arquivo não é um checkpoint do escalonador: " + file);
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Versão de checkpoint não suportada: " + version);
+        }
+        PolicyType policyType = PolicyType.valueOf(in.readUTF());
+        int quantum = in.readInt();
+        String logFileName = in.readUTF();
+        long logLines = in.readLong();
+        long sourcePosition = in.readLong();
+        int[] devices = new int[in.readInt() + 1];
+        for (int i = 1; i < devices.length; i++) {
+            devices[i] = table.indexOf(in.readUTF());
+        }
+        return new SchedulerCheckpoint(policyType, quantum, logFileName.isEmpty() ? null : logFileName,
+                logLines, sourcePosition, table, devices, in);
+    }
+
+    /**
+     * @return true se a simulação original admitia os processos de uma origem sob demanda.
+     */
+    public boolean isStreaming() {
+        return sourcePosition >= 0;
+    }
+
+    /**
+     * Cria um escalonador com a política e o quantum do checkpoint e restaura o seu estado.
+     * Se a simulação usava uma origem de processos, a nova origem deve ser avançada até
+     * {@link #getSourcePosition()} (ver {@link ResumableProcessSource#skip(long)}) antes de ser associada.
+     *
+     * @param logger Logger que continua o log original (ver {@link Logger#resume}).
+     * @return Escalonador pronto para {@link Scheduler#execute()}.
+     * @throws IOException em caso de erro de leitura.
+     */
+    public Scheduler restore(Logger logger) throws IOException {
+        Scheduler scheduler = new Scheduler(quantum, logger, policyType.create(quantum));
+        scheduler.setIoDevices(new IoDevices(quantum, table));
+        scheduler.readState(state, devices);
+        return scheduler;
+    }
+
+    /**
+     * @param program Índice do programa do BCP na {@link ProgramTable} gravada antes.
+     */
+    static void writeProcess(DataOutput out, ProcessControlBlock pcb, int program) throws IOException {
+        out.writeInt(pcb.getProcessId());
+        out.writeUTF(pcb.getProcessName());
+        out.writeByte(pcb.getState() == null ? -1 : pcb.getState().ordinal());
+        out.writeInt(pcb.getProgramCounter());
+        out.writeInt(pcb.getRegisterA());
+        out.writeInt(pcb.getRegisterB());
+        out.writeInt(pcb.getRegisterC());
+        out.writeInt(pcb.getRegisterD());
+        out.writeInt(pcb.getWaitTime());
+        out.writeInt(pcb.getInterruptionsCount());
+        out.writeInt(pcb.getPriority());
+        out.writeInt(pcb.getQueueLevel());
+        out.writeInt(pcb.getCpu());
+        out.writeLong(pcb.getArrivalTick());
+        out.writeLong(pcb.getInstructionBudget());
+        out.writeInt(program);
+    }
+
+    /**
+     * @param programs Tabela lida antes dos BCPs; o BCP passa a compartilhar os arrays do seu programa.
+     */
+    static ProcessControlBlock readProcess(DataInput in, ProgramTable programs) throws IOException {
+        ProcessControlBlock pcb = new ProcessControlBlock();
+        pcb.setProcessId(in.readInt());
+        pcb.setProcessName(in.readUTF());
+        byte state = in.readByte();
+        pcb.setState(state < 0 ? null : STATES[state]);
+        pcb.setProgramCounter(in.readInt());
+        pcb.setRegisterA(in.readInt());
+        pcb.setRegisterB(in.readInt());
+        pcb.setRegisterC(in.readInt());
+        pcb.setRegisterD(in.readInt());
+        pcb.setWaitTime(in.readInt());
+        pcb.setInterruptionsCount(in.readInt());
+        pcb.setPriority(in.readInt());
+        pcb.setQueueLevel(in.readInt());
+        pcb.setCpu(in.readInt());
+        pcb.setArrivalTick(in.readLong());
+        pcb.setInstructionBudget(in.readLong());
+        programs.assign(pcb, in.readInt());
+        return pcb;
+    }
+
+    static void writeSummary(DataOutput out, ProcessSummary summary) throws IOException {
+        out.writeInt(summary.getProcessId());
+        out.writeUTF(summary.getProcessName());
+        out.writeInt(summary.getInterruptionsCount());
+        out.writeLong(summary.getArrivalTick());
+        out.writeLong(summary.getTerminationTick());
+    }
+
+    static ProcessSummary readSummary(DataInput in) throws IOException {
+        return new ProcessSummary(in.readInt(), in.readUTF(), in.readInt(), in.readLong(), in.readLong());
+    }
+}
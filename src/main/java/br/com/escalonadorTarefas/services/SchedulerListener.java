@@ -0,0 +1,61 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+
+/**
+ * Observador dos eventos do escalonador, notificado nos mesmos pontos em que o
+ * {@link Logger} registra o log textual, mas com o tick do relógio virtual e o BCP completo.
+ * <p>
+ * Todos os métodos têm implementação vazia, para que cada observador trate apenas
+ * os eventos que lhe interessam. As notificações acontecem sempre na thread do escalonador.
+ */
+public interface SchedulerListener {
+
+    /**
+     * Processo carregado (admitido na fila de prontos).
+     */
+    default void onProcessLoaded(long tick, ProcessControlBlock pcb) {
+    }
+
+    /**
+     * Processo recebeu a CPU.
+     */
+    default void onProcessExecution(long tick, ProcessControlBlock pcb) {
+    }
+
+    /**
+     * Processo interrompido (fim do quantum ou E/S) após executar {@code instructionsExecuted} instruções.
+     */
+    default void onProcessInterruption(long tick, ProcessControlBlock pcb, int instructionsExecuted) {
+    }
+
+    /**
+     * Processo iniciou uma operação de E/S e foi bloqueado.
+     */
+    default void onProcessIOStart(long tick, ProcessControlBlock pcb) {
+    }
+
+    /**
+     * Processo terminou; os registradores do BCP contêm os valores finais.
+     */
+    default void onProcessTermination(long tick, ProcessControlBlock pcb) {
+    }
+
+    /**
+     * Processo terminou a E/S e voltou à fila de prontos ao fim do tick.
+     */
+    default void onProcessWakeup(long tick, ProcessControlBlock pcb) {
+    }
+
+    /**
+     * Fim de um tick do relógio virtual, depois dos despertares. Ticks em que a CPU ficou
+     * ociosa e o relógio saltou não são notificados um a um: o próximo tick informado
+     * mostra quantos se passaram.
+     *
+     * @param running Processos que executaram neste tick (núcleos ocupados).
+     * @param ready   Processos na fila de prontos.
+     * @param blocked Processos bloqueados em E/S.
+     */
+    default void onTickEnd(long tick, int running, int ready, int blocked) {
+    }
+}
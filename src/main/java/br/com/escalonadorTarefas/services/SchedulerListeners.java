@@ -0,0 +1,73 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+
+import java.util.Arrays;
+
+/**
+ * Repassa cada evento a todos os observadores registrados, na ordem de registro.
+ * <p>
+ * Usa um array simples para que a notificação não aloque iteradores no caminho crítico.
+ */
+class SchedulerListeners implements SchedulerListener {
+
+    private SchedulerListener[] listeners = new SchedulerListener[0];
+
+    void add(SchedulerListener listener) {
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+    }
+
+    boolean isEmpty() {
+        return listeners.length == 0;
+    }
+
+    @Override
+    public void onProcessLoaded(long tick, ProcessControlBlock pcb) {
+        for (SchedulerListener listener : listeners) {
+            listener.onProcessLoaded(tick, pcb);
+        }
+    }
+
+    @Override
+    public void onProcessExecution(long tick, ProcessControlBlock pcb) {
+        for (SchedulerListener listener : listeners) {
+            listener.onProcessExecution(tick, pcb);
+        }
+    }
+
+    @Override
+    public void onProcessInterruption(long tick, ProcessControlBlock pcb, int instructionsExecuted) {
+        for (SchedulerListener listener : listeners) {
+            listener.onProcessInterruption(tick, pcb, instructionsExecuted);
+        }
+    }
+
+    @Override
+    public void onProcessIOStart(long tick, ProcessControlBlock pcb) {
+        for (SchedulerListener listener : listeners) {
+            listener.onProcessIOStart(tick, pcb);
+        }
+    }
+
+    @Override
+    public void onProcessTermination(long tick, ProcessControlBlock pcb) {
+        for (SchedulerListener listener : listeners) {
+            listener.onProcessTermination(tick, pcb);
+        }
+    }
+
+    @Override
+    public void onProcessWakeup(long tick, ProcessControlBlock pcb) {
+        for (SchedulerListener listener : listeners) {
+            listener.onProcessWakeup(tick, pcb);
+        }
+    }
+
+    @Override
+    public void onTickEnd(long tick, int running, int ready, int blocked) {
+        for (SchedulerListener listener : listeners) {
+            listener.onTickEnd(tick, running, ready, blocked);
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Observador que mede, durante a simulação, os tempos de cada processo e a ocupação do
+ * sistema:
+ * - Turnaround: ticks entre a admissão e o término (inclusive).
+ * - Espera: ticks passados na fila de prontos.
+ * - Resposta: ticks entre a admissão e a primeira execução.
+ * - Utilização da CPU: ticks com processo em execução / (ticks x núcleos).
+ * - Profundidade das filas de prontos e de bloqueados, tick a tick.
+ * <p>
+ * As distribuições são guardadas em {@link LongHistogram}s e os dados de cada processo em
+ * arrays primitivos (processos vivos indexados por slot, ver {@link ProcessSlotMap}), então
+ * registrar um evento não aloca objetos, apenas cresce os arrays de forma amortizada. Os
+ * valores podem ser consultados durante a execução e exportados ao final em JSON ou CSV.
+ */
+public class SchedulerMetrics implements SchedulerListener {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int cores;
+    private final boolean retainProcesses;
+
+    private final LongHistogram turnaround = new LongHistogram();
+    private final LongHistogram waiting = new LongHistogram();
+    private final LongHistogram response = new LongHistogram();
+    private final LongHistogram readyQueueDepth = new LongHistogram();
+    private final LongHistogram blockedQueueDepth = new LongHistogram();
+
+    private long ticks;
+    private long busyTicks;
+
+    private final ProcessSlotMap slots = new ProcessSlotMap();
+
+    /**
+     * Estado dos processos vivos, por slot.
+     */
+    private long[] arrivalTicks = new long[INITIAL_CAPACITY];
+    private long[] firstRunTicks = new long[INITIAL_CAPACITY];
+    private long[] readySince = new long[INITIAL_CAPACITY];
+    private long[] blockedSince = new long[INITIAL_CAPACITY];
+    private long[] waitingTicks = new long[INITIAL_CAPACITY];
+    private long[] blockedTicks = new long[INITIAL_CAPACITY];
+
+    /**
+     * Processos terminados, em colunas (apenas se {@code retainProcesses}).
+     */
+    private int[] doneIds = new int[INITIAL_CAPACITY];
+    private String[] doneNames = new String[INITIAL_CAPACITY];
+    private long[] doneArrival = new long[INITIAL_CAPACITY];
+    private long[] doneFirstRun = new long[INITIAL_CAPACITY];
+    private long[] doneTermination = new long[INITIAL_CAPACITY];
+    private long[] doneWaiting = new long[INITIAL_CAPACITY];
+    private long[] doneBlocked = new long[INITIAL_CAPACITY];
+    private int[] doneRuns = new int[INITIAL_CAPACITY];
+    private int doneCount;
+    private long terminatedCount;
+
+    /**
+     * Métricas de um núcleo, guardando os dados de cada processo.
+     */
+    public SchedulerMetrics() {
+        this(1, true);
+    }
+
+    /**
+     * @param cores           Número de núcleos simulados (para a utilização da CPU).
+     * @param retainProcesses Se true, guarda uma linha por processo terminado para exportação;
+     *                        com cargas enormes, false mantém apenas os histogramas.
+     */
+    public SchedulerMetrics(int cores, boolean retainProcesses) {
+        this.cores = Math.max(1, cores);
+        this.retainProcesses = retainProcesses;
+    }
+
+    @Override
+    public void onProcessLoaded(long tick, ProcessControlBlock pcb) {
+        int slot = slots.add(pcb.getProcessId());
+        if (slot == arrivalTicks.length) {
+            growLive();
+        }
+        arrivalTicks[slot] = tick;
+        firstRunTicks[slot] = -1;
+        readySince[slot] = tick;
+        waitingTicks[slot] = 0;
+        blockedTicks[slot] = 0;
+    }
+
+    @Override
+    public void onProcessExecution(long tick, ProcessControlBlock pcb) {
+        int slot = slots.find(pcb.getProcessId());
+        if (slot < 0) {
+            return;
+        }
+        if (firstRunTicks[slot] < 0) {
+            firstRunTicks[slot] = tick;
+        }
+        waitingTicks[slot] += tick - readySince[slot];
+    }
+
+    @Override
+    public void onProcessInterruption(long tick, ProcessControlBlock pcb, int instructionsExecuted) {
+        int slot = slots.find(pcb.getProcessId());
+        if (slot >= 0) {
+            // Volta à fila de prontos e pode executar a partir do próximo tick (se for E/S,
+            // onProcessIOStart e onProcessWakeup ajustam).
+            readySince[slot] = tick + 1;
+        }
+    }
+
+    @Override
+    public void onProcessIOStart(long tick, ProcessControlBlock pcb) {
+        int slot = slots.find(pcb.getProcessId());
+        if (slot >= 0) {
+            blockedSince[slot] = tick + 1;
+        }
+    }
+
+    @Override
+    public void onProcessWakeup(long tick, ProcessControlBlock pcb) {
+        int slot = slots.find(pcb.getProcessId());
+        if (slot >= 0) {
+            blockedTicks[slot] += tick + 1 - blockedSince[slot];
+            readySince[slot] = tick + 1;
+        }
+    }
+
+    @Override
+    public void onProcessTermination(long tick, ProcessControlBlock pcb) {
+        int slot = slots.remove(pcb.getProcessId());
+        if (slot < 0) {
+            return;
+        }
+        long arrival = arrivalTicks[slot];
+        turnaround.record(tick + 1 - arrival);
+        waiting.record(waitingTicks[slot]);
+        response.record(firstRunTicks[slot] - arrival);
+        terminatedCount++;
+
+        if (retainProcesses) {
+            if (doneCount == doneIds.length) {
+                growDone();
+            }
+            doneIds[doneCount] = pcb.getProcessId();
+            doneNames[doneCount] = pcb.getProcessName();
+            doneArrival[doneCount] = arrival;
+            doneFirstRun[doneCount] = firstRunTicks[slot];
+            doneTermination[doneCount] = tick;
+            doneWaiting[doneCount] = waitingTicks[slot];
+            doneBlocked[doneCount] = blockedTicks[slot];
+            doneRuns[doneCount] = pcb.getInterruptionsCount();
+            doneCount++;
+        }
+    }
+
+    @Override
+    public void onTickEnd(long tick, int running, int ready, int blocked) {
+        // Ticks saltados com a CPU ociosa contam com as filas como estão agora.
+        long elapsed = tick + 1 - ticks;
+        readyQueueDepth.record(ready, elapsed);
+        blockedQueueDepth.record(blocked, elapsed);
+        busyTicks += running;
+        ticks = tick + 1;
+    }
+
+    public LongHistogram getTurnaround() {
+        return turnaround;
+    }
+
+    public LongHistogram getWaiting() {
+        return waiting;
+    }
+
+    public LongHistogram getResponse() {
+        return response;
+    }
+
+    public LongHistogram getReadyQueueDepth() {
+        return readyQueueDepth;
+    }
+
+    public LongHistogram getBlockedQueueDepth() {
+        return blockedQueueDepth;
+    }
+
+    /**
+     * @return Ticks observados até agora.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * @return Fração dos ticks de CPU (de todos os núcleos) em que algum processo executou.
+     */
+    public double getCpuUtilization() {
+        return ticks == 0 ? 0.0 : (double) busyTicks / ((double) ticks * cores);
+    }
+
+    public long getTerminatedCount() {
+        return terminatedCount;
+    }
+
+    /**
+     * @return Processos admitidos que ainda não terminaram.
+     */
+    public int getLiveCount() {
+        return slots.size();
+    }
+
+    /**
+     * Escreve as métricas globais e, se guardadas, as de cada processo, em JSON.
+     *
+     * @param out Destino.
+     * @throws IOException em caso de erro de escrita.
+     */
+    public void writeJson(Writer out) throws IOException {
+        out.write(String.format(Locale.ROOT,
+                "{%n  \"ticks\": %d,%n  \"cores\": %d,%n  \"cpuUtilization\": %.4f,%n  \"terminated\": %d,%n",
+                ticks, cores, getCpuUtilization(), terminatedCount));
+        writeHistogramJson(out, "turnaround", turnaround);
+        writeHistogramJson(out, "waiting", waiting);
+        writeHistogramJson(out, "response", response);
+        writeHistogramJson(out, "readyQueueDepth", readyQueueDepth);
+        writeHistogramJson(out, "blockedQueueDepth", blockedQueueDepth);
+        out.write("  \"processes\": [");
+        for (int i = 0; i < doneCount; i++) {
+            out.write(String.format(Locale.ROOT,
+                    "%s%n    {\"processId\": %d, \"processName\": \"%s\", \"arrival\": %d, \"firstRun\": %d, "
+                            + "\"termination\": %d, \"turnaround\": %d, \"waiting\": %d, \"response\": %d, "
+                            + "\"blocked\": %d, \"runs\": %d}",
+                    i == 0 ? "" : ",",
+                    doneIds[i], escapeJson(doneNames[i]), doneArrival[i], doneFirstRun[i], doneTermination[i],
+                    doneTermination[i] + 1 - doneArrival[i], doneWaiting[i], doneFirstRun[i] - doneArrival[i],
+                    doneBlocked[i], doneRuns[i]));
+        }
+        out.write(String.format("%n  ]%n}%n"));
+        out.flush();
+    }
+
+    /**
+     * Escreve uma linha por processo terminado em CSV (separador vírgula), na ordem de término.
+     *
+     * @param out Destino.
+     * @throws IOException em caso de erro de escrita.
+     */
+    public void writeCsv(Writer out) throws IOException {
+        out.write("process_id,process_name,arrival,first_run,termination,turnaround,waiting,response,blocked,runs\n");
+        for (int i = 0; i < doneCount; i++) {
+            out.write(String.format(Locale.ROOT, "%d,%s,%d,%d,%d,%d,%d,%d,%d,%d%n",
+                    doneIds[i], doneNames[i], doneArrival[i], doneFirstRun[i], doneTermination[i],
+                    doneTermination[i] + 1 - doneArrival[i], doneWaiting[i], doneFirstRun[i] - doneArrival[i],
+                    doneBlocked[i], doneRuns[i]));
+        }
+        out.flush();
+    }
+
+    private static void writeHistogramJson(Writer out, String name, LongHistogram histogram) throws IOException {
+        out.write(String.format(Locale.ROOT,
+                "  \"%s\": {\"count\": %d, \"min\": %d, \"mean\": %.4f, \"p50\": %d, \"p90\": %d, \"p99\": %d, "
+                        + "\"max\": %d},%n",
+                name, histogram.getTotalCount(), histogram.getMin(), histogram.getMean(),
+                histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(90),
+                histogram.getValueAtPercentile(99), histogram.getMax()));
+    }
+
+    private static String escapeJson(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private void growLive() {
+        int capacity = arrivalTicks.length * 2;
+        arrivalTicks = Arrays.copyOf(arrivalTicks, capacity);
+        firstRunTicks = Arrays.copyOf(firstRunTicks, capacity);
+        readySince = Arrays.copyOf(readySince, capacity);
+        blockedSince = Arrays.copyOf(blockedSince, capacity);
+        waitingTicks = Arrays.copyOf(waitingTicks, capacity);
+        blockedTicks = Arrays.copyOf(blockedTicks, capacity);
+    }
+
+    private void growDone() {
+        int capacity = doneIds.length * 2;
+        doneIds = Arrays.copyOf(doneIds, capacity);
+        doneNames = Arrays.copyOf(doneNames, capacity);
+        doneArrival = Arrays.copyOf(doneArrival, capacity);
+        doneFirstRun = Arrays.copyOf(doneFirstRun, capacity);
+        doneTermination = Arrays.copyOf(doneTermination, capacity);
+        doneWaiting = Arrays.copyOf(doneWaiting, capacity);
+        doneBlocked = Arrays.copyOf(doneBlocked, capacity);
+        doneRuns = Arrays.copyOf(doneRuns, capacity);
+    }
+}
@@ -0,0 +1,501 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+import br.com.escalonadorTarefas.models.TenantStatistics;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Serviço de longa duração em volta de um {@link SimulationEngine}: qualquer thread pode
+ * enviar processos com {@link #submit(String, ProcessControlBlock)} enquanto o motor executa
+ * em uma thread própria.
+ * <p>
+ * - Os envios passam por uma fila sem travas com vários produtores e um consumidor (algoritmo
+ * de Vyukov, como a {@link IoCompletionQueue}); o motor continua de uma única thread e não
+ * precisa ser thread-safe.
+ * - O motor recebe os processos como uma {@link ProcessSource}: a cada tick, enquanto houver
+ * menos de {@code maxActive} processos vivos, admite o próximo processo de um tenant abaixo da
+ * sua parte das vagas (proporcional ao peso entre os tenants com trabalho) e, entre esses, o de
+ * menor uso de CPU por peso; cada tenant mantém a ordem dos seus envios. Um tenant com mais
+ * processos vivos por peso que outro que não tem mais nada esperando fica de fora, mesmo com
+ * vagas livres. Assim, enquanto os tenants disputam o motor, os processos vivos de cada um
+ * ficam proporcionais ao peso e, como a política divide a CPU por igual entre os processos
+ * prontos (ex: Round Robin), a CPU também. Com poucas vagas (ex: 1), a proporção vem da ordem
+ * de admissão, pelo uso de CPU por peso.
+ * - Quando não há trabalho, a thread do serviço dorme até o próximo envio; o relógio virtual
+ * continua de onde parou.
+ * - {@link #shutdown()} deixa de aceitar envios, mas o serviço só termina depois de admitir e
+ * executar até o fim tudo o que já foi enviado.
+ * <p>
+ * O serviço é dono do motor e o fecha ({@link SimulationEngine#close()}) quando a sua thread
+ * termina; as estatísticas do motor continuam disponíveis depois disso.
+ * <p>
+ * O serviço numera os processos na admissão (o pid do BCP enviado é substituído), para que
+ * produtores independentes não precisem coordenar pids. Os resumos dos terminados não são
+ * guardados no motor, então a memória acompanha apenas os processos vivos e em espera.
+ */
+public class SchedulerService implements AutoCloseable {
+
+    public static final String DEFAULT_TENANT = "default";
+
+    /**
+     * Bit de encerramento em {@link #state}; os demais bits contam os envios em andamento.
+     */
+    private static final long SHUTDOWN = 1L << 62;
+
+    private final SimulationEngine engine;
+    private final int maxActive;
+    private final ConcurrentHashMap<String, Tenant> tenants = new ConcurrentHashMap<>();
+    private final SubmissionQueue submissions = new SubmissionQueue();
+    private final AtomicLong state = new AtomicLong();
+    private final AtomicLong submittedCount = new AtomicLong();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private final FairShareSource source = new FairShareSource();
+
+    private volatile Thread thread;
+    private volatile RuntimeException failure;
+    private volatile long completedCount;
+
+    /**
+     * @param engine    Motor exclusivo do serviço (não deve ser usado por outras threads).
+     * @param maxActive Máximo de processos vivos no motor; os demais esperam na fila do seu tenant.
+     * @throws IllegalArgumentException se {@code maxActive} não for positivo.
+     */
+    public SchedulerService(SimulationEngine engine, int maxActive) {
+        if (maxActive < 1) {
+            throw new IllegalArgumentException("O serviço precisa admitir ao menos um processo.");
+        }
+        this.engine = engine;
+        this.maxActive = maxActive;
+        engine.setRetainTerminated(false);
+        engine.setProcessSource(source);
+        engine.addListener(source);
+    }
+
+    /**
+     * Define o peso de um tenant na divisão da CPU (padrão 1): um tenant com peso 2 mantém
+     * no motor o dobro de processos vivos de um tenant com peso 1, e recebe o dobro de fatias,
+     * enquanto ambos têm processos esperando.
+     *
+     * @throws IllegalArgumentException se o peso não for positivo.
+     */
+    public void registerTenant(String name, int weight) {
+        if (weight < 1) {
+            throw new IllegalArgumentException("O peso de um tenant deve ser positivo: " + name);
+        }
+        tenant(name).weight = weight;
+    }
+
+    /**
+     * Inicia a thread do serviço. Envios feitos antes ficam na fila até lá.
+     */
+    public synchronized void start() {
+        if (thread != null) {
+            throw new IllegalStateException("O serviço já foi iniciado.");
+        }
+        Thread worker = new Thread(this::run, "scheduler-service");
+        worker.setDaemon(true);
+        thread = worker;
+        worker.start();
+    }
+
+    /**
+     * Envia um processo do tenant padrão.
+     */
+    public void submit(ProcessControlBlock pcb) {
+        submit(DEFAULT_TENANT, pcb);
+    }
+
+    /**
+     * Envia um processo; pode ser chamado por qualquer thread, sem travas.
+     *
+     * @param tenant Tenant dono do processo.
+     * @param pcb    Processo (passa a pertencer ao serviço).
+     * @throws IllegalStateException se o serviço já estiver encerrando.
+     */
+    public void submit(String tenant, ProcessControlBlock pcb) {
+        if ((state.incrementAndGet() & SHUTDOWN) != 0) {
+            state.decrementAndGet();
+            throw new IllegalStateException("O serviço do escalonador está encerrando e não aceita novos processos.");
+        }
+        try {
+            Tenant owner = tenant(tenant);
+            owner.submitted.incrementAndGet();
+            submittedCount.incrementAndGet();
+            submissions.offer(new Submission(owner, pcb));
+        } finally {
+            state.decrementAndGet();
+        }
+        wake();
+    }
+
+    /**
+     * Deixa de aceitar envios; os processos já enviados continuam até terminar.
+     */
+    public void shutdown() {
+        long current;
+        do {
+            current = state.get();
+        } while ((current & SHUTDOWN) == 0 && !state.compareAndSet(current, current | SHUTDOWN));
+        wake();
+    }
+
+    /**
+     * Espera o serviço terminar depois de {@link #shutdown()}.
+     *
+     * @return true se terminou dentro do prazo.
+     * @throws InterruptedException  se a espera for interrompida.
+     * @throws IllegalStateException se a thread do serviço falhou.
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        boolean done = terminated.await(timeout, unit);
+        if (failure != null) {
+            throw new IllegalStateException("O serviço do escalonador falhou: " + failure.getMessage(), failure);
+        }
+        return done;
+    }
+
+    /**
+     * Encerra o serviço e espera que todo o trabalho enviado termine.
+     *
+     * @throws IllegalStateException se a thread do serviço falhou ou se a espera foi interrompida
+     *                               (nesse caso a interrupção da thread atual é restaurada).
+     */
+    @Override
+    public void close() {
+        shutdown();
+        if (thread == null) {
+            start();
+        }
+        try {
+            awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido enquanto esperava o serviço do escalonador terminar.", e);
+        }
+    }
+
+    public long getSubmittedCount() {
+        return submittedCount.get();
+    }
+
+    public long getCompletedCount() {
+        return completedCount;
+    }
+
+    /**
+     * @return Contadores de cada tenant, em ordem alfabética.
+     */
+    public List<TenantStatistics> getTenantStatistics() {
+        List<TenantStatistics> statistics = new ArrayList<>();
+        for (Tenant tenant : tenants.values()) {
+            statistics.add(new TenantStatistics(tenant.name, tenant.weight, tenant.submitted.get(),
+                    tenant.admitted, tenant.completed, tenant.cpuTicks, tenant.busyCpuTicks(source.cpuTicks),
+                    tenant.lastCompletionTick));
+        }
+        statistics.sort((a, b) -> a.getTenant().compareTo(b.getTenant()));
+        return statistics;
+    }
+
+    private Tenant tenant(String name) {
+        return tenants.computeIfAbsent(name, Tenant::new);
+    }
+
+    private void wake() {
+        Thread worker = thread;
+        if (worker != null) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    /**
+     * Laço da thread do serviço: executa o motor enquanto houver trabalho e dorme quando não há.
+     */
+    private void run() {
+        try {
+            while (true) {
+                source.drainSubmissions();
+                if (source.hasWork()) {
+                    engine.execute();
+                    continue;
+                }
+                long current = state.get();
+                if ((current & SHUTDOWN) != 0 && current == SHUTDOWN && submissions.isEmpty()) {
+                    // Sem envios em andamento, fila vazia e motor ocioso: nada mais pode chegar.
+                    return;
+                }
+                LockSupport.park(this);
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+        } finally {
+            engine.close();
+            terminated.countDown();
+        }
+    }
+
+    /**
+     * Processo enviado por um produtor; é também o nó da {@link SubmissionQueue}.
+     */
+    private static final class Submission {
+        final Tenant tenant;
+        final ProcessControlBlock pcb;
+        volatile Submission next;
+
+        Submission(Tenant tenant, ProcessControlBlock pcb) {
+            this.tenant = tenant;
+            this.pcb = pcb;
+        }
+    }
+
+    /**
+     * Fila intrusiva de Vyukov: cada produtor faz uma troca atômica no fim da fila; apenas a
+     * thread do serviço retira.
+     */
+    private static final class SubmissionQueue {
+        private final AtomicReference<Submission> tail;
+        private Submission head;
+
+        SubmissionQueue() {
+            Submission stub = new Submission(null, null);
+            this.head = stub;
+            this.tail = new AtomicReference<>(stub);
+        }
+
+        void offer(Submission submission) {
+            Submission previous = tail.getAndSet(submission);
+            previous.next = submission;
+        }
+
+        Submission poll() {
+            Submission next = head.next;
+            if (next == null) {
+                return null;
+            }
+            head = next;
+            return next;
+        }
+
+        boolean isEmpty() {
+            return head.next == null;
+        }
+    }
+
+    /**
+     * Estado de um tenant. A fila de espera, os processos vivos e os contadores de admissão,
+     * término e CPU são alterados apenas pela thread do serviço; os envios, por qualquer produtor.
+     */
+    private static final class Tenant {
+        final String name;
+        final AtomicLong submitted = new AtomicLong();
+        final ArrayDeque<ProcessControlBlock> waiting = new ArrayDeque<>();
+        volatile int weight = 1;
+        volatile long admitted;
+        volatile long completed;
+        volatile long cpuTicks;
+        /**
+         * CPU entregue a todos os tenants nos períodos já encerrados em que este tinha processos
+         * esperando ou vivos.
+         */
+        volatile long busyCpuTicks;
+        /**
+         * Total de CPU do motor quando começou o período ocupado atual (-1 se ocioso).
+         */
+        volatile long busySince = -1;
+        /**
+         * Peso em vigor no período ocupado atual (um novo peso vale a partir do próximo).
+         */
+        int busyWeight;
+        volatile long lastCompletionTick = -1;
+        /**
+         * Processos do tenant admitidos e ainda não terminados.
+         */
+        int active;
+        /**
+         * Posição na lista de tenants da thread do serviço (-1 até o primeiro envio ser retirado).
+         */
+        int index = -1;
+
+        Tenant(String name) {
+            this.name = name;
+        }
+
+        long busyCpuTicks(long now) {
+            long since = busySince;
+            return busyCpuTicks + (since < 0 ? 0 : now - since);
+        }
+    }
+
+    /**
+     * Origem de processos do motor com fair share entre tenants, e observador que contabiliza
+     * a CPU e os términos de cada tenant. Usada apenas pela thread do serviço.
+     */
+    private final class FairShareSource implements ProcessSource, SchedulerListener {
+        private final List<Tenant> known = new ArrayList<>();
+        private final ProcessSlotMap slots = new ProcessSlotMap();
+        private Tenant[] owners = new Tenant[16];
+        private long waiting;
+        private int active;
+        /**
+         * Ticks de CPU usados por todos os tenants.
+         */
+        private volatile long cpuTicks;
+        /**
+         * Soma dos pesos dos tenants com processos esperando ou vivos.
+         */
+        private long busyWeight;
+        /**
+         * Tenant escolhido pelo último {@link #nextArrival()}, admitido pelo {@link #next()} seguinte.
+         */
+        private Tenant candidate;
+        private int nextProcessId = 1;
+        private long position;
+        /**
+         * Tick atual do motor, como visto pelos eventos.
+         */
+        private long now;
+
+        void drainSubmissions() {
+            Submission submission;
+            while ((submission = submissions.poll()) != null) {
+                Tenant tenant = submission.tenant;
+                if (tenant.index < 0) {
+                    tenant.index = known.size();
+                    known.add(tenant);
+                }
+                if (tenant.waiting.isEmpty() && tenant.active == 0) {
+                    tenant.busySince = cpuTicks;
+                    tenant.busyWeight = tenant.weight;
+                    busyWeight += tenant.busyWeight;
+                }
+                tenant.waiting.add(submission.pcb);
+                waiting++;
+            }
+        }
+
+        boolean hasWork() {
+            return waiting > 0 || active > 0;
+        }
+
+        @Override
+        public long nextArrival() {
+            drainSubmissions();
+            candidate = waiting > 0 && active < maxActive ? choose() : null;
+            return candidate != null ? now : Long.MAX_VALUE;
+        }
+
+        @Override
+        public ProcessControlBlock next() {
+            Tenant chosen = candidate != null ? candidate : choose();
+            candidate = null;
+            ProcessControlBlock pcb = chosen.waiting.poll();
+            waiting--;
+            active++;
+            chosen.active++;
+            chosen.admitted++;
+            position++;
+
+            pcb.setProcessId(nextProcessId++);
+            pcb.setArrivalTick(now);
+            int slot = slots.add(pcb.getProcessId());
+            if (slot == owners.length) {
+                owners = Arrays.copyOf(owners, owners.length * 2);
+            }
+            owners[slot] = chosen;
+            return pcb;
+        }
+
+        /**
+         * @return Tenant do próximo processo a admitir, ou null se todos os que têm processos
+         * esperando estão à frente da sua parte.
+         */
+        private Tenant choose() {
+            Tenant chosen = null;
+            for (Tenant tenant : known) {
+                if (!tenant.waiting.isEmpty() && !ahead(tenant) && (chosen == null || fairer(tenant, chosen))) {
+                    chosen = tenant;
+                }
+            }
+            return chosen;
+        }
+
+        /**
+         * Um tenant está à frente se já tem mais processos vivos por peso que outro tenant
+         * ocupado que não tem mais nada esperando: admiti-lo aumentaria a distância, mesmo com
+         * vagas livres, porque o outro não tem como acompanhar até os seus processos terminarem.
+         */
+        private boolean ahead(Tenant tenant) {
+            for (Tenant other : known) {
+                if (other != tenant && other.active > 0 && other.waiting.isEmpty()
+                        && (long) tenant.active * other.busyWeight > (long) other.active * tenant.busyWeight) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Prefere o tenant abaixo da sua parte das vagas ({@code maxActive} dividido pelos pesos
+         * dos tenants ocupados) e, entre iguais, o de menor uso de CPU por peso, comparado sem
+         * divisão: a/wa < b/wb <=> a*wb < b*wa.
+         */
+        private boolean fairer(Tenant tenant, Tenant other) {
+            boolean underShare = belowShare(tenant);
+            if (underShare != belowShare(other)) {
+                return underShare;
+            }
+            return tenant.cpuTicks * other.busyWeight < other.cpuTicks * tenant.busyWeight;
+        }
+
+        private boolean belowShare(Tenant tenant) {
+            return (long) tenant.active * busyWeight < (long) maxActive * tenant.busyWeight;
+        }
+
+        @Override
+        public long position() {
+            return position;
+        }
+
+        @Override
+        public void onProcessExecution(long tick, ProcessControlBlock pcb) {
+            int slot = slots.find(pcb.getProcessId());
+            if (slot >= 0) {
+                owners[slot].cpuTicks++;
+                cpuTicks++;
+            }
+        }
+
+        @Override
+        public void onProcessTermination(long tick, ProcessControlBlock pcb) {
+            int slot = slots.remove(pcb.getProcessId());
+            if (slot >= 0) {
+                Tenant owner = owners[slot];
+                owner.completed++;
+                owner.lastCompletionTick = tick;
+                owner.active--;
+                if (owner.active == 0 && owner.waiting.isEmpty()) {
+                    owner.busyCpuTicks += cpuTicks - owner.busySince;
+                    owner.busySince = -1;
+                    busyWeight -= owner.busyWeight;
+                }
+                owners[slot] = null;
+                active--;
+                completedCount++;
+            }
+        }
+
+        @Override
+        public void onTickEnd(long tick, int running, int ready, int blocked) {
+            now = tick + 1;
+        }
+    }
+}
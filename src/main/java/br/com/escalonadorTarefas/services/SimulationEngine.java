@@ -0,0 +1,101 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+import br.com.escalonadorTarefas.models.ProcessSummary;
+
+import java.util.List;
+
+/**
+ * Operações comuns aos motores de simulação (um núcleo ou vários), usadas pelo
+ * {@link br.com.escalonadorTarefas.Main} para carregar processos, executar e
+ * calcular as estatísticas finais.
+ * <p>
+ * {@link #execute()} pode ser chamado várias vezes (ex: pelo {@link SchedulerService}, a cada
+ * lote de envios); os recursos do motor só são liberados por {@link #close()}.
+ */
+public interface SimulationEngine extends AutoCloseable {
+
+    /**
+     * Adiciona um processo à fila de prontos e registra no log.
+     *
+     * @param pcb Bloco de Controle do Processo a ser adicionado.
+     */
+    void addProcess(ProcessControlBlock pcb);
+
+    /**
+     * Define uma origem de processos admitidos sob demanda, cada um no seu tick de chegada.
+     * A simulação só termina depois que a origem se esgota.
+     *
+     * @param source Origem dos processos.
+     */
+    void setProcessSource(ProcessSource source);
+
+    /**
+     * Define se o resumo de cada processo terminado deve ser guardado em
+     * {@link #getTerminatedProcesses()}. Com cargas muito grandes, desligar mantém a memória
+     * proporcional apenas aos processos vivos; os totais continuam disponíveis.
+     *
+     * @param retain true (padrão) para guardar os resumos.
+     */
+    void setRetainTerminated(boolean retain);
+
+    /**
+     * Define os dispositivos de E/S (modelo de espera e canais de cada um). Deve ser chamado
+     * antes de {@link #execute()}; por padrão toda E/S espera {@code 2 * quantum} ticks e só o
+     * dispositivo padrão existe, então programas com {@code E/S:nome} exigem dispositivos criados
+     * com a {@link IoDeviceTable} com que foram compilados.
+     *
+     * @param devices Dispositivos de E/S.
+     * @throws IllegalArgumentException se o motor não suportar o modelo informado.
+     */
+    void setIoDevices(IoDevices devices);
+
+    /**
+     * @return Dispositivos de E/S, com as estatísticas de uso, ou null se o motor não os usar.
+     */
+    IoDevices getIoDevices();
+
+    /**
+     * Registra um observador dos eventos da simulação (ex: trace binário).
+     *
+     * @param listener Observador.
+     */
+    void addListener(SchedulerListener listener);
+
+    /**
+     * Executa a simulação até que todos os processos terminem.
+     */
+    void execute();
+
+    List<ProcessSummary> getTerminatedProcesses();
+
+    /**
+     * @return Número de processos terminados.
+     */
+    int getTerminatedCount();
+
+    /**
+     * @return Soma das interrupções (trocas) de todos os processos terminados.
+     */
+    long getTotalInterruptions();
+
+    long getContextSwitchCount();
+
+    long getTotalQuantumExecutions();
+
+    long getTotalInstructionsInQuantums();
+
+    /**
+     * @return Número de ticks do relógio virtual já concluídos.
+     */
+    long getClock();
+
+    /**
+     * Libera os recursos do motor (ex: o pool de threads do {@link MultiCoreScheduler}); depois
+     * disso o motor não executa mais, mas as estatísticas continuam disponíveis. Por padrão não
+     * há nada a liberar.
+     */
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,144 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Fila FIFO de BCPs guardada em um arquivo temporário, para que processos excedentes não
+ * ocupem o heap. Os BCPs são gravados no formato do {@link SchedulerCheckpoint} e lidos na
+ * mesma ordem; apenas o primeiro da fila fica em memória. Quando a fila esvazia, o arquivo é
+ * truncado, então o disco usado acompanha o pico de processos guardados.
+ * <p>
+ * Como no checkpoint, os programas ficam em uma {@link ProgramTable}: um programa é gravado
+ * antes do primeiro BCP que o usa e os seguintes guardam só o índice. A tabela é limitada a
+ * {@link #PROGRAMS} programas, para que a memória não acompanhe o arquivo quando cada
+ * processo tem um programa diferente (ex: carga sintética), e recomeça junto com o arquivo.
+ */
+class SpillQueue implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /**
+     * Programas lembrados ao mesmo tempo pela tabela de quem grava e pela de quem lê.
+     */
+    private static final int PROGRAMS = 1024;
+
+    private final Path file;
+    private final ProgramTable writtenPrograms = new ProgramTable(PROGRAMS);
+    private final ProgramTable readPrograms = new ProgramTable(PROGRAMS);
+    private DataOutputStream out;
+    private DataInputStream in;
+    private ProcessControlBlock head;
+    private long written;
+    private long flushed;
+    private long read;
+
+    /**
+     * @param directory Diretório do arquivo temporário, ou null para o diretório temporário do sistema.
+     * @throws IOException se o arquivo não puder ser criado.
+     */
+    SpillQueue(Path directory) throws IOException {
+        this.file = directory == null
+                ? Files.createTempFile("escalonador-spill", ".bin")
+                : Files.createTempFile(directory, "escalonador-spill", ".bin");
+        open();
+    }
+
+    void add(ProcessControlBlock pcb) {
+        try {
+            int program = writtenPrograms.indexOf(pcb);
+            out.writeBoolean(program < 0);
+            if (program < 0) {
+                program = writtenPrograms.add(pcb);
+                writtenPrograms.writeProgram(out, program);
+            }
+            SchedulerCheckpoint.writeProcess(out, pcb, program);
+        } catch (IOException e) {
+            throw new IllegalStateException("Erro ao gravar processo excedente em disco: " + e.getMessage(), e);
+        }
+        written++;
+    }
+
+    /**
+     * @return Primeiro processo da fila, sem removê-lo, ou null se a fila estiver vazia.
+     */
+    ProcessControlBlock peek() {
+        if (head == null && read < written) {
+            try {
+                if (read == flushed) {
+                    out.flush();
+                    flushed = written;
+                }
+                if (in.readBoolean()) {
+                    readPrograms.readProgram(in, null);
+                }
+                head = SchedulerCheckpoint.readProcess(in, readPrograms);
+            } catch (IOException e) {
+                throw new IllegalStateException("Erro ao ler processo excedente do disco: " + e.getMessage(), e);
+            }
+            read++;
+        }
+        return head;
+    }
+
+    /**
+     * @return Primeiro processo da fila, ou null se a fila estiver vazia.
+     */
+    ProcessControlBlock poll() {
+        ProcessControlBlock pcb = peek();
+        head = null;
+        if (pcb != null && read == written) {
+            try {
+                close();
+                open();
+            } catch (IOException e) {
+                throw new IllegalStateException("Erro ao reiniciar o arquivo de excedentes: " + e.getMessage(), e);
+            }
+        }
+        return pcb;
+    }
+
+    /**
+     * @return Processos na fila.
+     */
+    long size() {
+        return written - read + (head == null ? 0 : 1);
+    }
+
+    /**
+     * Fecha e apaga o arquivo temporário.
+     */
+    void delete() {
+        try {
+            close();
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            System.err.println("Erro ao apagar o arquivo de excedentes: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            out.close();
+        } finally {
+            in.close();
+        }
+    }
+
+    private void open() throws IOException {
+        out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE));
+        in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE));
+        written = 0;
+        flushed = 0;
+        read = 0;
+        writtenPrograms.clear();
+        readPrograms.clear();
+    }
+}
@@ -0,0 +1,280 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.enums.PolicyType;
+import br.com.escalonadorTarefas.enums.ProcessState;
+import br.com.escalonadorTarefas.models.Instruction;
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+import br.com.escalonadorTarefas.models.ProcessSummary;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Escalonador de um núcleo que guarda os processos em uma {@link ProcessTable} (arrays
+ * primitivos) em vez de objetos {@link ProcessControlBlock}, para simulações muito grandes.
+ * <p>
+ * As filas de prontos e de bloqueados são buffers circulares de slots ({@code int}); como
+ * todo processo bloqueado espera o mesmo tempo (2 x quantum) e o relógio só avança, os
+ * despertares saem na ordem de bloqueio e a fila de bloqueados pode ser FIFO. Por isso só o
+ * modelo de E/S padrão é suportado: dispositivos com nome usam o mesmo tempo, e modelos próprios
+ * ou E/S com tempo próprio ({@code E/S:disco,5}) são rejeitados.
+ * <p>
+ * O comportamento e o log são idênticos aos do {@link Scheduler} para as políticas suportadas
+ * (Round Robin e FCFS, que usam filas FIFO). Observadores recebem um BCP reaproveitado,
+ * preenchido com os dados do slot apenas durante a notificação; eles não devem guardá-lo.
+ */
+public class TableScheduler implements SimulationEngine {
+
+    private final ProcessTable table = new ProcessTable();
+    private final IntRingQueue readyQueue = new IntRingQueue();
+    private final IntRingQueue blockedQueue = new IntRingQueue();
+    @Getter
+    private final List<ProcessSummary> terminatedProcesses = new ArrayList<>();
+    private final int quantum;
+    /**
+     * Fatia concedida a cada execução (o quantum no Round Robin, ilimitada no FCFS).
+     */
+    private final int slice;
+    private final Logger logger;
+    private final SchedulerListeners listeners = new SchedulerListeners();
+    /**
+     * BCP reaproveitado para as notificações aos observadores.
+     */
+    private final ProcessControlBlock view = new ProcessControlBlock();
+
+    private ProcessSource processSource;
+    private boolean retainTerminated = true;
+    /**
+     * Último programa verificado por {@link #checkIoTimes}; processos do mesmo programa
+     * compartilham o array de instruções.
+     */
+    private int[] lastChecked;
+
+    @Getter
+    private long contextSwitchCount;
+    @Getter
+    private long totalQuantumExecutions;
+    @Getter
+    private long totalInstructionsInQuantums;
+    @Getter
+    private int terminatedCount;
+    @Getter
+    private long totalInterruptions;
+    @Getter
+    private long clock;
+
+    /**
+     * @param quantum    Valor do quantum de tempo (base para o tempo de E/S).
+     * @param logger     Instância do Logger para registro das atividades.
+     * @param policyType Política de escalonamento: apenas {@link PolicyType#ROUND_ROBIN} ou {@link PolicyType#FCFS}.
+     */
+    public TableScheduler(int quantum, Logger logger, PolicyType policyType) {
+        if (policyType != PolicyType.ROUND_ROBIN && policyType != PolicyType.FCFS) {
+            throw new IllegalArgumentException("A tabela de processos suporta apenas as políticas rr e fcfs.");
+        }
+        this.quantum = quantum;
+        this.slice = policyType == PolicyType.FCFS ? Integer.MAX_VALUE : quantum;
+        this.logger = logger;
+    }
+
+    @Override
+    public void setProcessSource(ProcessSource source) {
+        this.processSource = source;
+    }
+
+    @Override
+    public void setRetainTerminated(boolean retain) {
+        this.retainTerminated = retain;
+    }
+
+    /**
+     * @throws IllegalArgumentException se algum dispositivo tiver modelo próprio.
+     */
+    @Override
+    public void setIoDevices(IoDevices devices) {
+        if (devices.isConfigured()) {
+            throw new IllegalArgumentException("A tabela de processos suporta apenas o modelo de E/S padrão.");
+        }
+    }
+
+    @Override
+    public IoDevices getIoDevices() {
+        return null;
+    }
+
+    @Override
+    public void addListener(SchedulerListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Copia o processo para a tabela, coloca o seu slot na fila de prontos e registra no log.
+     * O BCP recebido não é mais usado pelo escalonador depois disso.
+     *
+     * @param pcb Bloco de Controle do Processo a ser adicionado.
+     * @throws IllegalArgumentException se o programa tiver E/S com tempo próprio.
+     */
+    @Override
+    public void addProcess(ProcessControlBlock pcb) {
+        checkIoTimes(pcb);
+        int slot = table.add(pcb);
+        table.setState(slot, ProcessState.READY);
+        readyQueue.add(slot);
+        logger.logProcessLoaded(pcb.getProcessName());
+        listeners.onProcessLoaded(clock, pcb);
+    }
+
+    @Override
+    public void execute() {
+        admitArrivals();
+        while (!readyQueue.isEmpty() || !blockedQueue.isEmpty() || nextArrival() != Long.MAX_VALUE) {
+            int running = 0;
+            if (!readyQueue.isEmpty()) {
+                running = 1;
+                contextSwitchCount++;
+                executeProcess(readyQueue.poll());
+            } else if (nextArrival() <= nextDeadline()) {
+                // CPU ociosa até a próxima chegada: o novo processo já executa nesse tick.
+                clock = Math.max(clock, nextArrival());
+                admitArrivals();
+                continue;
+            } else {
+                // CPU ociosa: o relógio salta direto para o próximo despertar.
+                clock = Math.max(clock, nextDeadline());
+            }
+            wakeUpBlockedProcesses();
+            if (!listeners.isEmpty()) {
+                listeners.onTickEnd(clock, running, readyQueue.size(), blockedQueue.size());
+            }
+            clock++;
+            admitArrivals();
+        }
+    }
+
+    /**
+     * Executa o processo do slot por uma fatia e decide o seu destino, como no {@link Scheduler}.
+     *
+     * @param slot Slot do processo na tabela.
+     */
+    private void executeProcess(int slot) {
+        String processName = table.processNames[slot];
+        table.setState(slot, ProcessState.RUNNING);
+        logger.logProcessExecution(processName);
+        if (!listeners.isEmpty()) {
+            listeners.onProcessExecution(clock, table.copyTo(slot, view));
+        }
+
+        int result = InstructionExecutor.runSlice(table, slot, slice);
+        int instructionsExecuted = InstructionExecutor.instructionsExecuted(result);
+
+        table.interruptions[slot]++;
+        totalQuantumExecutions++;
+        totalInstructionsInQuantums += instructionsExecuted;
+
+        if (InstructionExecutor.isBlockedOnIO(result)) {
+            table.setState(slot, ProcessState.BLOCKED);
+            table.waitTimes[slot] = 2 * quantum;
+            table.wakeupTicks[slot] = clock + table.waitTimes[slot] - 1;
+            blockedQueue.add(slot);
+
+            logger.logProcessInterruption(processName, instructionsExecuted);
+            logger.logProcessIOStart(processName);
+            if (!listeners.isEmpty()) {
+                table.copyTo(slot, view);
+                listeners.onProcessInterruption(clock, view, instructionsExecuted);
+                listeners.onProcessIOStart(clock, view);
+            }
+
+        } else if (table.programCounters[slot] >= table.instructions[slot].length) {
+            table.setState(slot, ProcessState.TERMINATED);
+            logger.logProcessTermination(processName,
+                    table.registersA[slot],
+                    table.registersB[slot],
+                    table.registersC[slot],
+                    table.registersD[slot]);
+            if (!listeners.isEmpty()) {
+                listeners.onProcessTermination(clock, table.copyTo(slot, view));
+            }
+            recordTermination(slot);
+
+        } else {
+            table.setState(slot, ProcessState.READY);
+
+            logger.logProcessInterruption(processName, instructionsExecuted);
+            if (!listeners.isEmpty()) {
+                listeners.onProcessInterruption(clock, table.copyTo(slot, view), instructionsExecuted);
+            }
+
+            readyQueue.add(slot);
+        }
+    }
+
+    /**
+     * Rejeita programas com E/S de tempo próprio, que quebrariam a ordem FIFO dos despertares.
+     */
+    private void checkIoTimes(ProcessControlBlock pcb) {
+        int[] instructions = pcb.getInstructions();
+        if (instructions == lastChecked) {
+            return;
+        }
+        for (int instruction : instructions) {
+            if (Instruction.opcode(instruction) == Instruction.OP_IO && Instruction.ioTicks(instruction) != 0) {
+                throw new IllegalArgumentException("A tabela de processos não suporta E/S com tempo próprio: "
+                        + pcb.getProcessName());
+            }
+        }
+        lastChecked = instructions;
+    }
+
+    /**
+     * Admite os processos da origem cujo tick de chegada já foi alcançado.
+     */
+    private void admitArrivals() {
+        while (nextArrival() <= clock) {
+            addProcess(processSource.next());
+        }
+    }
+
+    /**
+     * @return Tick da próxima chegada, ou {@link Long#MAX_VALUE} se não houver origem ou ela se esgotou.
+     */
+    private long nextArrival() {
+        return processSource == null ? Long.MAX_VALUE : processSource.nextArrival();
+    }
+
+    /**
+     * @return Tick do próximo despertar, ou {@link Long#MAX_VALUE} se não houver bloqueados.
+     */
+    private long nextDeadline() {
+        return blockedQueue.isEmpty() ? Long.MAX_VALUE : table.wakeupTicks[blockedQueue.peek()];
+    }
+
+    /**
+     * Contabiliza um processo terminado, guarda o seu resumo e libera o slot.
+     */
+    private void recordTermination(int slot) {
+        terminatedCount++;
+        totalInterruptions += table.interruptions[slot];
+        if (retainTerminated) {
+            terminatedProcesses.add(table.summary(slot, clock));
+        }
+        table.remove(slot);
+    }
+
+    /**
+     * Move para a fila de prontos os processos bloqueados cujo tempo de espera
+     * expira no tick atual, na mesma ordem em que foram bloqueados.
+     */
+    private void wakeUpBlockedProcesses() {
+        while (!blockedQueue.isEmpty() && table.wakeupTicks[blockedQueue.peek()] <= clock) {
+            int slot = blockedQueue.poll();
+            table.waitTimes[slot] = 0;
+            table.setState(slot, ProcessState.READY);
+            readyQueue.add(slot);
+            if (!listeners.isEmpty()) {
+                listeners.onProcessWakeup(clock, table.copyTo(slot, view));
+            }
+        }
+    }
+}
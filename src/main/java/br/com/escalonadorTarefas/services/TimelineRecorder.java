@@ -0,0 +1,188 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.enums.ProcessState;
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+
+import java.util.Arrays;
+
+/**
+ * Observador que transforma os eventos do escalonador na linha do tempo de cada processo:
+ * intervalos contíguos [início, fim) de ticks em um mesmo estado (pronto, executando ou bloqueado).
+ * <p>
+ * Os intervalos são unidos conforme chegam: uma execução que recomeça no tick em que a anterior
+ * terminou (o processo foi interrompido e escalonado de novo sem esperar) continua o mesmo
+ * intervalo, e intervalos vazios são descartados. Cada processo guarda apenas o intervalo aberto
+ * e o último intervalo fechado (ainda passível de união), em arrays primitivos indexados por slot
+ * ({@link ProcessSlotMap}); os intervalos prontos são repassados aos {@link Sink}s, então a
+ * memória é proporcional aos processos vivos, não à duração da simulação.
+ * <p>
+ * Um processo sai da CPU ao fim do tick da interrupção, entra em E/S no tick seguinte e volta
+ * à fila de prontos no tick seguinte ao despertar, como em {@link SchedulerMetrics}.
+ */
+public class TimelineRecorder implements SchedulerListener {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final byte NONE = -1;
+    private static final ProcessState[] STATES = ProcessState.values();
+
+    /**
+     * Destino dos intervalos fechados.
+     */
+    public interface Sink {
+        /**
+         * Intervalo [start, end) não vazio; os intervalos de um mesmo processo chegam em ordem.
+         */
+        void interval(int processId, ProcessState state, long start, long end);
+
+        /**
+         * Fim da simulação, depois do último intervalo.
+         *
+         * @param ticks Ticks simulados.
+         */
+        default void finish(long ticks) {
+        }
+    }
+
+    private final Sink[] sinks;
+    private final ProcessSlotMap slots = new ProcessSlotMap();
+
+    private int[] processIds = new int[INITIAL_CAPACITY];
+    private byte[] openStates = new byte[INITIAL_CAPACITY];
+    private long[] openStarts = new long[INITIAL_CAPACITY];
+    private byte[] pendingStates = new byte[INITIAL_CAPACITY];
+    private long[] pendingStarts = new long[INITIAL_CAPACITY];
+    private long[] pendingEnds = new long[INITIAL_CAPACITY];
+    private int highWater;
+    private long ticks;
+    private boolean closed;
+
+    /**
+     * @param sinks Destinos dos intervalos (ex: {@link TimelineWriter}, {@link TimelineSummary}).
+     */
+    public TimelineRecorder(Sink... sinks) {
+        this.sinks = sinks.clone();
+    }
+
+    @Override
+    public void onProcessLoaded(long tick, ProcessControlBlock pcb) {
+        transition(pcb.getProcessId(), ProcessState.READY, tick);
+    }
+
+    @Override
+    public void onProcessExecution(long tick, ProcessControlBlock pcb) {
+        transition(pcb.getProcessId(), ProcessState.RUNNING, tick);
+    }
+
+    @Override
+    public void onProcessInterruption(long tick, ProcessControlBlock pcb, int instructionsExecuted) {
+        transition(pcb.getProcessId(), ProcessState.READY, tick + 1);
+    }
+
+    @Override
+    public void onProcessIOStart(long tick, ProcessControlBlock pcb) {
+        transition(pcb.getProcessId(), ProcessState.BLOCKED, tick + 1);
+    }
+
+    @Override
+    public void onProcessWakeup(long tick, ProcessControlBlock pcb) {
+        transition(pcb.getProcessId(), ProcessState.READY, tick + 1);
+    }
+
+    @Override
+    public void onProcessTermination(long tick, ProcessControlBlock pcb) {
+        int slot = slots.remove(pcb.getProcessId());
+        if (slot >= 0) {
+            release(slot, tick + 1);
+        }
+        ticks = Math.max(ticks, tick + 1);
+    }
+
+    @Override
+    public void onTickEnd(long tick, int running, int ready, int blocked) {
+        ticks = Math.max(ticks, tick + 1);
+    }
+
+    /**
+     * Fecha os intervalos dos processos ainda vivos no último tick simulado e avisa os destinos.
+     * Chamadas seguintes não têm efeito.
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (int slot = 0; slot < highWater; slot++) {
+            if (openStates[slot] != NONE) {
+                release(slot, Math.max(ticks, openStarts[slot]));
+            }
+        }
+        for (Sink sink : sinks) {
+            sink.finish(ticks);
+        }
+    }
+
+    /**
+     * Fecha o intervalo aberto do processo em {@code at} e abre outro no novo estado.
+     * Processos sem slot (ex: restaurados de um checkpoint) começam a ser acompanhados aqui.
+     */
+    private void transition(int processId, ProcessState state, long at) {
+        int slot = slots.find(processId);
+        if (slot < 0) {
+            slot = slots.add(processId);
+            if (slot == processIds.length) {
+                grow();
+            }
+            highWater = Math.max(highWater, slot + 1);
+            processIds[slot] = processId;
+            pendingStates[slot] = NONE;
+        } else {
+            at = Math.max(at, openStarts[slot]);
+            closeOpen(slot, at);
+        }
+        openStates[slot] = (byte) state.ordinal();
+        openStarts[slot] = at;
+    }
+
+    private void closeOpen(int slot, long end) {
+        byte state = openStates[slot];
+        long start = openStarts[slot];
+        if (end <= start) {
+            return;
+        }
+        if (pendingStates[slot] == state && pendingEnds[slot] == start) {
+            pendingEnds[slot] = end;
+            return;
+        }
+        emitPending(slot);
+        pendingStates[slot] = state;
+        pendingStarts[slot] = start;
+        pendingEnds[slot] = end;
+    }
+
+    private void release(int slot, long end) {
+        closeOpen(slot, end);
+        emitPending(slot);
+        openStates[slot] = NONE;
+        pendingStates[slot] = NONE;
+    }
+
+    private void emitPending(int slot) {
+        byte state = pendingStates[slot];
+        if (state == NONE) {
+            return;
+        }
+        for (Sink sink : sinks) {
+            sink.interval(processIds[slot], STATES[state], pendingStarts[slot], pendingEnds[slot]);
+        }
+    }
+
+    private void grow() {
+        int capacity = processIds.length * 2;
+        processIds = Arrays.copyOf(processIds, capacity);
+        openStates = Arrays.copyOf(openStates, capacity);
+        openStarts = Arrays.copyOf(openStarts, capacity);
+        pendingStates = Arrays.copyOf(pendingStates, capacity);
+        pendingStarts = Arrays.copyOf(pendingStarts, capacity);
+        pendingEnds = Arrays.copyOf(pendingEnds, capacity);
+    }
+}
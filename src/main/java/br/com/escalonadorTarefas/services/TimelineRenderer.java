@@ -0,0 +1,127 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.enums.ProcessState;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Converte uma linha do tempo gravada pelo {@link TimelineWriter} para CSV
+ * ({@code process_id,start,end,state}), um intervalo por linha. O arquivo é lido bloco a bloco,
+ * sem carregá-lo inteiro em memória.
+ */
+public class TimelineRenderer {
+
+    private static final ProcessState[] STATES = ProcessState.values();
+
+    private ByteBuffer block = ByteBuffer.allocate(64 * 1024);
+    private int position;
+
+    /**
+     * Renderiza a linha do tempo no destino informado.
+     *
+     * @param timelineFile Arquivo da linha do tempo.
+     * @param out          Destino do CSV (descarregado, mas não fechado, ao final).
+     * @throws IOException              em caso de erro de leitura ou escrita.
+     * @throws IllegalArgumentException se o arquivo não for uma linha do tempo válida.
+     */
+    public void render(Path timelineFile, Writer out) throws IOException {
+        try (FileChannel channel = FileChannel.open(timelineFile, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(TimelineWriter.BLOCK_HEADER_SIZE);
+            header.limit(TimelineWriter.HEADER_SIZE);
+            if (read(channel, header) != TimelineWriter.HEADER_SIZE
+                    || header.getInt(0) != TimelineWriter.MAGIC
+                    || header.getInt(4) != TimelineWriter.VERSION) {
+                throw new IllegalArgumentException("Arquivo não é uma linha do tempo válida: " + timelineFile);
+            }
+
+            out.write("process_id,start,end,state\n");
+            StringBuilder line = new StringBuilder(64);
+            while (true) {
+                header.clear();
+                int read = read(channel, header);
+                if (read == 0) {
+                    break;
+                }
+                int count = header.getInt(0);
+                int pidBytes = header.getInt(4);
+                int startBytes = header.getInt(8);
+                int durationBytes = header.getInt(12);
+                if (read != TimelineWriter.BLOCK_HEADER_SIZE || count < 1 || count > TimelineWriter.BLOCK_INTERVALS
+                        || pidBytes < 0 || startBytes < 0 || durationBytes < 0) {
+                    throw new IllegalArgumentException("Bloco inválido na linha do tempo: " + timelineFile);
+                }
+                int size = pidBytes + startBytes + durationBytes + count;
+                if (block.capacity() < size) {
+                    block = ByteBuffer.allocate(size);
+                }
+                block.clear().limit(size);
+                if (read(channel, block) != size) {
+                    throw new IllegalArgumentException("Linha do tempo truncada: " + timelineFile);
+                }
+
+                byte[] bytes = block.array();
+                int pidAt = 0;
+                int startAt = pidBytes;
+                int durationAt = startAt + startBytes;
+                int stateAt = durationAt + durationBytes;
+                long pid = 0;
+                long start = 0;
+                for (int i = 0; i < count; i++) {
+                    position = pidAt;
+                    pid += unzigzag(getVarLong(bytes));
+                    pidAt = position;
+                    position = startAt;
+                    start += unzigzag(getVarLong(bytes));
+                    startAt = position;
+                    position = durationAt;
+                    long duration = getVarLong(bytes);
+                    durationAt = position;
+
+                    line.setLength(0);
+                    line.append(pid).append(',').append(start).append(',').append(start + duration).append(',')
+                            .append(STATES[bytes[stateAt + i]]).append('\n');
+                    out.append(line);
+                }
+            }
+        }
+        out.flush();
+    }
+
+    private long getVarLong(byte[] bytes) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = bytes[position++];
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Valor inválido na linha do tempo.");
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Lê até encher o buffer ou o arquivo acabar.
+     *
+     * @return Bytes lidos.
+     */
+    private static int read(FileChannel channel, ByteBuffer target) throws IOException {
+        int total = 0;
+        while (target.hasRemaining()) {
+            int read = channel.read(target);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,255 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.enums.ProcessState;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Resumo reduzido da linha do tempo, para desenhar simulações com milhões de processos:
+ * uma grade de tamanho fixo, agregada conforme os intervalos chegam do {@link TimelineRecorder}.
+ * <p>
+ * - Colunas: faixas de ticks de mesma largura, com o número médio de processos executando,
+ * prontos e bloqueados em cada uma.
+ * - Linhas: faixas de pids consecutivos, com o número médio de processos da faixa executando
+ * em cada coluna (a ocupação da CPU por faixa de processos).
+ * <p>
+ * A largura das faixas começa em 1 e dobra (somando as colunas ou linhas vizinhas) sempre que
+ * um intervalo passaria da grade, então a duração da simulação e o maior pid não precisam ser
+ * conhecidos de antemão e a memória fica em {@code colunas x linhas} contadores.
+ * <p>
+ * Um intervalo longo (ex: a espera na fila de prontos com muitos processos vivos) pode cobrir
+ * centenas de colunas; as colunas cobertas por inteiro são marcadas em arrays de diferenças
+ * e somadas de uma vez antes de alargar a grade ou escrever o resumo, então cada intervalo
+ * custa O(1).
+ */
+public class TimelineSummary implements TimelineRecorder.Sink {
+
+    private final int columns;
+    private final int rows;
+    private long bucketTicks = 1;
+    private int processesPerRow = 1;
+
+    /**
+     * Ticks de processo (processos x ticks) em cada estado, por coluna.
+     */
+    private final long[] running;
+    private final long[] ready;
+    private final long[] blocked;
+    /**
+     * Ticks em execução por linha e coluna (linha * colunas + coluna).
+     */
+    private final long[] grid;
+    /**
+     * Arrays de diferenças (uma posição a mais por linha) do número de intervalos que cobrem
+     * cada coluna por inteiro, ainda não somados aos totais acima.
+     */
+    private final long[] runningFull;
+    private final long[] readyFull;
+    private final long[] blockedFull;
+    private final long[] gridFull;
+    private boolean pendingFull;
+
+    private long ticks;
+    private int maxProcessId = -1;
+
+    /**
+     * @param columns Número máximo de colunas (faixas de ticks).
+     * @param rows    Número máximo de linhas (faixas de pids).
+     * @throws IllegalArgumentException se algum dos valores não for positivo.
+     */
+    public TimelineSummary(int columns, int rows) {
+        if (columns < 1 || rows < 1) {
+            throw new IllegalArgumentException("O resumo da linha do tempo precisa de colunas e linhas positivas.");
+        }
+        this.columns = columns;
+        this.rows = rows;
+        this.running = new long[columns];
+        this.ready = new long[columns];
+        this.blocked = new long[columns];
+        this.grid = new long[columns * rows];
+        this.runningFull = new long[columns + 1];
+        this.readyFull = new long[columns + 1];
+        this.blockedFull = new long[columns + 1];
+        this.gridFull = new long[(columns + 1) * rows];
+    }
+
+    @Override
+    public void interval(int processId, ProcessState state, long start, long end) {
+        while (end > bucketTicks * columns) {
+            widenColumns();
+        }
+        if (processId < 0) {
+            return;
+        }
+        while (processId / processesPerRow >= rows) {
+            widenRows();
+        }
+        maxProcessId = Math.max(maxProcessId, processId);
+        ticks = Math.max(ticks, end);
+
+        switch (state) {
+            case RUNNING:
+                int row = processId / processesPerRow;
+                add(running, 0, runningFull, 0, start, end);
+                add(grid, row * columns, gridFull, row * (columns + 1), start, end);
+                break;
+            case READY:
+                add(ready, 0, readyFull, 0, start, end);
+                break;
+            case BLOCKED:
+                add(blocked, 0, blockedFull, 0, start, end);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Soma o intervalo às colunas de uma linha: as pontas direto nos totais e as colunas
+     * intermediárias no array de diferenças.
+     */
+    private void add(long[] totals, int offset, long[] full, int fullOffset, long start, long end) {
+        int first = (int) (start / bucketTicks);
+        int last = (int) ((end - 1) / bucketTicks);
+        if (first == last) {
+            totals[offset + first] += end - start;
+            return;
+        }
+        totals[offset + first] += (first + 1) * bucketTicks - start;
+        totals[offset + last] += end - last * bucketTicks;
+        if (last > first + 1) {
+            full[fullOffset + first + 1]++;
+            full[fullOffset + last]--;
+            pendingFull = true;
+        }
+    }
+
+    /**
+     * Soma aos totais as colunas cobertas por inteiro, com a largura atual das colunas.
+     */
+    private void applyFull() {
+        if (!pendingFull) {
+            return;
+        }
+        applyFull(running, 0, runningFull, 0);
+        applyFull(ready, 0, readyFull, 0);
+        applyFull(blocked, 0, blockedFull, 0);
+        for (int row = 0; row < rows; row++) {
+            applyFull(grid, row * columns, gridFull, row * (columns + 1));
+        }
+        pendingFull = false;
+    }
+
+    private void applyFull(long[] totals, int offset, long[] full, int fullOffset) {
+        long covering = 0;
+        for (int column = 0; column < columns; column++) {
+            covering += full[fullOffset + column];
+            totals[offset + column] += covering * bucketTicks;
+        }
+        Arrays.fill(full, fullOffset, fullOffset + columns + 1, 0);
+    }
+
+    @Override
+    public void finish(long ticks) {
+        this.ticks = Math.max(this.ticks, ticks);
+        while (this.ticks > bucketTicks * columns) {
+            widenColumns();
+        }
+    }
+
+    public long getBucketTicks() {
+        return bucketTicks;
+    }
+
+    public int getProcessesPerRow() {
+        return processesPerRow;
+    }
+
+    /**
+     * Escreve o resumo em JSON. Os valores são médias de processos por tick em cada faixa
+     * (a última coluna é dividida apenas pelos ticks que realmente cobre).
+     *
+     * @param out Destino.
+     * @throws IOException em caso de erro de escrita.
+     */
+    public void writeJson(Writer out) throws IOException {
+        applyFull();
+        int usedColumns = (int) ((ticks + bucketTicks - 1) / bucketTicks);
+        int usedRows = maxProcessId < 0 ? 0 : maxProcessId / processesPerRow + 1;
+        out.write(String.format(Locale.ROOT, "{%n  \"ticks\": %d,%n  \"bucketTicks\": %d,%n"
+                + "  \"processesPerRow\": %d,%n  \"columns\": [", ticks, bucketTicks, processesPerRow));
+        for (int column = 0; column < usedColumns; column++) {
+            double width = width(column);
+            out.write(String.format(Locale.ROOT,
+                    "%s%n    {\"start\": %d, \"running\": %.3f, \"ready\": %.3f, \"blocked\": %.3f}",
+                    column == 0 ? "" : ",", column * bucketTicks,
+                    running[column] / width, ready[column] / width, blocked[column] / width));
+        }
+        out.write(String.format("%n  ],%n  \"rows\": ["));
+        StringBuilder values = new StringBuilder();
+        for (int row = 0; row < usedRows; row++) {
+            values.setLength(0);
+            for (int column = 0; column < usedColumns; column++) {
+                if (column > 0) {
+                    values.append(", ");
+                }
+                values.append(String.format(Locale.ROOT, "%.3f", grid[row * columns + column] / width(column)));
+            }
+            out.write(String.format(Locale.ROOT, "%s%n    {\"firstProcess\": %d, \"running\": [%s]}",
+                    row == 0 ? "" : ",", (long) row * processesPerRow, values));
+        }
+        out.write(String.format("%n  ]%n}%n"));
+        out.flush();
+    }
+
+    private double width(int column) {
+        return Math.min(bucketTicks, ticks - column * bucketTicks);
+    }
+
+    private void widenColumns() {
+        applyFull();
+        merge(running, 0, columns);
+        merge(ready, 0, columns);
+        merge(blocked, 0, columns);
+        for (int row = 0; row < rows; row++) {
+            merge(grid, row * columns, columns);
+        }
+        bucketTicks *= 2;
+    }
+
+    private void widenRows() {
+        applyFull();
+        int half = (rows + 1) / 2;
+        for (int row = 0; row < half; row++) {
+            for (int column = 0; column < columns; column++) {
+                long sum = grid[2 * row * columns + column];
+                if (2 * row + 1 < rows) {
+                    sum += grid[(2 * row + 1) * columns + column];
+                }
+                grid[row * columns + column] = sum;
+            }
+        }
+        Arrays.fill(grid, half * columns, grid.length, 0);
+        processesPerRow *= 2;
+    }
+
+    /**
+     * Soma os pares vizinhos de {@code values[offset..offset+length)} na primeira metade e zera o resto.
+     */
+    private static void merge(long[] values, int offset, int length) {
+        int half = (length + 1) / 2;
+        for (int i = 0; i < half; i++) {
+            long sum = values[offset + 2 * i];
+            if (2 * i + 1 < length) {
+                sum += values[offset + 2 * i + 1];
+            }
+            values[offset + i] = sum;
+        }
+        for (int i = half; i < length; i++) {
+            values[offset + i] = 0;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.enums.ProcessState;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Grava os intervalos do {@link TimelineRecorder} em um arquivo colunar compacto.
+ * <p>
+ * Formato (big-endian):
+ * - Cabeçalho: "ESCL" seguido da versão (int).
+ * - Blocos de até {@link #BLOCK_INTERVALS} intervalos, cada um com quatro ints (quantidade de
+ * intervalos e tamanho em bytes das colunas de pid, início e duração) seguidos das colunas:
+ * pids e inícios como diferenças para o intervalo anterior do bloco (varint zigzag), durações
+ * (varint) e um byte de estado ({@link ProcessState#ordinal()}) por intervalo.
+ * <p>
+ * Como os intervalos chegam quase em ordem de tempo, as diferenças cabem em um ou dois bytes e
+ * um intervalo ocupa em média 4 a 6 bytes. Cada bloco começa do zero, então pode ser decodificado
+ * sozinho. O {@link TimelineRenderer} converte o arquivo para CSV.
+ */
+public class TimelineWriter implements TimelineRecorder.Sink {
+
+    public static final int MAGIC = 0x4553434C; // "ESCL"
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 8;
+    public static final int BLOCK_HEADER_SIZE = 16;
+    public static final int BLOCK_INTERVALS = 4096;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    private final int[] processIds = new int[BLOCK_INTERVALS];
+    private final long[] starts = new long[BLOCK_INTERVALS];
+    private final long[] durations = new long[BLOCK_INTERVALS];
+    private final byte[] states = new byte[BLOCK_INTERVALS];
+    private int count;
+
+    private final byte[] pidColumn = new byte[5 * BLOCK_INTERVALS];
+    private final byte[] startColumn = new byte[10 * BLOCK_INTERVALS];
+    private final byte[] durationColumn = new byte[10 * BLOCK_INTERVALS];
+
+    private long intervals;
+    private boolean closed;
+
+    /**
+     * Cria (ou sobrescreve) o arquivo da linha do tempo.
+     *
+     * @param file Caminho do arquivo.
+     * @throws IOException se o arquivo não puder ser criado.
+     */
+    public TimelineWriter(Path file) throws IOException {
+        this.channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+    }
+
+    @Override
+    public void interval(int processId, ProcessState state, long start, long end) {
+        processIds[count] = processId;
+        starts[count] = start;
+        durations[count] = end - start;
+        states[count] = (byte) state.ordinal();
+        if (++count == BLOCK_INTERVALS) {
+            writeBlock();
+        }
+        intervals++;
+    }
+
+    @Override
+    public void finish(long ticks) {
+        close();
+    }
+
+    /**
+     * @return Intervalos gravados até agora.
+     */
+    public long getIntervals() {
+        return intervals;
+    }
+
+    /**
+     * Grava o último bloco e fecha o arquivo. Chamadas seguintes não têm efeito.
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (count > 0) {
+                writeBlock();
+            }
+            drain();
+            channel.close();
+        } catch (IOException | IllegalStateException e) {
+            System.err.println("Erro ao fechar a linha do tempo: " + e.getMessage());
+        }
+    }
+
+    private void writeBlock() {
+        int pidBytes = 0;
+        int startBytes = 0;
+        int durationBytes = 0;
+        long previousPid = 0;
+        long previousStart = 0;
+        for (int i = 0; i < count; i++) {
+            pidBytes = putVarLong(pidColumn, pidBytes, zigzag(processIds[i] - previousPid));
+            startBytes = putVarLong(startColumn, startBytes, zigzag(starts[i] - previousStart));
+            durationBytes = putVarLong(durationColumn, durationBytes, durations[i]);
+            previousPid = processIds[i];
+            previousStart = starts[i];
+        }
+
+        ensureCapacity(BLOCK_HEADER_SIZE);
+        buffer.putInt(count);
+        buffer.putInt(pidBytes);
+        buffer.putInt(startBytes);
+        buffer.putInt(durationBytes);
+        put(pidColumn, pidBytes);
+        put(startColumn, startBytes);
+        put(durationColumn, durationBytes);
+        put(states, count);
+        count = 0;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static int putVarLong(byte[] target, int position, long value) {
+        while ((value & ~0x7FL) != 0) {
+            target[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        target[position++] = (byte) value;
+        return position;
+    }
+
+    private void put(byte[] bytes, int length) {
+        int offset = 0;
+        while (offset < length) {
+            ensureCapacity(1);
+            int chunk = Math.min(length - offset, buffer.remaining());
+            buffer.put(bytes, offset, chunk);
+            offset += chunk;
+        }
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (buffer.remaining() < bytes) {
+            try {
+                drain();
+            } catch (IOException e) {
+                throw new IllegalStateException("Erro ao gravar a linha do tempo: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,157 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+
+import java.util.function.Consumer;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Fila de processos bloqueados ordenada pelo instante absoluto de despertar.
+ * <p>
+ * Em vez de decrementar o tempo de espera de cada processo bloqueado a cada tick,
+ * cada processo é registrado com o tick (relógio virtual do escalonador) em que deve
+ * voltar à fila de prontos. Empates saem pela ordem de chegada, o que preserva a mesma
+ * ordem de liberação da antiga fila FIFO de bloqueados.
+ * <p>
+ * Enquanto os despertares chegam em ordem não decrescente (o caso comum: toda E/S de um
+ * dispositivo espera o mesmo tempo e o relógio só avança), os processos ficam em um buffer
+ * circular e inserir, consultar e liberar são O(1). O primeiro despertar fora de ordem move a
+ * fila para um {@link ProcessHeap} (O(log n)), que é usado até a fila esvaziar de novo.
+ */
+public class WakeupQueue {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ProcessHeap heap = new ProcessHeap();
+    /**
+     * Buffer circular usado enquanto os despertares estão em ordem; a capacidade é potência de 2.
+     */
+    private ProcessControlBlock[] ring = new ProcessControlBlock[INITIAL_CAPACITY];
+    private long[] deadlines = new long[INITIAL_CAPACITY];
+    private int head;
+    private int count;
+    /**
+     * true enquanto todos os processos estão no buffer circular (o heap está vazio).
+     */
+    private boolean ordered = true;
+
+    /**
+     * Agenda o despertar de um processo.
+     *
+     * @param pcb      Processo bloqueado.
+     * @param deadline Tick em que o processo deve ser liberado.
+     */
+    public void schedule(ProcessControlBlock pcb, long deadline) {
+        if (ordered) {
+            if (count == 0 || deadline >= deadlines[(head + count - 1) & (ring.length - 1)]) {
+                append(pcb, deadline);
+                return;
+            }
+            // Despertar fora de ordem: o heap (estável) passa a guardar a fila, na mesma ordem.
+            while (count > 0) {
+                long key = deadlines[head];
+                heap.add(pollRing(), key);
+            }
+            ordered = false;
+        }
+        heap.add(pcb, deadline);
+    }
+
+    /**
+     * Libera, em ordem, todos os processos cujo despertar é menor ou igual a {@code clock}.
+     *
+     * @param clock  Tick atual do escalonador.
+     * @param action Ação aplicada a cada processo liberado.
+     * @return Quantidade de processos liberados.
+     */
+    public int releaseExpired(long clock, Consumer<ProcessControlBlock> action) {
+        int released = 0;
+        while (nextDeadline() <= clock) {
+            action.accept(poll());
+            released++;
+        }
+        return released;
+    }
+
+    /**
+     * Remove o processo com o menor despertar (o primeiro a chegar, em caso de empate).
+     *
+     * @return Processo removido, ou null se a fila estiver vazia.
+     */
+    public ProcessControlBlock poll() {
+        if (ordered) {
+            return count == 0 ? null : pollRing();
+        }
+        ProcessControlBlock pcb = heap.poll();
+        if (heap.isEmpty()) {
+            ordered = true;
+        }
+        return pcb;
+    }
+
+    /**
+     * @return Tick do próximo despertar, ou {@link Long#MAX_VALUE} se a fila estiver vazia.
+     */
+    public long nextDeadline() {
+        if (ordered) {
+            return count == 0 ? Long.MAX_VALUE : deadlines[head];
+        }
+        return heap.peekKey();
+    }
+
+    /**
+     * Percorre os processos bloqueados, com o tick de despertar, na ordem de liberação,
+     * sem alterar a fila.
+     *
+     * @param action Ação aplicada a cada processo e seu tick de despertar.
+     */
+    public void forEachInOrder(ObjLongConsumer<ProcessControlBlock> action) {
+        if (!ordered) {
+            heap.forEachInOrder(action);
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            int index = (head + i) & (ring.length - 1);
+            action.accept(ring[index], deadlines[index]);
+        }
+    }
+
+    public boolean isEmpty() {
+        return ordered ? count == 0 : heap.isEmpty();
+    }
+
+    public int size() {
+        return ordered ? count : heap.size();
+    }
+
+    private void append(ProcessControlBlock pcb, long deadline) {
+        if (count == ring.length) {
+            grow();
+        }
+        int index = (head + count) & (ring.length - 1);
+        ring[index] = pcb;
+        deadlines[index] = deadline;
+        count++;
+    }
+
+    private ProcessControlBlock pollRing() {
+        ProcessControlBlock pcb = ring[head];
+        ring[head] = null;
+        head = (head + 1) & (ring.length - 1);
+        count--;
+        return pcb;
+    }
+
+    private void grow() {
+        ProcessControlBlock[] grownRing = new ProcessControlBlock[ring.length * 2];
+        long[] grownDeadlines = new long[ring.length * 2];
+        for (int i = 0; i < count; i++) {
+            int index = (head + i) & (ring.length - 1);
+            grownRing[i] = ring[index];
+            grownDeadlines[i] = deadlines[index];
+        }
+        ring = grownRing;
+        deadlines = grownDeadlines;
+        head = 0;
+    }
+}
@@ -0,0 +1,309 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.enums.ExitPlacement;
+import br.com.escalonadorTarefas.models.Instruction;
+import br.com.escalonadorTarefas.models.Program;
+import br.com.escalonadorTarefas.models.WorkloadSpec;
+import lombok.Getter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+/**
+ * Gera cargas sintéticas reprodutíveis a partir de uma {@link WorkloadSpec}.
+ * <p>
+ * Cada programa é gerado por um gerador aleatório próprio, derivado da semente e do
+ * índice do programa: o programa i é sempre o mesmo, independentemente de quantos foram
+ * gerados antes ou de a geração ser sequencial ou paralela. Isso permite gerar milhões de
+ * processos sob demanda ({@link #programs()}, usado com {@link ProgramSource}) sem guardar
+ * a carga inteira em memória, ou gravá-la em disco no mesmo formato lido pelo
+ * {@link ProcessLoader}.
+ */
+public class WorkloadGenerator {
+
+    private static final String[] REGISTERS = {"A", "B", "C", "D"};
+    private static final String[] ARITHMETIC = {"ADD", "SUB", "MUL"};
+
+    private final WorkloadSpec spec;
+    /**
+     * Dispositivos de E/S dos programas gerados.
+     */
+    @Getter
+    private final IoDeviceTable devices;
+    /**
+     * Índices (em {@link #devices}) dos dispositivos sorteados para cada E/S.
+     */
+    private final int[] ioDevices;
+
+    /**
+     * Gerador com uma tabela de dispositivos de E/S própria.
+     *
+     * @param spec Parâmetros da carga.
+     * @throws IllegalArgumentException se algum parâmetro estiver fora do intervalo válido.
+     */
+    public WorkloadGenerator(WorkloadSpec spec) {
+        this(spec, new IoDeviceTable());
+    }
+
+    /**
+     * @param spec    Parâmetros da carga.
+     * @param devices Tabela de dispositivos de E/S da carga.
+     * @throws IllegalArgumentException se algum parâmetro estiver fora do intervalo válido.
+     */
+    public WorkloadGenerator(WorkloadSpec spec, IoDeviceTable devices) {
+        if (spec.getProcessCount() < 0) {
+            throw new IllegalArgumentException("O número de processos não pode ser negativo.");
+        }
+        if (spec.getMinLength() < 0 || spec.getMaxLength() < spec.getMinLength()) {
+            throw new IllegalArgumentException("Tamanho de programa inválido: "
+                    + spec.getMinLength() + ":" + spec.getMaxLength());
+        }
+        if (!isPercent(spec.getIoPercent()) || !isPercent(spec.getAssignmentPercent())) {
+            throw new IllegalArgumentException("Percentuais devem estar entre 0 e 100.");
+        }
+        if (spec.getMaxOperand() < 0 || spec.getMaxOperand() > Instruction.MAX_OPERAND) {
+            throw new IllegalArgumentException("Valor máximo dos registradores fora do intervalo: " + spec.getMaxOperand());
+        }
+        if (spec.getMaxPriority() < 0 || spec.getMaxPriority() == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Prioridade máxima fora do intervalo: " + spec.getMaxPriority());
+        }
+        this.ioDevices = new int[spec.getIoDevices().size()];
+        for (int i = 0; i < ioDevices.length; i++) {
+            String device = spec.getIoDevices().get(i);
+            if (!device.matches("[A-Za-z0-9_-]+")) {
+                throw new IllegalArgumentException("Nome de dispositivo de E/S inválido: " + device);
+            }
+            ioDevices[i] = devices.indexOf(device);
+        }
+        this.spec = spec;
+        this.devices = devices;
+    }
+
+    /**
+     * Gera o programa de um índice.
+     *
+     * @param index Índice do programa (0 a processCount - 1).
+     * @return Programa com id {@code index + 1} e nome "PROG-{id}".
+     */
+    public Program generate(int index) {
+        SplittableRandom random = new SplittableRandom(mix(spec.getSeed() + index));
+        int length = nextLength(random);
+
+        int[] code;
+        if (spec.getExitPlacement() == ExitPlacement.NONE) {
+            code = new int[length];
+            fill(code, 0, length, random);
+        } else {
+            code = new int[length + 1];
+            int exitAt = spec.getExitPlacement() == ExitPlacement.RANDOM ? random.nextInt(length + 1) : length;
+            fill(code, 0, exitAt, random);
+            code[exitAt] = Instruction.encode(Instruction.OP_EXIT, 0);
+            fill(code, exitAt + 1, code.length, random);
+        }
+        InstructionCompiler.annotateComputeRuns(code);
+
+        int processId = index + 1;
+        Program program = new Program(processId, "PROG-" + processId, code, index * spec.getArrivalInterval());
+        // Sorteada por último para não mudar as cargas geradas sem prioridades.
+        return spec.getMaxPriority() == 0 ? program : program.withPriority(random.nextInt(spec.getMaxPriority() + 1));
+    }
+
+    /**
+     * @return Iterador preguiçoso sobre todos os programas, em ordem de id.
+     */
+    public Iterator<Program> programs() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < spec.getProcessCount();
+            }
+
+            @Override
+            public Program next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return generate(next++);
+            }
+        };
+    }
+
+    /**
+     * Grava toda a carga em um único arquivo, com os programas separados por linhas em branco
+     * (formato lido por {@link ProcessLoader#loadConcatenated(Path)}).
+     *
+     * @param file Arquivo de destino.
+     * @throws IOException em caso de erro de escrita.
+     */
+    public void writeConcatenated(Path file) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file)) {
+            writeConcatenated(out);
+        }
+    }
+
+    /**
+     * Escreve toda a carga em um destino já aberto, um programa de cada vez.
+     *
+     * @param out Destino.
+     * @throws IOException em caso de erro de escrita.
+     */
+    public void writeConcatenated(Writer out) throws IOException {
+        for (int i = 0; i < spec.getProcessCount(); i++) {
+            writeProgram(generate(i), devices, out);
+            out.write('\n');
+        }
+        out.flush();
+    }
+
+    /**
+     * Grava um arquivo por programa (prog_01.txt, prog_02.txt, ...), com o número preenchido
+     * com zeros para que a ordem alfabética coincida com a ordem dos ids.
+     *
+     * @param directory Diretório de destino (criado se não existir).
+     * @throws IOException em caso de erro de escrita.
+     */
+    public void writeDirectory(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        int digits = Math.max(2, String.valueOf(spec.getProcessCount()).length());
+        String format = "prog_%0" + digits + "d.txt";
+        for (int i = 0; i < spec.getProcessCount(); i++) {
+            try (BufferedWriter out = Files.newBufferedWriter(directory.resolve(String.format(format, i + 1)))) {
+                writeProgram(generate(i), devices, out);
+            }
+        }
+    }
+
+    /**
+     * Escreve um programa no formato textual: nome do processo, cabeçalho {@code PRIORIDADE=}
+     * (se a prioridade não for 0) e uma instrução por linha. Destinos de saltos recebem rótulos {@code L<índice>:} (inclusive o fim do programa).
+     *
+     * @param program Programa.
+     * @param devices Tabela de dispositivos de E/S com que o programa foi compilado.
+     * @param out     Destino.
+     * @throws IOException em caso de erro de escrita.
+     */
+    public static void writeProgram(Program program, IoDeviceTable devices, Writer out) throws IOException {
+        out.write(program.getProcessName());
+        out.write('\n');
+        if (program.getPriority() != 0) {
+            out.write("PRIORIDADE=" + program.getPriority() + "\n");
+        }
+        int[] instructions = program.getInstructions();
+        BitSet targets = new BitSet();
+        for (int instruction : instructions) {
+            if (isJump(instruction)) {
+                targets.set(Instruction.jumpTarget(instruction));
+            }
+        }
+        for (int pc = 0; pc <= instructions.length; pc++) {
+            if (targets.get(pc)) {
+                out.write("L" + pc + ":\n");
+            }
+            if (pc < instructions.length) {
+                out.write(toText(instructions[pc], program.getConstants(), devices));
+                out.write('\n');
+            }
+        }
+    }
+
+    private static boolean isJump(int instruction) {
+        int opcode = Instruction.opcode(instruction);
+        return opcode == Instruction.OP_JMP || opcode == Instruction.OP_JZ || opcode == Instruction.OP_JNZ;
+    }
+
+    /**
+     * Converte uma instrução empacotada de volta para o texto aceito pelo {@link InstructionCompiler}.
+     */
+    private static String toText(int instruction, int[] constants, IoDeviceTable devices) {
+        switch (Instruction.opcode(instruction)) {
+            case Instruction.OP_SET_A:
+            case Instruction.OP_SET_B:
+            case Instruction.OP_SET_C:
+            case Instruction.OP_SET_D:
+                return REGISTERS[Instruction.opcode(instruction)] + "=" + Instruction.operand(instruction);
+            case Instruction.OP_SET_CONST:
+                return REGISTERS[Instruction.constantRegister(instruction)] + "="
+                        + constants[Instruction.constantIndex(instruction)];
+            case Instruction.OP_COM:
+                return "COM";
+            case Instruction.OP_IO:
+                int device = Instruction.ioDevice(instruction);
+                int ticks = Instruction.ioTicks(instruction);
+                return "E/S" + (device == 0 ? "" : ":" + devices.nameOf(device))
+                        + (ticks == 0 ? "" : "," + ticks);
+            case Instruction.OP_EXIT:
+                return "SAIDA";
+            case Instruction.OP_ADD:
+            case Instruction.OP_SUB:
+            case Instruction.OP_MUL:
+                return ARITHMETIC[Instruction.opcode(instruction) - Instruction.OP_ADD] + " "
+                        + REGISTERS[Instruction.destination(instruction)] + ","
+                        + (Instruction.isImmediate(instruction)
+                        ? String.valueOf(Instruction.immediate(instruction))
+                        : REGISTERS[Instruction.source(instruction)]);
+            case Instruction.OP_JMP:
+                return "JMP L" + Instruction.jumpTarget(instruction);
+            case Instruction.OP_JZ:
+            case Instruction.OP_JNZ:
+                return (Instruction.opcode(instruction) == Instruction.OP_JZ ? "JZ " : "JNZ ")
+                        + REGISTERS[Instruction.jumpRegister(instruction)] + ",L" + Instruction.jumpTarget(instruction);
+            default:
+                throw new IllegalStateException("Opcode inválido: " + Instruction.opcode(instruction));
+        }
+    }
+
+    private int nextLength(SplittableRandom random) {
+        int min = spec.getMinLength();
+        int max = spec.getMaxLength();
+        switch (spec.getLengthDistribution()) {
+            case FIXED:
+                return max;
+            case GEOMETRIC:
+                // Média de um quarto do intervalo acima do mínimo, truncada no máximo.
+                double mean = Math.max(1.0, (max - min) / 4.0);
+                double p = 1.0 / (1.0 + mean);
+                long extra = (long) (Math.log(1.0 - random.nextDouble()) / Math.log(1.0 - p));
+                return (int) Math.min(max, min + extra);
+            default:
+                return min + random.nextInt(max - min + 1);
+        }
+    }
+
+    private void fill(int[] code, int from, int to, SplittableRandom random) {
+        for (int pc = from; pc < to; pc++) {
+            if (random.nextInt(100) < spec.getIoPercent()) {
+                code[pc] = ioDevices.length == 0
+                        ? Instruction.encode(Instruction.OP_IO, 0)
+                        : Instruction.encodeIo(ioDevices[random.nextInt(ioDevices.length)], 0);
+            } else if (random.nextInt(100) < spec.getAssignmentPercent()) {
+                code[pc] = Instruction.encode(Instruction.OP_SET_A + random.nextInt(REGISTERS.length),
+                        random.nextInt(spec.getMaxOperand() + 1));
+            } else {
+                code[pc] = Instruction.encode(Instruction.OP_COM, 0);
+            }
+        }
+    }
+
+    private static boolean isPercent(int value) {
+        return value >= 0 && value <= 100;
+    }
+
+    /**
+     * Embaralha os bits da semente (finalizador do MurmurHash3), para que sementes vizinhas
+     * gerem sequências independentes.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,163 @@
+package br.com.escalonadorTarefas.policies;
+
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+import br.com.escalonadorTarefas.models.Program;
+import br.com.escalonadorTarefas.services.InstructionCompiler;
+import br.com.escalonadorTarefas.services.IoDeviceTable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SchedulingPolicyTest {
+
+    private static final int QUANTUM = 2;
+
+    @Test
+    void fcfsDispatchesInArrivalOrderWithoutPreemption() {
+        FcfsPolicy policy = new FcfsPolicy();
+        ProcessControlBlock a = process(1, 30);
+        ProcessControlBlock b = process(2, 5);
+        policy.add(a);
+        policy.add(b);
+
+        assertEquals(Integer.MAX_VALUE, policy.quantumFor(a));
+        assertSame(a, policy.poll());
+        assertSame(b, policy.poll());
+        assertNull(policy.poll());
+    }
+
+    @Test
+    void sjfDispatchesTheShortestRemainingWorkFirst() {
+        ShortestJobFirstPolicy policy = new ShortestJobFirstPolicy(QUANTUM, false);
+        ProcessControlBlock longJob = process(1, 30);
+        ProcessControlBlock shortJob = process(2, 5);
+        ProcessControlBlock tie = process(3, 5);
+        policy.add(longJob);
+        policy.add(shortJob);
+        policy.add(tie);
+
+        assertEquals(Integer.MAX_VALUE, policy.quantumFor(shortJob));
+        assertSame(shortJob, policy.poll());
+        assertSame(tie, policy.poll());
+        assertSame(longJob, policy.poll());
+    }
+
+    @Test
+    void srtfReevaluatesTheRemainingWorkOnEveryDispatch() {
+        ShortestJobFirstPolicy policy = new ShortestJobFirstPolicy(QUANTUM, true);
+        ProcessControlBlock a = process(1, 10);
+        ProcessControlBlock b = process(2, 8);
+        a.setProgramCounter(5);
+        policy.add(a);
+        policy.add(b);
+
+        assertEquals(QUANTUM, policy.quantumFor(a));
+        assertSame(a, policy.poll());
+    }
+
+    @Test
+    void sjfUsesTheInstructionBudgetForProgramsWithLoops() {
+        ProcessControlBlock loop = new Program(1, "LOOP", InstructionCompiler.compile(
+                List.of("A=1000", "L:", "SUB A,1", "JNZ A,L", "SAIDA"), new IoDeviceTable())).newProcess();
+        ProcessControlBlock straight = process(2, 10);
+
+        ShortestJobFirstPolicy unbounded = new ShortestJobFirstPolicy(QUANTUM, false);
+        unbounded.add(loop);
+        unbounded.add(straight);
+        assertSame(straight, unbounded.poll(), "laço sem orçamento não tem limite conhecido");
+
+        ShortestJobFirstPolicy bounded = new ShortestJobFirstPolicy(QUANTUM, false);
+        loop.setInstructionBudget(3);
+        bounded.add(straight);
+        bounded.add(loop);
+        assertSame(loop, bounded.poll());
+
+        // Depois do último salto para trás o que resta é o tamanho do programa.
+        ShortestJobFirstPolicy pastLoop = new ShortestJobFirstPolicy(QUANTUM, false);
+        loop.setInstructionBudget(Long.MAX_VALUE);
+        loop.setProgramCounter(4);
+        pastLoop.add(straight);
+        pastLoop.add(loop);
+        assertSame(loop, pastLoop.poll());
+    }
+
+    @Test
+    void priorityDispatchesTheLowestValueAndAlternatesTies() {
+        PriorityPolicy policy = new PriorityPolicy(QUANTUM);
+        ProcessControlBlock low = process(1, 5);
+        ProcessControlBlock high = process(2, 5);
+        ProcessControlBlock sameAsHigh = process(3, 5);
+        low.setPriority(5);
+        high.setPriority(1);
+        sameAsHigh.setPriority(1);
+        policy.add(low);
+        policy.add(high);
+        policy.add(sameAsHigh);
+
+        assertSame(high, policy.poll());
+        policy.add(high);
+        assertSame(sameAsHigh, policy.poll());
+        assertSame(high, policy.poll());
+        assertSame(low, policy.poll());
+    }
+
+    @Test
+    void mlfqDemotesOnExpiredQuantumAndDoublesTheQuantumPerLevel() {
+        MultilevelFeedbackQueuePolicy policy = new MultilevelFeedbackQueuePolicy(QUANTUM);
+        ProcessControlBlock cpuBound = process(1, 100);
+        ProcessControlBlock interactive = process(2, 100);
+        policy.add(cpuBound);
+        policy.add(interactive);
+
+        assertSame(cpuBound, policy.poll());
+        assertEquals(QUANTUM, policy.quantumFor(cpuBound));
+        policy.onQuantumExpired(cpuBound);
+        policy.add(cpuBound);
+        assertEquals(2 * QUANTUM, policy.quantumFor(cpuBound));
+
+        // Quem se bloqueia antes do fim do quantum continua no nível 0 e passa à frente.
+        assertSame(interactive, policy.poll());
+        policy.add(interactive);
+        assertSame(interactive, policy.poll());
+    }
+
+    @Test
+    void mlfqBoostsEveryProcessBackToTheTopLevelEveryHundredDispatches() {
+        MultilevelFeedbackQueuePolicy policy = new MultilevelFeedbackQueuePolicy(QUANTUM);
+        ProcessControlBlock starved = process(1, 100);
+        ProcessControlBlock interactive = process(2, 100);
+        policy.add(starved);
+        assertSame(starved, policy.poll());
+        policy.onQuantumExpired(starved);
+        policy.onQuantumExpired(starved);
+        policy.add(starved);
+        policy.add(interactive);
+        assertEquals(MultilevelFeedbackQueuePolicy.DEFAULT_LEVELS - 1, starved.getQueueLevel());
+
+        // Roubos não contam como despachos para o reforço.
+        assertSame(interactive, policy.steal());
+        policy.add(interactive);
+
+        for (int dispatch = 2; dispatch < MultilevelFeedbackQueuePolicy.DEFAULT_BOOST_INTERVAL; dispatch++) {
+            assertSame(interactive, policy.poll(), "despacho " + dispatch);
+            policy.add(interactive);
+            assertEquals(MultilevelFeedbackQueuePolicy.DEFAULT_LEVELS - 1, starved.getQueueLevel());
+        }
+        assertSame(interactive, policy.poll());
+        assertEquals(0, starved.getQueueLevel());
+        policy.add(interactive);
+        assertSame(starved, policy.poll());
+    }
+
+    private static ProcessControlBlock process(int id, int instructions) {
+        List<String> lines = new ArrayList<>(Collections.nCopies(instructions - 1, "A=1"));
+        lines.add("SAIDA");
+        return new Program(id, "P" + id, InstructionCompiler.compile(lines, new IoDeviceTable())).newProcess();
+    }
+}
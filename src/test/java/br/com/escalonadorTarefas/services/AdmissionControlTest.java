@@ -0,0 +1,127 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.enums.OverflowPolicy;
+import br.com.escalonadorTarefas.models.AdmissionSettings;
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+import br.com.escalonadorTarefas.models.Program;
+import br.com.escalonadorTarefas.models.WorkloadSpec;
+import br.com.escalonadorTarefas.policies.RoundRobinPolicy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdmissionControlTest {
+
+    private static final int QUANTUM = 2;
+    private static final int PROCESSES = 300;
+    private static final int READY_CAPACITY = 4;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void rejectDropsArrivalsWhileTheQueuesAreFull() throws IOException {
+        Run run = simulate(OverflowPolicy.REJECT);
+
+        assertTrue(run.admission.getRejected() > 0);
+        assertEquals(PROCESSES, run.admission.getAdmitted() + run.admission.getRejected());
+        assertEquals(0, run.admission.getSpilled());
+        assertEquals(0, run.admission.getDeferred(), "só entram as chegadas com espaço nas filas");
+        assertEquals(run.admission.getAdmitted(), run.terminated);
+        assertTrue(run.admission.getPressureTicks() > 0);
+    }
+
+    @Test
+    void spillKeepsArrivalsOnDiskAndAdmitsThemInOrder() throws IOException {
+        Run run = simulate(OverflowPolicy.SPILL);
+
+        assertEquals(PROCESSES, run.admission.getAdmitted());
+        assertEquals(0, run.admission.getRejected());
+        assertTrue(run.admission.getSpilled() > 0);
+        assertTrue(run.admission.getPeakSpilled() > 0);
+        assertTrue(run.admission.getDeferred() > 0);
+        assertEquals(PROCESSES, run.terminated);
+        assertInArrivalOrder(run.loaded);
+        run.admission.close();
+        try (Stream<Path> files = Files.list(directory)) {
+            assertTrue(files.findAny().isEmpty(), "arquivo de excedentes não foi apagado");
+        }
+    }
+
+    @Test
+    void blockDefersArrivalsInTheSource() throws IOException {
+        Run run = simulate(OverflowPolicy.BLOCK);
+
+        assertEquals(PROCESSES, run.admission.getAdmitted());
+        assertEquals(0, run.admission.getRejected());
+        assertEquals(0, run.admission.getSpilled());
+        assertTrue(run.admission.getDeferred() > 0);
+        assertTrue(run.admission.getAdmissionDelay().getMax() > 0);
+        assertEquals(PROCESSES, run.terminated);
+        assertInArrivalOrder(run.loaded);
+    }
+
+    @Test
+    void rejectsNonPositiveCapacities() {
+        ProgramSource source = new ProgramSource(List.<Program>of().iterator());
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdmissionControl(source, AdmissionSettings.builder().readyCapacity(0).build()));
+    }
+
+    private Run simulate(OverflowPolicy overflowPolicy) throws IOException {
+        WorkloadGenerator generator = new WorkloadGenerator(WorkloadSpec.builder()
+                .processCount(PROCESSES)
+                .arrivalInterval(1)
+                .build());
+        AdmissionControl admission = new AdmissionControl(new ProgramSource(generator.programs()),
+                AdmissionSettings.builder()
+                        .readyCapacity(READY_CAPACITY)
+                        .overflowPolicy(overflowPolicy)
+                        .spillDirectory(directory)
+                        .build());
+        List<Integer> loaded = new ArrayList<>();
+        int terminated;
+        try (Scheduler scheduler = new Scheduler(QUANTUM, Logger.discarding(), new RoundRobinPolicy(QUANTUM))) {
+            scheduler.setRetainTerminated(false);
+            scheduler.addListener(admission);
+            scheduler.addListener(new SchedulerListener() {
+                @Override
+                public void onProcessLoaded(long tick, ProcessControlBlock pcb) {
+                    loaded.add(pcb.getProcessId());
+                }
+            });
+            scheduler.setProcessSource(admission);
+            scheduler.execute();
+            terminated = scheduler.getTerminatedCount();
+        }
+        return new Run(admission, loaded, terminated);
+    }
+
+    private static void assertInArrivalOrder(List<Integer> loaded) {
+        for (int i = 1; i < loaded.size(); i++) {
+            assertTrue(loaded.get(i - 1) < loaded.get(i), "processo " + loaded.get(i) + " fora de ordem");
+        }
+    }
+
+    private static final class Run {
+        final AdmissionControl admission;
+        final List<Integer> loaded;
+        final int terminated;
+
+        Run(AdmissionControl admission, List<Integer> loaded, int terminated) {
+            this.admission = admission;
+            this.loaded = loaded;
+            this.terminated = terminated;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.models.Instruction;
+import br.com.escalonadorTarefas.models.ProgramCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InstructionCompilerTest {
+
+    @Test
+    void resolvesLabelsToInstructionIndexes() {
+        int[] code = compile("A=3", "INICIO:", "SUB A,1", "JZ A,FIM", "JMP INICIO", "FIM:").getInstructions();
+
+        assertEquals(4, code.length);
+        assertEquals(Instruction.OP_JZ, Instruction.opcode(code[2]));
+        assertEquals(0, Instruction.jumpRegister(code[2]));
+        assertEquals(4, Instruction.jumpTarget(code[2]), "rótulo no fim do programa encerra o processo");
+        assertEquals(Instruction.OP_JMP, Instruction.opcode(code[3]));
+        assertEquals(1, Instruction.jumpTarget(code[3]));
+    }
+
+    @Test
+    void rejectsUndefinedRepeatedAndInvalidLabels() {
+        IllegalArgumentException undefined = assertThrows(IllegalArgumentException.class,
+                () -> compile("JMP NADA", "SAIDA"));
+        assertTrue(undefined.getMessage().contains("NADA"));
+        assertThrows(IllegalArgumentException.class, () -> compile("L:", "COM", "L:", "SAIDA"));
+        assertThrows(IllegalArgumentException.class, () -> compile("L-1:", "SAIDA"));
+        assertThrows(IllegalArgumentException.class, () -> compile("JNZ L", "L:"));
+        assertThrows(IllegalArgumentException.class, () -> compile("JNZ X,L", "L:"));
+    }
+
+    @Test
+    void rejectsJumpsBeyondTheTargetLimit() {
+        StringBuilder text = new StringBuilder("JMP FIM\n");
+        text.append("COM\n".repeat(Instruction.MAX_JUMP_TARGET));
+        text.append("FIM:\n");
+        byte[] bytes = text.toString().getBytes(StandardCharsets.US_ASCII);
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> InstructionCompiler.compile(ByteBuffer.wrap(bytes), 0, bytes.length, new IoDeviceTable()));
+        assertTrue(error.getMessage().contains("FIM"));
+    }
+
+    @Test
+    void encodesArithmeticWithRegistersAndImmediates() {
+        int[] code = compile("ADD A,B", "SUB C,-5", "MUL D," + Instruction.MAX_IMMEDIATE).getInstructions();
+
+        assertEquals(Instruction.OP_ADD, Instruction.opcode(code[0]));
+        assertEquals(1, Instruction.source(code[0]));
+        assertEquals(Instruction.OP_SUB, Instruction.opcode(code[1]));
+        assertEquals(2, Instruction.destination(code[1]));
+        assertEquals(-5, Instruction.immediate(code[1]));
+        assertEquals(Instruction.MAX_IMMEDIATE, Instruction.immediate(code[2]));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {Instruction.MAX_IMMEDIATE + 1, Instruction.MIN_IMMEDIATE - 1})
+    void rejectsImmediatesOutOfRange(int value) {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> compile("ADD A," + value));
+        assertTrue(error.getMessage().contains("registrador"));
+    }
+
+    @Test
+    void assignmentsOutsideTheOperandGoToTheConstantTable() {
+        ProgramCode program = compile("A=" + Instruction.MAX_OPERAND, "B=" + Integer.MAX_VALUE,
+                "C=" + Integer.MIN_VALUE, "D=" + Integer.MAX_VALUE);
+        int[] code = program.getInstructions();
+
+        assertEquals(Instruction.OP_SET_A, Instruction.opcode(code[0]));
+        assertEquals(Instruction.MAX_OPERAND, Instruction.operand(code[0]));
+        assertEquals(Instruction.OP_SET_CONST, Instruction.opcode(code[1]));
+        assertEquals(1, Instruction.constantRegister(code[1]));
+        assertEquals(3, Instruction.constantRegister(code[3]));
+        assertEquals(Instruction.constantIndex(code[1]), Instruction.constantIndex(code[3]), "constante repetida");
+        assertArrayEquals(new int[]{Integer.MAX_VALUE, Integer.MIN_VALUE}, program.getConstants());
+        assertArrayEquals(Instruction.NO_CONSTANTS, compile("A=1").getConstants());
+
+        assertThrows(IllegalArgumentException.class, () -> compile("A=" + (Integer.MAX_VALUE + 1L)));
+        assertThrows(IllegalArgumentException.class,
+                () -> InstructionCompiler.compileInstruction("A=" + Integer.MAX_VALUE, new IoDeviceTable()));
+    }
+
+    @Test
+    void readsThePriorityHeaderOnlyOnTheFirstLine() {
+        assertEquals(7, compile("PRIORIDADE=7", "COM", "SAIDA").getPriority());
+        assertEquals(0, compile("COM", "SAIDA").getPriority());
+        assertThrows(IllegalArgumentException.class, () -> compile("COM", "PRIORIDADE=1"));
+        assertThrows(IllegalArgumentException.class, () -> compile("PRIORIDADE=x", "COM"));
+    }
+
+    @Test
+    void numbersIoDevicesInTheTableOfTheProgramSet() {
+        IoDeviceTable devices = new IoDeviceTable();
+        int[] first = InstructionCompiler.compile(List.of("E/S:rede,5", "E/S"), devices).getInstructions();
+        int[] second = InstructionCompiler.compile(List.of("E/S:disco", "E/S:rede"), devices).getInstructions();
+
+        assertEquals(1, Instruction.ioDevice(first[0]));
+        assertEquals(5, Instruction.ioTicks(first[0]));
+        assertEquals(0, Instruction.ioDevice(first[1]));
+        assertEquals(2, Instruction.ioDevice(second[0]));
+        assertEquals(1, Instruction.ioDevice(second[1]));
+        assertEquals(List.of(IoDeviceTable.DEFAULT_DEVICE, "rede", "disco"), devices.names());
+
+        IoDeviceTable other = new IoDeviceTable();
+        assertEquals(1, Instruction.ioDevice(InstructionCompiler.compileInstruction("E/S:disco", other)));
+
+        assertThrows(IllegalArgumentException.class, () -> compile("E/S:"));
+        assertThrows(IllegalArgumentException.class, () -> compile("E/S,0"));
+        assertThrows(IllegalArgumentException.class, () -> compile("E/S," + (Instruction.MAX_IO_TICKS + 1)));
+    }
+
+    @Test
+    void bytePathMatchesTheLinePath() {
+        List<String> lines = List.of("PRIORIDADE=2", "A=10", "LOOP:", "COM", "COM", "E/S:disco",
+                "SUB A,1", "JNZ A,LOOP", "B=" + Integer.MIN_VALUE, "SAIDA");
+        byte[] bytes = ("\r\n  " + String.join("\r\n", lines) + "\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+
+        ProgramCode fromLines = InstructionCompiler.compile(lines, new IoDeviceTable());
+        ProgramCode fromBytes = InstructionCompiler.compile(ByteBuffer.wrap(bytes), 0, bytes.length,
+                new IoDeviceTable());
+
+        assertArrayEquals(fromLines.getInstructions(), fromBytes.getInstructions());
+        assertArrayEquals(fromLines.getConstants(), fromBytes.getConstants());
+        assertEquals(fromLines.getPriority(), fromBytes.getPriority());
+        assertEquals(2, Instruction.operand(fromLines.getInstructions()[1]), "sequência de COMs anotada");
+    }
+
+    @Test
+    void rejectsUnknownInstructions() {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> compile("NOP"));
+        assertTrue(error.getMessage().contains("NOP"));
+        assertThrows(IllegalArgumentException.class, () -> compile("ADD A"));
+        assertThrows(IllegalArgumentException.class, () -> compile("ADD E,1"));
+        assertThrows(IllegalArgumentException.class, () -> compile("A=1x"));
+    }
+
+    private static ProgramCode compile(String... lines) {
+        return InstructionCompiler.compile(Arrays.asList(lines), new IoDeviceTable());
+    }
+}
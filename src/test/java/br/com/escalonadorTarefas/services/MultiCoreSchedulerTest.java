@@ -0,0 +1,88 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.enums.PolicyType;
+import br.com.escalonadorTarefas.models.LogSettings;
+import br.com.escalonadorTarefas.models.WorkloadSpec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MultiCoreSchedulerTest {
+
+    private static final int QUANTUM = 3;
+    private static final int CORES = 4;
+
+    @ParameterizedTest
+    @EnumSource(value = PolicyType.class, names = {"ROUND_ROBIN", "FCFS", "MLFQ"})
+    void sameSeedGivesTheSameLogAndStealCount(PolicyType policyType) {
+        // Programas longos e FCFS passam do limite de trabalho paralelo; os curtos ficam em sequência.
+        WorkloadGenerator generator = new WorkloadGenerator(WorkloadSpec.builder()
+                .processCount(120)
+                .seed(7)
+                .minLength(10)
+                .maxLength(policyType == PolicyType.FCFS ? 4000 : 200)
+                .ioPercent(10)
+                .build());
+
+        Run first = run(generator, policyType, 11);
+        Run second = run(generator, policyType, 11);
+
+        assertTrue(first.steals > 0, "nenhum roubo com " + policyType);
+        assertEquals(first.steals, second.steals);
+        assertEquals(first.log, second.log);
+    }
+
+    @Test
+    void singleCoreLogMatchesTheSingleCoreScheduler() {
+        WorkloadGenerator generator = new WorkloadGenerator(WorkloadSpec.builder()
+                .processCount(40)
+                .seed(3)
+                .ioPercent(20)
+                .build());
+
+        Run multiCore = run(generator, PolicyType.ROUND_ROBIN, MultiCoreScheduler.DEFAULT_SEED, 1);
+
+        StringWriter out = new StringWriter();
+        Logger logger = new Logger(out, LogSettings.defaults());
+        try (Scheduler scheduler = new Scheduler(QUANTUM, logger, PolicyType.ROUND_ROBIN.create(QUANTUM))) {
+            generator.programs().forEachRemaining(program -> scheduler.addProcess(program.newProcess()));
+            scheduler.execute();
+        }
+        logger.close();
+
+        assertEquals(0, multiCore.steals);
+        assertEquals(out.toString(), multiCore.log);
+    }
+
+    private static Run run(WorkloadGenerator generator, PolicyType policyType, long seed) {
+        return run(generator, policyType, seed, CORES);
+    }
+
+    private static Run run(WorkloadGenerator generator, PolicyType policyType, long seed, int cores) {
+        StringWriter out = new StringWriter();
+        Logger logger = new Logger(out, LogSettings.defaults());
+        long steals;
+        try (MultiCoreScheduler scheduler = new MultiCoreScheduler(QUANTUM, logger, policyType, cores, seed)) {
+            generator.programs().forEachRemaining(program -> scheduler.addProcess(program.newProcess()));
+            scheduler.execute();
+            steals = scheduler.getStealCount();
+        }
+        logger.close();
+        return new Run(out.toString(), steals);
+    }
+
+    private static final class Run {
+        final String log;
+        final long steals;
+
+        Run(String log, long steals) {
+            this.log = log;
+            this.steals = steals;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.enums.PolicyType;
+import br.com.escalonadorTarefas.models.LogSettings;
+import br.com.escalonadorTarefas.models.WorkloadSpec;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SchedulerCheckpointTest {
+
+    private static final int QUANTUM = 2;
+    private static final long CHECKPOINT_TICK = 400;
+
+    @TempDir
+    Path directory;
+
+    static Stream<Arguments> configurations() {
+        return Stream.of(
+                Arguments.of(PolicyType.ROUND_ROBIN, false),
+                Arguments.of(PolicyType.ROUND_ROBIN, true),
+                Arguments.of(PolicyType.SRTF, false),
+                Arguments.of(PolicyType.PRIORITY, true),
+                Arguments.of(PolicyType.MLFQ, false),
+                Arguments.of(PolicyType.MLFQ, true));
+    }
+
+    @ParameterizedTest
+    @MethodSource("configurations")
+    void resumedRunWritesTheSameLogAsAnUninterruptedRun(PolicyType policyType, boolean streaming) throws IOException {
+        WorkloadSpec spec = WorkloadSpec.builder()
+                .processCount(120)
+                .seed(5)
+                .maxLength(80)
+                .ioDevices(List.of("disco", "rede"))
+                .maxPriority(3)
+                .arrivalInterval(streaming ? 3 : 0)
+                .build();
+        LogSettings settings = LogSettings.builder().directory(directory.toString()).build();
+        Path checkpoint = directory.resolve("estado.bin");
+
+        WorkloadGenerator generator = new WorkloadGenerator(spec);
+        Logger logger = new Logger(QUANTUM, settings);
+        Scheduler scheduler = new Scheduler(QUANTUM, logger, policyType.create(QUANTUM));
+        scheduler.setIoDevices(new IoDevices(QUANTUM, generator.getDevices()));
+        boolean[] written = {false};
+        scheduler.setCheckpointAction(CHECKPOINT_TICK, s -> {
+            if (!written[0]) {
+                written[0] = true;
+                try {
+                    SchedulerCheckpoint.write(checkpoint, s, policyType, QUANTUM, logger);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        });
+        start(scheduler, generator, streaming, 0);
+        logger.close();
+        assertTrue(written[0], "simulação terminou antes do checkpoint");
+        Path log = Paths.get(logger.getLogFileName());
+        String uninterrupted = Files.readString(log);
+
+        // A carga retomada numera os dispositivos em outra ordem.
+        IoDeviceTable devices = new IoDeviceTable();
+        devices.indexOf("rede");
+        SchedulerCheckpoint state = SchedulerCheckpoint.read(checkpoint, devices);
+        assertEquals(policyType, state.getPolicyType());
+        assertEquals(streaming, state.isStreaming());
+        Logger resumedLogger = Logger.resume(state.getLogFileName(), state.getLogLines(), settings);
+        Scheduler resumed = state.restore(resumedLogger);
+        start(resumed, new WorkloadGenerator(spec, devices), streaming, state.getSourcePosition());
+        resumedLogger.close();
+
+        assertTrue(state.getLogLines() > 0);
+        assertEquals(uninterrupted, Files.readString(log));
+    }
+
+    /**
+     * @param position Programas da origem já admitidos (0 na execução original); sem origem, os
+     *                 processos da execução retomada vêm todos do checkpoint.
+     */
+    private static void start(Scheduler scheduler, WorkloadGenerator generator, boolean streaming, long position) {
+        try (scheduler) {
+            if (streaming) {
+                ProgramSource source = new ProgramSource(generator.programs());
+                source.skip(position);
+                scheduler.setProcessSource(source);
+            } else if (position == 0) {
+                // Execução original sem origem: toda a carga antes do primeiro tick.
+                generator.programs().forEachRemaining(program -> scheduler.addProcess(program.newProcess()));
+            }
+            scheduler.execute();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.models.Program;
+import br.com.escalonadorTarefas.models.ProgramCode;
+import br.com.escalonadorTarefas.models.TenantStatistics;
+import br.com.escalonadorTarefas.policies.RoundRobinPolicy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SchedulerServiceTest {
+
+    private static final int QUANTUM = 2;
+    private static final int PROCESSES_PER_TENANT = 200;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 64, 1024})
+    void tenantWithDoubleWeightGetsTwoThirdsOfTheCpuWhileBothHaveWork(int maxActive) {
+        SchedulerService service = new SchedulerService(
+                new Scheduler(QUANTUM, Logger.discarding(), new RoundRobinPolicy(QUANTUM)), maxActive);
+        service.registerTenant("a", 2);
+        service.registerTenant("b", 1);
+        Program program = new Program(1, "P", computeOnly(20));
+        for (int i = 0; i < PROCESSES_PER_TENANT; i++) {
+            service.submit("a", program.newProcess());
+            service.submit("b", program.newProcess());
+        }
+        service.close();
+
+        TenantStatistics a = statistics(service, "a");
+        TenantStatistics b = statistics(service, "b");
+        assertEquals(PROCESSES_PER_TENANT, a.getCompleted());
+        assertEquals(PROCESSES_PER_TENANT, b.getCompleted());
+        // O total de CPU é o que cada um enviou; o peso aparece na fração enquanto tinham trabalho.
+        assertEquals(a.getCpuTicks(), b.getCpuTicks());
+        assertEquals(2.0 / 3, a.getBusyShare(), 0.05, "maxActive " + maxActive);
+        assertEquals(0.5, b.getBusyShare(), 0.05, "maxActive " + maxActive);
+        assertTrue(a.getLastCompletionTick() < b.getLastCompletionTick());
+    }
+
+    @Test
+    void equalWeightsShareTheCpuEvenly() {
+        SchedulerService service = new SchedulerService(
+                new Scheduler(QUANTUM, Logger.discarding(), new RoundRobinPolicy(QUANTUM)), 8);
+        Program program = new Program(1, "P", computeOnly(10));
+        for (int i = 0; i < PROCESSES_PER_TENANT; i++) {
+            service.submit("a", program.newProcess());
+            service.submit("b", program.newProcess());
+        }
+        service.close();
+
+        assertEquals(0.5, statistics(service, "a").getBusyShare(), 0.02);
+        assertEquals(0.5, statistics(service, "b").getBusyShare(), 0.02);
+        assertEquals(2L * PROCESSES_PER_TENANT, service.getCompletedCount());
+    }
+
+    @Test
+    void rejectsNonPositiveWeightsAndSubmissionsAfterShutdown() {
+        SchedulerService service = new SchedulerService(
+                new Scheduler(QUANTUM, Logger.discarding(), new RoundRobinPolicy(QUANTUM)), 1);
+        assertThrows(IllegalArgumentException.class, () -> service.registerTenant("a", 0));
+        service.close();
+        Program program = new Program(1, "P", computeOnly(1));
+        assertThrows(IllegalStateException.class, () -> service.submit(program.newProcess()));
+    }
+
+    private static ProgramCode computeOnly(int instructions) {
+        List<String> lines = new ArrayList<>(Collections.nCopies(instructions, "COM"));
+        lines.add("SAIDA");
+        return InstructionCompiler.compile(lines, new IoDeviceTable());
+    }
+
+    private static TenantStatistics statistics(SchedulerService service, String tenant) {
+        for (TenantStatistics statistics : service.getTenantStatistics()) {
+            if (statistics.getTenant().equals(tenant)) {
+                return statistics;
+            }
+        }
+        throw new AssertionError("Tenant ausente: " + tenant);
+    }
+}
@@ -0,0 +1,121 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.models.ProcessControlBlock;
+import br.com.escalonadorTarefas.models.Program;
+import br.com.escalonadorTarefas.models.WorkloadSpec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpillQueueTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void returnsProcessesInOrderAndTruncatesTheFileWhenEmpty() throws IOException {
+        Program program = new Program(1, "P", InstructionCompiler.compile(
+                List.of("A=" + Integer.MAX_VALUE, "COM", "E/S", "SAIDA"), new IoDeviceTable()));
+        try (SpillQueue queue = new SpillQueue(directory)) {
+            for (int cycle = 0; cycle < 3; cycle++) {
+                List<ProcessControlBlock> added = new ArrayList<>();
+                for (int i = 0; i < 50; i++) {
+                    ProcessControlBlock pcb = program.newProcess();
+                    pcb.setProcessId(i);
+                    pcb.setProgramCounter(i % 4);
+                    pcb.setRegisterB(cycle * 100 + i);
+                    pcb.setArrivalTick(i);
+                    queue.add(pcb);
+                    added.add(pcb);
+                }
+                assertEquals(50, queue.size());
+
+                ProcessControlBlock first = null;
+                for (ProcessControlBlock expected : added) {
+                    ProcessControlBlock actual = queue.poll();
+                    assertEquals(expected.getProcessId(), actual.getProcessId());
+                    assertEquals(expected.getProgramCounter(), actual.getProgramCounter());
+                    assertEquals(expected.getRegisterB(), actual.getRegisterB());
+                    assertEquals(expected.getArrivalTick(), actual.getArrivalTick());
+                    assertArrayEquals(program.getInstructions(), actual.getInstructions());
+                    assertArrayEquals(program.getConstants(), actual.getConstants());
+                    if (first == null) {
+                        first = actual;
+                    }
+                    // O programa é gravado uma vez e lido de volta como um único array compartilhado.
+                    assertSame(first.getInstructions(), actual.getInstructions());
+                }
+                assertNull(queue.poll());
+                assertEquals(0, queue.size());
+                assertEquals(0, Files.size(spillFile()), "ciclo " + cycle);
+            }
+        }
+    }
+
+    @Test
+    void keepsProgramsCorrectWhenTheProgramTableWrapsAround() throws IOException {
+        // Mais programas distintos que a tabela de programas guarda ao mesmo tempo.
+        WorkloadGenerator generator = new WorkloadGenerator(WorkloadSpec.builder()
+                .processCount(3000)
+                .ioDevices(List.of("disco"))
+                .build());
+        List<Program> programs = new ArrayList<>();
+        generator.programs().forEachRemaining(programs::add);
+
+        try (SpillQueue queue = new SpillQueue(directory)) {
+            int polled = 0;
+            for (int i = 0; i < programs.size(); i++) {
+                queue.add(programs.get(i).newProcess());
+                // Repete um programa antigo, já esquecido pela tabela.
+                queue.add(programs.get(i / 3).newProcess());
+                if (i % 7 == 0) {
+                    assertArrayEquals(expected(programs, polled), queue.poll().getInstructions());
+                    polled++;
+                }
+            }
+            ProcessControlBlock pcb;
+            while ((pcb = queue.poll()) != null) {
+                assertArrayEquals(expected(programs, polled), pcb.getInstructions(), "processo " + polled);
+                polled++;
+            }
+            assertEquals(2 * programs.size(), polled);
+        }
+    }
+
+    @Test
+    void deleteRemovesTheFile() throws IOException {
+        SpillQueue queue = new SpillQueue(directory);
+        queue.add(new Program(1, "P", InstructionCompiler.compile(List.of("SAIDA"), new IoDeviceTable()))
+                .newProcess());
+        queue.delete();
+        try (Stream<Path> files = Files.list(directory)) {
+            assertTrue(files.findAny().isEmpty());
+        }
+    }
+
+    /**
+     * Programa do processo de índice {@code n} na ordem em que foram adicionados.
+     */
+    private static int[] expected(List<Program> programs, int n) {
+        int i = n / 2;
+        return programs.get(n % 2 == 0 ? i : i / 3).getInstructions();
+    }
+
+    private Path spillFile() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.findFirst().orElseThrow();
+        }
+    }
+}
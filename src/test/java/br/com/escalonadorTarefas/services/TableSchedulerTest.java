@@ -0,0 +1,95 @@
+package br.com.escalonadorTarefas.services;
+
+import br.com.escalonadorTarefas.enums.ExitPlacement;
+import br.com.escalonadorTarefas.enums.PolicyType;
+import br.com.escalonadorTarefas.models.LogSettings;
+import br.com.escalonadorTarefas.models.ProcessSummary;
+import br.com.escalonadorTarefas.models.Program;
+import br.com.escalonadorTarefas.models.WorkloadSpec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TableSchedulerTest {
+
+    static Stream<Arguments> configurations() {
+        return Stream.of(
+                Arguments.of(PolicyType.ROUND_ROBIN, 1, ExitPlacement.END, 0),
+                Arguments.of(PolicyType.ROUND_ROBIN, 3, ExitPlacement.RANDOM, 0),
+                Arguments.of(PolicyType.ROUND_ROBIN, 2, ExitPlacement.NONE, 7),
+                Arguments.of(PolicyType.FCFS, 2, ExitPlacement.END, 0),
+                Arguments.of(PolicyType.FCFS, 4, ExitPlacement.RANDOM, 5));
+    }
+
+    @ParameterizedTest
+    @MethodSource("configurations")
+    void logAndCountersMatchTheScheduler(PolicyType policyType, int quantum, ExitPlacement exit, long arrivalInterval) {
+        WorkloadGenerator generator = new WorkloadGenerator(WorkloadSpec.builder()
+                .processCount(150)
+                .seed(quantum)
+                .maxLength(60)
+                .ioPercent(20)
+                .exitPlacement(exit)
+                .arrivalInterval(arrivalInterval)
+                .build());
+
+        StringWriter expectedLog = new StringWriter();
+        Logger expectedLogger = new Logger(expectedLog, LogSettings.defaults());
+        Scheduler expected = new Scheduler(quantum, expectedLogger, policyType.create(quantum));
+        simulate(expected, generator, arrivalInterval);
+        expectedLogger.close();
+
+        StringWriter actualLog = new StringWriter();
+        Logger actualLogger = new Logger(actualLog, LogSettings.defaults());
+        TableScheduler actual = new TableScheduler(quantum, actualLogger, policyType);
+        simulate(actual, generator, arrivalInterval);
+        actualLogger.close();
+
+        assertEquals(expectedLog.toString(), actualLog.toString());
+        assertEquals(expected.getClock(), actual.getClock());
+        assertEquals(expected.getContextSwitchCount(), actual.getContextSwitchCount());
+        assertEquals(expected.getTotalQuantumExecutions(), actual.getTotalQuantumExecutions());
+        assertEquals(expected.getTotalInstructionsInQuantums(), actual.getTotalInstructionsInQuantums());
+        assertEquals(summaries(expected.getTerminatedProcesses()), summaries(actual.getTerminatedProcesses()));
+    }
+
+    @Test
+    void rejectsUnsupportedPoliciesAndIoWithItsOwnTime() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TableScheduler(2, Logger.discarding(), PolicyType.SJF));
+
+        TableScheduler scheduler = new TableScheduler(2, Logger.discarding(), PolicyType.ROUND_ROBIN);
+        Program program = new Program(1, "P", InstructionCompiler.compile(List.of("COM", "E/S,5", "SAIDA"),
+                new IoDeviceTable()));
+        assertThrows(IllegalArgumentException.class, () -> scheduler.addProcess(program.newProcess()));
+    }
+
+    /**
+     * Carga toda adicionada antes da execução ou, com intervalo entre chegadas, lida sob demanda.
+     */
+    private static void simulate(SimulationEngine engine, WorkloadGenerator generator, long arrivalInterval) {
+        try (engine) {
+            if (arrivalInterval > 0) {
+                engine.setProcessSource(new ProgramSource(generator.programs()));
+            } else {
+                generator.programs().forEachRemaining(program -> engine.addProcess(program.newProcess()));
+            }
+            engine.execute();
+        }
+    }
+
+    private static List<String> summaries(List<ProcessSummary> processes) {
+        return processes.stream()
+                .map(p -> p.getProcessId() + " " + p.getProcessName() + " " + p.getInterruptionsCount() + " "
+                        + p.getArrivalTick() + " " + p.getTerminationTick())
+                .toList();
+    }
+}